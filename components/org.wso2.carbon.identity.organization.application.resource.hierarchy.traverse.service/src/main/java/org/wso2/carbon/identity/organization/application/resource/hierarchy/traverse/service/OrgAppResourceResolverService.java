@@ -18,11 +18,15 @@
 
 package org.wso2.carbon.identity.organization.application.resource.hierarchy.traverse.service;
 
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.exception.NotImplementedException;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.exception.OrgResourceHierarchyTraverseException;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.strategy.AggregationStrategy;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /**
  * Service interface for resolving resources from the organization and application hierarchy.
@@ -52,4 +56,58 @@ public interface OrgAppResourceResolverService {
                                        AggregationStrategy<T> aggregationStrategy)
             throws OrgResourceHierarchyTraverseException;
 
+    /**
+     * Asynchronously retrieves resources by traversing the hierarchy of a given organization and application.
+     * <p>
+     * The traversal is executed on a dedicated executor, with the carbon context of the calling thread propagated
+     * to it, so that independent hierarchy resolutions of a request can overlap and be joined later.
+     *
+     * @param organizationId      The unique identifier of the organization.
+     * @param applicationId       The unique identifier of the application within the organization.
+     * @param resourceRetriever   A bi-function that defines how to fetch a resource based on the
+     *                            organization and application IDs. The function must return an
+     *                            {@link Optional <T>} containing the resource if found,
+     *                            or an empty {@link Optional<T>} if not.
+     * @param aggregationStrategy A strategy defining how to aggregate resources retrieved from
+     *                            different levels of the hierarchy.
+     * @param <T>                 The type of the resource being retrieved and aggregated.
+     * @return A future of the aggregated resource of type <T> obtained from the organization and application
+     * hierarchy. If any errors occur during resource retrieval or aggregation, the future completes exceptionally
+     * with the {@link OrgResourceHierarchyTraverseException} as the cause.
+     */
+    default <T> CompletableFuture<T> getResourcesFromOrgHierarchyAsync(String organizationId, String applicationId,
+                                                                       BiFunction<String, String, Optional<T>>
+                                                                               resourceRetriever,
+                                                                       AggregationStrategy<T> aggregationStrategy) {
+
+        throw new NotImplementedException("getResourcesFromOrgHierarchyAsync method is not implemented in " +
+                this.getClass());
+    }
+
+    /**
+     * Retrieves resources by traversing the hierarchy of a given organization and application, where the resources
+     * of all the organizations in the hierarchy are fetched at once using the given batch resource retriever.
+     *
+     * @param organizationId         The unique identifier of the organization.
+     * @param applicationId          The unique identifier of the application within the organization.
+     * @param batchResourceRetriever A function that defines how to fetch the resources for a map of organization IDs
+     *                               to the corresponding application IDs. The function must return a map of
+     *                               organization IDs to the resources found, omitting the organizations
+     *                               without a resource.
+     * @param aggregationStrategy    A strategy defining how to aggregate resources retrieved from
+     *                               different levels of the hierarchy.
+     * @param <T>                    The type of the resource being retrieved and aggregated.
+     * @return An aggregated resource of type <T> obtained from the organization and application hierarchy.
+     * @throws OrgResourceHierarchyTraverseException If any errors occur during resource retrieval
+     *                                               or aggregation.
+     */
+    default <T> T getResourcesFromOrgHierarchyInBatch(String organizationId, String applicationId,
+                                                      Function<Map<String, String>, Map<String, T>>
+                                                              batchResourceRetriever,
+                                                      AggregationStrategy<T> aggregationStrategy)
+            throws OrgResourceHierarchyTraverseException {
+
+        throw new NotImplementedException("getResourcesFromOrgHierarchyInBatch method is not implemented in " +
+                this.getClass());
+    }
 }
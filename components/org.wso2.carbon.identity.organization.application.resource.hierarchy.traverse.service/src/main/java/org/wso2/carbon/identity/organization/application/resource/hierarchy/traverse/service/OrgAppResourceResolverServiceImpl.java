@@ -18,16 +18,16 @@
 
 package org.wso2.carbon.identity.organization.application.resource.hierarchy.traverse.service;
 
-import org.apache.commons.collections.CollectionUtils;
-import org.apache.commons.lang.StringUtils;
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
 import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
 import org.wso2.carbon.identity.organization.application.resource.hierarchy.traverse.service.internal.OrgAppResourceHierarchyTraverseServiceDataHolder;
-import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
-import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.cache.AncestorApplicationCache;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.constant.OrgResourceHierarchyTraverseConstants;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.exception.OrgResourceHierarchyTraverseException;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.exception.OrgResourceHierarchyTraverseServerException;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.executor.OrgResourceHierarchyTraverseExecutor;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.metrics.AggregationStrategyMetrics;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.model.AncestorChain;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.strategy.AggregationStrategy;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.util.OrgResourceHierarchyTraverseUtil;
 
@@ -35,7 +35,10 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /**
  * Implementation of the OrgAppResourceResolverService interface.
@@ -43,6 +46,28 @@ import java.util.function.BiFunction;
  */
 public class OrgAppResourceResolverServiceImpl implements OrgAppResourceResolverService {
 
+    private final OrgResourceHierarchyTraverseExecutor traverseExecutor;
+
+    /**
+     * Constructor to initialize the resolver with the executor of the active component, which is resolved from the
+     * data holder whenever an asynchronous resolution is started.
+     */
+    public OrgAppResourceResolverServiceImpl() {
+
+        this(null);
+    }
+
+    /**
+     * Constructor to initialize the resolver with the executor used for asynchronous resolutions.
+     *
+     * @param traverseExecutor Executor used to resolve resources from the organization/ application hierarchy
+     *                         asynchronously.
+     */
+    public OrgAppResourceResolverServiceImpl(OrgResourceHierarchyTraverseExecutor traverseExecutor) {
+
+        this.traverseExecutor = traverseExecutor;
+    }
+
     /**
      * Retrieves resources by traversing the hierarchy of a given organization and application.
      *
@@ -65,17 +90,75 @@ public class OrgAppResourceResolverServiceImpl implements OrgAppResourceResolver
                                               AggregationStrategy<T> aggregationStrategy)
             throws OrgResourceHierarchyTraverseException {
 
+        long startTime = System.nanoTime();
         try {
-            List<String> organizationIds = getAncestorOrganizationsIds(organizationId);
+            AncestorChain ancestorChain = OrgResourceHierarchyTraverseUtil.getAncestorChain(organizationId,
+                    OrgAppResourceHierarchyTraverseServiceDataHolder.getInstance().getOrganizationManager());
+            Map<String, String> ancestorAppIds = getAncestorAppIds(organizationId, applicationId, ancestorChain);
+            return aggregationStrategy.aggregate(ancestorChain, ancestorAppIds, resourceRetriever);
+        } finally {
+            AggregationStrategyMetrics.getInstance().record(aggregationStrategy, System.nanoTime() - startTime);
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<T> getResourcesFromOrgHierarchyAsync(String organizationId, String applicationId,
+                                                                      BiFunction<String, String, Optional<T>>
+                                                                              resourceRetriever,
+                                                                      AggregationStrategy<T> aggregationStrategy) {
+
+        OrgResourceHierarchyTraverseExecutor executor = getTraverseExecutor();
+        if (executor == null) {
+            CompletableFuture<T> rejectedResolution = new CompletableFuture<>();
+            rejectedResolution.completeExceptionally(new RejectedExecutionException(
+                    "Organization resource hierarchy traverse executor is not available."));
+            return rejectedResolution;
+        }
+        return executor.submit(() -> getResourcesFromOrgHierarchy(
+                organizationId, applicationId, resourceRetriever, aggregationStrategy));
+    }
+
+    @Override
+    public <T> T getResourcesFromOrgHierarchyInBatch(String organizationId, String applicationId,
+                                                     Function<Map<String, String>, Map<String, T>>
+                                                             batchResourceRetriever,
+                                                     AggregationStrategy<T> aggregationStrategy)
+            throws OrgResourceHierarchyTraverseException {
 
+        long startTime = System.nanoTime();
+        try {
+            AncestorChain ancestorChain = OrgResourceHierarchyTraverseUtil.getAncestorChain(organizationId,
+                    OrgAppResourceHierarchyTraverseServiceDataHolder.getInstance().getOrganizationManager());
+            Map<String, String> ancestorAppIds = getAncestorAppIds(organizationId, applicationId, ancestorChain);
+            return aggregationStrategy.aggregateInBatch(ancestorChain, ancestorAppIds, batchResourceRetriever);
+        } finally {
+            AggregationStrategyMetrics.getInstance().record(aggregationStrategy, System.nanoTime() - startTime);
+        }
+    }
+
+    private Map<String, String> getAncestorAppIds(String organizationId, String applicationId,
+                                                  AncestorChain ancestorChain)
+            throws OrgResourceHierarchyTraverseServerException {
+
+        if (applicationId == null) {
+            return Collections.emptyMap();
+        }
+
+        AncestorApplicationCache ancestorApplicationCache = AncestorApplicationCache.getInstance();
+        Map<String, String> cachedAncestorAppIds =
+                ancestorApplicationCache.getAncestorAppIds(applicationId, organizationId);
+        if (cachedAncestorAppIds != null) {
+            return cachedAncestorAppIds;
+        }
+
+        try {
+            long invalidationVersion = ancestorApplicationCache.getInvalidationVersion();
             ApplicationManagementService applicationManagementService =
                     OrgAppResourceHierarchyTraverseServiceDataHolder.getInstance().getApplicationManagementService();
-            Map<String, String> ancestorAppIds = Collections.emptyMap();
-            if (applicationId != null) {
-                ancestorAppIds = applicationManagementService.getAncestorAppIds(applicationId, organizationId);
-            }
-
-            return aggregationStrategy.aggregate(organizationIds, ancestorAppIds, resourceRetriever);
+            Map<String, String> ancestorAppIds =
+                    applicationManagementService.getAncestorAppIds(applicationId, organizationId);
+            return ancestorApplicationCache.addAncestorAppIds(applicationId, organizationId, ancestorAppIds,
+                    getMainApplicationId(ancestorAppIds, ancestorChain), invalidationVersion);
         } catch (IdentityApplicationManagementException e) {
             throw OrgResourceHierarchyTraverseUtil.handleServerException(
                     OrgResourceHierarchyTraverseConstants.ErrorMessages
@@ -84,28 +167,30 @@ public class OrgAppResourceResolverServiceImpl implements OrgAppResourceResolver
         }
     }
 
-    private List<String> getAncestorOrganizationsIds(String organizationId)
-            throws OrgResourceHierarchyTraverseServerException {
+    /**
+     * Resolves the main application of the application family from the ancestor application IDs, i.e. the
+     * application of the topmost organization of the ancestor chain which has the application.
+     */
+    private String getMainApplicationId(Map<String, String> ancestorAppIds, AncestorChain ancestorChain) {
 
-        if (StringUtils.isBlank(organizationId)) {
-            throw OrgResourceHierarchyTraverseUtil.handleServerException(
-                    OrgResourceHierarchyTraverseConstants.ErrorMessages.ERROR_CODE_EMPTY_ORGANIZATION_ID);
+        if (ancestorAppIds == null) {
+            return null;
         }
-
-        try {
-            OrganizationManager organizationManager = OrgAppResourceHierarchyTraverseServiceDataHolder.getInstance()
-                    .getOrganizationManager();
-            List<String> organizationIds = organizationManager.getAncestorOrganizationIds(organizationId);
-            if (CollectionUtils.isEmpty(organizationIds)) {
-                throw OrgResourceHierarchyTraverseUtil.handleServerException(OrgResourceHierarchyTraverseConstants
-                                .ErrorMessages.ERROR_CODE_INVALID_ANCESTOR_ORGANIZATION_ID_LIST,
-                        organizationId);
+        List<String> ancestorOrganizationIds = ancestorChain.getOrganizationIds();
+        for (int i = ancestorOrganizationIds.size() - 1; i >= 0; i--) {
+            String ancestorAppId = ancestorAppIds.get(ancestorOrganizationIds.get(i));
+            if (ancestorAppId != null) {
+                return ancestorAppId;
             }
-            return organizationIds;
-        } catch (OrganizationManagementServerException e) {
-            throw OrgResourceHierarchyTraverseUtil.handleServerException(
-                    OrgResourceHierarchyTraverseConstants.ErrorMessages
-                            .ERROR_CODE_SERVER_ERROR_WHILE_RESOLVING_ANCESTOR_ORGANIZATIONS, e, organizationId);
         }
+        return null;
+    }
+
+    private OrgResourceHierarchyTraverseExecutor getTraverseExecutor() {
+
+        if (traverseExecutor != null) {
+            return traverseExecutor;
+        }
+        return OrgAppResourceHierarchyTraverseServiceDataHolder.getInstance().getTraverseExecutor();
     }
 }
@@ -32,6 +32,7 @@ import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
 import org.wso2.carbon.identity.organization.application.resource.hierarchy.traverse.service.OrgAppResourceResolverService;
 import org.wso2.carbon.identity.organization.application.resource.hierarchy.traverse.service.OrgAppResourceResolverServiceImpl;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.executor.OrgResourceHierarchyTraverseExecutor;
 
 /**
  * OSGi component responsible for managing the activation and deactivation of the organization application resource
@@ -46,6 +47,8 @@ public class OrgAppResourceHierarchyTraverseServiceComponent {
 
     private static final Log LOG = LogFactory.getLog(OrgAppResourceHierarchyTraverseServiceComponent.class);
 
+    private OrgResourceHierarchyTraverseExecutor traverseExecutor;
+
     /**
      * Activates the OSGi component.
      * This method is called when the component is activated in the OSGi environment.
@@ -55,8 +58,10 @@ public class OrgAppResourceHierarchyTraverseServiceComponent {
 
         try {
             BundleContext bundleContext = context.getBundleContext();
+            traverseExecutor = new OrgResourceHierarchyTraverseExecutor();
+            OrgAppResourceHierarchyTraverseServiceDataHolder.getInstance().setTraverseExecutor(traverseExecutor);
             bundleContext.registerService(OrgAppResourceResolverService.class.getName(),
-                    new OrgAppResourceResolverServiceImpl(), null);
+                    new OrgAppResourceResolverServiceImpl(traverseExecutor), null);
             if (LOG.isDebugEnabled()) {
                 LOG.debug("OrgAppResourceResolverService bundle is activated successfully.");
             }
@@ -72,6 +77,11 @@ public class OrgAppResourceHierarchyTraverseServiceComponent {
     @Deactivate
     protected void deactivate() {
 
+        OrgAppResourceHierarchyTraverseServiceDataHolder.getInstance().setTraverseExecutor(null);
+        if (traverseExecutor != null) {
+            traverseExecutor.shutdown();
+            traverseExecutor = null;
+        }
         if (LOG.isDebugEnabled()) {
             LOG.debug("OrgAppResourceResolverService bundle is deactivated successfully.");
         }
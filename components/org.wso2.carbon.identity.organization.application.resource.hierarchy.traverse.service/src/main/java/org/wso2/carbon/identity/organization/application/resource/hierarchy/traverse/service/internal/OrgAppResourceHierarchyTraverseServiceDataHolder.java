@@ -20,6 +20,7 @@ package org.wso2.carbon.identity.organization.application.resource.hierarchy.tra
 
 import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.executor.OrgResourceHierarchyTraverseExecutor;
 
 /**
  * Singleton class that serves as a centralized data holder for key service instances used in the organization
@@ -32,6 +33,7 @@ public class OrgAppResourceHierarchyTraverseServiceDataHolder {
 
     private ApplicationManagementService applicationManagementService;
     private OrganizationManager organizationManager;
+    private OrgResourceHierarchyTraverseExecutor traverseExecutor;
 
     private OrgAppResourceHierarchyTraverseServiceDataHolder() {
     }
@@ -85,4 +87,24 @@ public class OrgAppResourceHierarchyTraverseServiceDataHolder {
 
         this.organizationManager = organizationManager;
     }
+
+    /**
+     * Retrieves the executor used to resolve resources from the hierarchy asynchronously.
+     *
+     * @return The executor owned by the active component, or {@code null} if the component is not active.
+     */
+    public OrgResourceHierarchyTraverseExecutor getTraverseExecutor() {
+
+        return traverseExecutor;
+    }
+
+    /**
+     * Sets the executor used to resolve resources from the hierarchy asynchronously.
+     *
+     * @param traverseExecutor The executor owned by the active component.
+     */
+    public void setTraverseExecutor(OrgResourceHierarchyTraverseExecutor traverseExecutor) {
+
+        this.traverseExecutor = traverseExecutor;
+    }
 }
@@ -19,6 +19,7 @@
 package org.wso2.carbon.identity.organization.application.resource.hierarchy.traverse.service;
 
 import org.mockito.Mock;
+import org.testng.annotations.AfterClass;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
@@ -32,12 +33,16 @@ import org.wso2.carbon.identity.organization.application.resource.hierarchy.trav
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.cache.AncestorApplicationCache;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.cache.AncestorOrganizationCache;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.exception.OrgResourceHierarchyTraverseException;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.exception.OrgResourceHierarchyTraverseServerException;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.executor.OrgResourceHierarchyTraverseExecutor;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.internal.OrgResourceHierarchyTraverseServiceDataHolder;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.strategy.AggregationStrategy;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.strategy.FirstFoundAggregationStrategy;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.strategy.MergeAllAggregationStrategy;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.strategy.ParallelFirstFoundAggregationStrategy;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -46,9 +51,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
 import static org.testng.Assert.assertEquals;
@@ -74,6 +83,9 @@ public class OrgAppResourceResolverServiceTest {
     private MockResourceManagementService mockResourceManagementService;
     private AggregationStrategy<MockResource> firstFoundAggregationStrategy;
     private AggregationStrategy<MockResource> mergeAllAggregationStrategy;
+    private AggregationStrategy<MockResource> parallelFirstFoundAggregationStrategy;
+    private ExecutorService traversalExecutorService;
+    private OrgResourceHierarchyTraverseExecutor traverseExecutor;
 
     @Mock
     OrganizationManager organizationManager;
@@ -100,6 +112,20 @@ public class OrgAppResourceResolverServiceTest {
         // Initialize the aggregation strategies with the appropriate strategy types.
         firstFoundAggregationStrategy = new FirstFoundAggregationStrategy<>();
         mergeAllAggregationStrategy = new MergeAllAggregationStrategy<>(this::resourceMerger);
+        traversalExecutorService = Executors.newFixedThreadPool(3);
+        parallelFirstFoundAggregationStrategy = new ParallelFirstFoundAggregationStrategy<>(traversalExecutorService);
+        traverseExecutor = new OrgResourceHierarchyTraverseExecutor(2, 10);
+    }
+
+    /**
+     * Shuts down the executors used by the parallel aggregation strategy and the asynchronous resolutions after the
+     * test class is run.
+     */
+    @AfterClass
+    public void cleanUp() {
+
+        traversalExecutorService.shutdownNow();
+        traverseExecutor.shutdown();
     }
 
     /**
@@ -126,7 +152,7 @@ public class OrgAppResourceResolverServiceTest {
         mockResourceManagementService = new MockResourceManagementService();
 
         // Instantiate the OrgAppResourceResolverService for testing.
-        orgAppResourceResolverService = new OrgAppResourceResolverServiceImpl();
+        orgAppResourceResolverService = new OrgAppResourceResolverServiceImpl(traverseExecutor);
     }
 
     /**
@@ -138,6 +164,8 @@ public class OrgAppResourceResolverServiceTest {
         // Reset the mock services to their default state after each test.
         reset(organizationManager);
         reset(applicationManagementService);
+        AncestorOrganizationCache.getInstance().invalidateAll();
+        AncestorApplicationCache.getInstance().invalidateAll();
     }
 
     @DataProvider(name = "AggregationStrategyDataProvider")
@@ -145,7 +173,8 @@ public class OrgAppResourceResolverServiceTest {
 
         return new Object[][]{
                 {firstFoundAggregationStrategy},
-                {mergeAllAggregationStrategy}
+                {mergeAllAggregationStrategy},
+                {parallelFirstFoundAggregationStrategy}
         };
     }
 
@@ -382,6 +411,82 @@ public class OrgAppResourceResolverServiceTest {
                 () -> invokeAppLevelResourceResolver(aggregationStrategy, L2_ORG_ID, L2_APP_ID));
     }
 
+    /**
+     * Tests that the batch resource retriever is invoked once with the whole application hierarchy, and that the
+     * aggregation strategy is applied over the prefetched resources.
+     *
+     * @param aggregationStrategy The aggregation strategy used for resolving resources.
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test(dataProvider = "AggregationStrategyDataProvider")
+    public void testGetAppLevelResourcesFromOrgHierarchyInBatch(AggregationStrategy<MockResource> aggregationStrategy)
+            throws Exception {
+
+        List<MockResource> createdAppResources = addAppResources(Arrays.asList(ROOT_ORG_ID, L1_ORG_ID),
+                Arrays.asList(ROOT_APP_ID, L1_APP_ID));
+        List<Map<String, String>> batchRequests = new ArrayList<>();
+
+        MockResource resolvedL2Resource = orgAppResourceResolverService.getResourcesFromOrgHierarchyInBatch(
+                L2_ORG_ID,
+                L2_APP_ID,
+                orgAppIds -> {
+                    batchRequests.add(orgAppIds);
+                    Map<String, MockResource> resources = new HashMap<>();
+                    orgAppIds.forEach((orgId, appId) -> {
+                        MockResource resource = mockResourceManagementService.getAppResource(orgId, appId);
+                        if (resource != null) {
+                            resources.put(orgId, resource);
+                        }
+                    });
+                    return resources;
+                },
+                aggregationStrategy);
+
+        assertResolvedResponse(resolvedL2Resource, createdAppResources.get(1));
+        assertEquals(batchRequests.size(), 1);
+        assertEquals(new ArrayList<>(batchRequests.get(0).keySet()), Arrays.asList(L2_ORG_ID, L1_ORG_ID, ROOT_ORG_ID));
+        assertEquals(batchRequests.get(0).get(L1_ORG_ID), L1_APP_ID);
+    }
+
+    /**
+     * Tests that the ancestor application IDs are cached per application and organization, and that the cached
+     * entries of an application family are evicted when the main application of the family is invalidated.
+     *
+     * @param aggregationStrategy The aggregation strategy used for resolving resources.
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test(dataProvider = "AggregationStrategyDataProvider")
+    public void testAncestorApplicationIdsCaching(AggregationStrategy<MockResource> aggregationStrategy)
+            throws Exception {
+
+        List<MockResource> createdAppResources = addAppResources(Collections.singletonList(ROOT_ORG_ID),
+                Collections.singletonList(ROOT_APP_ID));
+
+        assertResolvedResponse(invokeAppLevelResourceResolver(aggregationStrategy, L2_ORG_ID, L2_APP_ID),
+                createdAppResources.get(0));
+        assertResolvedResponse(invokeAppLevelResourceResolver(aggregationStrategy, L2_ORG_ID, L2_APP_ID),
+                createdAppResources.get(0));
+        assertResolvedResponse(invokeAppLevelResourceResolver(aggregationStrategy, L1_ORG_ID, L1_APP_ID),
+                createdAppResources.get(0));
+        verify(applicationManagementService, times(1)).getAncestorAppIds(L2_APP_ID, L2_ORG_ID);
+        verify(applicationManagementService, times(1)).getAncestorAppIds(L1_APP_ID, L1_ORG_ID);
+
+        // Invalidating an application which is not the main application of a family should not evict any entry.
+        AncestorApplicationCache.getInstance().invalidateApplication(L1_APP_ID);
+        assertNotNull(AncestorApplicationCache.getInstance().getAncestorAppIds(L2_APP_ID, L2_ORG_ID));
+        assertNotNull(AncestorApplicationCache.getInstance().getAncestorAppIds(L1_APP_ID, L1_ORG_ID));
+        invokeAppLevelResourceResolver(aggregationStrategy, ROOT_ORG_ID, ROOT_APP_ID);
+        assertNotNull(AncestorApplicationCache.getInstance().getAncestorAppIds(ROOT_APP_ID, ROOT_ORG_ID));
+
+        // Invalidating the main application should evict the entries of the whole application family.
+        AncestorApplicationCache.getInstance().invalidateApplication(ROOT_APP_ID);
+        assertNull(AncestorApplicationCache.getInstance().getAncestorAppIds(L2_APP_ID, L2_ORG_ID));
+        assertNull(AncestorApplicationCache.getInstance().getAncestorAppIds(L1_APP_ID, L1_ORG_ID));
+        assertNull(AncestorApplicationCache.getInstance().getAncestorAppIds(ROOT_APP_ID, ROOT_ORG_ID));
+        invokeAppLevelResourceResolver(aggregationStrategy, L2_ORG_ID, L2_APP_ID);
+        verify(applicationManagementService, times(2)).getAncestorAppIds(L2_APP_ID, L2_ORG_ID);
+    }
+
     /**
      * Mock the retrieval of ancestor organization IDs.
      *
@@ -54,7 +54,6 @@ import org.wso2.carbon.identity.event.IdentityEventClientException;
 import org.wso2.carbon.identity.event.IdentityEventException;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.event.services.IdentityEventService;
-import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.buffer.SubOperationStatusQueue;
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.constants.OperationStatus;
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.exception.AsyncOperationStatusMgtException;
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.models.OperationInitDTO;
@@ -67,14 +66,21 @@ import org.wso2.carbon.identity.oauth.dto.OAuthAppRevocationRequestDTO;
 import org.wso2.carbon.identity.oauth.dto.OAuthConsumerAppDTO;
 import org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants;
 import org.wso2.carbon.identity.organization.management.application.dao.OrgApplicationMgtDAO;
+import org.wso2.carbon.identity.organization.management.application.executor.ApplicationShareJobCheckpointer;
+import org.wso2.carbon.identity.organization.management.application.executor.ApplicationSharingExecutor;
+import org.wso2.carbon.identity.organization.management.application.executor.SharedApplicationLinkBuffer;
+import org.wso2.carbon.identity.organization.management.application.executor.SharedApplicationTokenRevocationExecutor;
+import org.wso2.carbon.identity.organization.management.application.executor.UnitOperationStatusRecorder;
 import org.wso2.carbon.identity.organization.management.application.internal.OrgApplicationMgtDataHolder;
 import org.wso2.carbon.identity.organization.management.application.listener.ApplicationSharingManagerListener;
+import org.wso2.carbon.identity.organization.management.application.model.ApplicationShareJobDO;
 import org.wso2.carbon.identity.organization.management.application.model.MainApplicationDO;
 import org.wso2.carbon.identity.organization.management.application.model.RoleWithAudienceDO;
 import org.wso2.carbon.identity.organization.management.application.model.SharedApplication;
 import org.wso2.carbon.identity.organization.management.application.model.SharedApplicationDO;
 import org.wso2.carbon.identity.organization.management.application.model.SharedApplicationOrganizationNode;
 import org.wso2.carbon.identity.organization.management.application.model.SharedApplicationOrganizationNodePage;
+import org.wso2.carbon.identity.organization.management.application.model.SharedApplicationRoleDelta;
 import org.wso2.carbon.identity.organization.management.application.model.SharingModeDO;
 import org.wso2.carbon.identity.organization.management.application.model.operation.ApplicationShareRolePolicy;
 import org.wso2.carbon.identity.organization.management.application.model.operation.ApplicationShareUpdateOperation;
@@ -92,6 +98,7 @@ import org.wso2.carbon.identity.organization.management.service.model.BasicOrgan
 import org.wso2.carbon.identity.organization.management.service.model.ChildOrganizationDO;
 import org.wso2.carbon.identity.organization.management.service.model.Organization;
 import org.wso2.carbon.identity.organization.management.service.model.OrganizationNode;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.cache.AncestorApplicationCache;
 import org.wso2.carbon.identity.organization.resource.sharing.policy.management.ResourceSharingPolicyHandlerService;
 import org.wso2.carbon.identity.organization.resource.sharing.policy.management.constant.PolicyEnum;
 import org.wso2.carbon.identity.organization.resource.sharing.policy.management.constant.ResourceType;
@@ -120,6 +127,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -127,10 +135,9 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static java.util.Arrays.stream;
@@ -155,7 +162,6 @@ import static org.wso2.carbon.identity.organization.management.application.const
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.DELETE_FRAGMENT_APPLICATION;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.DELETE_SHARE_FOR_MAIN_APPLICATION;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.ErrorMessages.ERROR_CODE_ERROR_RETRIEVING_APP_ROLE_ALLOWED_AUDIENCE;
-import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.ErrorMessages.ERROR_CODE_ERROR_RETRIEVING_SHARED_APP;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.ErrorMessages.ERROR_CODE_ERROR_RETRIEVING_SHARED_APP_ROLES;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.ErrorMessages.ERROR_CODE_INVALID_ORGANIZATION_SHARE_CONFIGURATION;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.ErrorMessages.ERROR_CODE_INVALID_ROLE_SHARING_MODE;
@@ -173,9 +179,11 @@ import static org.wso2.carbon.identity.organization.management.application.const
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.SP_SHARED_SUPPORTED_EXCLUDED_ATTRIBUTES;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.SP_SHARED_SUPPORTED_INCLUDED_ATTRIBUTES;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.ShareOperationType.APPLICATION_SHARE;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.ShareOperationType.APPLICATION_UNSHARE;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.TENANT;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.TENANT_CONTEXT_PATH_COMPONENT;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.UPDATE_SP_METADATA_SHARE_WITH_ALL_CHILDREN;
+import static org.wso2.carbon.identity.organization.management.application.executor.OrganizationShareScheduler.scheduleAndWait;
 import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationManagerUtil.createOrganizationSSOIDP;
 import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationManagerUtil.getDefaultAuthenticationConfig;
 import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationManagerUtil.isShareWithAllChildrenPropertyAvailable;
@@ -184,7 +192,6 @@ import static org.wso2.carbon.identity.organization.management.application.util.
 import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationManagerUtil.setIsAppSharedProperty;
 import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationManagerUtil.setShareWithAllChildrenProperty;
 import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationScimFilterParser.parseFilter;
-import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationShareProcessor.getAllOrganizationIdsInBfsOrder;
 import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationShareProcessor.getOrganizationIdsInBfsOrder;
 import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationShareProcessor.getValidOrganizationsInReverseBfsOrder;
 import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationShareProcessor.processAndSortOrganizationShares;
@@ -240,11 +247,11 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
     private static final String PARENT_APP_ID = "parentAppId";
     private static final String SHARED_TENANT_DOMAINS = "sharedTenantDomains";
     private static final String ACTION_PROCESSING_SHARE_APP = "processing-share-application-with-selected-orgs";
+    private static final String SHARE_INTERRUPTED_STATUS_MESSAGE =
+            "The share was not started as the sharing of the application was interrupted.";
+    private static final int SHARED_APPLICATIONS_BATCH_SIZE = 100;
 
     private static final Log LOG = LogFactory.getLog(OrgApplicationManagerImpl.class);
-    private final ExecutorService executorService = Executors.newFixedThreadPool(1);
-    private final ConcurrentMap<String, SubOperationStatusQueue> asyncOperationStatusList = new ConcurrentHashMap<>();
-
     private static final String BASE_URL_PLACEHOLDER = "<PROTOCOL>://<HOSTNAME>:<PORT>";
 
     @Override
@@ -371,46 +378,67 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
 
         String userID = PrivilegedCarbonContext.getThreadLocalCarbonContext().getUserId();
         String sharePolicy = OrgApplicationMgtConstants.SharePolicy.SELECTIVE_SHARE.getValue();
-        String operationId = getOperationId(mainApplicationId, mainApplicationId, userID, sharePolicy);
-        List<CompletableFuture<Void>> futures = new ArrayList<>();
-
+        String operationId = getOperationId(APPLICATION_SHARE, mainApplicationId, mainApplicationId, userID,
+                sharePolicy);
         List<String> orgIdsToShare = new ArrayList<>();
-        // Share the application with each valid child organization as per the config.
-        for (SelectiveShareApplicationOperation selectiveShareApplication : selectiveShareApplicationOperations) {
-            String childOrgId = selectiveShareApplication.getOrganizationId();
-            if (StringUtils.isBlank(childOrgId)) {
-                throw handleClientException(ERROR_CODE_INVALID_ORGANIZATION, mainApplicationId);
-            }
-
-            Organization sharingChildOrg = getOrganizationManager().getOrganization(childOrgId, false, false);
-            // Only share with organizations of type TENANT.
-            if (TENANT.equalsIgnoreCase(sharingChildOrg.getType())) {
-                orgIdsToShare.add(sharingChildOrg.getId());
-                CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
-
-                    try {
-                        if (skipOrganizationHierarchyValidation) {
-                            IdentityUtil.threadLocalProperties.get().put(SKIP_ORGANIZATION_HIERARCHY_VALIDATION, true);
+        SharedApplicationLinkBuffer linkBuffer = createSharedApplicationLinkBuffer(mainApplicationId,
+                mainOrganizationId, operationId);
+        /*
+         * Share the application with each valid child organization as per the config. The share with an
+         * organization starts as soon as the share with its nearest ancestor in the list is completed.
+         */
+        List<CompletableFuture<Void>> futures;
+        try {
+            futures = scheduleAndWait(childOrganizationGraph,
+                    selectiveShareApplicationOperations, SelectiveShareApplicationOperation::getOrganizationId,
+                    selectiveShareApplication -> {
+                        String childOrgId = selectiveShareApplication.getOrganizationId();
+                        if (StringUtils.isBlank(childOrgId)) {
+                            throw handleClientException(ERROR_CODE_INVALID_ORGANIZATION, mainApplicationId);
                         }
-                        shareApplicationWithPolicy(
-                                mainOrganizationId,
-                                mainApplication,
-                                sharingChildOrg.getId(),
-                                selectiveShareApplication.getPolicy(),
-                                selectiveShareApplication.getRoleSharing(),
-                                operationId
-                        );
-                    } catch (OrganizationManagementException e) {
-                        LOG.error(String.format("Error in sharing application: %s to sharingChildOrg: %s",
-                                mainApplication.getApplicationResourceId(), sharingChildOrg.getId()), e);
-                    } finally {
-                        if (skipOrganizationHierarchyValidation) {
-                            IdentityUtil.threadLocalProperties.get().remove(SKIP_ORGANIZATION_HIERARCHY_VALIDATION);
+
+                        Organization sharingChildOrg = getOrganizationManager().getOrganization(childOrgId, false,
+                                false);
+                        // Only share with organizations of type TENANT.
+                        if (!TENANT.equalsIgnoreCase(sharingChildOrg.getType())) {
+                            return null;
                         }
-                    }
-                }, executorService);
-                futures.add(future);
-            }
+                        orgIdsToShare.add(sharingChildOrg.getId());
+                        flushIfParentLinkPending(linkBuffer, sharingChildOrg);
+                        return getApplicationSharingExecutor().runAsync(ownerTenantDomain, () -> {
+
+                            try {
+                                if (skipOrganizationHierarchyValidation) {
+                                    IdentityUtil.threadLocalProperties.get()
+                                            .put(SKIP_ORGANIZATION_HIERARCHY_VALIDATION, true);
+                                }
+                                shareApplicationWithPolicy(
+                                        mainOrganizationId,
+                                        mainApplication,
+                                        sharingChildOrg.getId(),
+                                        selectiveShareApplication.getPolicy(),
+                                        selectiveShareApplication.getRoleSharing(),
+                                        operationId,
+                                        linkBuffer,
+                                        null
+                                );
+                            } catch (OrganizationManagementException e) {
+                                LOG.error(String.format("Error in sharing application: %s to sharingChildOrg: %s",
+                                        mainApplication.getApplicationResourceId(), sharingChildOrg.getId()), e);
+                            } finally {
+                                if (skipOrganizationHierarchyValidation) {
+                                    IdentityUtil.threadLocalProperties.get()
+                                            .remove(SKIP_ORGANIZATION_HIERARCHY_VALIDATION);
+                                }
+                            }
+                        });
+                    }, organizationId -> {
+                        // The completion of the shares is tracked through the unit operation statuses.
+                    }, selectiveShareApplication -> processUnitOperationStatus(operationId, mainApplicationId,
+                            selectiveShareApplication.getOrganizationId(), OperationStatus.FAILED,
+                            SHARE_INTERRUPTED_STATUS_MESSAGE));
+        } finally {
+            linkBuffer.close();
         }
         if (StringUtils.isNotBlank(operationId)) {
             CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenRun(() -> {
@@ -550,7 +578,9 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
             return;
         }
 
-        List<String> allOrganizationIdsInBfsOrder = getAllOrganizationIdsInBfsOrder(mainOrganizationId);
+        List<OrganizationNode> childOrganizationGraph = getOrganizationManager().getChildOrganizationGraph(
+                mainOrganizationId, true);
+        List<String> allOrganizationIdsInBfsOrder = getOrganizationIdsInBfsOrder(childOrganizationGraph);
         if (PolicyEnum.ALL_EXISTING_AND_FUTURE_ORGS.ordinal() == applicationSharingPolicy.ordinal() ||
                 !allOrganizationIdsInBfsOrder.isEmpty()) {
             setIsAppSharedProperty(mainApplication, true);
@@ -564,47 +594,26 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
 
         String userID = PrivilegedCarbonContext.getThreadLocalCarbonContext().getUserId();
         String sharePolicy = applicationSharingPolicy.getValue();
-        String operationId = getOperationId(mainApplicationId, mainApplicationId, userID, sharePolicy);
-        List<CompletableFuture<Void>> futures = new ArrayList<>();
-
-        List<String> orgIdsToShare = new ArrayList<>();
-        // Share the application with each valid child organization as per the config.
-        for (String childOrgId : allOrganizationIdsInBfsOrder) {
-            Organization sharingChildOrg = getOrganizationManager().getOrganization(childOrgId, false, false);
-            // Only share with organizations of type TENANT.
-            if (TENANT.equalsIgnoreCase(sharingChildOrg.getType())) {
-                orgIdsToShare.add(sharingChildOrg.getId());
-                CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
-                    try {
-                        shareApplicationWithPolicy(
-                                mainOrganizationId,
-                                mainApplication,
-                                sharingChildOrg.getId(),
-                                PolicyEnum.SELECTED_ORG_ONLY,
-                                generalApplicationShare.getRoleSharing(),
-                                operationId
-                        );
-                    } catch (OrganizationManagementException e) {
-                        LOG.error(String.format("Error in sharing application: %s to sharingChildOrg: %s",
-                                mainApplication.getApplicationResourceId(), sharingChildOrg.getId()), e);
-                    }
-                }, executorService);
-                futures.add(future);
-            }
-        }
-        if (StringUtils.isNotBlank(operationId)) {
-            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenRun(() -> {
-                try {
-                    getAsyncStatusMgtService().updateOperationStatus(operationId, getOperationStatus(operationId));
-                } catch (AsyncOperationStatusMgtException e) {
-                    try {
-                        throw handleServerException(ERROR_CODE_ERROR_RETRIEVING_APPLICATION_SHARED_ACCESS_STATUS, e);
-                    } catch (OrganizationManagementServerException ex) {
-                        throw new RuntimeException(ex);
-                    }
-                }
-            }).join();
+        String operationId = getOperationId(APPLICATION_SHARE, mainApplicationId, mainApplicationId, userID,
+                sharePolicy);
+        ApplicationShareJobDO applicationShareJob = new ApplicationShareJobDO(operationId, mainApplicationId,
+                mainOrganizationId, sharePolicy, generalApplicationShare.getRoleSharing(), userID,
+                System.currentTimeMillis());
+        /*
+         * Persist the job if enabled, so that it can be resumed by any node if this node goes down before the job is
+         * completed. The job is identified by the operation ID, hence it is not persisted if the operation status
+         * persistence is disabled.
+         */
+        boolean persistJob = StringUtils.isNotBlank(operationId) &&
+                ApplicationShareJobCheckpointer.isJobPersistenceEnabled();
+        if (persistJob) {
+            getOrgApplicationMgtDAO().addApplicationShareJob(applicationShareJob);
         }
+        List<String> orgIdsToShare = new ArrayList<>();
+        List<CompletableFuture<Void>> futures = runApplicationShareJob(applicationShareJob, persistJob,
+                mainApplication, ownerTenantDomain, childOrganizationGraph, allOrganizationIdsInBfsOrder,
+                orgIdsToShare);
+        updateOperationStatus(operationId, futures);
         if (LoggerUtils.isEnableV2AuditLogs()) {
             String username = PrivilegedCarbonContext.getThreadLocalCarbonContext().getUsername();
             AuditLog.AuditLogBuilder auditLogBuilder = new AuditLog.AuditLogBuilder(
@@ -624,10 +633,8 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
         String mainTenantDomain = getOrganizationManager().resolveTenantDomain(mainOrganizationId);
         ServiceProvider mainApplication = getOrgApplication(mainApplicationId, mainTenantDomain);
 
-        Map<String, Map<ApplicationShareUpdateOperation.Operation, List<RoleWithAudienceDO>>>
-                organizationIdToOperationMap = new HashMap<>();
-        Set<String> organizationsToBeUpdated = new HashSet<>();
-
+        // Collapse the operations of each organization into the net role changes of the organization.
+        Map<String, SharedApplicationRoleDelta> organizationRoleDeltas = new HashMap<>();
         for (ApplicationShareUpdateOperation updateOperation : updateOperationList) {
             ApplicationShareUpdateOperation.Operation operation = updateOperation.getOperation();
             if (!(ApplicationShareUpdateOperation.Operation.ADD.ordinal() == operation.ordinal() ||
@@ -641,38 +648,41 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
             }
             String orgId = parsedFilterResult.getOrganizationId();
             List<RoleWithAudienceDO> roleChanges = (List<RoleWithAudienceDO>) updateOperation.getValues();
-            organizationsToBeUpdated.add(orgId);
-            organizationIdToOperationMap
-                    .computeIfAbsent(orgId, k -> new HashMap<>())
-                    .merge(operation, roleChanges, (existing, incoming) -> {
-                        existing.addAll(incoming);
-                        return existing;
-                    });
+            organizationRoleDeltas.computeIfAbsent(orgId, k -> new SharedApplicationRoleDelta())
+                    .apply(operation, roleChanges);
         }
         // Sort out the organization list.
         List<String> sortedOrganizations = sortOrganizationsByHierarchy(mainOrganizationId,
-                new ArrayList<>(organizationsToBeUpdated));
+                new ArrayList<>(organizationRoleDeltas.keySet()));
         String username = PrivilegedCarbonContext.getThreadLocalCarbonContext().getUsername();
         String userID = PrivilegedCarbonContext.getThreadLocalCarbonContext().getUserId();
+        // Resolve the shared applications of all the organizations to be updated at once.
+        Map<String, String> sharedApplicationIds = new HashMap<>();
+        for (SharedApplicationDO sharedApplicationDO : getOrgApplicationMgtDAO().getSharedApplications(
+                mainApplicationId, mainOrganizationId, sortedOrganizations)) {
+            sharedApplicationIds.put(sharedApplicationDO.getOrganizationId(),
+                    sharedApplicationDO.getFragmentApplicationId());
+        }
+        boolean isApplicationAudience = isApplicationAudienceForRoleAssociation(mainApplicationId,
+                mainTenantDomain);
         for (String sharedOrganizationId : sortedOrganizations) {
+            String sharedApplicationId = sharedApplicationIds.get(sharedOrganizationId);
+            if (sharedApplicationId == null) {
+                LOG.warn("Shared application not found for organization: " + sharedOrganizationId);
+                continue;
+            }
             Organization organization = getOrganizationManager().getOrganization(sharedOrganizationId, false, false);
             if (TENANT.equalsIgnoreCase(organization.getType())) {
-                Map<ApplicationShareUpdateOperation.Operation, List<RoleWithAudienceDO>> operationListMap =
-                        organizationIdToOperationMap.get(sharedOrganizationId);
-                for (Map.Entry<ApplicationShareUpdateOperation.Operation, List<RoleWithAudienceDO>> entry :
-                        operationListMap.entrySet()) {
-                    ApplicationShareUpdateOperation.Operation operation = entry.getKey();
-                    List<RoleWithAudienceDO> roleList = entry.getValue();
-                    CompletableFuture.runAsync(() -> {
-                        try {
-                            updateRolesOfSharedApplication(mainApplication, mainOrganizationId, sharedOrganizationId,
-                                    operation, roleList, username, userID);
-                        } catch (OrganizationManagementException e) {
-                            LOG.error(String.format("Error in updating roles of application: %s for organization: %s",
-                                    mainApplicationId, sharedOrganizationId), e);
-                        }
-                    }, executorService);
-                }
+                SharedApplicationRoleDelta roleDelta = organizationRoleDeltas.get(sharedOrganizationId);
+                getApplicationSharingExecutor().runAsync(mainTenantDomain, () -> {
+                    try {
+                        updateRolesOfSharedApplication(mainApplication, mainOrganizationId, sharedOrganizationId,
+                                sharedApplicationId, roleDelta, isApplicationAudience, username, userID);
+                    } catch (OrganizationManagementException e) {
+                        LOG.error(String.format("Error in updating roles of application: %s for organization: %s",
+                                mainApplicationId, sharedOrganizationId), e);
+                    }
+                });
             }
         }
         if (LoggerUtils.isEnableV2AuditLogs()) {
@@ -686,18 +696,217 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
     }
 
 
-    private String getOperationId(String originalAppId, String ownerOrgId, String userID, String sharePolicy)
+    /**
+     * Resume the application share jobs which are abandoned by the nodes that were running them. Each abandoned job
+     * is claimed before it is resumed, so that a job is resumed by a single node, and the organizations whose shares
+     * were completed by the job are skipped.
+     */
+    public void resumeApplicationShareJobs() {
+
+        List<ApplicationShareJobDO> staleJobs;
+        try {
+            staleJobs = getOrgApplicationMgtDAO().getStaleApplicationShareJobs(
+                    System.currentTimeMillis() - ApplicationShareJobCheckpointer.getJobStaleTimeoutMillis());
+        } catch (OrganizationManagementException e) {
+            LOG.error("Error while retrieving the application share jobs to be resumed.", e);
+            return;
+        }
+        for (ApplicationShareJobDO staleJob : staleJobs) {
+            String operationId = staleJob.getOperationId();
+            long claimedTime = Math.max(System.currentTimeMillis(), staleJob.getLastUpdated() + 1);
+            try {
+                if (!getOrgApplicationMgtDAO().checkpointApplicationShareJob(operationId, staleJob.getLastUpdated(),
+                        claimedTime, Collections.emptyList())) {
+                    // The job is claimed by another node.
+                    continue;
+                }
+                resumeApplicationShareJob(new ApplicationShareJobDO(operationId, staleJob.getMainApplicationId(),
+                        staleJob.getOwnerOrganizationId(), staleJob.getSharePolicy(), staleJob.getRoleSharing(),
+                        staleJob.getInitiatedUserId(), claimedTime));
+            } catch (OrganizationManagementException | RuntimeException e) {
+                LOG.error("Error while resuming the application share job: " + operationId, e);
+            }
+        }
+    }
+
+    private void resumeApplicationShareJob(ApplicationShareJobDO applicationShareJob)
+            throws OrganizationManagementException {
+
+        String operationId = applicationShareJob.getOperationId();
+        String mainApplicationId = applicationShareJob.getMainApplicationId();
+        String mainOrganizationId = applicationShareJob.getOwnerOrganizationId();
+        String ownerTenantDomain = getOrganizationManager().resolveTenantDomain(mainOrganizationId);
+        try {
+            PrivilegedCarbonContext.startTenantFlow();
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(ownerTenantDomain, true);
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setOrganizationId(mainOrganizationId);
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setUserId(applicationShareJob.getInitiatedUserId());
+
+            ServiceProvider mainApplication;
+            try {
+                mainApplication = getOrgApplication(mainApplicationId, ownerTenantDomain);
+            } catch (OrganizationManagementClientException e) {
+                LOG.warn("The application: " + mainApplicationId + " of the share job: " + operationId +
+                        " no longer exists. Discarding the job.");
+                getOrgApplicationMgtDAO().deleteApplicationShareJob(operationId,
+                        applicationShareJob.getLastUpdated());
+                return;
+            }
+            List<OrganizationNode> childOrganizationGraph = getOrganizationManager().getChildOrganizationGraph(
+                    mainOrganizationId, true);
+            Set<String> completedOrganizationIds =
+                    getOrgApplicationMgtDAO().getCompletedApplicationShareJobOrganizations(operationId);
+            List<String> remainingOrganizationIds = new ArrayList<>();
+            for (String organizationId : getOrganizationIdsInBfsOrder(childOrganizationGraph)) {
+                if (!completedOrganizationIds.contains(organizationId)) {
+                    remainingOrganizationIds.add(organizationId);
+                }
+            }
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Resuming the share job: " + operationId + " of the application: " + mainApplicationId +
+                        " with " + remainingOrganizationIds.size() + " remaining organizations.");
+            }
+            // The job may be resumed by a node other than the one which registered the operation status.
+            getUnitOperationStatusRecorder().startOperation(operationId);
+            List<CompletableFuture<Void>> futures = runApplicationShareJob(applicationShareJob, true,
+                    mainApplication, ownerTenantDomain, childOrganizationGraph, remainingOrganizationIds,
+                    new ArrayList<>());
+            updateOperationStatus(operationId, futures);
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+
+    /**
+     * Share the application with the given organizations, checkpointing the progress of the given job if the job is
+     * persisted. The job is deleted once all the shares are completed.
+     */
+    private List<CompletableFuture<Void>> runApplicationShareJob(ApplicationShareJobDO applicationShareJob,
+                                                                 boolean persisted,
+                                                                 ServiceProvider mainApplication,
+                                                                 String ownerTenantDomain,
+                                                                 List<OrganizationNode> organizationGraph,
+                                                                 List<String> organizationIds,
+                                                                 List<String> orgIdsToShare)
+            throws OrganizationManagementException {
+
+        String mainApplicationId = applicationShareJob.getMainApplicationId();
+        String mainOrganizationId = applicationShareJob.getOwnerOrganizationId();
+        String operationId = applicationShareJob.getOperationId();
+        SharedApplicationLinkBuffer linkBuffer = createSharedApplicationLinkBuffer(mainApplicationId,
+                mainOrganizationId, operationId);
+        ApplicationShareJobCheckpointer checkpointer = persisted ?
+                new ApplicationShareJobCheckpointer(operationId, applicationShareJob.getLastUpdated(),
+                        getOrgApplicationMgtDAO(), linkBuffer,
+                        OrgApplicationMgtDataHolder.getInstance().getApplicationShareJobHeartbeatExecutor()) : null;
+        /*
+         * Share the application with each valid child organization. The share with an organization starts as soon
+         * as the share with its parent organization is completed.
+         */
+        List<CompletableFuture<Void>> futures;
+        try {
+            futures = scheduleAndWait(organizationGraph,
+                    organizationIds, Function.identity(), childOrgId -> {
+                        // Stop sharing if the job is claimed by another node.
+                        if (checkpointer != null && checkpointer.isReleased()) {
+                            return null;
+                        }
+                        Organization sharingChildOrg = getOrganizationManager().getOrganization(childOrgId, false,
+                                false);
+                        // Only share with organizations of type TENANT.
+                        if (!TENANT.equalsIgnoreCase(sharingChildOrg.getType())) {
+                            return null;
+                        }
+                        orgIdsToShare.add(sharingChildOrg.getId());
+                        flushIfParentLinkPending(linkBuffer, sharingChildOrg);
+                        return getApplicationSharingExecutor().runAsync(ownerTenantDomain, () -> {
+                            // Skip the queued shares once the job is claimed by another node.
+                            if (checkpointer != null && checkpointer.isReleased()) {
+                                return;
+                            }
+                            try {
+                                shareApplicationWithPolicy(
+                                        mainOrganizationId,
+                                        mainApplication,
+                                        sharingChildOrg.getId(),
+                                        PolicyEnum.SELECTED_ORG_ONLY,
+                                        applicationShareJob.getRoleSharing(),
+                                        operationId,
+                                        linkBuffer,
+                                        checkpointer != null ? checkpointer::onShareCompleted : null
+                                );
+                            } catch (OrganizationManagementException e) {
+                                LOG.error(String.format("Error in sharing application: %s to sharingChildOrg: %s",
+                                        mainApplication.getApplicationResourceId(), sharingChildOrg.getId()), e);
+                            }
+                        });
+                    }, organizationId -> {
+                        // The shares are checkpointed once they are successful and their entries are persisted.
+                    }, organizationId -> {
+                        // The shares of a persisted job which are not submitted are resumed along with the job.
+                        if (checkpointer == null) {
+                            processUnitOperationStatus(operationId, mainApplicationId, organizationId,
+                                    OperationStatus.FAILED, SHARE_INTERRUPTED_STATUS_MESSAGE);
+                        }
+                    });
+        } finally {
+            linkBuffer.close();
+            if (checkpointer != null) {
+                checkpointer.close();
+            }
+        }
+        // Shares which are not awaited due to an interruption are left to be resumed along with the job.
+        if (checkpointer != null && futures.stream().allMatch(CompletableFuture::isDone)) {
+            checkpointer.complete();
+        }
+        return futures;
+    }
+
+    private void updateOperationStatus(String operationId, List<CompletableFuture<Void>> futures) {
+
+        if (StringUtils.isNotBlank(operationId)) {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenRun(() -> {
+                try {
+                    getAsyncStatusMgtService().updateOperationStatus(operationId, getOperationStatus(operationId));
+                } catch (AsyncOperationStatusMgtException e) {
+                    try {
+                        throw handleServerException(ERROR_CODE_ERROR_RETRIEVING_APPLICATION_SHARED_ACCESS_STATUS, e);
+                    } catch (OrganizationManagementServerException ex) {
+                        throw new RuntimeException(ex);
+                    }
+                }
+            }).join();
+        }
+    }
+
+    /**
+     * Update the status of the given operation once all the given futures are completed, without waiting for them.
+     */
+    private void updateOperationStatusAsync(String operationId, List<CompletableFuture<Void>> futures) {
+
+        if (StringUtils.isNotBlank(operationId)) {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).whenComplete((result, error) -> {
+                try {
+                    getAsyncStatusMgtService().updateOperationStatus(operationId, getOperationStatus(operationId));
+                } catch (AsyncOperationStatusMgtException e) {
+                    LOG.error("Error while updating the status of the operation: " + operationId, e);
+                }
+            });
+        }
+    }
+
+    private String getOperationId(OrgApplicationMgtConstants.ShareOperationType operationType, String originalAppId,
+                                  String ownerOrgId, String userID, String sharePolicy)
             throws OrganizationManagementServerException {
 
         try {
             String operationId = getAsyncStatusMgtService().registerOperationStatus(
-                    new OperationInitDTO(getCorrelation(), APPLICATION_SHARE.getValue(), B2B_APPLICATION,
+                    new OperationInitDTO(getCorrelation(), operationType.getValue(), B2B_APPLICATION,
                             originalAppId, ownerOrgId, userID, sharePolicy), false);
 
             // If Async Operation Status persistence is disabled, operationId will not be returned.
             if (StringUtils.isNotBlank(operationId)) {
-                SubOperationStatusQueue statusQueue = new SubOperationStatusQueue();
-                asyncOperationStatusList.put(operationId, statusQueue);
+                getUnitOperationStatusRecorder().startOperation(operationId);
             }
             return operationId;
         } catch (AsyncOperationStatusMgtException e) {
@@ -707,10 +916,7 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
 
     private OperationStatus getOperationStatus(String operationId) {
 
-        SubOperationStatusQueue list = asyncOperationStatusList.get(operationId);
-        OperationStatus status = list.getOperationStatus();
-        asyncOperationStatusList.remove(operationId);
-        return status;
+        return getUnitOperationStatusRecorder().completeOperation(operationId);
     }
 
     private String getCorrelation() {
@@ -729,41 +935,84 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
         return MDC.get(CORRELATION_ID_MDC) != null;
     }
 
+    /**
+     * Update the roles of the shared application of the given organization with the given role changes. If the roles
+     * are associated with the application audience, the changes which would not alter the roles the shared
+     * application currently has are dropped, and nothing is dispatched if no change remains.
+     */
     private void updateRolesOfSharedApplication(ServiceProvider mainApplication, String mainOrgId, String sharedOrgId,
-                                                ApplicationShareUpdateOperation.Operation operation,
-                                                List<RoleWithAudienceDO> roleChanges, String requestInitiatedUserName,
+                                                String sharedApplicationId, SharedApplicationRoleDelta roleDelta,
+                                                boolean isApplicationAudience, String requestInitiatedUserName,
                                                 String requestInitiatedUserId) throws OrganizationManagementException {
 
         try {
             PrivilegedCarbonContext.startTenantFlow();
             String sharedOrgHandle = getOrganizationManager().resolveTenantDomain(sharedOrgId);
             PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(sharedOrgHandle, true);
-            getListener().preUpdateRolesOfSharedApplication(mainOrgId, mainApplication.getApplicationResourceId(),
-                    sharedOrgId, operation, roleChanges);
-            // Set the request initiated user information, which will be used for the auditing purposes.
-            PrivilegedCarbonContext.getThreadLocalCarbonContext().setUserId(requestInitiatedUserId);
-            PrivilegedCarbonContext.getThreadLocalCarbonContext().setUsername(requestInitiatedUserName);
-            Optional<String> sharedApplicationResourceId;
-            try {
-                sharedApplicationResourceId = resolveSharedApp(mainApplication.getApplicationResourceId(), mainOrgId,
-                        sharedOrgId);
-            } catch (OrganizationManagementException e) {
-                LOG.warn("Error while resolving shared application: " + mainApplication.getApplicationResourceId(), e);
-                return;
+            if (isApplicationAudience) {
+                roleDelta.retainEffectiveChanges(getSharedApplicationRoleNames(sharedApplicationId, sharedOrgHandle));
             }
-            if (!sharedApplicationResourceId.isPresent()) {
-                LOG.warn("Shared application not found for organization: " + sharedOrgId);
+            if (roleDelta.isEmpty()) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("The roles of the shared application: " + sharedApplicationId + " of the organization: " +
+                            sharedOrgId + " are already up to date.");
+                }
                 return;
             }
-            // We will manage the role changes from the listeners since it was how the role management is already
-            // done with shared application.
-            getListener().postUpdateRolesOfSharedApplication(mainOrgId, mainApplication.getApplicationResourceId(),
-                    sharedOrgId, sharedApplicationResourceId.get(), operation, roleChanges);
+            Map<ApplicationShareUpdateOperation.Operation, List<RoleWithAudienceDO>> roleChangesByOperation =
+                    new LinkedHashMap<>();
+            roleChangesByOperation.put(ApplicationShareUpdateOperation.Operation.REMOVE, roleDelta.getRemovedRoles());
+            roleChangesByOperation.put(ApplicationShareUpdateOperation.Operation.ADD, roleDelta.getAddedRoles());
+            for (Map.Entry<ApplicationShareUpdateOperation.Operation, List<RoleWithAudienceDO>> entry :
+                    roleChangesByOperation.entrySet()) {
+                if (entry.getValue().isEmpty()) {
+                    continue;
+                }
+                getListener().preUpdateRolesOfSharedApplication(mainOrgId, mainApplication.getApplicationResourceId(),
+                        sharedOrgId, entry.getKey(), entry.getValue());
+                // Set the request initiated user information, which will be used for the auditing purposes.
+                PrivilegedCarbonContext.getThreadLocalCarbonContext().setUserId(requestInitiatedUserId);
+                PrivilegedCarbonContext.getThreadLocalCarbonContext().setUsername(requestInitiatedUserName);
+                // We will manage the role changes from the listeners since it was how the role management is already
+                // done with shared application.
+                getListener().postUpdateRolesOfSharedApplication(mainOrgId,
+                        mainApplication.getApplicationResourceId(), sharedOrgId, sharedApplicationId, entry.getKey(),
+                        entry.getValue());
+            }
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
         }
     }
 
+    private boolean isApplicationAudienceForRoleAssociation(String applicationId, String tenantDomain)
+            throws OrganizationManagementException {
+
+        try {
+            return StringUtils.equalsIgnoreCase(RoleConstants.APPLICATION,
+                    getApplicationManagementService().getAllowedAudienceForRoleAssociation(applicationId,
+                            tenantDomain));
+        } catch (IdentityApplicationManagementException e) {
+            throw OrgApplicationManagerUtil.handleServerException(ERROR_CODE_ERROR_RETRIEVING_APP_ROLE_ALLOWED_AUDIENCE,
+                    e, applicationId);
+        }
+    }
+
+    private Set<String> getSharedApplicationRoleNames(String sharedApplicationId, String sharedTenantDomain)
+            throws OrganizationManagementException {
+
+        String roleFilter = RoleConstants.AUDIENCE_ID + " " + RoleConstants.EQ + " " + sharedApplicationId;
+        try {
+            Set<String> roleNames = new HashSet<>();
+            for (RoleBasicInfo role : getRoleManagementServiceV2().getRoles(roleFilter, null, 0, null, null,
+                    sharedTenantDomain)) {
+                roleNames.add(role.getName());
+            }
+            return roleNames;
+        } catch (IdentityRoleManagementException e) {
+            throw OrgApplicationManagerUtil.handleServerException(ERROR_CODE_ERROR_RETRIEVING_SHARED_APP_ROLES, e);
+        }
+    }
+
     @Override
     public void unshareApplicationFromSelectedOrganizations(String mainOrganizationId, String mainApplicationId,
                                    List<String> sharedOrganizationList) throws OrganizationManagementException {
@@ -772,10 +1021,17 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
         ServiceProvider mainApplication = getOrgApplication(mainApplicationId, mainTenantDomain);
         List<String> validOrganizationsInReverseBfsOrder = getValidOrganizationsInReverseBfsOrder(mainOrganizationId,
                 sharedOrganizationList);
+        String operationId = getOperationId(APPLICATION_UNSHARE, mainApplicationId, mainOrganizationId,
+                PrivilegedCarbonContext.getThreadLocalCarbonContext().getUserId(),
+                OrgApplicationMgtConstants.SharePolicy.DO_NOT_SHARE.getValue());
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
         for (String sharedOrganizationId : validOrganizationsInReverseBfsOrder) {
             Organization organization = getOrganizationManager().getOrganization(sharedOrganizationId, false, false);
             if (TENANT.equalsIgnoreCase(organization.getType())) {
-                CompletableFuture.runAsync(() -> {
+                // Tokens are revoked in a separate stage, once the shared application is deleted.
+                AtomicReference<CompletableFuture<Void>> tokenRevocation =
+                        new AtomicReference<>(CompletableFuture.completedFuture(null));
+                futures.add(getApplicationSharingExecutor().runAsync(mainTenantDomain, () -> {
                     try {
                         Optional<String> optionalSharedApplicationId =
                                 resolveSharedApp(mainApplicationId, mainOrganizationId, organization.getId());
@@ -791,13 +1047,18 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
                                 shareApplicationId);
                         getListener().postDeleteSharedApplication(mainOrganizationId, mainApplicationId,
                                 sharedOrganizationId, shareApplicationId);
+                        tokenRevocation.set(revokeSharedAppAccessTokensAsync(operationId, mainApplication,
+                                sharedOrganizationId));
                     } catch (OrganizationManagementException e) {
                         LOG.error(String.format("Error in unsharing application: %s from organization: %s",
                                 mainApplicationId, sharedOrganizationId), e);
+                        processUnitOperationStatus(operationId, mainApplicationId, sharedOrganizationId,
+                                OperationStatus.FAILED, e.getMessage());
                     }
-                }, executorService);
+                }).thenCompose(ignored -> tokenRevocation.get()));
             }
         }
+        updateOperationStatusAsync(operationId, futures);
         if (LoggerUtils.isEnableV2AuditLogs()) {
             String username = PrivilegedCarbonContext.getThreadLocalCarbonContext().getUsername();
             AuditLog.AuditLogBuilder auditLogBuilder = new AuditLog.AuditLogBuilder(
@@ -820,20 +1081,32 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
         List<SharedApplicationDO> sharedApplicationDOList =
                 getOrgApplicationMgtDAO().getSharedApplications(mainOrganizationId, mainApplicationId);
         IdentityUtil.threadLocalProperties.get().put(DELETE_SHARE_FOR_MAIN_APPLICATION, true);
+        String operationId = getOperationId(APPLICATION_UNSHARE, mainApplicationId, mainOrganizationId,
+                PrivilegedCarbonContext.getThreadLocalCarbonContext().getUserId(),
+                OrgApplicationMgtConstants.SharePolicy.DO_NOT_SHARE.getValue());
         List<String> unsharingOrganizations = new ArrayList<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
         for (SharedApplicationDO sharedApplicationDO : sharedApplicationDOList) {
-            unsharingOrganizations.add(sharedApplicationDO.getOrganizationId());
-            CompletableFuture.runAsync(() -> {
+            String sharedOrganizationId = sharedApplicationDO.getOrganizationId();
+            unsharingOrganizations.add(sharedOrganizationId);
+            AtomicReference<CompletableFuture<Void>> tokenRevocation =
+                    new AtomicReference<>(CompletableFuture.completedFuture(null));
+            futures.add(getApplicationSharingExecutor().runAsync(mainTenantDomain, () -> {
                 try {
                     IdentityUtil.threadLocalProperties.get().put(DELETE_SHARE_FOR_MAIN_APPLICATION, true);
-                    deleteExistingSharedApplication(mainOrganizationId, sharedApplicationDO.getOrganizationId(),
+                    deleteExistingSharedApplication(mainOrganizationId, sharedOrganizationId,
                             mainApplication, sharedApplicationDO.getFragmentApplicationId());
+                    tokenRevocation.set(revokeSharedAppAccessTokensAsync(operationId, mainApplication,
+                            sharedOrganizationId));
                 } catch (OrganizationManagementException e) {
                     LOG.error(String.format("Error in unsharing application: %s from organization: %s",
-                            mainApplicationId, sharedApplicationDO.getOrganizationId()), e);
+                            mainApplicationId, sharedOrganizationId), e);
+                    processUnitOperationStatus(operationId, mainApplicationId, sharedOrganizationId,
+                            OperationStatus.FAILED, e.getMessage());
                 }
-            }, executorService);
+            }).thenCompose(ignored -> tokenRevocation.get()));
         }
+        updateOperationStatusAsync(operationId, futures);
         if (LoggerUtils.isEnableV2AuditLogs()) {
             String username = PrivilegedCarbonContext.getThreadLocalCarbonContext().getUsername();
             AuditLog.AuditLogBuilder auditLogBuilder = new AuditLog.AuditLogBuilder(
@@ -890,7 +1163,8 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
     }
 
     /**
-     * Deletes the existing shared application in the given organization. Also
+     * Deletes the existing shared application in the given organization. The tokens issued for the application in
+     * the organization are not revoked here, but in a separate stage once the shared application is deleted.
      *
      * @param mainOrgId            Main organization ID.
      * @param sharedOrganizationId Shared organization ID.
@@ -903,8 +1177,8 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
             throws OrganizationManagementException {
 
         String applicationId = mainApplication.getApplicationResourceId();
-        revokeSharedAppAccessTokens(mainOrgId, applicationId, sharedOrganizationId);
         deleteSharedApplication(sharedOrganizationId, sharedApplicationId);
+        AncestorApplicationCache.getInstance().invalidateApplication(applicationId);
 
         if (!hasSharedApps(applicationId)) {
             // Mark as non-shared only if there are no shared organizations.
@@ -924,12 +1198,32 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
         }
     }
 
-    private void revokeSharedAppAccessTokens(String rootOrganizationId, String rootApplicationId,
-                                             String sharedOrganizationId) throws OrganizationManagementException {
+    /**
+     * Revokes the tokens issued for the main application in the given organization on the token revocation executor.
+     * The outcome of the revocation is reported as a unit operation of the given unshare operation.
+     *
+     * @param operationId          ID of the unshare operation.
+     * @param mainApplication      Main application which is unshared.
+     * @param sharedOrganizationId ID of the organization the application is unshared from.
+     * @return A future which completes once the tokens are revoked.
+     */
+    private CompletableFuture<Void> revokeSharedAppAccessTokensAsync(String operationId,
+                                                                     ServiceProvider mainApplication,
+                                                                     String sharedOrganizationId) {
 
-        String rootTenantDomain = getOrganizationManager().resolveTenantDomain(rootOrganizationId);
-        ServiceProvider rootApplication = getOrgApplication(rootApplicationId, rootTenantDomain);
-        revokeTokensForAppInOrg(rootApplication, sharedOrganizationId);
+        String mainApplicationId = mainApplication.getApplicationResourceId();
+        return getTokenRevocationExecutor().runAsync(() -> {
+            try {
+                revokeTokensForAppInOrg(mainApplication, sharedOrganizationId);
+                processUnitOperationStatus(operationId, mainApplicationId, sharedOrganizationId,
+                        OperationStatus.SUCCESS, StringUtils.EMPTY);
+            } catch (OrganizationManagementException e) {
+                LOG.error(String.format("Error in revoking the tokens of application: %s in organization: %s",
+                        mainApplicationId, sharedOrganizationId), e);
+                processUnitOperationStatus(operationId, mainApplicationId, sharedOrganizationId,
+                        OperationStatus.FAILED, e.getMessage());
+            }
+        });
     }
 
     private void revokeTokensForAppInOrg(ServiceProvider serviceProvider, String sharedOrganizationId)
@@ -1057,13 +1351,6 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
             parentOrgId = mainOrganizationId;
         }
 
-        List<String> organizationIds;
-        if (StringUtils.isNotBlank(parentOrgId)) {
-            organizationIds = getOrganizationManager().getChildOrganizationsIds(parentOrgId, recursive);
-        } else {
-            organizationIds = new ArrayList<>();
-        }
-
         List<String> includedAttributesList = getIncludedAttributes(attributes);
         String mainOrgHandle = getOrganizationManager().resolveTenantDomain(mainOrganizationId);
         SharingModeDO sharingModeDO = null;
@@ -1074,8 +1361,15 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
         // Fetch one more item than requested to determine if there are more items.
         // Limit == 0 means no limit has been set. So we should get all items.
         int fetchLimit = limit == 0 ? limit : limit + 1;
-        List<SharedApplicationDO> sharedApplications = getOrgApplicationMgtDAO().getSharedApplications(
-                mainOrganizationId, mainApplicationId, organizationIds, expressionNodeList, sortOrder, fetchLimit);
+        List<SharedApplicationDO> sharedApplications;
+        if (recursive && parentOrgId.equals(mainOrganizationId)) {
+            // An application is only shared within the descendants of its organization, hence no filtering is needed.
+            sharedApplications = getOrgApplicationMgtDAO().getSharedApplications(mainOrganizationId,
+                    mainApplicationId, expressionNodeList, sortOrder, fetchLimit);
+        } else {
+            sharedApplications = getSharedApplicationsOfChildOrganizations(mainOrganizationId, mainApplicationId,
+                    parentOrgId, recursive, expressionNodeList, sortOrder, fetchLimit);
+        }
 
         if (CollectionUtils.isEmpty(sharedApplications)) {
             return new SharedApplicationOrganizationNodePage(Collections.emptyList(), sharingModeDO, 0, 0);
@@ -1098,10 +1392,8 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
             Collections.reverse(sharedApplications);
         }
         List<String> excludedAttributesList = getExcludedAttributes(excludedAttributes);
-        for (SharedApplicationDO sharedApplicationDO : sharedApplications) {
-            applicationSharedOrganizationsList.add(getApplicationSharedOrganizationNode(sharedApplicationDO,
-                    mainOrganizationId, mainApplicationId, excludedAttributesList, includedAttributesList));
-        }
+        applicationSharedOrganizationsList.addAll(getApplicationSharedOrganizationNodes(sharedApplications,
+                mainOrganizationId, mainOrgHandle, mainApplicationId, excludedAttributesList, includedAttributesList));
 
         // Calculate next and previous tokens.
         int nextToken = 0;
@@ -1129,6 +1421,45 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
                 applicationSharedOrganizationsList, sharingModeDO, nextToken, previousToken);
     }
 
+    /**
+     * Returns the shared applications of the main application within the child organizations of the given parent
+     * organization. The shared applications are read in batches using the ID as the cursor, and the ones outside the
+     * child organizations are skipped, so that the child organizations of the parent are not loaded into memory.
+     */
+    private List<SharedApplicationDO> getSharedApplicationsOfChildOrganizations(String mainOrganizationId,
+                                                                                String mainApplicationId,
+                                                                                String parentOrgId, boolean recursive,
+                                                                                List<ExpressionNode> expressionNodes,
+                                                                                String sortOrder, int limit)
+            throws OrganizationManagementException {
+
+        int batchSize = limit == 0 ? limit : Math.max(limit, SHARED_APPLICATIONS_BATCH_SIZE);
+        List<SharedApplicationDO> sharedApplications = new ArrayList<>();
+        List<ExpressionNode> batchExpressionNodes = expressionNodes;
+        while (true) {
+            List<SharedApplicationDO> batch = getOrgApplicationMgtDAO().getSharedApplications(mainOrganizationId,
+                    mainApplicationId, batchExpressionNodes, sortOrder, batchSize);
+            for (SharedApplicationDO sharedApplication : batch) {
+                int relativeDepth = getOrganizationManager().getRelativeDepthBetweenOrganizationsInSameBranch(
+                        parentOrgId, sharedApplication.getOrganizationId());
+                if (recursive ? relativeDepth > 0 : relativeDepth == 1) {
+                    sharedApplications.add(sharedApplication);
+                    if (sharedApplications.size() == limit) {
+                        return sharedApplications;
+                    }
+                }
+            }
+            if (batchSize == 0 || batch.size() < batchSize) {
+                return sharedApplications;
+            }
+            // Continue from the last shared application of the batch.
+            int cursor = batch.get(batch.size() - 1).getAppId();
+            batchExpressionNodes = new ArrayList<>(expressionNodes);
+            batchExpressionNodes.addAll(ASC_SORT_ORDER.equals(sortOrder) ? getExpressionNodes(null, 0, cursor) :
+                    getExpressionNodes(null, cursor, 0));
+        }
+    }
+
     private List<String> getExcludedAttributes(String excludedAttributes) {
 
         if (StringUtils.isBlank(excludedAttributes)) {
@@ -1165,53 +1496,101 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
                 }).collect(Collectors.toList());
     }
 
-    private SharedApplicationOrganizationNode getApplicationSharedOrganizationNode(
-            SharedApplicationDO sharedApplicationDO, String mainOrgId, String mainApplicationId,
-            List<String> excludedAttributesList, List<String> includedAttributesList)
+    /**
+     * Builds the shared organization nodes of a page of shared applications. The details which are common to all
+     * the organizations of the page, i.e. the sharing policy of the main application, the role audience of the main
+     * application and the shared child organizations, are loaded once for the page and the nodes are assembled in
+     * memory, instead of resolving them for each organization. The depth of each organization is derived from its
+     * parent, hence the depth is looked up once per distinct parent which is not in the page.
+     */
+    private List<SharedApplicationOrganizationNode> getApplicationSharedOrganizationNodes(
+            List<SharedApplicationDO> sharedApplications, String mainOrgId, String mainOrgHandle,
+            String mainApplicationId, List<String> excludedAttributesList, List<String> includedAttributesList)
             throws OrganizationManagementException {
 
-        // 1. Get the sub organization ID and the handle.
-        String mainOrgHandle = getOrganizationManager().resolveTenantDomain(mainOrgId);
-        String subOrgId = sharedApplicationDO.getOrganizationId();
-        String subOrgHandle = getOrganizationManager().resolveTenantDomain(subOrgId);
-        String sharedAppResourceId = sharedApplicationDO.getFragmentApplicationId();
-        Organization organization = getOrganizationManager().getOrganization(subOrgId, true, false);
-        String subOrgName = organization.getName();
-
-        // 2. Get all children of the sub organization.
-        List<ChildOrganizationDO> childOrganizations = organization.getChildOrganizations();
-        List<String> childOrgIds = childOrganizations.stream()
-                .map(ChildOrganizationDO::getId).collect(Collectors.toList());
-
-        // If it has children, check if any child has a shared application.
-        List<SharedApplicationDO> childSharedApplications = getOrgApplicationMgtDAO().getSharedApplications(
-                mainApplicationId, mainOrgId, childOrgIds);
-        boolean hasChildren = CollectionUtils.isNotEmpty(childSharedApplications);
-        String organizationStatus = organization.getStatus();
-        String parentOrganizationId = organization.getParent().getId();
-
-        // 4. Get the depth from root.
-        int depthFromRoot = getOrganizationManager().getOrganizationDepthInHierarchy(subOrgId);
-
-        // 5. Get the role sharing config.
-        SharingModeDO sharingModeDO = null;
-        if (includedAttributesList.contains(SP_SHARED_SHARING_MODE_INCLUDED_KEY)) {
-            sharingModeDO = resolveOrganizationSharingMode(mainOrgId, subOrgId, mainApplicationId,
-                    sharedAppResourceId, subOrgHandle);
+        // 1. Load the organizations of the page along with their child organizations.
+        Map<String, Organization> organizations = new HashMap<>();
+        Map<String, String> parentOrgIdsOfChildren = new HashMap<>();
+        for (SharedApplicationDO sharedApplicationDO : sharedApplications) {
+            String subOrgId = sharedApplicationDO.getOrganizationId();
+            Organization organization = getOrganizationManager().getOrganization(subOrgId, true, false);
+            organizations.put(subOrgId, organization);
+            for (ChildOrganizationDO childOrganization : organization.getChildOrganizations()) {
+                parentOrgIdsOfChildren.put(childOrganization.getId(), subOrgId);
+            }
         }
 
-        if (!excludedAttributesList.contains(SP_SHARED_ROLE_EXCLUDED_KEY)) {
-            List<RoleWithAudienceDO> sharedAppRoles = getSharedAppRoles(mainOrgHandle, mainApplicationId, subOrgId,
-                    sharedApplicationDO.getFragmentApplicationId());
-            return new SharedApplicationOrganizationNode(sharedAppResourceId, subOrgId, subOrgName, organizationStatus,
-                    parentOrganizationId, subOrgHandle, sharedAppRoles, hasChildren, depthFromRoot,
-                    sharingModeDO);
+        // 2. Check in one pass which organizations have a child organization with the shared application.
+        Set<String> orgIdsWithSharedChildren = new HashSet<>();
+        if (!parentOrgIdsOfChildren.isEmpty()) {
+            List<SharedApplicationDO> childSharedApplications = getOrgApplicationMgtDAO().getSharedApplications(
+                    mainApplicationId, mainOrgId, new ArrayList<>(parentOrgIdsOfChildren.keySet()));
+            for (SharedApplicationDO childSharedApplication : childSharedApplications) {
+                orgIdsWithSharedChildren.add(parentOrgIdsOfChildren.get(childSharedApplication.getOrganizationId()));
+            }
+        }
+
+        // 3. Load the sharing policy of the main application and the role audience once for the page.
+        boolean includeSharingMode = includedAttributesList.contains(SP_SHARED_SHARING_MODE_INCLUDED_KEY);
+        Map<ResourceSharingPolicy, List<SharedResourceAttribute>> sharingPolicies = null;
+        if (includeSharingMode) {
+            sharingPolicies = getApplicationSharingPolicies(mainOrgId, mainApplicationId);
+        }
+        boolean includeRoles = !excludedAttributesList.contains(SP_SHARED_ROLE_EXCLUDED_KEY);
+        boolean isApplicationAudience = includeRoles &&
+                isApplicationAudienceForRoleAssociation(mainApplicationId, mainOrgHandle);
+
+        // 4. Assemble the nodes.
+        Map<String, Integer> depthsFromRoot = new HashMap<>();
+        List<SharedApplicationOrganizationNode> sharedOrganizationNodes = new ArrayList<>();
+        for (SharedApplicationDO sharedApplicationDO : sharedApplications) {
+            String subOrgId = sharedApplicationDO.getOrganizationId();
+            String subOrgHandle = getOrganizationManager().resolveTenantDomain(subOrgId);
+            String sharedAppResourceId = sharedApplicationDO.getFragmentApplicationId();
+            Organization organization = organizations.get(subOrgId);
+            int depthFromRoot = getDepthFromRoot(subOrgId, organizations, depthsFromRoot);
+
+            SharingModeDO sharingModeDO = null;
+            if (includeSharingMode) {
+                sharingModeDO = resolveOrganizationSharingMode(subOrgId, sharedAppResourceId, subOrgHandle,
+                        sharingPolicies);
+            }
+            // If roles are excluded, we do not need to fetch roles and returning null so it will differentiate
+            // not having any roles and not need to fetch roles.
+            List<RoleWithAudienceDO> sharedAppRoles = null;
+            if (includeRoles) {
+                sharedAppRoles = getSharedAppRoles(subOrgId, subOrgHandle, sharedAppResourceId,
+                        isApplicationAudience);
+            }
+            sharedOrganizationNodes.add(new SharedApplicationOrganizationNode(sharedAppResourceId, subOrgId,
+                    organization.getName(), organization.getStatus(), organization.getParent().getId(),
+                    subOrgHandle, sharedAppRoles, orgIdsWithSharedChildren.contains(subOrgId), depthFromRoot,
+                    sharingModeDO));
         }
-        // If roles are excluded, we do not need to fetch roles and returning null so it will differentiate
-        // not having any roles and not need to fetch roles.
-        return new SharedApplicationOrganizationNode(sharedAppResourceId, subOrgId, subOrgName, organizationStatus,
-                parentOrganizationId, subOrgHandle, null, hasChildren, depthFromRoot,
-                sharingModeDO);
+        return sharedOrganizationNodes;
+    }
+
+    /**
+     * Resolves the depth of the given organization from the root organization. The depth of an organization which is
+     * already loaded is derived from the depth of its parent, and the resolved depths are cached, so that the
+     * organizations of the page sharing the same parent look up the depth only once.
+     */
+    private int getDepthFromRoot(String organizationId, Map<String, Organization> organizations,
+                                 Map<String, Integer> depthsFromRoot) throws OrganizationManagementException {
+
+        Integer depthFromRoot = depthsFromRoot.get(organizationId);
+        if (depthFromRoot != null) {
+            return depthFromRoot;
+        }
+        Organization organization = organizations.get(organizationId);
+        if (organization == null || organization.getParent() == null ||
+                StringUtils.isBlank(organization.getParent().getId())) {
+            depthFromRoot = getOrganizationManager().getOrganizationDepthInHierarchy(organizationId);
+        } else {
+            depthFromRoot = getDepthFromRoot(organization.getParent().getId(), organizations, depthsFromRoot) + 1;
+        }
+        depthsFromRoot.put(organizationId, depthFromRoot);
+        return depthFromRoot;
     }
 
     private SharingModeDO resolveGeneralSharingMode(String initiatingOrgId, String mainAppId, String mainOrgHandle)
@@ -1266,8 +1645,20 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
         return null;
     }
 
-    private SharingModeDO resolveOrganizationSharingMode(String initiatingOrgId, String subOrgId, String mainAppId,
-                                                         String sharedAppId, String subOrgHandle)
+    private Map<ResourceSharingPolicy, List<SharedResourceAttribute>> getApplicationSharingPolicies(
+            String initiatingOrgId, String mainAppId) throws OrganizationManagementException {
+
+        try {
+            return getResourceSharingPolicyHandlerService().getResourceSharingPolicyAndAttributesByInitiatingOrgId(
+                    initiatingOrgId, B2B_APPLICATION, mainAppId);
+        } catch (ResourceSharingPolicyMgtException e) {
+            throw new OrganizationManagementException(e.getMessage(), e.getDescription(), e.getErrorCode());
+        }
+    }
+
+    private SharingModeDO resolveOrganizationSharingMode(String subOrgId, String sharedAppId, String subOrgHandle,
+                                                         Map<ResourceSharingPolicy, List<SharedResourceAttribute>>
+                                                                 sharingPolicies)
             throws OrganizationManagementException {
 
         try {
@@ -1279,13 +1670,9 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
                     .mode(mode);
             SharingModeDO.Builder sharingModeDO = new SharingModeDO.Builder();
 
-            Map<ResourceSharingPolicy, List<SharedResourceAttribute>> result
-                    = getResourceSharingPolicyHandlerService().getResourceSharingPolicyAndAttributesByInitiatingOrgId(
-                            initiatingOrgId, B2B_APPLICATION, mainAppId);
-
-            if (result != null && !result.isEmpty()) {
+            if (sharingPolicies != null && !sharingPolicies.isEmpty()) {
                 Map.Entry<ResourceSharingPolicy, List<SharedResourceAttribute>> entry
-                        = result.entrySet().iterator().next();
+                        = sharingPolicies.entrySet().iterator().next();
                 ResourceSharingPolicy resourceSharingPolicy = entry.getKey();
                 List<SharedResourceAttribute> resourceAttributes = entry.getValue();
                 boolean isPolicyHolderOrg = Objects.equals(resourceSharingPolicy.getPolicyHoldingOrgId(), subOrgId);
@@ -1302,8 +1689,6 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
             }
             sharingModeDO.applicationShareRolePolicy(roleSharingConfigBuilder.build());
             return sharingModeDO.build();
-        } catch (ResourceSharingPolicyMgtException e) {
-            throw new OrganizationManagementException(e.getMessage(), e.getDescription(), e.getErrorCode());
         } catch (IdentityApplicationManagementException e) {
             throw new OrganizationManagementException(e.getMessage(), e.getDescription(), e.getErrorCode());
         }
@@ -1342,23 +1727,21 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
         return roleWithAudienceDO;
     }
 
-    private List<RoleWithAudienceDO> getSharedAppRoles(String mainOrgName, String mainApplicationId, String subOrgId,
-                                                       String sharedAppId) throws OrganizationManagementException {
+    private List<RoleWithAudienceDO> getSharedAppRoles(String subOrgId, String subOrgTenantDomain, String sharedAppId,
+                                                       boolean isApplicationAudience)
+            throws OrganizationManagementException {
 
         List<RoleWithAudienceDO> roleWithAudienceDOList = new ArrayList<>();
         try {
-            String applicationRoleAudience = getApplicationManagementService()
-                    .getAllowedAudienceForRoleAssociation(mainApplicationId, mainOrgName);
             String roleFilter;
             RoleWithAudienceDO.AudienceType audienceType;
-            if (StringUtils.equalsIgnoreCase(RoleConstants.APPLICATION, applicationRoleAudience)) {
+            if (isApplicationAudience) {
                 audienceType = RoleWithAudienceDO.AudienceType.APPLICATION;
                 roleFilter = RoleConstants.AUDIENCE_ID + " " + RoleConstants.EQ + " " + sharedAppId;
             } else {
                 audienceType = RoleWithAudienceDO.AudienceType.ORGANIZATION;
                 roleFilter = RoleConstants.AUDIENCE_ID + " " + RoleConstants.EQ + " " + subOrgId;
             }
-            String subOrgTenantDomain = getOrganizationManager().resolveTenantDomain(subOrgId);
             List<RoleBasicInfo> roles = getRoleManagementServiceV2().getRoles(roleFilter, null, 0, null,
                     null, subOrgTenantDomain);
 
@@ -1369,8 +1752,6 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
                         audienceType);
                 roleWithAudienceDOList.add(roleWithAudienceDO);
             }
-        } catch (IdentityApplicationManagementException e) {
-            throw OrgApplicationManagerUtil.handleServerException(ERROR_CODE_ERROR_RETRIEVING_SHARED_APP, e);
         } catch (IdentityRoleManagementException e) {
             throw OrgApplicationManagerUtil.handleServerException(ERROR_CODE_ERROR_RETRIEVING_SHARED_APP_ROLES, e);
         }
@@ -1688,7 +2069,35 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
                                            PolicyEnum policyEnum, ApplicationShareRolePolicy applicationShareRolePolicy,
                                            String operationId) throws OrganizationManagementException {
 
+        shareApplicationWithPolicy(ownerOrgId, mainApplication, sharingOrgId, policyEnum, applicationShareRolePolicy,
+                operationId, null, null);
+    }
+
+    /**
+     * Share the application with the given organization as per the given policy.
+     *
+     * @param ownerOrgId                 ID of the organization owning the main application.
+     * @param mainApplication            The main application.
+     * @param sharingOrgId               ID of the organization the application is shared with.
+     * @param policyEnum                 The sharing policy.
+     * @param applicationShareRolePolicy The role sharing policy.
+     * @param operationId                ID of the asynchronous operation, if any.
+     * @param linkBuffer                 Buffer collecting the shared application entries of a bulk share. The entry
+     *                                   is persisted right away if the buffer is null. Otherwise, the steps of the
+     *                                   share which depend on the entry are run once the buffer persists it.
+     * @param shareCompletionListener    Listener notified with the ID of the organization once the share is
+     *                                   successful and its shared application entry is persisted, if any.
+     * @throws OrganizationManagementException If an error occurs while sharing the application.
+     */
+    private void shareApplicationWithPolicy(String ownerOrgId, ServiceProvider mainApplication, String sharingOrgId,
+                                            PolicyEnum policyEnum,
+                                            ApplicationShareRolePolicy applicationShareRolePolicy,
+                                            String operationId, SharedApplicationLinkBuffer linkBuffer,
+                                            Consumer<String> shareCompletionListener)
+            throws OrganizationManagementException {
+
         String mainApplicationId = mainApplication.getApplicationResourceId();
+        boolean linkPending = false;
         try {
             getListener().preShareApplication(ownerOrgId, mainApplicationId, sharingOrgId, applicationShareRolePolicy);
             // Use tenant of the organization to whom the application getting shared. When the consumer application is
@@ -1788,8 +2197,26 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
                     setAppAssociatedRoleSharingMode(delegatedApplication, applicationShareRolePolicy.getMode());
                     sharedApplicationId = getApplicationManagementService().createApplication(delegatedApplication,
                             sharedTenantDomain, getAuthenticatedUsername());
-                    getOrgApplicationMgtDAO().addSharedApplication(mainApplicationId, ownerOrgId,
-                            sharedApplicationId, sharingOrgId);
+                    if (linkBuffer != null) {
+                        /*
+                         * The policy, the post share listeners and the status of the share depend on the shared
+                         * application entry, hence they are deferred until the buffer persists the entry.
+                         */
+                        String username = PrivilegedCarbonContext.getThreadLocalCarbonContext().getUsername();
+                        String userId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getUserId();
+                        String linkedApplicationId = sharedApplicationId;
+                        linkBuffer.add(sharingOrgId, sharedApplicationId, () -> completeApplicationShare(ownerOrgId,
+                                mainApplication, sharingOrgId, linkedApplicationId, policyEnum,
+                                applicationShareRolePolicy, operationId, sharedTenantDomain, username, userId,
+                                shareCompletionListener));
+                        linkPending = true;
+                        return;
+                    } else {
+                        getOrgApplicationMgtDAO().addSharedApplication(mainApplicationId, ownerOrgId,
+                                sharedApplicationId, sharingOrgId);
+                        // Evict the cached ancestor applications of the application family of the main application.
+                        AncestorApplicationCache.getInstance().invalidateApplication(mainApplicationId);
+                    }
                 } catch (IdentityApplicationManagementException e) {
                     removeOAuthApplication(createdOAuthApp);
                     processUnitOperationStatus(operationId, mainApplicationId, sharingOrgId, OperationStatus.FAILED,
@@ -1827,13 +2254,11 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
                     }
                 }
             }
-            String ownerTenantDomain = getOrganizationManager().resolveTenantDomain(ownerOrgId);
-            addOrUpdatePolicy(mainApplication.getApplicationResourceId(), ownerOrgId, sharingOrgId, ownerTenantDomain,
-                    policyEnum, applicationShareRolePolicy);
-            getListener().postShareApplication(ownerOrgId, mainApplication.getApplicationResourceId(), sharingOrgId,
-                    sharedApplicationId, applicationShareRolePolicy);
-            processUnitOperationStatus(operationId, mainApplication.getApplicationResourceId(), sharingOrgId,
-                    OperationStatus.SUCCESS, StringUtils.EMPTY);
+            finishApplicationShare(ownerOrgId, mainApplication, sharingOrgId, sharedApplicationId, policyEnum,
+                    applicationShareRolePolicy, operationId);
+            if (shareCompletionListener != null) {
+                shareCompletionListener.accept(sharingOrgId);
+            }
         } catch (OrganizationManagementException e) {
             handleShareApplicationException(operationId, e, mainApplication.getApplicationResourceId(),
                     sharingOrgId);
@@ -1845,11 +2270,67 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
             If the sharing main application is Console, Create the shared admin user in shared organization
             and assign the admin role.
         */
-        if ("Console".equals(mainApplication.getApplicationName())) {
+        if (!linkPending && "Console".equals(mainApplication.getApplicationName())) {
             fireOrganizationCreatorSharingEvent(sharingOrgId);
         }
     }
 
+    /**
+     * Completes the share of an application whose shared application entry was persisted by a
+     * {@link SharedApplicationLinkBuffer}. The share runs in the flow of the tenant the application is shared with, as
+     * the rest of the share did, since the buffer may persist the entry on a different thread. The given listener,
+     * if any, is only notified once the share is successful.
+     */
+    private void completeApplicationShare(String ownerOrgId, ServiceProvider mainApplication, String sharingOrgId,
+                                          String sharedApplicationId, PolicyEnum policyEnum,
+                                          ApplicationShareRolePolicy applicationShareRolePolicy, String operationId,
+                                          String sharedTenantDomain, String username, String userId,
+                                          Consumer<String> shareCompletionListener) {
+
+        try {
+            try {
+                PrivilegedCarbonContext.startTenantFlow();
+                PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(sharedTenantDomain, true);
+                PrivilegedCarbonContext.getThreadLocalCarbonContext().setUsername(username);
+                PrivilegedCarbonContext.getThreadLocalCarbonContext().setUserId(userId);
+                finishApplicationShare(ownerOrgId, mainApplication, sharingOrgId, sharedApplicationId, policyEnum,
+                        applicationShareRolePolicy, operationId);
+                if (shareCompletionListener != null) {
+                    shareCompletionListener.accept(sharingOrgId);
+                }
+            } catch (OrganizationManagementException e) {
+                handleShareApplicationException(operationId, e, mainApplication.getApplicationResourceId(),
+                        sharingOrgId);
+            } finally {
+                PrivilegedCarbonContext.endTenantFlow();
+            }
+            if ("Console".equals(mainApplication.getApplicationName())) {
+                fireOrganizationCreatorSharingEvent(sharingOrgId);
+            }
+        } catch (OrganizationManagementException e) {
+            LOG.error(String.format("Error in sharing application: %s to sharingChildOrg: %s",
+                    mainApplication.getApplicationResourceId(), sharingOrgId), e);
+        }
+    }
+
+    /**
+     * Runs the steps of a share which depend on the shared application entry being persisted, i.e. adds the sharing
+     * policy, notifies the post share listeners and records the status of the share.
+     */
+    private void finishApplicationShare(String ownerOrgId, ServiceProvider mainApplication, String sharingOrgId,
+                                        String sharedApplicationId, PolicyEnum policyEnum,
+                                        ApplicationShareRolePolicy applicationShareRolePolicy, String operationId)
+            throws OrganizationManagementException {
+
+        String ownerTenantDomain = getOrganizationManager().resolveTenantDomain(ownerOrgId);
+        addOrUpdatePolicy(mainApplication.getApplicationResourceId(), ownerOrgId, sharingOrgId, ownerTenantDomain,
+                policyEnum, applicationShareRolePolicy);
+        getListener().postShareApplication(ownerOrgId, mainApplication.getApplicationResourceId(), sharingOrgId,
+                sharedApplicationId, applicationShareRolePolicy);
+        processUnitOperationStatus(operationId, mainApplication.getApplicationResourceId(), sharingOrgId,
+                OperationStatus.SUCCESS, StringUtils.EMPTY);
+    }
+
     private boolean checkIfApplicationHasFutureSharingPolicy(String mainApplicationId, String mainOrganizationId,
                                                      String sharedOrgId) throws OrganizationManagementException {
 
@@ -2067,19 +2548,38 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
         throw e;
     }
 
+    private SharedApplicationLinkBuffer createSharedApplicationLinkBuffer(String mainApplicationId,
+                                                                          String ownerOrgId, String operationId) {
+
+        return new SharedApplicationLinkBuffer(mainApplicationId, ownerOrgId, getOrgApplicationMgtDAO(),
+                (sharedApplication, error) -> {
+                    LOG.error(String.format("Error while linking the shared application: %s of the organization: %s " +
+                                    "with the application: %s", sharedApplication.getFragmentApplicationId(),
+                            sharedApplication.getOrganizationId(), mainApplicationId), error);
+                    processUnitOperationStatus(operationId, mainApplicationId,
+                            sharedApplication.getOrganizationId(), OperationStatus.FAILED, error.getMessage());
+                });
+    }
+
+    /**
+     * The share with an organization validates that the application is shared with its parent organization, hence
+     * the buffered shared application entry of the parent organization must be persisted before sharing with it.
+     */
+    private void flushIfParentLinkPending(SharedApplicationLinkBuffer linkBuffer, Organization organization) {
+
+        if (organization.getParent() != null && linkBuffer.isPending(organization.getParent().getId())) {
+            linkBuffer.flush();
+        }
+    }
+
     private void processUnitOperationStatus(String operationId, String initiatedResourceId,
-                                            String targetOrgId, OperationStatus status, String statusMessage)
-            throws OrganizationManagementServerException {
+                                            String targetOrgId, OperationStatus status, String statusMessage) {
 
         if (StringUtils.isNotBlank(operationId)) {
             UnitOperationInitDTO dto =
                     new UnitOperationInitDTO(operationId, initiatedResourceId, targetOrgId, status, statusMessage);
-            try {
-                getAsyncStatusMgtService().registerUnitOperationStatus(dto);
-            } catch (AsyncOperationStatusMgtException ex) {
-                throw handleServerException(ERROR_CODE_ERROR_RETRIEVING_APPLICATION_SHARED_ACCESS_STATUS, ex);
-            }
-            asyncOperationStatusList.get(operationId).add(status);
+            // The unit operation status is persisted in the background, along with the other buffered statuses.
+            getUnitOperationStatusRecorder().record(operationId, dto, status);
         }
     }
 
@@ -2501,6 +3001,21 @@ public class OrgApplicationManagerImpl implements OrgApplicationManager {
         return OrgApplicationMgtDataHolder.getInstance().getOAuthAdminService();
     }
 
+    private ApplicationSharingExecutor getApplicationSharingExecutor() {
+
+        return OrgApplicationMgtDataHolder.getInstance().getApplicationSharingExecutor();
+    }
+
+    private SharedApplicationTokenRevocationExecutor getTokenRevocationExecutor() {
+
+        return OrgApplicationMgtDataHolder.getInstance().getTokenRevocationExecutor();
+    }
+
+    private UnitOperationStatusRecorder getUnitOperationStatusRecorder() {
+
+        return OrgApplicationMgtDataHolder.getInstance().getUnitOperationStatusRecorder();
+    }
+
     private OrganizationManager getOrganizationManager() {
 
         return OrgApplicationMgtDataHolder.getInstance().getOrganizationManager();
@@ -115,6 +115,52 @@ public class OrgApplicationMgtConstants {
     public static final String APPLICATION_ALREADY_EXISTS_ERROR_CODE = "APP-60007";
     public static final String B2B_APPLICATION = "APPLICATION";
 
+    // Configurations of the executor used to share applications with organizations.
+    public static final String APPLICATION_SHARING_THREAD_POOL_SIZE =
+            "OrganizationManagement.ApplicationSharing.ThreadPoolSize";
+    public static final String APPLICATION_SHARING_QUEUE_CAPACITY =
+            "OrganizationManagement.ApplicationSharing.QueueCapacity";
+    public static final String APPLICATION_SHARING_MAX_CONCURRENT_TASKS_PER_TENANT =
+            "OrganizationManagement.ApplicationSharing.MaxConcurrentTasksPerTenant";
+    public static final int DEFAULT_APPLICATION_SHARING_THREAD_POOL_SIZE = 10;
+    public static final int DEFAULT_APPLICATION_SHARING_QUEUE_CAPACITY = 1000;
+    public static final int DEFAULT_APPLICATION_SHARING_MAX_CONCURRENT_TASKS_PER_TENANT = 5;
+    // Number of shared application entries persisted per batch during bulk application sharing.
+    public static final String APPLICATION_SHARING_LINK_BATCH_SIZE =
+            "OrganizationManagement.ApplicationSharing.LinkBatchSize";
+    public static final int DEFAULT_APPLICATION_SHARING_LINK_BATCH_SIZE = 100;
+    /*
+     * Bulk application sharing jobs are persisted only if enabled, as the SP_SHARED_APP_JOB, SP_SHARED_APP_JOB_ROLE and
+     * SP_SHARED_APP_JOB_ORG tables are not part of the default database schema. Persisted jobs which are not
+     * checkpointed within the stale timeout are considered abandoned, and are resumed by the node which claims them
+     * first. Each node looks for such jobs at the resume interval.
+     */
+    public static final String APPLICATION_SHARING_JOB_PERSISTENCE_ENABLED =
+            "OrganizationManagement.ApplicationSharing.EnableJobPersistence";
+    public static final String APPLICATION_SHARING_JOB_STALE_TIMEOUT =
+            "OrganizationManagement.ApplicationSharing.JobStaleTimeoutMinutes";
+    public static final String APPLICATION_SHARING_JOB_RESUME_INTERVAL =
+            "OrganizationManagement.ApplicationSharing.JobResumeIntervalMinutes";
+    public static final int DEFAULT_APPLICATION_SHARING_JOB_STALE_TIMEOUT = 10;
+    public static final int DEFAULT_APPLICATION_SHARING_JOB_RESUME_INTERVAL = 5;
+    /*
+     * The unit operation statuses of the application share jobs are buffered, and are persisted in the background
+     * once the configured number of statuses are buffered for an operation, and on every flush interval.
+     */
+    public static final String APPLICATION_SHARING_STATUS_FLUSH_THRESHOLD =
+            "OrganizationManagement.ApplicationSharing.StatusFlushThreshold";
+    public static final String APPLICATION_SHARING_STATUS_FLUSH_INTERVAL =
+            "OrganizationManagement.ApplicationSharing.StatusFlushIntervalSeconds";
+    public static final int DEFAULT_APPLICATION_SHARING_STATUS_FLUSH_THRESHOLD = 100;
+    public static final int DEFAULT_APPLICATION_SHARING_STATUS_FLUSH_INTERVAL = 5;
+    // Configurations of the executor used to revoke the tokens of the shared applications on unsharing.
+    public static final String APPLICATION_SHARING_TOKEN_REVOCATION_THREAD_POOL_SIZE =
+            "OrganizationManagement.ApplicationSharing.TokenRevocationThreadPoolSize";
+    public static final String APPLICATION_SHARING_TOKEN_REVOCATION_QUEUE_CAPACITY =
+            "OrganizationManagement.ApplicationSharing.TokenRevocationQueueCapacity";
+    public static final int DEFAULT_APPLICATION_SHARING_TOKEN_REVOCATION_THREAD_POOL_SIZE = 5;
+    public static final int DEFAULT_APPLICATION_SHARING_TOKEN_REVOCATION_QUEUE_CAPACITY = 1000;
+
     /**
      * Enum representing the types of share policies.
      */
@@ -196,7 +242,11 @@ public class OrgApplicationMgtConstants {
         ERROR_CODE_ERROR_RETRIEVING_APP_ROLE_ALLOWED_AUDIENCE("65003",
                 "Unable to retrieve application allowed audience for role association.",
                 "An error occurred while retrieving allowed audience for role association " +
-                        "for the application: %s.");
+                        "for the application: %s."),
+        ERROR_CODE_ERROR_PERSISTING_APPLICATION_SHARE_JOB("65005", "Unable to persist the application share job.",
+                "An error occurred while persisting the share job: %s of the application: %s."),
+        ERROR_CODE_ERROR_RETRIEVING_APPLICATION_SHARE_JOBS("65006", "Unable to retrieve the application share jobs.",
+                "An error occurred while retrieving the application share jobs to be resumed.");
 
         private final String code;
         private final String message;
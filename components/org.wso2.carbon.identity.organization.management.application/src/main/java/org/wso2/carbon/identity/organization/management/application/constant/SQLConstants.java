@@ -93,6 +93,22 @@ public class SQLConstants {
     public static final String GET_SHARED_APPLICATIONS_BY_FILTERING_TAIL = " SHARED_ORG_ID IN (" +
             SQLPlaceholders.SHARED_ORG_ID_LIST_PLACEHOLDER + ") ORDER BY ID %s";
 
+    public static final String GET_SHARED_APPLICATIONS_OF_MAIN_APPLICATION_BY_FILTERING_HEAD =
+            "SELECT ID, SHARED_ORG_ID, SHARED_APP_ID FROM SP_SHARED_APP WHERE ";
+
+    public static final String GET_SHARED_APPLICATIONS_OF_MAIN_APPLICATION_BY_FILTERING_TAIL = "MAIN_APP_ID = :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_MAIN_APP_ID + "; AND OWNER_ORG_ID = :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_OWNER_ORG_ID + "; ORDER BY ID %s";
+
+    public static final String GET_SHARED_APPLICATIONS_OF_MAIN_APPLICATION_BY_FILTERING_TAIL_WITH_LIMIT =
+            GET_SHARED_APPLICATIONS_OF_MAIN_APPLICATION_BY_FILTERING_TAIL + " LIMIT %d;";
+
+    public static final String GET_SHARED_APPLICATIONS_OF_MAIN_APPLICATION_BY_FILTERING_TAIL_WITH_LIMIT_MSSQL =
+            GET_SHARED_APPLICATIONS_OF_MAIN_APPLICATION_BY_FILTERING_TAIL + " OFFSET 0 ROWS FETCH NEXT %d ROWS ONLY";
+
+    public static final String GET_SHARED_APPLICATIONS_OF_MAIN_APPLICATION_BY_FILTERING_TAIL_WITH_LIMIT_ORACLE =
+            GET_SHARED_APPLICATIONS_OF_MAIN_APPLICATION_BY_FILTERING_TAIL + " FETCH FIRST %d ROWS ONLY";
+
     public static final String LOAD_DISCOVERABLE_SHARED_APPS_BY_TENANT_MYSQL =
             "SELECT DISTINCT sa_shared.ID, sa_shared.APP_NAME, sa_shared.DESCRIPTION, sa_shared.UUID, " +
             "sa_shared.IMAGE_URL, CASE WHEN sa_shared.ACCESS_URL IS NOT NULL THEN sa_shared.ACCESS_URL ELSE " +
@@ -222,6 +238,52 @@ public class SQLConstants {
 
     }
 
+    public static final String INSERT_APPLICATION_SHARE_JOB = "INSERT INTO SP_SHARED_APP_JOB (OPERATION_ID, " +
+            "MAIN_APP_ID, OWNER_ORG_ID, SHARE_POLICY, ROLE_SHARING_MODE, INITIATED_USER_ID, LAST_UPDATED) VALUES (:" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_OPERATION_ID + ";, :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_MAIN_APP_ID + ";, :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_OWNER_ORG_ID + ";, :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_SHARE_POLICY + ";, :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ROLE_SHARING_MODE + ";, :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_INITIATED_USER_ID + ";, :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_LAST_UPDATED + ";)";
+
+    public static final String INSERT_APPLICATION_SHARE_JOB_ROLE = "INSERT INTO SP_SHARED_APP_JOB_ROLE " +
+            "(OPERATION_ID, ROLE_NAME, AUDIENCE_NAME, AUDIENCE_TYPE) VALUES (:" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_OPERATION_ID + ";, :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ROLE_NAME + ";, :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_AUDIENCE_NAME + ";, :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_AUDIENCE_TYPE + ";)";
+
+    public static final String INSERT_APPLICATION_SHARE_JOB_ORG = "INSERT INTO SP_SHARED_APP_JOB_ORG " +
+            "(OPERATION_ID, ORG_ID) VALUES (:" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_OPERATION_ID + ";, :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ORG_ID + ";)";
+
+    public static final String UPDATE_APPLICATION_SHARE_JOB_LAST_UPDATED = "UPDATE SP_SHARED_APP_JOB SET " +
+            "LAST_UPDATED = :" + SQLPlaceholders.NEW_LAST_UPDATED_PLACEHOLDER + "; WHERE OPERATION_ID = :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_OPERATION_ID + "; AND LAST_UPDATED = :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_LAST_UPDATED + ";";
+
+    public static final String GET_STALE_APPLICATION_SHARE_JOBS = "SELECT OPERATION_ID, MAIN_APP_ID, " +
+            "OWNER_ORG_ID, SHARE_POLICY, ROLE_SHARING_MODE, INITIATED_USER_ID, LAST_UPDATED FROM SP_SHARED_APP_JOB " +
+            "WHERE LAST_UPDATED < :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_LAST_UPDATED + ";";
+
+    public static final String GET_APPLICATION_SHARE_JOB_ROLES = "SELECT ROLE_NAME, AUDIENCE_NAME, AUDIENCE_TYPE " +
+            "FROM SP_SHARED_APP_JOB_ROLE WHERE OPERATION_ID = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_OPERATION_ID +
+            ";";
+
+    public static final String GET_APPLICATION_SHARE_JOB_ORGS = "SELECT ORG_ID FROM SP_SHARED_APP_JOB_ORG WHERE " +
+            "OPERATION_ID = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_OPERATION_ID + ";";
+
+    public static final String DELETE_APPLICATION_SHARE_JOB_ORGS = "DELETE FROM SP_SHARED_APP_JOB_ORG WHERE " +
+            "OPERATION_ID = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_OPERATION_ID + ";";
+
+    public static final String DELETE_APPLICATION_SHARE_JOB_ROLES = "DELETE FROM SP_SHARED_APP_JOB_ROLE WHERE " +
+            "OPERATION_ID = :" + SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_OPERATION_ID + ";";
+
+    public static final String DELETE_APPLICATION_SHARE_JOB = "DELETE FROM SP_SHARED_APP_JOB WHERE OPERATION_ID = :" +
+            SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_OPERATION_ID + ";";
+
     /**
      * SQL Placeholders.
      */
@@ -241,6 +303,18 @@ public class SQLConstants {
         public static final String SHARED_ORG_ID_LIST_PLACEHOLDER = "_SHARED_ORG_ID_LIST_";
         public static final String SHARED_ORG_ID_PLACEHOLDER_PREFIX = "SHARED_ORG_ID_";
 
+        // Related to SP_SHARED_APP_JOB, SP_SHARED_APP_JOB_ROLE and SP_SHARED_APP_JOB_ORG tables.
+        public static final String DB_SCHEMA_COLUMN_NAME_OPERATION_ID = "OPERATION_ID";
+        public static final String DB_SCHEMA_COLUMN_NAME_SHARE_POLICY = "SHARE_POLICY";
+        public static final String DB_SCHEMA_COLUMN_NAME_ROLE_SHARING_MODE = "ROLE_SHARING_MODE";
+        public static final String DB_SCHEMA_COLUMN_NAME_INITIATED_USER_ID = "INITIATED_USER_ID";
+        public static final String DB_SCHEMA_COLUMN_NAME_LAST_UPDATED = "LAST_UPDATED";
+        public static final String DB_SCHEMA_COLUMN_NAME_ROLE_NAME = "ROLE_NAME";
+        public static final String DB_SCHEMA_COLUMN_NAME_AUDIENCE_NAME = "AUDIENCE_NAME";
+        public static final String DB_SCHEMA_COLUMN_NAME_AUDIENCE_TYPE = "AUDIENCE_TYPE";
+        public static final String DB_SCHEMA_COLUMN_NAME_ORG_ID = "ORG_ID";
+        public static final String NEW_LAST_UPDATED_PLACEHOLDER = "NEW_LAST_UPDATED";
+
         // Related to APP_GROUP_ASSOCIATION table.
         public static final String GROUP_ID_CONDITION_PLACEHOLDER = "_GROUP_ID_CONDITION_";
         public static final String GROUP_ID_LIST_PLACEHOLDER = "_GROUP_ID_LIST_";
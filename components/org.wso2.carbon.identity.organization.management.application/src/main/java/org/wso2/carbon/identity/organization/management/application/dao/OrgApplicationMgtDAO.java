@@ -20,6 +20,7 @@ package org.wso2.carbon.identity.organization.management.application.dao;
 
 import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfo;
 import org.wso2.carbon.identity.core.model.ExpressionNode;
+import org.wso2.carbon.identity.organization.management.application.model.ApplicationShareJobDO;
 import org.wso2.carbon.identity.organization.management.application.model.MainApplicationDO;
 import org.wso2.carbon.identity.organization.management.application.model.SharedApplicationDO;
 import org.wso2.carbon.identity.organization.management.service.exception.NotImplementedException;
@@ -27,6 +28,7 @@ import org.wso2.carbon.identity.organization.management.service.exception.Organi
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * This interface performs CRUD operations for Shared applications.
@@ -62,6 +64,25 @@ public interface OrgApplicationMgtDAO {
         addSharedApplication(mainAppResourceId, ownerOrgId, shareAppResourceId, sharedOrgId, false);
     }
 
+    /**
+     * Creates new entries for a set of shared applications of the same main application, in a single batch. The
+     * entries are created as not shared with all the child organizations, as that is handled by policy management.
+     *
+     * @param mainAppId          Unique identifier of the main application.
+     * @param ownerOrgId         The unique ID corresponding to the organization where the main application resides.
+     * @param sharedApplications The shared applications along with the IDs of the organizations they belong to.
+     * @throws OrganizationManagementException the server exception is thrown in a failure to create the entries.
+     */
+    default void addSharedApplications(String mainAppId, String ownerOrgId,
+                                       List<SharedApplicationDO> sharedApplications)
+            throws OrganizationManagementException {
+
+        for (SharedApplicationDO sharedApplication : sharedApplications) {
+            addSharedApplication(mainAppId, ownerOrgId, sharedApplication.getFragmentApplicationId(),
+                    sharedApplication.getOrganizationId());
+        }
+    }
+
     /**
      * Retrieve the list of shared applications entries for a given application.
      *
@@ -181,6 +202,28 @@ public interface OrgApplicationMgtDAO {
                 "getSharedApplications method is not implemented in " + this.getClass().getName());
     }
 
+    /**
+     * Returns the shared applications of the given main application in all the organizations it is shared with.
+     * The results are ordered by the ID of the shared application, hence pages can be read using the ID as a cursor.
+     *
+     * @param ownerOrgId        The main organizationId that the original application belongs to.
+     * @param mainApplicationId The app resource ID of the main application.
+     * @param expressionNodes   The list of expression nodes to filter the results.
+     * @param sortOrder         The order in which to sort the results.
+     * @param limit             The maximum number of results to return.
+     * @return The list of shared applications of the main application.
+     * @throws OrganizationManagementException The server exception is thrown in a failure
+     *                                         when retrieving the shared apps.
+     */
+    default List<SharedApplicationDO> getSharedApplications(String ownerOrgId, String mainApplicationId,
+                                                            List<ExpressionNode> expressionNodes,
+                                                            String sortOrder, int limit)
+            throws OrganizationManagementException {
+
+        throw new NotImplementedException(
+                "getSharedApplications method is not implemented in " + this.getClass().getName());
+    }
+
     /**
      * Returns the basic information of the discoverable shared applications
      *
@@ -224,4 +267,85 @@ public interface OrgApplicationMgtDAO {
 
         return;
     }
+
+    /**
+     * Persist a job which shares an application with all the child organizations of its owner organization, along
+     * with the roles the application is shared with.
+     *
+     * @param applicationShareJob The application share job.
+     * @throws OrganizationManagementException the server exception is thrown in a failure to persist the job.
+     */
+    default void addApplicationShareJob(ApplicationShareJobDO applicationShareJob)
+            throws OrganizationManagementException {
+
+        throw new NotImplementedException(
+                "addApplicationShareJob method is not implemented in " + this.getClass().getName());
+    }
+
+    /**
+     * Checkpoint an application share job by recording the organizations whose shares are completed, and moving the
+     * last updated time of the job forward. The job is only checkpointed if its last updated time still matches the
+     * given time, i.e. if no other node has claimed the job in the meantime. Checkpointing a job without any
+     * completed organizations claims the job.
+     *
+     * @param operationId              The operation ID of the job.
+     * @param lastUpdated              The last updated time of the job known to the caller.
+     * @param newLastUpdated           The new last updated time of the job.
+     * @param completedOrganizationIds The IDs of the organizations whose shares are completed since the last
+     *                                 checkpoint.
+     * @return True if the job was checkpointed, false if the job was claimed by another node or does not exist.
+     * @throws OrganizationManagementException the server exception is thrown in a failure to checkpoint the job.
+     */
+    default boolean checkpointApplicationShareJob(String operationId, long lastUpdated, long newLastUpdated,
+                                                  List<String> completedOrganizationIds)
+            throws OrganizationManagementException {
+
+        throw new NotImplementedException(
+                "checkpointApplicationShareJob method is not implemented in " + this.getClass().getName());
+    }
+
+    /**
+     * Retrieve the application share jobs which are not checkpointed since the given time.
+     *
+     * @param updatedBefore The time in milliseconds since the epoch, before which the jobs were last checkpointed.
+     * @return The list of stale application share jobs.
+     * @throws OrganizationManagementException the server exception is thrown in a failure to retrieve the jobs.
+     */
+    default List<ApplicationShareJobDO> getStaleApplicationShareJobs(long updatedBefore)
+            throws OrganizationManagementException {
+
+        throw new NotImplementedException(
+                "getStaleApplicationShareJobs method is not implemented in " + this.getClass().getName());
+    }
+
+    /**
+     * Retrieve the IDs of the organizations whose shares are completed by the given application share job.
+     *
+     * @param operationId The operation ID of the job.
+     * @return The IDs of the completed organizations.
+     * @throws OrganizationManagementException the server exception is thrown in a failure to retrieve the
+     *                                         organizations.
+     */
+    default Set<String> getCompletedApplicationShareJobOrganizations(String operationId)
+            throws OrganizationManagementException {
+
+        throw new NotImplementedException("getCompletedApplicationShareJobOrganizations method is not implemented " +
+                "in " + this.getClass().getName());
+    }
+
+    /**
+     * Delete an application share job along with its checkpoints. The job is only deleted if its last updated time
+     * still matches the given time, so that a node which lost the job to another node cannot delete it.
+     *
+     * @param operationId The operation ID of the job.
+     * @param lastUpdated The last updated time of the job known to the caller.
+     * @return True if the job was deleted, false if the job was claimed by another node or does not exist.
+     * @throws OrganizationManagementException the server exception is thrown in a failure to delete the job.
+     */
+    default boolean deleteApplicationShareJob(String operationId, long lastUpdated)
+            throws OrganizationManagementException {
+
+        throw new NotImplementedException(
+                "deleteApplicationShareJob method is not implemented in " + this.getClass().getName());
+    }
 }
@@ -39,9 +39,13 @@ import org.wso2.carbon.identity.core.util.JdbcUtils;
 import org.wso2.carbon.identity.organization.management.application.constant.SQLConstants;
 import org.wso2.carbon.identity.organization.management.application.dao.OrgApplicationMgtDAO;
 import org.wso2.carbon.identity.organization.management.application.internal.OrgApplicationMgtDataHolder;
+import org.wso2.carbon.identity.organization.management.application.model.ApplicationShareJobDO;
 import org.wso2.carbon.identity.organization.management.application.model.MainApplicationDO;
+import org.wso2.carbon.identity.organization.management.application.model.RoleWithAudienceDO;
 import org.wso2.carbon.identity.organization.management.application.model.SharedApplicationDO;
+import org.wso2.carbon.identity.organization.management.application.model.operation.ApplicationShareRolePolicy;
 import org.wso2.carbon.identity.organization.management.application.util.FilterQueriesUtil;
+import org.wso2.carbon.identity.organization.management.application.util.OrgApplicationManagerUtil;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementClientException;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
@@ -53,9 +57,12 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -63,8 +70,15 @@ import static org.wso2.carbon.identity.application.common.util.IdentityApplicati
 import static org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants.Error.SORTING_NOT_IMPLEMENTED;
 import static org.wso2.carbon.identity.application.mgt.ApplicationMgtUtil.getConsoleAccessUrlFromServerConfig;
 import static org.wso2.carbon.identity.application.mgt.ApplicationMgtUtil.getMyAccountAccessUrlFromServerConfig;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.ErrorMessages.ERROR_CODE_ERROR_PERSISTING_APPLICATION_SHARE_JOB;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.ErrorMessages.ERROR_CODE_ERROR_RETRIEVING_APPLICATION_SHARE_JOBS;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.IS_FRAGMENT_APP;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.DELETE_APPLICATION_SHARE_JOB;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.DELETE_APPLICATION_SHARE_JOB_ORGS;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.DELETE_APPLICATION_SHARE_JOB_ROLES;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.DELETE_SHARED_APP_LINKS_OF_ORG;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.GET_APPLICATION_SHARE_JOB_ORGS;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.GET_APPLICATION_SHARE_JOB_ROLES;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.GET_FILTERED_SHARED_APPLICATIONS;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.GET_MAIN_APPLICATION;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.GET_SHARED_APPLICATION;
@@ -74,8 +88,17 @@ import static org.wso2.carbon.identity.organization.management.application.const
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.GET_SHARED_APPLICATIONS_BY_FILTERING_TAIL_WITH_LIMIT;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.GET_SHARED_APPLICATIONS_BY_FILTERING_TAIL_WITH_LIMIT_MSSQL;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.GET_SHARED_APPLICATIONS_BY_FILTERING_TAIL_WITH_LIMIT_ORACLE;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.GET_SHARED_APPLICATIONS_OF_MAIN_APPLICATION_BY_FILTERING_HEAD;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.GET_SHARED_APPLICATIONS_OF_MAIN_APPLICATION_BY_FILTERING_TAIL;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.GET_SHARED_APPLICATIONS_OF_MAIN_APPLICATION_BY_FILTERING_TAIL_WITH_LIMIT;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.GET_SHARED_APPLICATIONS_OF_MAIN_APPLICATION_BY_FILTERING_TAIL_WITH_LIMIT_MSSQL;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.GET_SHARED_APPLICATIONS_OF_MAIN_APPLICATION_BY_FILTERING_TAIL_WITH_LIMIT_ORACLE;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.GET_SHARED_APP_ID;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.GET_STALE_APPLICATION_SHARE_JOBS;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.HAS_FRAGMENT_APPS;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.INSERT_APPLICATION_SHARE_JOB;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.INSERT_APPLICATION_SHARE_JOB_ORG;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.INSERT_APPLICATION_SHARE_JOB_ROLE;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.INSERT_SHARED_APP;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.IS_FRAGMENT_APPLICATION;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.IS_FRAGMENT_APPLICATION_H2;
@@ -91,18 +114,29 @@ import static org.wso2.carbon.identity.organization.management.application.const
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.LOAD_DISCOVERABLE_SHARED_APPS_BY_TENANT_POSTGRES;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.LOAD_DISCOVERABLE_SHARED_APP_COUNT_BY_APP_NAME_AND_TENANT;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.LOAD_DISCOVERABLE_SHARED_APP_COUNT_BY_TENANT;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_AUDIENCE_NAME;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_AUDIENCE_TYPE;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_INITIATED_USER_ID;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_LAST_UPDATED;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_MAIN_APP_ID;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_METADATA_NAME;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_METADATA_VALUE;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_OPERATION_ID;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ORG_ID;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_OWNER_ORG_ID;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ROLE_NAME;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_ROLE_SHARING_MODE;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_SHARED_APP_ID;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_SHARED_ORG_ID;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_SHARE_POLICY;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_SHARE_WITH_ALL_CHILDREN;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_SP_APP_ID;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_SP_ID;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.DB_SCHEMA_COLUMN_NAME_SP_SHARED_APP_ID;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.NEW_LAST_UPDATED_PLACEHOLDER;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.SHARED_ORG_ID_LIST_PLACEHOLDER;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.SQLPlaceholders.SHARED_ORG_ID_PLACEHOLDER_PREFIX;
+import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.UPDATE_APPLICATION_SHARE_JOB_LAST_UPDATED;
 import static org.wso2.carbon.identity.organization.management.application.constant.SQLConstants.UPDATE_SHARE_WITH_ALL_CHILDREN;
 import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationManagerUtil.getNewTemplate;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_CHECKING_APPLICATION_HAS_FRAGMENTS;
@@ -147,6 +181,37 @@ public class OrgApplicationMgtDAOImpl implements OrgApplicationMgtDAO {
         }
     }
 
+    @Override
+    public void addSharedApplications(String mainAppId, String ownerOrgId,
+                                      List<SharedApplicationDO> sharedApplications)
+            throws OrganizationManagementException {
+
+        if (CollectionUtils.isEmpty(sharedApplications)) {
+            return;
+        }
+        NamedJdbcTemplate namedJdbcTemplate = getNewTemplate();
+        try {
+            namedJdbcTemplate.withTransaction(template -> {
+                template.executeBatchInsert(INSERT_SHARED_APP, namedPreparedStatement -> {
+                    for (SharedApplicationDO sharedApplication : sharedApplications) {
+                        namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_MAIN_APP_ID, mainAppId);
+                        namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_OWNER_ORG_ID, ownerOrgId);
+                        namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_SHARED_APP_ID,
+                                sharedApplication.getFragmentApplicationId());
+                        namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_SHARED_ORG_ID,
+                                sharedApplication.getOrganizationId());
+                        namedPreparedStatement.setBoolean(DB_SCHEMA_COLUMN_NAME_SHARE_WITH_ALL_CHILDREN, false);
+                        namedPreparedStatement.addBatch();
+                    }
+                }, null);
+                return null;
+            });
+        } catch (TransactionException e) {
+            throw handleServerException(ERROR_CODE_ERROR_LINK_APPLICATIONS, e, mainAppId,
+                    sharedApplications.size() + " shared applications");
+        }
+    }
+
     @Override
     public List<SharedApplicationDO> getSharedApplications(String organizationId, String applicationId)
             throws OrganizationManagementException {
@@ -329,13 +394,9 @@ public class OrgApplicationMgtDAOImpl implements OrgApplicationMgtDAO {
         if (CollectionUtils.isEmpty(sharedOrgIds)) {
             return Collections.emptyList();
         }
-        FilterQueryBuilder filterQueryBuilder = FilterQueriesUtil.getSharedAppOrgsFilterQueryBuilder(expressionNodes);
-        String filterQuery = filterQueryBuilder.getFilterQuery();
-        Map<String, String> filterAttributeValue = filterQueryBuilder.getFilterAttributeValue();
         String placeholders = IntStream.range(0, sharedOrgIds.size())
                 .mapToObj(i -> ":" + SHARED_ORG_ID_PLACEHOLDER_PREFIX + i + ";")
                 .collect(Collectors.joining(", "));
-        String sqlStmtHead = GET_SHARED_APPLICATIONS_BY_FILTERING_HEAD + filterQuery;
         String sqlStmtTail;
         if (limit == 0) {
             sqlStmtTail = String.format(GET_SHARED_APPLICATIONS_BY_FILTERING_TAIL, sortOrder).replace(
@@ -344,7 +405,37 @@ public class OrgApplicationMgtDAOImpl implements OrgApplicationMgtDAO {
             sqlStmtTail = getSharedApplicationsByFilteringTailWithLimit(sortOrder, limit)
                     .replace(SHARED_ORG_ID_LIST_PLACEHOLDER, placeholders);
         }
-        String sqlStmt = sqlStmtHead + sqlStmtTail;
+        return getSharedApplicationsByFiltering(ownerOrgId, mainApplicationId,
+                GET_SHARED_APPLICATIONS_BY_FILTERING_HEAD, sqlStmtTail, sharedOrgIds, expressionNodes);
+    }
+
+    @Override
+    public List<SharedApplicationDO> getSharedApplications(String ownerOrgId, String mainApplicationId,
+                                                           List<ExpressionNode> expressionNodes,
+                                                           String sortOrder, int limit)
+            throws OrganizationManagementException {
+
+        String sqlStmtTail;
+        if (limit == 0) {
+            sqlStmtTail = String.format(GET_SHARED_APPLICATIONS_OF_MAIN_APPLICATION_BY_FILTERING_TAIL, sortOrder);
+        } else {
+            sqlStmtTail = getSharedApplicationsOfMainApplicationByFilteringTailWithLimit(sortOrder, limit);
+        }
+        return getSharedApplicationsByFiltering(ownerOrgId, mainApplicationId,
+                GET_SHARED_APPLICATIONS_OF_MAIN_APPLICATION_BY_FILTERING_HEAD, sqlStmtTail, Collections.emptyList(),
+                expressionNodes);
+    }
+
+    private List<SharedApplicationDO> getSharedApplicationsByFiltering(String ownerOrgId, String mainApplicationId,
+                                                                       String sqlStmtHead, String sqlStmtTail,
+                                                                       List<String> sharedOrgIds,
+                                                                       List<ExpressionNode> expressionNodes)
+            throws OrganizationManagementException {
+
+        FilterQueryBuilder filterQueryBuilder = FilterQueriesUtil.getSharedAppOrgsFilterQueryBuilder(expressionNodes);
+        String filterQuery = filterQueryBuilder.getFilterQuery();
+        Map<String, String> filterAttributeValue = filterQueryBuilder.getFilterAttributeValue();
+        String sqlStmt = sqlStmtHead + filterQuery + sqlStmtTail;
         List<SharedApplicationDO> sharedApplicationDOList = new ArrayList<>();
 
         try (Connection dbConnection = IdentityDatabaseUtil.getDBConnection(false);
@@ -388,6 +479,20 @@ public class OrgApplicationMgtDAOImpl implements OrgApplicationMgtDAO {
         return String.format(GET_SHARED_APPLICATIONS_BY_FILTERING_TAIL_WITH_LIMIT, sortOrder, limit);
     }
 
+    private String getSharedApplicationsOfMainApplicationByFilteringTailWithLimit(String sortOrder, int limit)
+            throws OrganizationManagementServerException {
+
+        if (isOracleDB()) {
+            return String.format(GET_SHARED_APPLICATIONS_OF_MAIN_APPLICATION_BY_FILTERING_TAIL_WITH_LIMIT_ORACLE,
+                    sortOrder, limit);
+        } else if (isMSSqlDB()) {
+            return String.format(GET_SHARED_APPLICATIONS_OF_MAIN_APPLICATION_BY_FILTERING_TAIL_WITH_LIMIT_MSSQL,
+                    sortOrder, limit);
+        }
+        return String.format(GET_SHARED_APPLICATIONS_OF_MAIN_APPLICATION_BY_FILTERING_TAIL_WITH_LIMIT, sortOrder,
+                limit);
+    }
+
     @Override
     public List<ApplicationBasicInfo> getDiscoverableSharedApplicationBasicInfo(int limit, int offset, String filter,
                                                                           String sortOrder, String sortBy,
@@ -493,6 +598,189 @@ public class OrgApplicationMgtDAOImpl implements OrgApplicationMgtDAO {
         }
     }
 
+    @Override
+    public void addApplicationShareJob(ApplicationShareJobDO applicationShareJob)
+            throws OrganizationManagementException {
+
+        String operationId = applicationShareJob.getOperationId();
+        ApplicationShareRolePolicy roleSharing = applicationShareJob.getRoleSharing();
+        List<RoleWithAudienceDO> roles = roleSharing.getRoleWithAudienceDOList();
+        NamedJdbcTemplate namedJdbcTemplate = getNewTemplate();
+        try {
+            namedJdbcTemplate.withTransaction(template -> {
+                template.executeInsert(INSERT_APPLICATION_SHARE_JOB, namedPreparedStatement -> {
+                    namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_OPERATION_ID, operationId);
+                    namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_MAIN_APP_ID,
+                            applicationShareJob.getMainApplicationId());
+                    namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_OWNER_ORG_ID,
+                            applicationShareJob.getOwnerOrganizationId());
+                    namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_SHARE_POLICY,
+                            applicationShareJob.getSharePolicy());
+                    namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_ROLE_SHARING_MODE,
+                            roleSharing.getMode().name());
+                    namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_INITIATED_USER_ID,
+                            applicationShareJob.getInitiatedUserId());
+                    namedPreparedStatement.setLong(DB_SCHEMA_COLUMN_NAME_LAST_UPDATED,
+                            applicationShareJob.getLastUpdated());
+                }, null, false);
+                if (CollectionUtils.isNotEmpty(roles)) {
+                    template.executeBatchInsert(INSERT_APPLICATION_SHARE_JOB_ROLE, namedPreparedStatement -> {
+                        for (RoleWithAudienceDO role : roles) {
+                            namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_OPERATION_ID, operationId);
+                            namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_ROLE_NAME, role.getRoleName());
+                            namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_AUDIENCE_NAME,
+                                    role.getAudienceName());
+                            namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_AUDIENCE_TYPE,
+                                    role.getAudienceType().toString());
+                            namedPreparedStatement.addBatch();
+                        }
+                    }, null);
+                }
+                return null;
+            });
+        } catch (TransactionException e) {
+            throw OrgApplicationManagerUtil.handleServerException(ERROR_CODE_ERROR_PERSISTING_APPLICATION_SHARE_JOB,
+                    e, operationId, applicationShareJob.getMainApplicationId());
+        }
+    }
+
+    @Override
+    public boolean checkpointApplicationShareJob(String operationId, long lastUpdated, long newLastUpdated,
+                                                 List<String> completedOrganizationIds)
+            throws OrganizationManagementException {
+
+        NamedJdbcTemplate namedJdbcTemplate = getNewTemplate();
+        try {
+            return namedJdbcTemplate.withTransaction(template -> {
+                int updatedRows = template.executeUpdate(UPDATE_APPLICATION_SHARE_JOB_LAST_UPDATED,
+                        namedPreparedStatement -> {
+                            namedPreparedStatement.setLong(NEW_LAST_UPDATED_PLACEHOLDER, newLastUpdated);
+                            namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_OPERATION_ID, operationId);
+                            namedPreparedStatement.setLong(DB_SCHEMA_COLUMN_NAME_LAST_UPDATED, lastUpdated);
+                        });
+                // The job is claimed by another node, or is already completed.
+                if (updatedRows == 0) {
+                    return false;
+                }
+                if (CollectionUtils.isNotEmpty(completedOrganizationIds)) {
+                    template.executeBatchInsert(INSERT_APPLICATION_SHARE_JOB_ORG, namedPreparedStatement -> {
+                        for (String organizationId : completedOrganizationIds) {
+                            namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_OPERATION_ID, operationId);
+                            namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_ORG_ID, organizationId);
+                            namedPreparedStatement.addBatch();
+                        }
+                    }, null);
+                }
+                return true;
+            });
+        } catch (TransactionException e) {
+            throw OrgApplicationManagerUtil.handleServerException(ERROR_CODE_ERROR_PERSISTING_APPLICATION_SHARE_JOB,
+                    e, operationId, "checkpoint");
+        }
+    }
+
+    @Override
+    public List<ApplicationShareJobDO> getStaleApplicationShareJobs(long updatedBefore)
+            throws OrganizationManagementException {
+
+        NamedJdbcTemplate namedJdbcTemplate = getNewTemplate();
+        List<ApplicationShareJobDO> staleJobs = new ArrayList<>();
+        try {
+            List<Map<String, String>> jobRows = namedJdbcTemplate.executeQuery(GET_STALE_APPLICATION_SHARE_JOBS,
+                    (resultSet, rowNumber) -> {
+                        Map<String, String> jobRow = new HashMap<>();
+                        jobRow.put(DB_SCHEMA_COLUMN_NAME_OPERATION_ID,
+                                resultSet.getString(DB_SCHEMA_COLUMN_NAME_OPERATION_ID));
+                        jobRow.put(DB_SCHEMA_COLUMN_NAME_MAIN_APP_ID,
+                                resultSet.getString(DB_SCHEMA_COLUMN_NAME_MAIN_APP_ID));
+                        jobRow.put(DB_SCHEMA_COLUMN_NAME_OWNER_ORG_ID,
+                                resultSet.getString(DB_SCHEMA_COLUMN_NAME_OWNER_ORG_ID));
+                        jobRow.put(DB_SCHEMA_COLUMN_NAME_SHARE_POLICY,
+                                resultSet.getString(DB_SCHEMA_COLUMN_NAME_SHARE_POLICY));
+                        jobRow.put(DB_SCHEMA_COLUMN_NAME_ROLE_SHARING_MODE,
+                                resultSet.getString(DB_SCHEMA_COLUMN_NAME_ROLE_SHARING_MODE));
+                        jobRow.put(DB_SCHEMA_COLUMN_NAME_INITIATED_USER_ID,
+                                resultSet.getString(DB_SCHEMA_COLUMN_NAME_INITIATED_USER_ID));
+                        jobRow.put(DB_SCHEMA_COLUMN_NAME_LAST_UPDATED,
+                                String.valueOf(resultSet.getLong(DB_SCHEMA_COLUMN_NAME_LAST_UPDATED)));
+                        return jobRow;
+                    },
+                    namedPreparedStatement -> namedPreparedStatement.setLong(DB_SCHEMA_COLUMN_NAME_LAST_UPDATED,
+                            updatedBefore));
+            for (Map<String, String> jobRow : jobRows) {
+                String operationId = jobRow.get(DB_SCHEMA_COLUMN_NAME_OPERATION_ID);
+                List<RoleWithAudienceDO> roles = namedJdbcTemplate.executeQuery(GET_APPLICATION_SHARE_JOB_ROLES,
+                        (resultSet, rowNumber) -> new RoleWithAudienceDO(
+                                resultSet.getString(DB_SCHEMA_COLUMN_NAME_ROLE_NAME),
+                                resultSet.getString(DB_SCHEMA_COLUMN_NAME_AUDIENCE_NAME),
+                                RoleWithAudienceDO.AudienceType.fromValue(
+                                        resultSet.getString(DB_SCHEMA_COLUMN_NAME_AUDIENCE_TYPE))),
+                        namedPreparedStatement -> namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_OPERATION_ID,
+                                operationId));
+                ApplicationShareRolePolicy roleSharing = new ApplicationShareRolePolicy.Builder()
+                        .mode(ApplicationShareRolePolicy.Mode.fromValue(
+                                jobRow.get(DB_SCHEMA_COLUMN_NAME_ROLE_SHARING_MODE)))
+                        .roleWithAudienceDOList(roles)
+                        .build();
+                staleJobs.add(new ApplicationShareJobDO(operationId, jobRow.get(DB_SCHEMA_COLUMN_NAME_MAIN_APP_ID),
+                        jobRow.get(DB_SCHEMA_COLUMN_NAME_OWNER_ORG_ID), jobRow.get(DB_SCHEMA_COLUMN_NAME_SHARE_POLICY),
+                        roleSharing, jobRow.get(DB_SCHEMA_COLUMN_NAME_INITIATED_USER_ID),
+                        Long.parseLong(jobRow.get(DB_SCHEMA_COLUMN_NAME_LAST_UPDATED))));
+            }
+        } catch (DataAccessException e) {
+            throw OrgApplicationManagerUtil.handleServerException(ERROR_CODE_ERROR_RETRIEVING_APPLICATION_SHARE_JOBS,
+                    e);
+        }
+        return staleJobs;
+    }
+
+    @Override
+    public Set<String> getCompletedApplicationShareJobOrganizations(String operationId)
+            throws OrganizationManagementException {
+
+        NamedJdbcTemplate namedJdbcTemplate = getNewTemplate();
+        try {
+            return new HashSet<>(namedJdbcTemplate.executeQuery(GET_APPLICATION_SHARE_JOB_ORGS,
+                    (resultSet, rowNumber) -> resultSet.getString(DB_SCHEMA_COLUMN_NAME_ORG_ID),
+                    namedPreparedStatement -> namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_OPERATION_ID,
+                            operationId)));
+        } catch (DataAccessException e) {
+            throw OrgApplicationManagerUtil.handleServerException(ERROR_CODE_ERROR_RETRIEVING_APPLICATION_SHARE_JOBS,
+                    e);
+        }
+    }
+
+    @Override
+    public boolean deleteApplicationShareJob(String operationId, long lastUpdated)
+            throws OrganizationManagementException {
+
+        NamedJdbcTemplate namedJdbcTemplate = getNewTemplate();
+        try {
+            return namedJdbcTemplate.withTransaction(template -> {
+                // Lock the job before deleting it, unless it is claimed by another node or is already deleted.
+                int updatedRows = template.executeUpdate(UPDATE_APPLICATION_SHARE_JOB_LAST_UPDATED,
+                        namedPreparedStatement -> {
+                            namedPreparedStatement.setLong(NEW_LAST_UPDATED_PLACEHOLDER, lastUpdated);
+                            namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_OPERATION_ID, operationId);
+                            namedPreparedStatement.setLong(DB_SCHEMA_COLUMN_NAME_LAST_UPDATED, lastUpdated);
+                        });
+                if (updatedRows == 0) {
+                    return false;
+                }
+                template.executeUpdate(DELETE_APPLICATION_SHARE_JOB_ORGS, namedPreparedStatement ->
+                        namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_OPERATION_ID, operationId));
+                template.executeUpdate(DELETE_APPLICATION_SHARE_JOB_ROLES, namedPreparedStatement ->
+                        namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_OPERATION_ID, operationId));
+                template.executeUpdate(DELETE_APPLICATION_SHARE_JOB, namedPreparedStatement ->
+                        namedPreparedStatement.setString(DB_SCHEMA_COLUMN_NAME_OPERATION_ID, operationId));
+                return true;
+            });
+        } catch (TransactionException e) {
+            throw OrgApplicationManagerUtil.handleServerException(ERROR_CODE_ERROR_PERSISTING_APPLICATION_SHARE_JOB,
+                    e, operationId, "delete");
+        }
+    }
+
     private int getCountOfDiscoverableSharedApplications(String organizationId, String rootOrgId)
             throws OrganizationManagementException {
 
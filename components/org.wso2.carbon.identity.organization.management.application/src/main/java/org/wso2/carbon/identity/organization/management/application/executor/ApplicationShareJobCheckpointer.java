@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.application.executor;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.organization.management.application.dao.OrgApplicationMgtDAO;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.APPLICATION_SHARING_JOB_PERSISTENCE_ENABLED;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.APPLICATION_SHARING_JOB_STALE_TIMEOUT;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.APPLICATION_SHARING_LINK_BATCH_SIZE;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.DEFAULT_APPLICATION_SHARING_JOB_STALE_TIMEOUT;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.DEFAULT_APPLICATION_SHARING_LINK_BATCH_SIZE;
+import static org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.executor.TenantBoundedExecutor.readPositiveIntProperty;
+
+/**
+ * Checkpoints the progress of a persisted application share job.
+ * <p>
+ * The organizations whose shares are completed are recorded against the job in batches, together with a new last
+ * updated time of the job, which acts as the heartbeat of the node running the job. The job is also checkpointed at
+ * the heartbeat interval on the heartbeat executor owned by the component, see {@link #createHeartbeatExecutor()},
+ * so that the job stays claimed while long running shares are in progress. A job which is not checkpointed within
+ * the stale timeout is considered abandoned and may be claimed and resumed by another node, which then skips the
+ * recorded organizations. Only the shares whose shared application entries are persisted are to be reported as
+ * completed, and the entries buffered for the job are flushed before each checkpoint, so that the shares completed by
+ * the flush are recorded with the same checkpoint.
+ * <p>
+ * Each checkpoint only succeeds if the last updated time of the job still matches the one known to this
+ * checkpointer. Once a checkpoint fails for that reason, the job is owned by another node and this checkpointer is
+ * released, see {@link #isReleased()}. Before further shares are started, a checkpointer whose last checkpoint is
+ * older than twice the heartbeat interval, e.g. due to a long pause of the node, renews its claim of the job, and is
+ * released if the claim cannot be renewed. Hence a node whose job is taken over stops sharing it.
+ */
+public class ApplicationShareJobCheckpointer {
+
+    private static final Log LOG = LogFactory.getLog(ApplicationShareJobCheckpointer.class);
+
+    private final String operationId;
+    private final OrgApplicationMgtDAO orgApplicationMgtDAO;
+    private final SharedApplicationLinkBuffer linkBuffer;
+    private final int batchSize;
+    private final long heartbeatIntervalMillis;
+    private final List<String> completedOrganizationIds = new ArrayList<>();
+    private final ScheduledFuture<?> heartbeat;
+    private long lastUpdated;
+    private volatile boolean released;
+
+    /**
+     * Creates a checkpointer for the given job, which checkpoints the job once the configured link batch size of
+     * shares is completed, or once a third of the configured stale timeout is elapsed since the last checkpoint.
+     *
+     * @param operationId          The operation ID of the job.
+     * @param lastUpdated          The last updated time of the job.
+     * @param orgApplicationMgtDAO The DAO used to checkpoint the job.
+     * @param linkBuffer           The buffer of the shared application entries created by the job.
+     * @param heartbeatExecutor    The executor checkpointing the job at the heartbeat interval. The job is only
+     *                             checkpointed along with the completed shares if this is null.
+     */
+    public ApplicationShareJobCheckpointer(String operationId, long lastUpdated,
+                                           OrgApplicationMgtDAO orgApplicationMgtDAO,
+                                           SharedApplicationLinkBuffer linkBuffer,
+                                           ScheduledExecutorService heartbeatExecutor) {
+
+        this(operationId, lastUpdated, orgApplicationMgtDAO, linkBuffer, heartbeatExecutor,
+                readPositiveIntProperty(APPLICATION_SHARING_LINK_BATCH_SIZE,
+                        DEFAULT_APPLICATION_SHARING_LINK_BATCH_SIZE), getJobStaleTimeoutMillis() / 3);
+    }
+
+    /**
+     * Creates a checkpointer for the given job, and starts checkpointing the job at the given heartbeat interval.
+     *
+     * @param operationId             The operation ID of the job.
+     * @param lastUpdated             The last updated time of the job.
+     * @param orgApplicationMgtDAO    The DAO used to checkpoint the job.
+     * @param linkBuffer              The buffer of the shared application entries created by the job.
+     * @param heartbeatExecutor       The executor checkpointing the job at the heartbeat interval. The job is only
+     *                                checkpointed along with the completed shares if this is null.
+     * @param batchSize               The number of completed shares which triggers a checkpoint.
+     * @param heartbeatIntervalMillis The interval at which the job is checkpointed.
+     */
+    public ApplicationShareJobCheckpointer(String operationId, long lastUpdated,
+                                           OrgApplicationMgtDAO orgApplicationMgtDAO,
+                                           SharedApplicationLinkBuffer linkBuffer,
+                                           ScheduledExecutorService heartbeatExecutor, int batchSize,
+                                           long heartbeatIntervalMillis) {
+
+        this.operationId = operationId;
+        this.lastUpdated = lastUpdated;
+        this.orgApplicationMgtDAO = orgApplicationMgtDAO;
+        this.linkBuffer = linkBuffer;
+        this.batchSize = batchSize;
+        this.heartbeatIntervalMillis = heartbeatIntervalMillis;
+        this.heartbeat = scheduleHeartbeat(heartbeatExecutor);
+    }
+
+    /**
+     * Creates the executor which checkpoints the running application share jobs at their heartbeat intervals. The
+     * executor is owned by the component, and runs the heartbeats of all the jobs on a single background thread, as
+     * a heartbeat only records a checkpoint of its job.
+     *
+     * @return The heartbeat executor of the application share jobs.
+     */
+    public static ScheduledExecutorService createHeartbeatExecutor() {
+
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "application-share-job-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Check whether the application share jobs are persisted, so that the jobs abandoned by a node are resumed by
+     * another node. The jobs are persisted in the SP_SHARED_APP_JOB, SP_SHARED_APP_JOB_ROLE and SP_SHARED_APP_JOB_ORG
+     * tables, hence the persistence is disabled unless it is enabled in the configuration.
+     *
+     * @return True if the application share jobs are persisted.
+     */
+    public static boolean isJobPersistenceEnabled() {
+
+        return Boolean.parseBoolean(IdentityUtil.getProperty(APPLICATION_SHARING_JOB_PERSISTENCE_ENABLED));
+    }
+
+    /**
+     * Get the time after which a job which is not checkpointed is considered abandoned.
+     *
+     * @return The stale timeout of the application share jobs in milliseconds.
+     */
+    public static long getJobStaleTimeoutMillis() {
+
+        return TimeUnit.MINUTES.toMillis(readPositiveIntProperty(APPLICATION_SHARING_JOB_STALE_TIMEOUT,
+                DEFAULT_APPLICATION_SHARING_JOB_STALE_TIMEOUT));
+    }
+
+    /**
+     * Records the completion of the share with the given organization, and checkpoints the job if the batch of
+     * completed shares is full. The share must only be reported once it is successful and its shared application
+     * entry is persisted, as the recorded organizations are skipped when the job is resumed.
+     *
+     * @param organizationId The ID of the organization.
+     */
+    public synchronized void onShareCompleted(String organizationId) {
+
+        if (released) {
+            return;
+        }
+        completedOrganizationIds.add(organizationId);
+        if (completedOrganizationIds.size() >= batchSize) {
+            checkpoint();
+        }
+    }
+
+    /**
+     * Checkpoints the job with the shares completed since the last checkpoint. If the checkpoint fails due to an
+     * error, the completed shares are retained and recorded with the next checkpoint.
+     */
+    public synchronized void checkpoint() {
+
+        if (released) {
+            return;
+        }
+        linkBuffer.flush();
+        // The new time must differ from the current one, as the time acts as the version of the job.
+        long newLastUpdated = Math.max(System.currentTimeMillis(), lastUpdated + 1);
+        try {
+            if (orgApplicationMgtDAO.checkpointApplicationShareJob(operationId, lastUpdated, newLastUpdated,
+                    completedOrganizationIds)) {
+                lastUpdated = newLastUpdated;
+                completedOrganizationIds.clear();
+            } else {
+                release("The application share job: " + operationId + " is claimed by another node. The " +
+                        "remaining shares of the job are left to that node.");
+            }
+        } catch (OrganizationManagementException e) {
+            LOG.error("Error while checkpointing the application share job: " + operationId, e);
+        }
+    }
+
+    /**
+     * Check whether the job is claimed by another node, in which case no further shares should be started. If the
+     * heartbeat of the job is overdue, the claim of the job is renewed first, and the checkpointer is released if the
+     * claim cannot be renewed, as the job may be claimed by another node once the stale timeout is elapsed.
+     *
+     * @return True if the job is no longer owned by this checkpointer.
+     */
+    public synchronized boolean isReleased() {
+
+        if (!released && System.currentTimeMillis() - lastUpdated >= 2 * heartbeatIntervalMillis) {
+            long overdueLastUpdated = lastUpdated;
+            checkpoint();
+            if (!released && lastUpdated == overdueLastUpdated) {
+                release("Unable to renew the claim of the application share job: " + operationId + ". The " +
+                        "remaining shares of the job are left to be resumed.");
+            }
+        }
+        return released;
+    }
+
+    /**
+     * Deletes the job once all of its shares are completed, unless the job is claimed by another node.
+     */
+    public synchronized void complete() {
+
+        if (released) {
+            return;
+        }
+        try {
+            if (!orgApplicationMgtDAO.deleteApplicationShareJob(operationId, lastUpdated)) {
+                release("The completed application share job: " + operationId + " is claimed by another node.");
+            }
+        } catch (OrganizationManagementException e) {
+            LOG.error("Error while deleting the completed application share job: " + operationId, e);
+        }
+    }
+
+    /**
+     * Stops checkpointing the job at the heartbeat interval. A job which is not completed is then left to be resumed
+     * once it is stale.
+     */
+    public void close() {
+
+        cancelHeartbeat();
+    }
+
+    private ScheduledFuture<?> scheduleHeartbeat(ScheduledExecutorService heartbeatExecutor) {
+
+        if (heartbeatExecutor == null) {
+            return null;
+        }
+        try {
+            return heartbeatExecutor.scheduleWithFixedDelay(this::heartbeat, heartbeatIntervalMillis,
+                    heartbeatIntervalMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            LOG.warn("Unable to schedule the heartbeat of the application share job: " + operationId + ". The job " +
+                    "is only checkpointed along with the completed shares.", e);
+            return null;
+        }
+    }
+
+    private void cancelHeartbeat() {
+
+        if (heartbeat != null) {
+            heartbeat.cancel(false);
+        }
+    }
+
+    private void heartbeat() {
+
+        try {
+            checkpoint();
+        } catch (RuntimeException e) {
+            // Catch the error, as an uncaught error stops the subsequent heartbeats.
+            LOG.error("Error while checkpointing the application share job: " + operationId, e);
+        }
+    }
+
+    private void release(String reason) {
+
+        released = true;
+        cancelHeartbeat();
+        LOG.warn(reason);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.application.executor;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.APPLICATION_SHARING_JOB_RESUME_INTERVAL;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.DEFAULT_APPLICATION_SHARING_JOB_RESUME_INTERVAL;
+import static org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.executor.TenantBoundedExecutor.readPositiveIntProperty;
+
+/**
+ * Periodically runs the task which resumes the abandoned application share jobs, i.e. the jobs of nodes which went
+ * down while sharing an application. The task runs on a single background thread, at the configured resume interval.
+ */
+public class ApplicationShareJobResumeScheduler {
+
+    private static final Log LOG = LogFactory.getLog(ApplicationShareJobResumeScheduler.class);
+
+    private final ScheduledExecutorService scheduledExecutorService;
+
+    /**
+     * Starts running the given resume task at the configured resume interval. The first run is delayed by the same
+     * interval, so that the node completes its startup first.
+     *
+     * @param resumeTask The task resuming the abandoned application share jobs.
+     */
+    public ApplicationShareJobResumeScheduler(Runnable resumeTask) {
+
+        long resumeIntervalMinutes = readPositiveIntProperty(APPLICATION_SHARING_JOB_RESUME_INTERVAL,
+                DEFAULT_APPLICATION_SHARING_JOB_RESUME_INTERVAL);
+        scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "application-share-job-resume");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduledExecutorService.scheduleWithFixedDelay(() -> {
+            try {
+                resumeTask.run();
+            } catch (RuntimeException e) {
+                // Catch the error, as an uncaught error stops the subsequent runs of the task.
+                LOG.error("Error while resuming the application share jobs.", e);
+            }
+        }, resumeIntervalMinutes, resumeIntervalMinutes, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Stops running the resume task. A job which is being resumed is left to be resumed again by a node later on.
+     */
+    public void shutdown() {
+
+        scheduledExecutorService.shutdownNow();
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.application.executor;
+
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.executor.TenantBoundedExecutor;
+
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.APPLICATION_SHARING_MAX_CONCURRENT_TASKS_PER_TENANT;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.APPLICATION_SHARING_QUEUE_CAPACITY;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.APPLICATION_SHARING_THREAD_POOL_SIZE;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.DEFAULT_APPLICATION_SHARING_MAX_CONCURRENT_TASKS_PER_TENANT;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.DEFAULT_APPLICATION_SHARING_QUEUE_CAPACITY;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.DEFAULT_APPLICATION_SHARING_THREAD_POOL_SIZE;
+
+/**
+ * Executor used to share applications with organizations, and to update or remove those shares.
+ * <p>
+ * Each task handles the application of a single organization, and is accounted to the tenant of the organization
+ * which owns the application. A bulk share started by one tenant therefore waits for its own tasks, rather than
+ * holding back the shares of the other tenants. An executor is owned by the OSGi component which creates it, and is
+ * shut down when that component is deactivated.
+ */
+public class ApplicationSharingExecutor extends TenantBoundedExecutor {
+
+    /**
+     * Creates an executor sized according to the server configuration.
+     */
+    public ApplicationSharingExecutor() {
+
+        this(readPositiveIntProperty(APPLICATION_SHARING_THREAD_POOL_SIZE,
+                        DEFAULT_APPLICATION_SHARING_THREAD_POOL_SIZE),
+                readPositiveIntProperty(APPLICATION_SHARING_QUEUE_CAPACITY,
+                        DEFAULT_APPLICATION_SHARING_QUEUE_CAPACITY),
+                readPositiveIntProperty(APPLICATION_SHARING_MAX_CONCURRENT_TASKS_PER_TENANT,
+                        DEFAULT_APPLICATION_SHARING_MAX_CONCURRENT_TASKS_PER_TENANT));
+    }
+
+    /**
+     * Creates an executor with the given number of threads, queue capacity and per tenant concurrency cap.
+     *
+     * @param threadPoolSize              The number of threads of the executor.
+     * @param queueCapacity               The number of tasks which can wait for a thread.
+     * @param maxConcurrentTasksPerTenant The number of tasks a tenant can have queued or running at a time.
+     */
+    public ApplicationSharingExecutor(int threadPoolSize, int queueCapacity, int maxConcurrentTasksPerTenant) {
+
+        super("an application sharing task", threadPoolSize, queueCapacity, maxConcurrentTasksPerTenant);
+    }
+}
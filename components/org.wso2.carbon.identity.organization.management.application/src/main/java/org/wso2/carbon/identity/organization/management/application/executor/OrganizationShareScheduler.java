@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.application.executor;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+import org.wso2.carbon.identity.organization.management.service.model.OrganizationNode;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.wso2.carbon.identity.organization.management.application.util.OrgApplicationShareProcessor.getParentOrganizationIds;
+
+/**
+ * Schedules the sharing of an application with a set of organizations as a dependency graph.
+ * <p>
+ * Each organization depends only on the share of its nearest ancestor which is part of the same set, so the share
+ * with an organization is submitted as soon as the share with that ancestor completes, regardless of the progress of
+ * unrelated branches. On wide, uneven hierarchies the end-to-end time therefore follows the deepest dependency chain
+ * instead of the sum of the slowest share of every level. All the submissions are made from the calling thread,
+ * which waits for the completion of the submitted shares, so that submitters which block for back-pressure never
+ * block the threads running the shares.
+ */
+public class OrganizationShareScheduler {
+
+    private static final Log LOG = LogFactory.getLog(OrganizationShareScheduler.class);
+
+    private OrganizationShareScheduler() {
+
+    }
+
+    /**
+     * Submits the given share operations in dependency order and waits until all of them are completed. An operation
+     * whose share completes exceptionally still releases its dependent operations, as the failures of individual
+     * shares are reported by the shares themselves.
+     *
+     * @param organizationGraph      The graph of the organizations the operations belong to.
+     * @param shareOperations        The share operations, ordered so that ancestors precede their descendants.
+     * @param organizationIdResolver A function resolving the organization ID of a share operation.
+     * @param shareTaskSubmitter     Submits the share of an operation.
+     * @param <T>                    The type of the share operations.
+     * @return The futures of the submitted shares.
+     * @throws OrganizationManagementException If the submitter fails to submit a share. The shares which are already
+     *                                         submitted are not awaited in that case.
+     */
+    public static <T> List<CompletableFuture<Void>> scheduleAndWait(List<OrganizationNode> organizationGraph,
+                                                                    List<T> shareOperations,
+                                                                    Function<T, String> organizationIdResolver,
+                                                                    ShareTaskSubmitter<T> shareTaskSubmitter)
+            throws OrganizationManagementException {
+
+        return scheduleAndWait(organizationGraph, shareOperations, organizationIdResolver, shareTaskSubmitter,
+                organizationId -> {
+                    // The completion of the operations is not tracked.
+                });
+    }
+
+    /**
+     * Submits the given share operations in dependency order and waits until all of them are completed, notifying
+     * the given listener of the completion of each operation. The listener is notified on the calling thread, once
+     * the share of the operation is completed or once the submitter skips the operation.
+     *
+     * @param organizationGraph      The graph of the organizations the operations belong to.
+     * @param shareOperations        The share operations, ordered so that ancestors precede their descendants.
+     * @param organizationIdResolver A function resolving the organization ID of a share operation.
+     * @param shareTaskSubmitter     Submits the share of an operation.
+     * @param completionListener     Listener notified with the organization ID of each completed operation.
+     * @param <T>                    The type of the share operations.
+     * @return The futures of the submitted shares.
+     * @throws OrganizationManagementException If the submitter fails to submit a share. The shares which are already
+     *                                         submitted are not awaited in that case.
+     */
+    public static <T> List<CompletableFuture<Void>> scheduleAndWait(List<OrganizationNode> organizationGraph,
+                                                                    List<T> shareOperations,
+                                                                    Function<T, String> organizationIdResolver,
+                                                                    ShareTaskSubmitter<T> shareTaskSubmitter,
+                                                                    Consumer<String> completionListener)
+            throws OrganizationManagementException {
+
+        return scheduleAndWait(organizationGraph, shareOperations, organizationIdResolver, shareTaskSubmitter,
+                completionListener, shareOperation -> {
+                    // The operations which are not submitted are not tracked.
+                });
+    }
+
+    /**
+     * Submits the given share operations in dependency order and waits until all of them are completed, notifying
+     * the given listeners of the completion of each operation and of each operation which is left unsubmitted. The
+     * listeners are notified on the calling thread.
+     * <p>
+     * If the calling thread is interrupted while waiting, no further shares are submitted and the unsubmitted
+     * listener is notified of every operation which was not submitted, so that the caller can record their outcome
+     * before the scheduler returns. The shares which are already submitted are not awaited in that case.
+     *
+     * @param organizationGraph      The graph of the organizations the operations belong to.
+     * @param shareOperations        The share operations, ordered so that ancestors precede their descendants.
+     * @param organizationIdResolver A function resolving the organization ID of a share operation.
+     * @param shareTaskSubmitter     Submits the share of an operation.
+     * @param completionListener     Listener notified with the organization ID of each completed operation.
+     * @param unsubmittedListener    Listener notified with each operation which is not submitted due to an
+     *                               interruption.
+     * @param <T>                    The type of the share operations.
+     * @return The futures of the submitted shares.
+     * @throws OrganizationManagementException If the submitter fails to submit a share. The shares which are already
+     *                                         submitted are not awaited in that case.
+     */
+    public static <T> List<CompletableFuture<Void>> scheduleAndWait(List<OrganizationNode> organizationGraph,
+                                                                    List<T> shareOperations,
+                                                                    Function<T, String> organizationIdResolver,
+                                                                    ShareTaskSubmitter<T> shareTaskSubmitter,
+                                                                    Consumer<String> completionListener,
+                                                                    Consumer<T> unsubmittedListener)
+            throws OrganizationManagementException {
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        if (shareOperations == null || shareOperations.isEmpty()) {
+            return futures;
+        }
+
+        Map<String, String> parentOrganizationIds = getParentOrganizationIds(organizationGraph);
+        Set<String> sharingOrganizationIds = new HashSet<>();
+        for (T shareOperation : shareOperations) {
+            sharingOrganizationIds.add(organizationIdResolver.apply(shareOperation));
+        }
+
+        Queue<T> readyOperations = new ArrayDeque<>();
+        Map<String, List<T>> dependentOperations = new HashMap<>();
+        for (T shareOperation : shareOperations) {
+            String dependencyId = findNearestSharingAncestor(organizationIdResolver.apply(shareOperation),
+                    parentOrganizationIds, sharingOrganizationIds);
+            if (dependencyId == null) {
+                readyOperations.add(shareOperation);
+            } else {
+                dependentOperations.computeIfAbsent(dependencyId, key -> new ArrayList<>()).add(shareOperation);
+            }
+        }
+
+        BlockingQueue<String> completedOrganizationIds = new LinkedBlockingQueue<>();
+        int pendingShares = 0;
+        while (!readyOperations.isEmpty() || pendingShares > 0) {
+            while (!readyOperations.isEmpty()) {
+                T shareOperation = readyOperations.poll();
+                String organizationId = organizationIdResolver.apply(shareOperation);
+                CompletableFuture<Void> future = shareTaskSubmitter.submit(shareOperation);
+                if (future == null) {
+                    // Nothing was submitted for the organization, hence its dependents are ready right away.
+                    completionListener.accept(organizationId);
+                    releaseDependents(organizationId, dependentOperations, readyOperations);
+                    continue;
+                }
+                futures.add(future);
+                pendingShares++;
+                future.whenComplete((result, throwable) -> completedOrganizationIds.offer(organizationId));
+            }
+            if (pendingShares > 0) {
+                String completedOrganizationId;
+                try {
+                    completedOrganizationId = completedOrganizationIds.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    LOG.error("Interrupted while scheduling organization shares. " + pendingShares +
+                            " shares were in progress and the shares of their dependents were not submitted.");
+                    readyOperations.forEach(unsubmittedListener);
+                    dependentOperations.values().forEach(dependents -> dependents.forEach(unsubmittedListener));
+                    return futures;
+                }
+                pendingShares--;
+                completionListener.accept(completedOrganizationId);
+                releaseDependents(completedOrganizationId, dependentOperations, readyOperations);
+            }
+        }
+        return futures;
+    }
+
+    private static <T> void releaseDependents(String organizationId, Map<String, List<T>> dependentOperations,
+                                              Queue<T> readyOperations) {
+
+        List<T> dependents = dependentOperations.remove(organizationId);
+        if (dependents != null) {
+            readyOperations.addAll(dependents);
+        }
+    }
+
+    private static String findNearestSharingAncestor(String organizationId, Map<String, String> parentOrganizationIds,
+                                                     Set<String> sharingOrganizationIds) {
+
+        Set<String> visitedOrganizationIds = new HashSet<>();
+        String ancestorId = parentOrganizationIds.get(organizationId);
+        while (ancestorId != null && visitedOrganizationIds.add(ancestorId)) {
+            if (sharingOrganizationIds.contains(ancestorId)) {
+                return ancestorId;
+            }
+            ancestorId = parentOrganizationIds.get(ancestorId);
+        }
+        return null;
+    }
+
+    /**
+     * Submits the share of a single operation.
+     *
+     * @param <T> The type of the share operations.
+     */
+    @FunctionalInterface
+    public interface ShareTaskSubmitter<T> {
+
+        /**
+         * Submits the share of the given operation.
+         *
+         * @param shareOperation The share operation.
+         * @return The future of the submitted share, or {@code null} if nothing was submitted for the operation.
+         * @throws OrganizationManagementException If an error occurs while submitting the share.
+         */
+        CompletableFuture<Void> submit(T shareOperation) throws OrganizationManagementException;
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.application.executor;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.organization.management.application.dao.OrgApplicationMgtDAO;
+import org.wso2.carbon.identity.organization.management.application.model.SharedApplicationDO;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.cache.AncestorApplicationCache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.APPLICATION_SHARING_LINK_BATCH_SIZE;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.DEFAULT_APPLICATION_SHARING_LINK_BATCH_SIZE;
+import static org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.executor.TenantBoundedExecutor.readPositiveIntProperty;
+
+/**
+ * Buffers the shared application entries created while sharing an application with a set of organizations, and
+ * persists them in batches.
+ * <p>
+ * A bulk share creates one shared application entry per organization. Instead of persisting each entry in its own
+ * transaction, the entries are collected by this buffer and persisted with a single batch insert once the configured
+ * batch size is reached, or when the buffer is flushed. The share with an organization depends on the entry of its
+ * parent organization, hence the buffer must be flushed before sharing with an organization whose parent entry is
+ * still pending, see {@link #isPending(String)}. If a batch fails, its entries are persisted one by one, so that a
+ * single conflicting entry does not fail the whole batch, and the entries which still fail are reported to the given
+ * failure handler. The steps of a share which depend on its entry being persisted are given along with the entry, and
+ * are run only once the entry is persisted, after the buffer lock is released. A buffer belongs to a single bulk
+ * share, is safe to be used by the threads running its shares, and must be closed once the bulk share is over.
+ */
+public class SharedApplicationLinkBuffer {
+
+    private static final Log LOG = LogFactory.getLog(SharedApplicationLinkBuffer.class);
+
+    private final String mainApplicationId;
+    private final String ownerOrganizationId;
+    private final OrgApplicationMgtDAO orgApplicationMgtDAO;
+    private final LinkFailureHandler linkFailureHandler;
+    private final int batchSize;
+    private final Map<String, SharedApplicationDO> pendingLinks = new LinkedHashMap<>();
+    private final Map<String, Runnable> pendingCompletions = new HashMap<>();
+    private boolean closed;
+
+    /**
+     * Creates a buffer for the shared application entries of the given main application, which persists the entries
+     * in batches of the configured size.
+     *
+     * @param mainApplicationId    The ID of the main application.
+     * @param ownerOrganizationId  The ID of the organization which owns the main application.
+     * @param orgApplicationMgtDAO The DAO used to persist the entries.
+     * @param linkFailureHandler   Handler notified of the entries which could not be persisted.
+     */
+    public SharedApplicationLinkBuffer(String mainApplicationId, String ownerOrganizationId,
+                                       OrgApplicationMgtDAO orgApplicationMgtDAO,
+                                       LinkFailureHandler linkFailureHandler) {
+
+        this(mainApplicationId, ownerOrganizationId, orgApplicationMgtDAO, linkFailureHandler,
+                readPositiveIntProperty(APPLICATION_SHARING_LINK_BATCH_SIZE,
+                        DEFAULT_APPLICATION_SHARING_LINK_BATCH_SIZE));
+    }
+
+    /**
+     * Creates a buffer for the shared application entries of the given main application, which persists the entries
+     * in batches of the given size.
+     *
+     * @param mainApplicationId    The ID of the main application.
+     * @param ownerOrganizationId  The ID of the organization which owns the main application.
+     * @param orgApplicationMgtDAO The DAO used to persist the entries.
+     * @param linkFailureHandler   Handler notified of the entries which could not be persisted.
+     * @param batchSize            The maximum number of entries persisted in a single batch.
+     */
+    public SharedApplicationLinkBuffer(String mainApplicationId, String ownerOrganizationId,
+                                       OrgApplicationMgtDAO orgApplicationMgtDAO,
+                                       LinkFailureHandler linkFailureHandler, int batchSize) {
+
+        this.mainApplicationId = mainApplicationId;
+        this.ownerOrganizationId = ownerOrganizationId;
+        this.orgApplicationMgtDAO = orgApplicationMgtDAO;
+        this.linkFailureHandler = linkFailureHandler;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Adds the entry of an application shared with the given organization. The pending entries are persisted if the
+     * batch size is reached, or if the buffer is already closed.
+     *
+     * @param sharedOrganizationId  The ID of the organization the application is shared with.
+     * @param sharedApplicationId   The ID of the shared application.
+     */
+    public void add(String sharedOrganizationId, String sharedApplicationId) {
+
+        add(sharedOrganizationId, sharedApplicationId, null);
+    }
+
+    /**
+     * Adds the entry of an application shared with the given organization, along with the steps of the share which
+     * must run only once the entry is persisted. The steps are not run if the entry could not be persisted, in which
+     * case the failure handler is notified instead. The pending entries are persisted if the batch size is reached,
+     * or if the buffer is already closed.
+     *
+     * @param sharedOrganizationId The ID of the organization the application is shared with.
+     * @param sharedApplicationId  The ID of the shared application.
+     * @param onLinked             The steps to run once the entry is persisted, if any.
+     */
+    public void add(String sharedOrganizationId, String sharedApplicationId, Runnable onLinked) {
+
+        boolean flushRequired;
+        synchronized (this) {
+            pendingLinks.put(sharedOrganizationId, new SharedApplicationDO(sharedOrganizationId, sharedApplicationId));
+            if (onLinked != null) {
+                pendingCompletions.put(sharedOrganizationId, onLinked);
+            }
+            flushRequired = closed || pendingLinks.size() >= batchSize;
+        }
+        if (flushRequired) {
+            flush();
+        }
+    }
+
+    /**
+     * Checks whether the entry of the application shared with the given organization is yet to be persisted.
+     *
+     * @param sharedOrganizationId The ID of the organization.
+     * @return True if the entry of the organization is buffered but not persisted.
+     */
+    public synchronized boolean isPending(String sharedOrganizationId) {
+
+        return pendingLinks.containsKey(sharedOrganizationId);
+    }
+
+    /**
+     * Persists all the pending entries, and then runs the steps of the shares whose entries were persisted.
+     */
+    public void flush() {
+
+        List<Runnable> completions = new ArrayList<>();
+        synchronized (this) {
+            if (pendingLinks.isEmpty()) {
+                return;
+            }
+            List<SharedApplicationDO> links = new ArrayList<>(pendingLinks.values());
+            pendingLinks.clear();
+            List<SharedApplicationDO> persistedLinks;
+            try {
+                orgApplicationMgtDAO.addSharedApplications(mainApplicationId, ownerOrganizationId, links);
+                persistedLinks = links;
+            } catch (OrganizationManagementException e) {
+                LOG.warn("Error while persisting a batch of " + links.size() + " shared applications of the " +
+                        "application: " + mainApplicationId + ". Persisting the shared applications individually.", e);
+                persistedLinks = addIndividually(links);
+            } finally {
+                // Evict the cached ancestor applications of the application family of the main application.
+                AncestorApplicationCache.getInstance().invalidateApplication(mainApplicationId);
+            }
+            for (SharedApplicationDO link : links) {
+                Runnable completion = pendingCompletions.remove(link.getOrganizationId());
+                if (completion != null && persistedLinks.contains(link)) {
+                    completions.add(completion);
+                }
+            }
+        }
+        // Run the remaining steps of the shares without holding the lock, as they do not touch the buffer.
+        for (Runnable completion : completions) {
+            try {
+                completion.run();
+            } catch (RuntimeException e) {
+                LOG.error("Error while completing a share of the application: " + mainApplicationId, e);
+            }
+        }
+    }
+
+    /**
+     * Persists all the pending entries and closes the buffer. Entries added after the buffer is closed, e.g. by shares
+     * which were still running when the bulk share was aborted, are persisted right away.
+     */
+    public void close() {
+
+        synchronized (this) {
+            closed = true;
+        }
+        flush();
+    }
+
+    private List<SharedApplicationDO> addIndividually(List<SharedApplicationDO> links) {
+
+        List<SharedApplicationDO> persistedLinks = new ArrayList<>();
+        for (SharedApplicationDO link : links) {
+            try {
+                orgApplicationMgtDAO.addSharedApplication(mainApplicationId, ownerOrganizationId,
+                        link.getFragmentApplicationId(), link.getOrganizationId());
+                persistedLinks.add(link);
+            } catch (OrganizationManagementException e) {
+                linkFailureHandler.onFailure(link, e);
+            }
+        }
+        return persistedLinks;
+    }
+
+    /**
+     * Handles the shared application entries which could not be persisted.
+     */
+    @FunctionalInterface
+    public interface LinkFailureHandler {
+
+        /**
+         * Invoked for a shared application entry which could not be persisted.
+         *
+         * @param sharedApplication The shared application along with the ID of the organization it belongs to.
+         * @param error             The error occurred while persisting the entry.
+         */
+        void onFailure(SharedApplicationDO sharedApplication, OrganizationManagementException error);
+    }
+}
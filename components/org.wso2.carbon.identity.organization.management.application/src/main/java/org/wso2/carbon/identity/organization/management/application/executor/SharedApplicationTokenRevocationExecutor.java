@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.application.executor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.APPLICATION_SHARING_TOKEN_REVOCATION_QUEUE_CAPACITY;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.APPLICATION_SHARING_TOKEN_REVOCATION_THREAD_POOL_SIZE;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.DEFAULT_APPLICATION_SHARING_TOKEN_REVOCATION_QUEUE_CAPACITY;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.DEFAULT_APPLICATION_SHARING_TOKEN_REVOCATION_THREAD_POOL_SIZE;
+import static org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.executor.TenantBoundedExecutor.readPositiveIntProperty;
+
+/**
+ * Bounded executor used to revoke the tokens issued for an application in the organizations it is unshared from.
+ * <p>
+ * Token revocation runs as a separate stage of unsharing, after the shared application is removed from the
+ * organization, so that a slow revocation does not hold back the removal of the shared applications of the other
+ * organizations. The revocations run on a configurable number of threads with a bounded queue. When the queue is
+ * full, the revocation is run on the submitting thread, which applies back-pressure to the unsharing instead of
+ * growing the queue without a bound. An executor is owned by the OSGi component which creates it, and is shut down
+ * when that component is deactivated.
+ */
+public class SharedApplicationTokenRevocationExecutor {
+
+    private final ThreadPoolExecutor executorService;
+
+    /**
+     * Creates an executor sized according to the server configuration.
+     */
+    public SharedApplicationTokenRevocationExecutor() {
+
+        this(readPositiveIntProperty(APPLICATION_SHARING_TOKEN_REVOCATION_THREAD_POOL_SIZE,
+                        DEFAULT_APPLICATION_SHARING_TOKEN_REVOCATION_THREAD_POOL_SIZE),
+                readPositiveIntProperty(APPLICATION_SHARING_TOKEN_REVOCATION_QUEUE_CAPACITY,
+                        DEFAULT_APPLICATION_SHARING_TOKEN_REVOCATION_QUEUE_CAPACITY));
+    }
+
+    /**
+     * Creates an executor with the given number of threads and queue capacity.
+     *
+     * @param threadPoolSize The number of threads of the executor.
+     * @param queueCapacity  The number of revocations which can wait for a thread before the submitting thread runs
+     *                       the revocation by itself.
+     */
+    public SharedApplicationTokenRevocationExecutor(int threadPoolSize, int queueCapacity) {
+
+        this.executorService = new ThreadPoolExecutor(threadPoolSize, threadPoolSize, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), (task, executor) -> {
+                    if (executor.isShutdown()) {
+                        throw new RejectedExecutionException("Token revocation executor is shut down.");
+                    }
+                    // Run the revocation on the submitting thread when the queue is full.
+                    task.run();
+                });
+    }
+
+    /**
+     * Submits the given token revocation task.
+     *
+     * @param task The token revocation task.
+     * @return A future which completes once the task has run. If the executor is shut down, the task is not run and
+     * the future completes exceptionally.
+     */
+    public CompletableFuture<Void> runAsync(Runnable task) {
+
+        try {
+            return CompletableFuture.runAsync(task, executorService);
+        } catch (RejectedExecutionException e) {
+            CompletableFuture<Void> rejectedFuture = new CompletableFuture<>();
+            rejectedFuture.completeExceptionally(e);
+            return rejectedFuture;
+        }
+    }
+
+    /**
+     * Shuts down the executor. Tasks which are already submitted are run, but new tasks are rejected.
+     */
+    public void shutdown() {
+
+        executorService.shutdown();
+    }
+}
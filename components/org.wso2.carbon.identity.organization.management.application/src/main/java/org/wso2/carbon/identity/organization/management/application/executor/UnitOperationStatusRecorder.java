@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.application.executor;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.buffer.SubOperationStatusQueue;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.constants.OperationStatus;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.exception.AsyncOperationStatusMgtException;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.models.UnitOperationInitDTO;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.APPLICATION_SHARING_STATUS_FLUSH_INTERVAL;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.APPLICATION_SHARING_STATUS_FLUSH_THRESHOLD;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.DEFAULT_APPLICATION_SHARING_STATUS_FLUSH_INTERVAL;
+import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.DEFAULT_APPLICATION_SHARING_STATUS_FLUSH_THRESHOLD;
+import static org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.executor.TenantBoundedExecutor.readPositiveIntProperty;
+
+/**
+ * Records the unit operation statuses of the asynchronous application share and unshare operations.
+ * <p>
+ * The status of each unit operation is added to the in-memory status queue of its operation right away, which is
+ * used to derive the status of the operation once it completes. Persisting the unit operation statuses is taken off
+ * the sharing threads: the statuses are buffered per operation and persisted on a background thread once the
+ * configured number of statuses are buffered for an operation, and on every flush interval for all the operations.
+ * The status service persists one unit operation status at a time, hence a flush writes the buffered statuses one
+ * by one. The statuses which are still buffered when the operation completes are persisted by
+ * {@link #completeOperation(String)}.
+ * <p>
+ * A recorder is owned by the OSGi component which creates it. {@link #shutdown()} persists the statuses which are
+ * still buffered and stops the background thread.
+ */
+public class UnitOperationStatusRecorder {
+
+    private static final Log LOG = LogFactory.getLog(UnitOperationStatusRecorder.class);
+
+    private final ConcurrentMap<String, OperationStatusBuffer> operationStatusBuffers = new ConcurrentHashMap<>();
+    private final UnitOperationStatusWriter unitOperationStatusWriter;
+    private final int flushThreshold;
+    private final ScheduledExecutorService flushExecutor;
+
+    /**
+     * Creates a recorder which flushes according to the server configuration.
+     *
+     * @param unitOperationStatusWriter Writer used to persist a unit operation status.
+     */
+    public UnitOperationStatusRecorder(UnitOperationStatusWriter unitOperationStatusWriter) {
+
+        this(unitOperationStatusWriter,
+                readPositiveIntProperty(APPLICATION_SHARING_STATUS_FLUSH_THRESHOLD,
+                        DEFAULT_APPLICATION_SHARING_STATUS_FLUSH_THRESHOLD),
+                TimeUnit.SECONDS.toMillis(readPositiveIntProperty(APPLICATION_SHARING_STATUS_FLUSH_INTERVAL,
+                        DEFAULT_APPLICATION_SHARING_STATUS_FLUSH_INTERVAL)));
+    }
+
+    /**
+     * Creates a recorder with the given flush threshold and flush interval.
+     *
+     * @param unitOperationStatusWriter Writer used to persist a unit operation status.
+     * @param flushThreshold            Number of buffered statuses of an operation which triggers a flush.
+     * @param flushIntervalMillis       Interval in milliseconds at which the buffered statuses of all the operations
+     *                                  are flushed.
+     */
+    public UnitOperationStatusRecorder(UnitOperationStatusWriter unitOperationStatusWriter, int flushThreshold,
+                                       long flushIntervalMillis) {
+
+        this.unitOperationStatusWriter = unitOperationStatusWriter;
+        this.flushThreshold = flushThreshold;
+        this.flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "application-share-status-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flushExecutor.scheduleWithFixedDelay(this::flushAll, flushIntervalMillis, flushIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Starts recording the unit operation statuses of the given operation. Starting an operation which is already
+     * being recorded has no effect.
+     *
+     * @param operationId ID of the operation.
+     */
+    public void startOperation(String operationId) {
+
+        operationStatusBuffers.putIfAbsent(operationId, new OperationStatusBuffer());
+    }
+
+    /**
+     * Records the status of a unit operation of the given operation. If the operation is not being recorded, the
+     * unit operation status is persisted right away.
+     *
+     * @param operationId   ID of the operation.
+     * @param unitOperation The unit operation to be persisted.
+     * @param status        Status of the unit operation.
+     */
+    public void record(String operationId, UnitOperationInitDTO unitOperation, OperationStatus status) {
+
+        OperationStatusBuffer operationStatusBuffer = operationStatusBuffers.get(operationId);
+        if (operationStatusBuffer == null) {
+            write(unitOperation);
+            return;
+        }
+        operationStatusBuffer.statusQueue.add(status);
+        operationStatusBuffer.pendingUnitOperations.add(unitOperation);
+        int pendingCount = operationStatusBuffer.pendingCount.incrementAndGet();
+        if (pendingCount >= flushThreshold && operationStatusBuffer.flushScheduled.compareAndSet(false, true)) {
+            try {
+                flushExecutor.execute(() -> {
+                    operationStatusBuffer.flushScheduled.set(false);
+                    flush(operationStatusBuffer);
+                });
+            } catch (RejectedExecutionException e) {
+                operationStatusBuffer.flushScheduled.set(false);
+                flush(operationStatusBuffer);
+            }
+        }
+    }
+
+    /**
+     * Stops recording the unit operation statuses of the given operation, after persisting the statuses which are
+     * still buffered.
+     *
+     * @param operationId ID of the operation.
+     * @return The status of the operation derived from the statuses of its unit operations, or {@code null} if the
+     * operation is not being recorded.
+     */
+    public OperationStatus completeOperation(String operationId) {
+
+        OperationStatusBuffer operationStatusBuffer = operationStatusBuffers.remove(operationId);
+        if (operationStatusBuffer == null) {
+            return null;
+        }
+        flush(operationStatusBuffer);
+        return operationStatusBuffer.statusQueue.getOperationStatus();
+    }
+
+    /**
+     * Stops the background flushes and persists the statuses which are still buffered. Once shut down, the
+     * statuses are persisted on the recording thread when the flush threshold is reached, or when the operation
+     * completes.
+     */
+    public void shutdown() {
+
+        flushExecutor.shutdown();
+        try {
+            if (!flushExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                LOG.warn("Timed out while waiting for the background unit operation status flushes to complete.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushAll();
+    }
+
+    private void flushAll() {
+
+        for (OperationStatusBuffer operationStatusBuffer : operationStatusBuffers.values()) {
+            flush(operationStatusBuffer);
+        }
+    }
+
+    private void flush(OperationStatusBuffer operationStatusBuffer) {
+
+        // Flushes of the same operation are serialized, so that a completed operation has no writes in progress.
+        synchronized (operationStatusBuffer) {
+            UnitOperationInitDTO unitOperation;
+            while ((unitOperation = operationStatusBuffer.pendingUnitOperations.poll()) != null) {
+                operationStatusBuffer.pendingCount.decrementAndGet();
+                write(unitOperation);
+            }
+        }
+    }
+
+    private void write(UnitOperationInitDTO unitOperation) {
+
+        try {
+            unitOperationStatusWriter.write(unitOperation);
+        } catch (AsyncOperationStatusMgtException | RuntimeException e) {
+            LOG.error("Error while persisting a unit operation status.", e);
+        }
+    }
+
+    /**
+     * Writer used to persist a unit operation status.
+     */
+    @FunctionalInterface
+    public interface UnitOperationStatusWriter {
+
+        /**
+         * Persists the given unit operation status.
+         *
+         * @param unitOperation The unit operation to be persisted.
+         * @throws AsyncOperationStatusMgtException If an error occurs while persisting the unit operation status.
+         */
+        void write(UnitOperationInitDTO unitOperation) throws AsyncOperationStatusMgtException;
+    }
+
+    /**
+     * Buffered unit operation statuses of an operation.
+     */
+    private static class OperationStatusBuffer {
+
+        private final SubOperationStatusQueue statusQueue = new SubOperationStatusQueue();
+        private final Queue<UnitOperationInitDTO> pendingUnitOperations = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    }
+}
@@ -24,6 +24,9 @@ import org.wso2.carbon.identity.event.services.IdentityEventService;
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.service.AsyncOperationStatusMgtService;
 import org.wso2.carbon.identity.oauth.OAuthAdminServiceImpl;
 import org.wso2.carbon.identity.organization.management.application.dao.OrgApplicationMgtDAO;
+import org.wso2.carbon.identity.organization.management.application.executor.ApplicationSharingExecutor;
+import org.wso2.carbon.identity.organization.management.application.executor.SharedApplicationTokenRevocationExecutor;
+import org.wso2.carbon.identity.organization.management.application.executor.UnitOperationStatusRecorder;
 import org.wso2.carbon.identity.organization.management.application.listener.ApplicationSharingManagerListener;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.OrganizationUserResidentResolverService;
@@ -32,6 +35,8 @@ import org.wso2.carbon.identity.role.v2.mgt.core.RoleManagementService;
 import org.wso2.carbon.idp.mgt.IdpManager;
 import org.wso2.carbon.user.core.service.RealmService;
 
+import java.util.concurrent.ScheduledExecutorService;
+
 /**
  * Data holder for organization application management.
  */
@@ -53,6 +58,10 @@ public class OrgApplicationMgtDataHolder {
     private RoleManagementService roleManagementServiceV2;
     private AsyncOperationStatusMgtService asyncOperationStatusMgtService;
     private ResourceSharingPolicyHandlerService resourceSharingPolicyHandlerService;
+    private ApplicationSharingExecutor applicationSharingExecutor;
+    private SharedApplicationTokenRevocationExecutor tokenRevocationExecutor;
+    private UnitOperationStatusRecorder unitOperationStatusRecorder;
+    private ScheduledExecutorService applicationShareJobHeartbeatExecutor;
 
     private OrgApplicationMgtDataHolder() {
 
@@ -315,4 +324,84 @@ public class OrgApplicationMgtDataHolder {
 
         this.asyncOperationStatusMgtService = asyncOperationStatusMgtService;
     }
+
+    /**
+     * Get the {@link ApplicationSharingExecutor} owned by the active component.
+     *
+     * @return ApplicationSharingExecutor.
+     */
+    public ApplicationSharingExecutor getApplicationSharingExecutor() {
+
+        return applicationSharingExecutor;
+    }
+
+    /**
+     * Set the {@link ApplicationSharingExecutor} owned by the active component.
+     *
+     * @param applicationSharingExecutor Instance of {@link ApplicationSharingExecutor}.
+     */
+    public void setApplicationSharingExecutor(ApplicationSharingExecutor applicationSharingExecutor) {
+
+        this.applicationSharingExecutor = applicationSharingExecutor;
+    }
+
+    /**
+     * Get the {@link SharedApplicationTokenRevocationExecutor} owned by the active component.
+     *
+     * @return SharedApplicationTokenRevocationExecutor.
+     */
+    public SharedApplicationTokenRevocationExecutor getTokenRevocationExecutor() {
+
+        return tokenRevocationExecutor;
+    }
+
+    /**
+     * Set the {@link SharedApplicationTokenRevocationExecutor} owned by the active component.
+     *
+     * @param tokenRevocationExecutor Instance of {@link SharedApplicationTokenRevocationExecutor}.
+     */
+    public void setTokenRevocationExecutor(SharedApplicationTokenRevocationExecutor tokenRevocationExecutor) {
+
+        this.tokenRevocationExecutor = tokenRevocationExecutor;
+    }
+
+    /**
+     * Get the {@link UnitOperationStatusRecorder} owned by the active component.
+     *
+     * @return UnitOperationStatusRecorder.
+     */
+    public UnitOperationStatusRecorder getUnitOperationStatusRecorder() {
+
+        return unitOperationStatusRecorder;
+    }
+
+    /**
+     * Set the {@link UnitOperationStatusRecorder} owned by the active component.
+     *
+     * @param unitOperationStatusRecorder Instance of {@link UnitOperationStatusRecorder}.
+     */
+    public void setUnitOperationStatusRecorder(UnitOperationStatusRecorder unitOperationStatusRecorder) {
+
+        this.unitOperationStatusRecorder = unitOperationStatusRecorder;
+    }
+
+    /**
+     * Get the executor checkpointing the running application share jobs, owned by the active component.
+     *
+     * @return Heartbeat executor of the application share jobs, or null if the jobs are not persisted.
+     */
+    public ScheduledExecutorService getApplicationShareJobHeartbeatExecutor() {
+
+        return applicationShareJobHeartbeatExecutor;
+    }
+
+    /**
+     * Set the executor checkpointing the running application share jobs, owned by the active component.
+     *
+     * @param applicationShareJobHeartbeatExecutor Heartbeat executor of the application share jobs.
+     */
+    public void setApplicationShareJobHeartbeatExecutor(ScheduledExecutorService applicationShareJobHeartbeatExecutor) {
+
+        this.applicationShareJobHeartbeatExecutor = applicationShareJobHeartbeatExecutor;
+    }
 }
@@ -24,6 +24,7 @@ import org.osgi.framework.BundleContext;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
@@ -37,6 +38,11 @@ import org.wso2.carbon.identity.oauth.OAuthAdminServiceImpl;
 import org.wso2.carbon.identity.organization.management.application.OrgApplicationManager;
 import org.wso2.carbon.identity.organization.management.application.OrgApplicationManagerImpl;
 import org.wso2.carbon.identity.organization.management.application.dao.impl.OrgApplicationMgtDAOImpl;
+import org.wso2.carbon.identity.organization.management.application.executor.ApplicationShareJobCheckpointer;
+import org.wso2.carbon.identity.organization.management.application.executor.ApplicationShareJobResumeScheduler;
+import org.wso2.carbon.identity.organization.management.application.executor.ApplicationSharingExecutor;
+import org.wso2.carbon.identity.organization.management.application.executor.SharedApplicationTokenRevocationExecutor;
+import org.wso2.carbon.identity.organization.management.application.executor.UnitOperationStatusRecorder;
 import org.wso2.carbon.identity.organization.management.application.handler.OrgClaimMgtHandler;
 import org.wso2.carbon.identity.organization.management.application.listener.ApplicationSharingManagerListenerImpl;
 import org.wso2.carbon.identity.organization.management.application.listener.FragmentApplicationMgtListener;
@@ -49,6 +55,8 @@ import org.wso2.carbon.identity.role.v2.mgt.core.RoleManagementService;
 import org.wso2.carbon.idp.mgt.IdpManager;
 import org.wso2.carbon.user.core.service.RealmService;
 
+import java.util.concurrent.ScheduledExecutorService;
+
 /**
  * OSGi service component for organization application management bundle.
  */
@@ -60,6 +68,8 @@ public class OrgApplicationMgtServiceComponent {
 
     private static final Log log = LogFactory.getLog(OrgApplicationMgtServiceComponent.class);
 
+    private ApplicationShareJobResumeScheduler applicationShareJobResumeScheduler;
+
     /**
      * Register the Organization Application Mgt service in the OSGI context.
      *
@@ -73,8 +83,22 @@ public class OrgApplicationMgtServiceComponent {
                     .setOrgApplicationMgtDAO(new OrgApplicationMgtDAOImpl());
             OrgApplicationMgtDataHolder.getInstance()
                     .setApplicationSharingManagerListener(new ApplicationSharingManagerListenerImpl());
+            OrgApplicationMgtDataHolder.getInstance().setApplicationSharingExecutor(new ApplicationSharingExecutor());
+            OrgApplicationMgtDataHolder.getInstance()
+                    .setTokenRevocationExecutor(new SharedApplicationTokenRevocationExecutor());
+            OrgApplicationMgtDataHolder.getInstance().setUnitOperationStatusRecorder(new UnitOperationStatusRecorder(
+                    unitOperation -> OrgApplicationMgtDataHolder.getInstance().getAsyncOperationStatusMgtService()
+                            .registerUnitOperationStatus(unitOperation)));
             BundleContext bundleContext = componentContext.getBundleContext();
-            bundleContext.registerService(OrgApplicationManager.class.getName(), new OrgApplicationManagerImpl(), null);
+            OrgApplicationManagerImpl orgApplicationManager = new OrgApplicationManagerImpl();
+            bundleContext.registerService(OrgApplicationManager.class.getName(), orgApplicationManager, null);
+            // Resume the application share jobs abandoned by nodes which went down while running them.
+            if (ApplicationShareJobCheckpointer.isJobPersistenceEnabled()) {
+                OrgApplicationMgtDataHolder.getInstance().setApplicationShareJobHeartbeatExecutor(
+                        ApplicationShareJobCheckpointer.createHeartbeatExecutor());
+                applicationShareJobResumeScheduler =
+                        new ApplicationShareJobResumeScheduler(orgApplicationManager::resumeApplicationShareJobs);
+            }
             //Fragment application listener.
             bundleContext.registerService(ApplicationMgtListener.class.getName(), new FragmentApplicationMgtListener(),
                     null);
@@ -91,6 +115,48 @@ public class OrgApplicationMgtServiceComponent {
         }
     }
 
+    /**
+     * Stop resuming the abandoned application share jobs and shut down the executors owned by the component when
+     * the component is deactivated.
+     *
+     * @param componentContext OSGi service component context.
+     */
+    @Deactivate
+    protected void deactivate(ComponentContext componentContext) {
+
+        if (applicationShareJobResumeScheduler != null) {
+            applicationShareJobResumeScheduler.shutdown();
+            applicationShareJobResumeScheduler = null;
+        }
+        ScheduledExecutorService applicationShareJobHeartbeatExecutor =
+                OrgApplicationMgtDataHolder.getInstance().getApplicationShareJobHeartbeatExecutor();
+        if (applicationShareJobHeartbeatExecutor != null) {
+            applicationShareJobHeartbeatExecutor.shutdownNow();
+            OrgApplicationMgtDataHolder.getInstance().setApplicationShareJobHeartbeatExecutor(null);
+        }
+        ApplicationSharingExecutor applicationSharingExecutor =
+                OrgApplicationMgtDataHolder.getInstance().getApplicationSharingExecutor();
+        if (applicationSharingExecutor != null) {
+            applicationSharingExecutor.shutdown();
+            OrgApplicationMgtDataHolder.getInstance().setApplicationSharingExecutor(null);
+        }
+        SharedApplicationTokenRevocationExecutor tokenRevocationExecutor =
+                OrgApplicationMgtDataHolder.getInstance().getTokenRevocationExecutor();
+        if (tokenRevocationExecutor != null) {
+            tokenRevocationExecutor.shutdown();
+            OrgApplicationMgtDataHolder.getInstance().setTokenRevocationExecutor(null);
+        }
+        UnitOperationStatusRecorder unitOperationStatusRecorder =
+                OrgApplicationMgtDataHolder.getInstance().getUnitOperationStatusRecorder();
+        if (unitOperationStatusRecorder != null) {
+            unitOperationStatusRecorder.shutdown();
+            OrgApplicationMgtDataHolder.getInstance().setUnitOperationStatusRecorder(null);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Organization Application Management component deactivated successfully.");
+        }
+    }
+
     @Reference(
             name = "realm.service",
             service = RealmService.class,
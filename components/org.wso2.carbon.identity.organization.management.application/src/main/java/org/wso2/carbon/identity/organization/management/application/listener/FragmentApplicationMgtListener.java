@@ -57,6 +57,7 @@ import org.wso2.carbon.identity.organization.management.service.exception.Organi
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
 import org.wso2.carbon.identity.organization.management.service.util.OrganizationManagementUtil;
 import org.wso2.carbon.identity.organization.management.service.util.Utils;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.cache.AncestorApplicationCache;
 import org.wso2.carbon.identity.role.v2.mgt.core.RoleManagementService;
 import org.wso2.carbon.identity.role.v2.mgt.core.exception.IdentityRoleManagementException;
 import org.wso2.carbon.idp.mgt.IdentityProviderManagementClientException;
@@ -521,6 +522,7 @@ public class FragmentApplicationMgtListener extends AbstractApplicationMgtListen
                     String.format("Error retrieving organization ID for tenant '%s'.", tenantDomain), e
             );
         }
+        invalidateAncestorApplicationCache(application, organizationId);
 
         // If the application is a fragment application and the main application is shared with all its descendants,
         // the application can be deleted only if the main application is being deleted or if main application delete
@@ -582,6 +584,31 @@ public class FragmentApplicationMgtListener extends AbstractApplicationMgtListen
         return super.doPreDeleteApplication(applicationName, tenantDomain, userName);
     }
 
+    /**
+     * Invalidates the cached ancestor application IDs of the application family of the given application. The
+     * family is tracked by its main application, hence the main application is resolved for a fragment application.
+     */
+    private void invalidateAncestorApplicationCache(ServiceProvider application, String organizationId)
+            throws IdentityApplicationManagementException {
+
+        String mainApplicationId = application.getApplicationResourceId();
+        if (Arrays.stream(application.getSpProperties())
+                .anyMatch(p -> IS_FRAGMENT_APP.equalsIgnoreCase(p.getName()) && Boolean.parseBoolean(p.getValue()))) {
+            try {
+                Optional<MainApplicationDO> mainApplicationDO = getOrgApplicationMgtDAO()
+                        .getMainApplication(application.getApplicationResourceId(), organizationId);
+                if (mainApplicationDO.isPresent()) {
+                    mainApplicationId = mainApplicationDO.get().getMainApplicationId();
+                }
+            } catch (OrganizationManagementException e) {
+                throw new IdentityApplicationManagementException(
+                        format("Unable to resolve the main application of the fragment application with " +
+                                "resource id: %s", application.getApplicationResourceId()), e);
+            }
+        }
+        AncestorApplicationCache.getInstance().invalidateApplication(mainApplicationId);
+    }
+
     private ServiceProvider getApplicationByResourceId(String applicationResourceId, String tenantDomain)
             throws IdentityApplicationManagementException {
 
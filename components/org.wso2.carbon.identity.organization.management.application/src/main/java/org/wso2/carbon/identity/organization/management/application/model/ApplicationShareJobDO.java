@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.application.model;
+
+import org.wso2.carbon.identity.organization.management.application.model.operation.ApplicationShareRolePolicy;
+
+/**
+ * Data object representing a persisted job which shares an application with all the child organizations of its
+ * owner organization. The job is checkpointed while it runs, so that it can be resumed by any node if the node
+ * running it goes down.
+ */
+public class ApplicationShareJobDO {
+
+    private final String operationId;
+    private final String mainApplicationId;
+    private final String ownerOrganizationId;
+    private final String sharePolicy;
+    private final ApplicationShareRolePolicy roleSharing;
+    private final String initiatedUserId;
+    private final long lastUpdated;
+
+    public ApplicationShareJobDO(String operationId, String mainApplicationId, String ownerOrganizationId,
+                                 String sharePolicy, ApplicationShareRolePolicy roleSharing, String initiatedUserId,
+                                 long lastUpdated) {
+
+        this.operationId = operationId;
+        this.mainApplicationId = mainApplicationId;
+        this.ownerOrganizationId = ownerOrganizationId;
+        this.sharePolicy = sharePolicy;
+        this.roleSharing = roleSharing;
+        this.initiatedUserId = initiatedUserId;
+        this.lastUpdated = lastUpdated;
+    }
+
+    public String getOperationId() {
+
+        return operationId;
+    }
+
+    public String getMainApplicationId() {
+
+        return mainApplicationId;
+    }
+
+    public String getOwnerOrganizationId() {
+
+        return ownerOrganizationId;
+    }
+
+    public String getSharePolicy() {
+
+        return sharePolicy;
+    }
+
+    public ApplicationShareRolePolicy getRoleSharing() {
+
+        return roleSharing;
+    }
+
+    public String getInitiatedUserId() {
+
+        return initiatedUserId;
+    }
+
+    /**
+     * Get the time the job was last checkpointed, in milliseconds since the epoch. The time also acts as the version
+     * of the job, which a node has to match in order to claim or checkpoint the job.
+     *
+     * @return The time the job was last checkpointed.
+     */
+    public long getLastUpdated() {
+
+        return lastUpdated;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.application.model;
+
+import org.wso2.carbon.identity.organization.management.application.model.operation.ApplicationShareUpdateOperation;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The net role changes requested for the shared application of a single organization by a set of update operations.
+ * <p>
+ * The operations are collapsed in the order they are applied, so that only the last operation on a role takes
+ * effect, e.g. a role which is added and then removed is only removed. The changes which would not alter the roles
+ * the shared application currently has can then be dropped, see {@link #retainEffectiveChanges(Set)}, so that only
+ * the organizations whose role set actually changes are updated.
+ */
+public class SharedApplicationRoleDelta {
+
+    private final Map<String, RoleWithAudienceDO> addedRoles = new LinkedHashMap<>();
+    private final Map<String, RoleWithAudienceDO> removedRoles = new LinkedHashMap<>();
+
+    /**
+     * Apply the given operation on the given roles to the delta.
+     *
+     * @param operation The update operation.
+     * @param roles     The roles the operation is applied on.
+     */
+    public void apply(ApplicationShareUpdateOperation.Operation operation, List<RoleWithAudienceDO> roles) {
+
+        if (roles == null) {
+            return;
+        }
+        boolean isAddOperation = ApplicationShareUpdateOperation.Operation.ADD.ordinal() == operation.ordinal();
+        for (RoleWithAudienceDO role : roles) {
+            String roleKey = role.getRoleName() + ":" + role.getAudienceName() + ":" + role.getAudienceType();
+            if (isAddOperation) {
+                removedRoles.remove(roleKey);
+                addedRoles.put(roleKey, role);
+            } else {
+                addedRoles.remove(roleKey);
+                removedRoles.put(roleKey, role);
+            }
+        }
+    }
+
+    /**
+     * Drop the changes which do not alter the given roles of the shared application, i.e. the additions of roles it
+     * already has and the removals of roles it does not have.
+     *
+     * @param currentRoleNames The names of the roles the shared application currently has.
+     */
+    public void retainEffectiveChanges(Set<String> currentRoleNames) {
+
+        addedRoles.values().removeIf(role -> currentRoleNames.contains(role.getRoleName()));
+        removedRoles.values().removeIf(role -> !currentRoleNames.contains(role.getRoleName()));
+    }
+
+    public List<RoleWithAudienceDO> getAddedRoles() {
+
+        return new ArrayList<>(addedRoles.values());
+    }
+
+    public List<RoleWithAudienceDO> getRemovedRoles() {
+
+        return new ArrayList<>(removedRoles.values());
+    }
+
+    public boolean isEmpty() {
+
+        return addedRoles.isEmpty() && removedRoles.isEmpty();
+    }
+}
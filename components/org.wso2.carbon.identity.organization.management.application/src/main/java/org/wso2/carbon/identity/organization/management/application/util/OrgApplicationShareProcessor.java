@@ -422,6 +422,21 @@ public class OrgApplicationShareProcessor {
         return hierarchyInfo.bfsOrder;
     }
 
+    /**
+     * Builds a map of the organization IDs of the given organization graph to the IDs of their parent organizations.
+     * The top-level nodes of the graph are not mapped, as their parents are not part of the graph.
+     *
+     * @param organizationNodes A list of {@link OrganizationNode} objects.
+     * @return A {@link Map} of organization IDs to their parent organization IDs.
+     */
+    public static Map<String, String> getParentOrganizationIds(List<OrganizationNode> organizationNodes) {
+
+        if (organizationNodes == null || organizationNodes.isEmpty()) {
+            return new HashMap<>();
+        }
+        return buildParentMap(getAllNodesAndBfsOrder(organizationNodes).allNodesById);
+    }
+
     private static List<String> getReversedSortedList(List<String> bfsOrder, Set<String> finalOrgIdsToInclude) {
 
         List<String> reversedSortedList = new ArrayList<>();
@@ -22,6 +22,7 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.MockitoAnnotations;
 import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -45,12 +46,20 @@ import org.wso2.carbon.identity.oauth.IdentityOAuthAdminException;
 import org.wso2.carbon.identity.oauth.OAuthAdminServiceImpl;
 import org.wso2.carbon.identity.oauth.dto.OAuthConsumerAppDTO;
 import org.wso2.carbon.identity.organization.management.application.dao.OrgApplicationMgtDAO;
+import org.wso2.carbon.identity.organization.management.application.executor.ApplicationSharingExecutor;
+import org.wso2.carbon.identity.organization.management.application.executor.OrganizationShareScheduler;
+import org.wso2.carbon.identity.organization.management.application.executor.SharedApplicationTokenRevocationExecutor;
+import org.wso2.carbon.identity.organization.management.application.executor.UnitOperationStatusRecorder;
 import org.wso2.carbon.identity.organization.management.application.internal.OrgApplicationMgtDataHolder;
 import org.wso2.carbon.identity.organization.management.application.listener.ApplicationSharingManagerListener;
+import org.wso2.carbon.identity.organization.management.application.model.ApplicationShareJobDO;
 import org.wso2.carbon.identity.organization.management.application.model.MainApplicationDO;
 import org.wso2.carbon.identity.organization.management.application.model.RoleWithAudienceDO;
 import org.wso2.carbon.identity.organization.management.application.model.SharedApplicationDO;
+import org.wso2.carbon.identity.organization.management.application.model.SharedApplicationOrganizationNode;
+import org.wso2.carbon.identity.organization.management.application.model.SharedApplicationOrganizationNodePage;
 import org.wso2.carbon.identity.organization.management.application.model.operation.ApplicationShareRolePolicy;
+import org.wso2.carbon.identity.organization.management.application.model.operation.ApplicationShareUpdateOperation;
 import org.wso2.carbon.identity.organization.management.application.model.operation.GeneralApplicationShareOperation;
 import org.wso2.carbon.identity.organization.management.application.model.operation.SelectiveShareApplicationOperation;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
@@ -58,6 +67,7 @@ import org.wso2.carbon.identity.organization.management.service.OrganizationUser
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementClientException;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 import org.wso2.carbon.identity.organization.management.service.model.BasicOrganization;
+import org.wso2.carbon.identity.organization.management.service.model.ChildOrganizationDO;
 import org.wso2.carbon.identity.organization.management.service.model.Organization;
 import org.wso2.carbon.identity.organization.management.service.model.OrganizationNode;
 import org.wso2.carbon.identity.organization.management.service.model.ParentOrganizationDO;
@@ -65,7 +75,9 @@ import org.wso2.carbon.identity.organization.management.service.util.Utils;
 import org.wso2.carbon.identity.organization.resource.sharing.policy.management.ResourceSharingPolicyHandlerService;
 import org.wso2.carbon.identity.organization.resource.sharing.policy.management.constant.PolicyEnum;
 import org.wso2.carbon.identity.organization.resource.sharing.policy.management.exception.ResourceSharingPolicyMgtException;
+import org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants;
 import org.wso2.carbon.identity.role.v2.mgt.core.RoleManagementService;
+import org.wso2.carbon.identity.role.v2.mgt.core.model.RoleBasicInfo;
 import org.wso2.carbon.idp.mgt.IdpManager;
 import org.wso2.carbon.user.api.RealmConfiguration;
 import org.wso2.carbon.user.api.UserRealm;
@@ -81,19 +93,30 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 import static org.wso2.carbon.identity.application.mgt.ApplicationConstants.AUTH_TYPE_DEFAULT;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.IS_FRAGMENT_APP;
 import static org.wso2.carbon.identity.organization.management.application.constant.OrgApplicationMgtConstants.SKIP_ORGANIZATION_HIERARCHY_VALIDATION;
@@ -140,6 +163,9 @@ public class OrgApplicationManagerImplTest {
     private RoleManagementService roleManagementService;
 
     private OrgApplicationManager orgApplicationManager;
+    private ApplicationSharingExecutor applicationSharingExecutor;
+    private SharedApplicationTokenRevocationExecutor tokenRevocationExecutor;
+    private UnitOperationStatusRecorder unitOperationStatusRecorder;
 
     private static final Map<String, String> childAppIdMap = new HashMap<String, String>() {{
         put("99b701c6-e309-4241-b047-0c299c45d1a0", "56ef1d92-add6-449b-8a3c-fc308d2a4eac");
@@ -166,9 +192,36 @@ public class OrgApplicationManagerImplTest {
         OrgApplicationMgtDataHolder.getInstance().setApplicationManagementService(applicationManagementService);
         OrgApplicationMgtDataHolder.getInstance().setIdpManager(idpManager);
 
+        // The executors and the status recorder are owned by the component, hence provided through the data holder.
+        applicationSharingExecutor = new ApplicationSharingExecutor(2, 10, 10);
+        tokenRevocationExecutor = new SharedApplicationTokenRevocationExecutor(1, 10);
+        unitOperationStatusRecorder = new UnitOperationStatusRecorder(
+                unitOperation -> asyncOperationStatusMgtService.registerUnitOperationStatus(unitOperation), 100,
+                TimeUnit.MINUTES.toMillis(1));
+        OrgApplicationMgtDataHolder.getInstance().setApplicationSharingExecutor(applicationSharingExecutor);
+        OrgApplicationMgtDataHolder.getInstance().setTokenRevocationExecutor(tokenRevocationExecutor);
+        OrgApplicationMgtDataHolder.getInstance().setUnitOperationStatusRecorder(unitOperationStatusRecorder);
+        for (OrgApplicationMgtDataHolder dataHolder : Arrays.asList(orgApplicationMgtDataHolder,
+                mockOrgApplicationMgtDataHolder)) {
+            lenient().when(dataHolder.getApplicationSharingExecutor()).thenReturn(applicationSharingExecutor);
+            lenient().when(dataHolder.getTokenRevocationExecutor()).thenReturn(tokenRevocationExecutor);
+            lenient().when(dataHolder.getUnitOperationStatusRecorder()).thenReturn(unitOperationStatusRecorder);
+        }
+
         orgApplicationManager = new OrgApplicationManagerImpl();
     }
 
+    @AfterMethod
+    public void tearDown() {
+
+        applicationSharingExecutor.shutdown();
+        tokenRevocationExecutor.shutdown();
+        unitOperationStatusRecorder.shutdown();
+        OrgApplicationMgtDataHolder.getInstance().setApplicationSharingExecutor(null);
+        OrgApplicationMgtDataHolder.getInstance().setTokenRevocationExecutor(null);
+        OrgApplicationMgtDataHolder.getInstance().setUnitOperationStatusRecorder(null);
+    }
+
     @DataProvider(name = "parentAppIdRetrievalTestData")
     public Object[][] getParentAppIdRetrievalTestData() {
 
@@ -668,6 +721,87 @@ public class OrgApplicationManagerImplTest {
         }
     }
 
+    @Test
+    public void testOrganizationSharesScheduledByParentDependency() throws Exception {
+
+        // Setup hierarchy: Main -> Child1 -> GrandChild1, Main -> Child2 -> GrandChild2.
+        String child1OrgId = "child1-org-id";
+        String grandChild1OrgId = "grandchild1-org-id";
+        String child2OrgId = "child2-org-id";
+        String grandChild2OrgId = "grandchild2-org-id";
+        OrganizationNode grandChild2Node = mock(OrganizationNode.class);
+        when(grandChild2Node.getId()).thenReturn(grandChild2OrgId);
+        when(grandChild2Node.getChildren()).thenReturn(Collections.emptyList());
+        List<OrganizationNode> childGraph = createMockComplexOrganizationGraph(child1OrgId, grandChild1OrgId,
+                child2OrgId);
+        when(childGraph.get(1).getChildren()).thenReturn(Collections.singletonList(grandChild2Node));
+
+        /*
+         * The share with Child1 only completes after the share with GrandChild2 is completed, which is only
+         * possible if GrandChild2 does not wait for the unrelated Child1 branch.
+         */
+        CountDownLatch grandChild2Shared = new CountDownLatch(1);
+        List<String> completedShares = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService sharingExecutorService = Executors.newFixedThreadPool(4);
+        try {
+            List<CompletableFuture<Void>> futures = OrganizationShareScheduler.scheduleAndWait(childGraph,
+                    Arrays.asList(child1OrgId, child2OrgId, grandChild1OrgId, grandChild2OrgId), orgId -> orgId,
+                    orgId -> CompletableFuture.runAsync(() -> {
+                        if (child1OrgId.equals(orgId)) {
+                            try {
+                                assertTrue(grandChild2Shared.await(10, TimeUnit.SECONDS));
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        }
+                        assertTrue(!grandChild1OrgId.equals(orgId) || completedShares.contains(child1OrgId));
+                        completedShares.add(orgId);
+                        if (grandChild2OrgId.equals(orgId)) {
+                            grandChild2Shared.countDown();
+                        }
+                    }, sharingExecutorService));
+
+            assertEquals(futures.size(), 4);
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+            assertEquals(completedShares, Arrays.asList(child2OrgId, grandChild2OrgId, child1OrgId,
+                    grandChild1OrgId));
+        } finally {
+            sharingExecutorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testOrganizationSharesNotSubmittedOnInterruptionAreReported() throws Exception {
+
+        // Setup hierarchy: Main -> Child1 -> GrandChild1, Main -> Child2.
+        String child1OrgId = "child1-org-id";
+        String grandChild1OrgId = "grandchild1-org-id";
+        String child2OrgId = "child2-org-id";
+        List<OrganizationNode> childGraph = createMockComplexOrganizationGraph(child1OrgId, grandChild1OrgId,
+                child2OrgId);
+
+        // The scheduler is interrupted while the share with Child1 is in progress.
+        CompletableFuture<Void> child1Share = new CompletableFuture<>();
+        List<String> submittedShares = new ArrayList<>();
+        List<String> unsubmittedShares = new ArrayList<>();
+        try {
+            List<CompletableFuture<Void>> futures = OrganizationShareScheduler.scheduleAndWait(childGraph,
+                    Arrays.asList(child1OrgId, grandChild1OrgId), orgId -> orgId, orgId -> {
+                        submittedShares.add(orgId);
+                        Thread.currentThread().interrupt();
+                        return child1Share;
+                    }, orgId -> {
+                    }, unsubmittedShares::add);
+
+            assertEquals(futures, Collections.singletonList(child1Share));
+            assertEquals(submittedShares, Collections.singletonList(child1OrgId));
+            assertEquals(unsubmittedShares, Collections.singletonList(grandChild1OrgId));
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
     @Test
     public void testShareApplicationWithSelectedOrganizations_SelectedRolesPolicy() throws Exception {
 
@@ -1087,6 +1221,255 @@ public class OrgApplicationManagerImplTest {
         }
     }
 
+    @Test
+    public void testResumeApplicationShareJobs() throws Exception {
+
+        try (MockedStatic<OrgApplicationMgtDataHolder> orgApplicationMgtDataHolderMockedStatic =
+                     mockStatic(OrgApplicationMgtDataHolder.class)) {
+
+            orgApplicationMgtDataHolderMockedStatic.when(OrgApplicationMgtDataHolder::getInstance)
+                    .thenReturn(mockOrgApplicationMgtDataHolder);
+            when(mockOrgApplicationMgtDataHolder.getOrganizationManager()).thenReturn(organizationManager);
+            when(mockOrgApplicationMgtDataHolder.getApplicationManagementService())
+                    .thenReturn(applicationManagementService);
+            when(mockOrgApplicationMgtDataHolder.getOrgApplicationMgtDAO()).thenReturn(orgApplicationMgtDAO);
+            lenient().when(mockOrgApplicationMgtDataHolder.getAsyncOperationStatusMgtService())
+                    .thenReturn(asyncOperationStatusMgtService);
+
+            String mainOrgId = "main-org-id";
+            String mainAppId = "main-app-id";
+            String completedOrgId = "completed-org-id";
+            String remainingOrgId = "remaining-org-id";
+            ApplicationShareRolePolicy allRolesPolicy = new ApplicationShareRolePolicy.Builder()
+                    .mode(ApplicationShareRolePolicy.Mode.ALL)
+                    .build();
+            ApplicationShareJobDO lostJob = new ApplicationShareJobDO("lost-operation-id", mainAppId, mainOrgId,
+                    PolicyEnum.ALL_EXISTING_ORGS_ONLY.getValue(), allRolesPolicy, "user-id", 1000L);
+            ApplicationShareJobDO claimedJob = new ApplicationShareJobDO("claimed-operation-id", mainAppId,
+                    mainOrgId, PolicyEnum.ALL_EXISTING_ORGS_ONLY.getValue(), allRolesPolicy, "user-id", 1000L);
+            when(orgApplicationMgtDAO.getStaleApplicationShareJobs(anyLong()))
+                    .thenReturn(Arrays.asList(lostJob, claimedJob));
+            // The first job is claimed by another node in the meantime.
+            when(orgApplicationMgtDAO.checkpointApplicationShareJob(eq("lost-operation-id"), eq(1000L), anyLong(),
+                    anyList())).thenReturn(false);
+            when(orgApplicationMgtDAO.checkpointApplicationShareJob(eq("claimed-operation-id"), eq(1000L), anyLong(),
+                    anyList())).thenReturn(true);
+            when(orgApplicationMgtDAO.getCompletedApplicationShareJobOrganizations("claimed-operation-id"))
+                    .thenReturn(Collections.singleton(completedOrgId));
+            when(orgApplicationMgtDAO.deleteApplicationShareJob(eq("claimed-operation-id"), anyLong()))
+                    .thenReturn(true);
+
+            when(organizationManager.resolveTenantDomain(mainOrgId)).thenReturn("main-tenant-domain");
+            ServiceProvider mainApplication = createMockServiceProvider("main-app", false);
+            when(applicationManagementService.getApplicationByResourceId(mainAppId, "main-tenant-domain"))
+                    .thenReturn(mainApplication);
+            List<OrganizationNode> childGraph = new ArrayList<>(createMockOrganizationGraph(completedOrgId));
+            childGraph.addAll(createMockOrganizationGraph(remainingOrgId));
+            when(organizationManager.getChildOrganizationGraph(mainOrgId, true)).thenReturn(childGraph);
+            // The remaining organization is not of type TENANT, so that the resume is verified up to the sharing.
+            Organization remainingOrg = createMockOrganization(remainingOrgId);
+            remainingOrg.setType("STRUCTURAL");
+            when(organizationManager.getOrganization(remainingOrgId, false, false)).thenReturn(remainingOrg);
+
+            ((OrgApplicationManagerImpl) orgApplicationManager).resumeApplicationShareJobs();
+
+            verify(orgApplicationMgtDAO, never()).getCompletedApplicationShareJobOrganizations("lost-operation-id");
+            verify(orgApplicationMgtDAO, never()).deleteApplicationShareJob(eq("lost-operation-id"), anyLong());
+            // Only the organization whose share was not recorded by the abandoned job is shared.
+            verify(organizationManager).getOrganization(remainingOrgId, false, false);
+            verify(organizationManager, never()).getOrganization(eq(completedOrgId), anyBoolean(), anyBoolean());
+            // The job is deleted with the version claimed by this node.
+            verify(orgApplicationMgtDAO).deleteApplicationShareJob(eq("claimed-operation-id"), anyLong());
+            verify(orgApplicationMgtDAO, never()).deleteApplicationShareJob("claimed-operation-id", 1000L);
+        }
+    }
+
+    @Test
+    public void testUpdateSharedApplicationSkipsNoOpRoleChanges() throws Exception {
+
+        try (MockedStatic<OrgApplicationMgtDataHolder> orgApplicationMgtDataHolderMockedStatic =
+                     mockStatic(OrgApplicationMgtDataHolder.class)) {
+
+            orgApplicationMgtDataHolderMockedStatic.when(OrgApplicationMgtDataHolder::getInstance)
+                    .thenReturn(mockOrgApplicationMgtDataHolder);
+            when(mockOrgApplicationMgtDataHolder.getOrganizationManager()).thenReturn(organizationManager);
+            when(mockOrgApplicationMgtDataHolder.getApplicationManagementService())
+                    .thenReturn(applicationManagementService);
+            when(mockOrgApplicationMgtDataHolder.getOrgApplicationMgtDAO()).thenReturn(orgApplicationMgtDAO);
+            when(mockOrgApplicationMgtDataHolder.getRoleManagementServiceV2()).thenReturn(roleManagementService);
+            when(mockOrgApplicationMgtDataHolder.getApplicationSharingManagerListener()).thenReturn(listener);
+
+            String mainOrgId = "main-org-id";
+            String mainAppId = "main-app-id";
+            String unchangedOrgId = "unchanged-org-id";
+            String changedOrgId = "changed-org-id";
+            when(organizationManager.resolveTenantDomain(mainOrgId)).thenReturn("main-tenant-domain");
+            when(organizationManager.resolveTenantDomain(unchangedOrgId)).thenReturn("unchanged-tenant-domain");
+            when(organizationManager.resolveTenantDomain(changedOrgId)).thenReturn("changed-tenant-domain");
+            ServiceProvider mainApplication = createMockServiceProvider("main-app", false);
+            when(applicationManagementService.getApplicationByResourceId(mainAppId, "main-tenant-domain"))
+                    .thenReturn(mainApplication);
+            when(applicationManagementService.getAllowedAudienceForRoleAssociation(mainAppId, "main-tenant-domain"))
+                    .thenReturn(RoleConstants.APPLICATION);
+            // The organization whose roles stay unchanged is updated first.
+            List<OrganizationNode> childGraph = new ArrayList<>(createMockOrganizationGraph(unchangedOrgId));
+            childGraph.addAll(createMockOrganizationGraph(changedOrgId));
+            when(organizationManager.getChildOrganizationGraph(mainOrgId, true)).thenReturn(childGraph);
+            when(organizationManager.getOrganization(unchangedOrgId, false, false))
+                    .thenReturn(createMockOrganization(unchangedOrgId));
+            when(organizationManager.getOrganization(changedOrgId, false, false))
+                    .thenReturn(createMockOrganization(changedOrgId));
+            when(orgApplicationMgtDAO.getSharedApplications(eq(mainAppId), eq(mainOrgId), anyList())).thenReturn(
+                    Arrays.asList(new SharedApplicationDO(unchangedOrgId, "unchanged-shared-app-id"),
+                            new SharedApplicationDO(changedOrgId, "changed-shared-app-id")));
+
+            // Both shared applications already have the admin role.
+            RoleBasicInfo adminRole = new RoleBasicInfo();
+            adminRole.setName("admin");
+            when(roleManagementService.getRoles(anyString(), any(), any(), any(), any(), anyString()))
+                    .thenReturn(Collections.singletonList(adminRole));
+            RoleWithAudienceDO admin = new RoleWithAudienceDO("admin", "main-app",
+                    RoleWithAudienceDO.AudienceType.APPLICATION);
+            RoleWithAudienceDO viewer = new RoleWithAudienceDO("viewer", "main-app",
+                    RoleWithAudienceDO.AudienceType.APPLICATION);
+            List<ApplicationShareUpdateOperation> updateOperations = Arrays.asList(
+                    new ApplicationShareUpdateOperation(ApplicationShareUpdateOperation.Operation.ADD,
+                            "organizations[orgId eq \"" + unchangedOrgId + "\"].roles",
+                            Collections.singletonList(admin)),
+                    new ApplicationShareUpdateOperation(ApplicationShareUpdateOperation.Operation.ADD,
+                            "organizations[orgId eq \"" + changedOrgId + "\"].roles", Arrays.asList(admin, viewer)));
+
+            orgApplicationManager.updateSharedApplication(mainOrgId, mainAppId, updateOperations);
+
+            String mainAppResourceId = mainApplication.getApplicationResourceId();
+            // Only the role the shared application does not have yet is added.
+            verify(listener, timeout(5000)).postUpdateRolesOfSharedApplication(mainOrgId, mainAppResourceId,
+                    changedOrgId, "changed-shared-app-id", ApplicationShareUpdateOperation.Operation.ADD,
+                    Collections.singletonList(viewer));
+            verify(listener, never()).preUpdateRolesOfSharedApplication(eq(mainOrgId), eq(mainAppResourceId),
+                    eq(unchangedOrgId), any(), anyList());
+            verify(listener, never()).postUpdateRolesOfSharedApplication(eq(mainOrgId), eq(mainAppResourceId),
+                    eq(unchangedOrgId), anyString(), any(), anyList());
+        }
+    }
+
+    @Test
+    public void testGetApplicationSharedOrganizationsResolvesDepthOncePerParent() throws Exception {
+
+        try (MockedStatic<OrgApplicationMgtDataHolder> orgApplicationMgtDataHolderMockedStatic =
+                     mockStatic(OrgApplicationMgtDataHolder.class)) {
+
+            orgApplicationMgtDataHolderMockedStatic.when(OrgApplicationMgtDataHolder::getInstance)
+                    .thenReturn(mockOrgApplicationMgtDataHolder);
+            when(mockOrgApplicationMgtDataHolder.getOrganizationManager()).thenReturn(organizationManager);
+            when(mockOrgApplicationMgtDataHolder.getOrgApplicationMgtDAO()).thenReturn(orgApplicationMgtDAO);
+            when(mockOrgApplicationMgtDataHolder.getApplicationSharingManagerListener()).thenReturn(listener);
+
+            String mainOrgId = "main-org-id";
+            String mainAppId = "main-app-id";
+            String firstChildOrgId = "first-child-org-id";
+            String secondChildOrgId = "second-child-org-id";
+            String grandChildOrgId = "grand-child-org-id";
+
+            // The grand child organization is listed before its parent, and both children share the main org.
+            List<String> descendantOrgIds = Arrays.asList(grandChildOrgId, firstChildOrgId, secondChildOrgId);
+            when(organizationManager.resolveTenantDomain(anyString())).thenAnswer(
+                    invocation -> invocation.getArgument(0) + "-handle");
+            List<SharedApplicationDO> sharedApplications = new ArrayList<>();
+            for (int i = 0; i < descendantOrgIds.size(); i++) {
+                sharedApplications.add(new SharedApplicationDO(descendantOrgIds.get(i),
+                        descendantOrgIds.get(i) + "-app-id", descendantOrgIds.size() - i));
+            }
+            when(orgApplicationMgtDAO.getSharedApplications(eq(mainOrgId), eq(mainAppId), anyList(), anyString(),
+                    anyInt())).thenReturn(sharedApplications);
+
+            Organization firstChildOrg = createMockOrganization(firstChildOrgId, mainOrgId);
+            ChildOrganizationDO grandChild = new ChildOrganizationDO();
+            grandChild.setId(grandChildOrgId);
+            firstChildOrg.setChildOrganizations(Collections.singletonList(grandChild));
+            when(organizationManager.getOrganization(firstChildOrgId, true, false)).thenReturn(firstChildOrg);
+            when(organizationManager.getOrganization(secondChildOrgId, true, false))
+                    .thenReturn(createMockOrganization(secondChildOrgId, mainOrgId));
+            when(organizationManager.getOrganization(grandChildOrgId, true, false))
+                    .thenReturn(createMockOrganization(grandChildOrgId, firstChildOrgId));
+            when(organizationManager.getOrganizationDepthInHierarchy(mainOrgId)).thenReturn(0);
+            when(orgApplicationMgtDAO.getSharedApplications(mainAppId, mainOrgId,
+                    Collections.singletonList(grandChildOrgId))).thenReturn(Collections.singletonList(
+                    new SharedApplicationDO(grandChildOrgId, grandChildOrgId + "-app-id")));
+
+            SharedApplicationOrganizationNodePage page = new OrgApplicationManagerImpl()
+                    .getApplicationSharedOrganizations(mainOrgId, mainAppId, null, 0, 0, "roles", null, 0, true);
+
+            Map<String, SharedApplicationOrganizationNode> nodes = page.getSharedApplicationOrganizationNodes()
+                    .stream().collect(Collectors.toMap(SharedApplicationOrganizationNode::getOrganizationId,
+                            node -> node));
+            Assert.assertEquals(nodes.size(), 3);
+            Assert.assertEquals(nodes.get(firstChildOrgId).getDepthFromRoot(), 1);
+            Assert.assertEquals(nodes.get(secondChildOrgId).getDepthFromRoot(), 1);
+            Assert.assertEquals(nodes.get(grandChildOrgId).getDepthFromRoot(), 2);
+            Assert.assertTrue(nodes.get(firstChildOrgId).hasChildren());
+            Assert.assertFalse(nodes.get(secondChildOrgId).hasChildren());
+
+            // The depth is looked up only for the parent which is not in the page.
+            verify(organizationManager, times(1)).getOrganizationDepthInHierarchy(anyString());
+            verify(organizationManager).getOrganizationDepthInHierarchy(mainOrgId);
+            // The organization details remain one lookup per organization of the page.
+            verify(organizationManager, times(3)).getOrganization(anyString(), anyBoolean(), anyBoolean());
+            // The shared children of the whole page are checked with a single lookup.
+            verify(orgApplicationMgtDAO, times(1)).getSharedApplications(anyString(), anyString(), anyList());
+            // The descendant organizations are not loaded to list the shared organizations.
+            verify(organizationManager, never()).getChildOrganizationsIds(anyString(), anyBoolean());
+        }
+    }
+
+    @Test
+    public void testGetApplicationSharedOrganizationsOfImmediateChildrenReadInBatches() throws Exception {
+
+        try (MockedStatic<OrgApplicationMgtDataHolder> orgApplicationMgtDataHolderMockedStatic =
+                     mockStatic(OrgApplicationMgtDataHolder.class)) {
+
+            orgApplicationMgtDataHolderMockedStatic.when(OrgApplicationMgtDataHolder::getInstance)
+                    .thenReturn(mockOrgApplicationMgtDataHolder);
+            when(mockOrgApplicationMgtDataHolder.getOrganizationManager()).thenReturn(organizationManager);
+            when(mockOrgApplicationMgtDataHolder.getOrgApplicationMgtDAO()).thenReturn(orgApplicationMgtDAO);
+            when(mockOrgApplicationMgtDataHolder.getApplicationSharingManagerListener()).thenReturn(listener);
+
+            String mainOrgId = "main-org-id";
+            String mainAppId = "main-app-id";
+            String childOrgId = "child-org-id";
+            when(organizationManager.resolveTenantDomain(anyString())).thenAnswer(
+                    invocation -> invocation.getArgument(0) + "-handle");
+
+            // The first batch only holds the shares of the grand children, which are not immediate children.
+            List<SharedApplicationDO> firstBatch = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                String grandChildOrgId = "grand-child-org-id-" + i;
+                firstBatch.add(new SharedApplicationDO(grandChildOrgId, grandChildOrgId + "-app-id", 200 - i));
+                when(organizationManager.getRelativeDepthBetweenOrganizationsInSameBranch(mainOrgId,
+                        grandChildOrgId)).thenReturn(2);
+            }
+            List<SharedApplicationDO> secondBatch = Collections.singletonList(
+                    new SharedApplicationDO(childOrgId, childOrgId + "-app-id", 50));
+            when(organizationManager.getRelativeDepthBetweenOrganizationsInSameBranch(mainOrgId, childOrgId))
+                    .thenReturn(1);
+            when(orgApplicationMgtDAO.getSharedApplications(eq(mainOrgId), eq(mainAppId), anyList(), anyString(),
+                    anyInt())).thenReturn(firstBatch, secondBatch);
+            when(organizationManager.getOrganization(childOrgId, true, false))
+                    .thenReturn(createMockOrganization(childOrgId, mainOrgId));
+            when(organizationManager.getOrganizationDepthInHierarchy(mainOrgId)).thenReturn(0);
+
+            SharedApplicationOrganizationNodePage page = new OrgApplicationManagerImpl()
+                    .getApplicationSharedOrganizations(mainOrgId, mainAppId, null, 0, 0, "roles", null, 1, false);
+
+            Assert.assertEquals(page.getSharedApplicationOrganizationNodes().size(), 1);
+            Assert.assertEquals(page.getSharedApplicationOrganizationNodes().get(0).getOrganizationId(), childOrgId);
+            // The second batch is read from the last shared application of the first batch.
+            verify(orgApplicationMgtDAO, times(2)).getSharedApplications(eq(mainOrgId), eq(mainAppId), anyList(),
+                    anyString(), anyInt());
+            verify(organizationManager, never()).getChildOrganizationsIds(anyString(), anyBoolean());
+        }
+    }
+
     @DataProvider(name = "ConsoleOrMyAccountTestData")
     public Object[][] getConsoleOrMyAccountTestData() {
 
@@ -1538,6 +1921,16 @@ public class OrgApplicationManagerImplTest {
         return organization;
     }
 
+    private Organization createMockOrganization(String orgId, String parentOrgId) {
+
+        Organization organization = createMockOrganization(orgId);
+        organization.setChildOrganizations(new ArrayList<>());
+        ParentOrganizationDO parentOrganizationDO = new ParentOrganizationDO();
+        parentOrganizationDO.setId(parentOrgId);
+        organization.setParent(parentOrganizationDO);
+        return organization;
+    }
+
     private BasicOrganization createMockBasicOrganization(String orgId, String name) {
 
         BasicOrganization basicOrg = new BasicOrganization();
@@ -39,8 +39,14 @@ import org.wso2.carbon.identity.application.mgt.provider.ApplicationPermissionPr
 import org.wso2.carbon.identity.common.testng.WithH2Database;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.organization.management.application.dao.OrgApplicationMgtDAO;
+import org.wso2.carbon.identity.organization.management.application.executor.ApplicationShareJobCheckpointer;
+import org.wso2.carbon.identity.organization.management.application.executor.SharedApplicationLinkBuffer;
 import org.wso2.carbon.identity.organization.management.application.internal.OrgApplicationMgtDataHolder;
+import org.wso2.carbon.identity.organization.management.application.model.ApplicationShareJobDO;
+import org.wso2.carbon.identity.organization.management.application.model.RoleWithAudienceDO;
 import org.wso2.carbon.identity.organization.management.application.model.SharedApplicationDO;
+import org.wso2.carbon.identity.organization.management.application.model.operation.ApplicationShareRolePolicy;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.OrganizationUserResidentResolverService;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
@@ -59,13 +65,23 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertThrows;
@@ -97,6 +113,13 @@ public class OrgApplicationMgtDAOImplTest {
     private static final String SAMPLE_APP_2 = "scl-app";
     private static final String SAMPLE_APP_3 = "medical-app";
     private static final String SAMPLE_APP_4 = "sample-app";
+    private static final String SAMPLE_APP_5 = "batch-app";
+    private static final String SAMPLE_APP_6 = "buffered-app";
+    private static final String SAMPLE_APP_7 = "resumable-app";
+    private static final String SAMPLE_APP_8 = "failed-buffer-app";
+    private static final String SAMPLE_APP_9 = "claimed-app";
+    private static final String SAMPLE_APP_10 = "taken-over-app";
+    private static final String SAMPLE_APP_11 = "checkpointed-app";
 
     private MockedStatic<IdentityTenantUtil> mockIdentityTenantUtil;
     private MockedStatic<IdentityUtil> mockIdentityUtil;
@@ -233,6 +256,40 @@ public class OrgApplicationMgtDAOImplTest {
         }
     }
 
+    @DataProvider(name = "sharedApplicationsOfMainApplicationTestData")
+    public Object[][] getSharedApplicationsOfMainApplicationTestData() {
+
+        return new Object[][] {
+                // All the shared apps of the main application.
+                {DESC, 0, Arrays.asList(SHARED_ORG_ID_2, SHARED_ORG_ID_1)},
+                // Latest shared app only.
+                {DESC, 1, Collections.singletonList(SHARED_ORG_ID_2)},
+                // Oldest shared app only.
+                {"ASC", 1, Collections.singletonList(SHARED_ORG_ID_1)},
+        };
+    }
+
+    @Test(dataProvider = "sharedApplicationsOfMainApplicationTestData",
+            dependsOnMethods = {"testGetSharedApplications"})
+    public void testGetSharedApplicationsOfMainApplication(String sortOrder, int limit,
+                                                           List<String> expectedSharedOrgIds) throws Exception {
+
+        try (MockedStatic<Utils> mockUtil = mockStatic(Utils.class)) {
+
+            mockUtil.when(Utils::isOracleDB).thenReturn(false);
+            mockUtil.when(Utils::isMSSqlDB).thenReturn(false);
+
+            String rootAppUUID = applicationDAO.getApplication(SAMPLE_APP_4, SUPER_TENANT_DOMAIN_NAME)
+                    .getApplicationResourceId();
+            List<SharedApplicationDO> sharedApplications = orgApplicationMgtDAO.getSharedApplications(
+                    ROOT_ORG_ID, rootAppUUID, Collections.emptyList(), sortOrder, limit);
+
+            Assert.assertNotNull(sharedApplications);
+            Assert.assertEquals(sharedApplications.stream().map(SharedApplicationDO::getOrganizationId)
+                    .collect(Collectors.toList()), expectedSharedOrgIds);
+        }
+    }
+
     @Test(description = "Test the correct discoverable apps list for logged in user",
             dependsOnMethods = {"testGetFilteredSharedApplications"})
     public void testDiscoverableAppsList()
@@ -305,6 +362,259 @@ public class OrgApplicationMgtDAOImplTest {
                 ROOT_ORG_ID), 1);
     }
 
+    @Test(description = "Test adding the shared applications of an application in a single batch")
+    public void testAddSharedApplications() throws Exception {
+
+        String mainAppId = createApplication(SAMPLE_APP_5, SUPER_TENANT_DOMAIN_NAME);
+        List<SharedApplicationDO> sharedApplications = Arrays.asList(
+                new SharedApplicationDO(SHARED_ORG_ID_1, createApplication(SAMPLE_APP_5, TENANT_DOMAIN_OF_ORG_ID_1)),
+                new SharedApplicationDO(SHARED_ORG_ID_2, createApplication(SAMPLE_APP_5, TENANT_DOMAIN_OF_ORG_ID_2)));
+
+        orgApplicationMgtDAO.addSharedApplications(mainAppId, ROOT_ORG_ID, sharedApplications);
+
+        List<SharedApplicationDO> addedSharedApplications =
+                orgApplicationMgtDAO.getSharedApplications(ROOT_ORG_ID, mainAppId);
+        assertEquals(addedSharedApplications.size(), 2);
+        for (SharedApplicationDO sharedApplication : sharedApplications) {
+            Optional<String> sharedAppId = orgApplicationMgtDAO.getSharedApplicationResourceId(mainAppId,
+                    ROOT_ORG_ID, sharedApplication.getOrganizationId());
+            Assert.assertTrue(sharedAppId.isPresent());
+            assertEquals(sharedAppId.get(), sharedApplication.getFragmentApplicationId());
+        }
+    }
+
+    @Test(description = "Test persisting buffered shared applications when an entry of the batch cannot be persisted")
+    public void testSharedApplicationLinkBufferWithFailedEntry() throws Exception {
+
+        String mainAppId = createApplication(SAMPLE_APP_6, SUPER_TENANT_DOMAIN_NAME);
+        String sharedAppId = createApplication(SAMPLE_APP_6, TENANT_DOMAIN_OF_ORG_ID_1);
+        List<String> failedOrgIds = new ArrayList<>();
+        SharedApplicationLinkBuffer.LinkFailureHandler linkFailureHandler =
+                (sharedApplication, error) -> failedOrgIds.add(sharedApplication.getOrganizationId());
+        SharedApplicationLinkBuffer linkBuffer = new SharedApplicationLinkBuffer(mainAppId, ROOT_ORG_ID,
+                orgApplicationMgtDAO, linkFailureHandler, 10);
+
+        List<String> completedOrgIds = new ArrayList<>();
+        linkBuffer.add(SHARED_ORG_ID_1, sharedAppId, () -> completedOrgIds.add(SHARED_ORG_ID_1));
+        // The shared application does not exist, hence the entry violates the foreign key constraint.
+        linkBuffer.add(SHARED_ORG_ID_2, UUID.randomUUID().toString(), () -> completedOrgIds.add(SHARED_ORG_ID_2));
+        Assert.assertTrue(linkBuffer.isPending(SHARED_ORG_ID_1));
+        assertEquals(orgApplicationMgtDAO.getSharedApplications(ROOT_ORG_ID, mainAppId).size(), 0);
+        // The steps of the shares which depend on the entries are not run before the entries are persisted.
+        Assert.assertTrue(completedOrgIds.isEmpty());
+
+        linkBuffer.close();
+
+        Assert.assertFalse(linkBuffer.isPending(SHARED_ORG_ID_1));
+        assertEquals(failedOrgIds, Collections.singletonList(SHARED_ORG_ID_2));
+        // Only the share whose entry was persisted is completed.
+        assertEquals(completedOrgIds, Collections.singletonList(SHARED_ORG_ID_1));
+        List<SharedApplicationDO> addedSharedApplications =
+                orgApplicationMgtDAO.getSharedApplications(ROOT_ORG_ID, mainAppId);
+        assertEquals(addedSharedApplications.size(), 1);
+        assertEquals(addedSharedApplications.get(0).getFragmentApplicationId(), sharedAppId);
+    }
+
+    @Test(description = "Test that no share is completed when none of the buffered shared applications is persisted")
+    public void testSharedApplicationLinkBufferWhenFlushFails() throws Exception {
+
+        String mainAppId = createApplication(SAMPLE_APP_8, SUPER_TENANT_DOMAIN_NAME);
+        List<String> failedOrgIds = new ArrayList<>();
+        List<String> completedOrgIds = new ArrayList<>();
+        SharedApplicationLinkBuffer linkBuffer = new SharedApplicationLinkBuffer(mainAppId, ROOT_ORG_ID,
+                orgApplicationMgtDAO, (sharedApplication, error) ->
+                failedOrgIds.add(sharedApplication.getOrganizationId()), 2);
+
+        // Neither of the shared applications exists, hence the batch, and then each entry, fails to be persisted.
+        linkBuffer.add(SHARED_ORG_ID_1, UUID.randomUUID().toString(), () -> completedOrgIds.add(SHARED_ORG_ID_1));
+        linkBuffer.add(SHARED_ORG_ID_2, UUID.randomUUID().toString(), () -> completedOrgIds.add(SHARED_ORG_ID_2));
+
+        Assert.assertFalse(linkBuffer.isPending(SHARED_ORG_ID_1));
+        Assert.assertFalse(linkBuffer.isPending(SHARED_ORG_ID_2));
+        assertEquals(failedOrgIds, Arrays.asList(SHARED_ORG_ID_1, SHARED_ORG_ID_2));
+        Assert.assertTrue(completedOrgIds.isEmpty());
+        assertEquals(orgApplicationMgtDAO.getSharedApplications(ROOT_ORG_ID, mainAppId).size(), 0);
+        linkBuffer.close();
+        Assert.assertTrue(completedOrgIds.isEmpty());
+    }
+
+    @Test
+    public void testApplicationShareJobLifecycle() throws Exception {
+
+        String mainAppId = createApplication(SAMPLE_APP_7, SUPER_TENANT_DOMAIN_NAME);
+        String operationId = UUID.randomUUID().toString();
+        ApplicationShareRolePolicy roleSharing = new ApplicationShareRolePolicy.Builder()
+                .mode(ApplicationShareRolePolicy.Mode.SELECTED)
+                .roleWithAudienceDOList(Collections.singletonList(new RoleWithAudienceDO("admin", SAMPLE_APP_7,
+                        RoleWithAudienceDO.AudienceType.APPLICATION)))
+                .build();
+        orgApplicationMgtDAO.addApplicationShareJob(new ApplicationShareJobDO(operationId, mainAppId, ROOT_ORG_ID,
+                "ALL_EXISTING_ORGS_ONLY", roleSharing, USER_ID, 1000L));
+
+        // A checkpoint based on an outdated last updated time must not succeed.
+        Assert.assertFalse(orgApplicationMgtDAO.checkpointApplicationShareJob(operationId, 999L, 2000L,
+                Collections.singletonList(SHARED_ORG_ID_2)));
+        Assert.assertTrue(orgApplicationMgtDAO.checkpointApplicationShareJob(operationId, 1000L, 2000L,
+                Collections.singletonList(SHARED_ORG_ID_1)));
+        assertEquals(orgApplicationMgtDAO.getCompletedApplicationShareJobOrganizations(operationId),
+                Collections.singleton(SHARED_ORG_ID_1));
+
+        Assert.assertTrue(orgApplicationMgtDAO.getStaleApplicationShareJobs(2000L).stream()
+                .noneMatch(job -> operationId.equals(job.getOperationId())));
+        ApplicationShareJobDO staleJob = orgApplicationMgtDAO.getStaleApplicationShareJobs(2001L).stream()
+                .filter(job -> operationId.equals(job.getOperationId())).findFirst().orElse(null);
+        Assert.assertNotNull(staleJob);
+        assertEquals(staleJob.getMainApplicationId(), mainAppId);
+        assertEquals(staleJob.getLastUpdated(), 2000L);
+        assertEquals(staleJob.getInitiatedUserId(), USER_ID);
+        assertEquals(staleJob.getRoleSharing().getMode(), ApplicationShareRolePolicy.Mode.SELECTED);
+        assertEquals(staleJob.getRoleSharing().getRoleWithAudienceDOList().size(), 1);
+        assertEquals(staleJob.getRoleSharing().getRoleWithAudienceDOList().get(0).getAudienceType(),
+                RoleWithAudienceDO.AudienceType.APPLICATION);
+
+        // A job can only be deleted with its current last updated time.
+        Assert.assertFalse(orgApplicationMgtDAO.deleteApplicationShareJob(operationId, 1000L));
+        Assert.assertTrue(orgApplicationMgtDAO.deleteApplicationShareJob(operationId, 2000L));
+        Assert.assertTrue(orgApplicationMgtDAO.getStaleApplicationShareJobs(Long.MAX_VALUE).stream()
+                .noneMatch(job -> operationId.equals(job.getOperationId())));
+        Assert.assertTrue(orgApplicationMgtDAO.getCompletedApplicationShareJobOrganizations(operationId).isEmpty());
+    }
+
+    @Test(description = "Test that only one of the nodes claiming the same stale job succeeds")
+    public void testApplicationShareJobClaimRace() throws Exception {
+
+        String mainAppId = createApplication(SAMPLE_APP_9, SUPER_TENANT_DOMAIN_NAME);
+        String operationId = UUID.randomUUID().toString();
+        orgApplicationMgtDAO.addApplicationShareJob(new ApplicationShareJobDO(operationId, mainAppId, ROOT_ORG_ID,
+                "ALL_EXISTING_ORGS_ONLY", new ApplicationShareRolePolicy.Builder()
+                .mode(ApplicationShareRolePolicy.Mode.ALL).build(), USER_ID, 1000L));
+
+        // Both nodes find the job stale with the same last updated time, and claim it with their own times.
+        ApplicationShareJobDO staleJobOfNode1 = getApplicationShareJob(operationId, 1001L);
+        ApplicationShareJobDO staleJobOfNode2 = getApplicationShareJob(operationId, 1001L);
+        Assert.assertTrue(orgApplicationMgtDAO.checkpointApplicationShareJob(operationId,
+                staleJobOfNode1.getLastUpdated(), 3000L, Collections.emptyList()));
+        Assert.assertFalse(orgApplicationMgtDAO.checkpointApplicationShareJob(operationId,
+                staleJobOfNode2.getLastUpdated(), 3001L, Collections.emptyList()));
+
+        // The node which lost the claim can neither checkpoint nor delete the job.
+        Assert.assertFalse(orgApplicationMgtDAO.checkpointApplicationShareJob(operationId, 1000L, 4000L,
+                Collections.singletonList(SHARED_ORG_ID_1)));
+        Assert.assertFalse(orgApplicationMgtDAO.deleteApplicationShareJob(operationId, 1000L));
+        assertEquals(getApplicationShareJob(operationId, 3001L).getLastUpdated(), 3000L);
+        Assert.assertTrue(orgApplicationMgtDAO.getCompletedApplicationShareJobOrganizations(operationId).isEmpty());
+        Assert.assertTrue(orgApplicationMgtDAO.deleteApplicationShareJob(operationId, 3000L));
+    }
+
+    @Test(description = "Test that a node stops running its job once the job is taken over by another node")
+    public void testApplicationShareJobStaleTakeover() throws Exception {
+
+        String mainAppId = createApplication(SAMPLE_APP_10, SUPER_TENANT_DOMAIN_NAME);
+        String operationId = UUID.randomUUID().toString();
+        orgApplicationMgtDAO.addApplicationShareJob(new ApplicationShareJobDO(operationId, mainAppId, ROOT_ORG_ID,
+                "ALL_EXISTING_ORGS_ONLY", new ApplicationShareRolePolicy.Builder()
+                .mode(ApplicationShareRolePolicy.Mode.ALL).build(), USER_ID, 1000L));
+        SharedApplicationLinkBuffer linkBuffer = new SharedApplicationLinkBuffer(mainAppId, ROOT_ORG_ID,
+                orgApplicationMgtDAO, (sharedApplication, error) -> { }, 10);
+        ApplicationShareJobCheckpointer checkpointer = new ApplicationShareJobCheckpointer(operationId, 1000L,
+                orgApplicationMgtDAO, linkBuffer, null, 1, TimeUnit.HOURS.toMillis(1));
+        try {
+            checkpointer.onShareCompleted(SHARED_ORG_ID_1);
+            Assert.assertFalse(checkpointer.isReleased());
+
+            // Another node takes over the job, e.g. as this node was paused for longer than the stale timeout.
+            ApplicationShareJobDO staleJob = getApplicationShareJob(operationId, Long.MAX_VALUE);
+            Assert.assertTrue(orgApplicationMgtDAO.checkpointApplicationShareJob(operationId,
+                    staleJob.getLastUpdated(), staleJob.getLastUpdated() + 1, Collections.emptyList()));
+
+            checkpointer.onShareCompleted(SHARED_ORG_ID_2);
+            Assert.assertTrue(checkpointer.isReleased());
+            // The job is not deleted by the node which lost it.
+            checkpointer.complete();
+            assertEquals(orgApplicationMgtDAO.getCompletedApplicationShareJobOrganizations(operationId),
+                    Collections.singleton(SHARED_ORG_ID_1));
+            Assert.assertTrue(orgApplicationMgtDAO.deleteApplicationShareJob(operationId,
+                    staleJob.getLastUpdated() + 1));
+        } finally {
+            checkpointer.close();
+            linkBuffer.close();
+        }
+    }
+
+    @Test(description = "Test that a share is only checkpointed once its shared application entry is persisted")
+    public void testApplicationShareJobCheckpointedOnLink() throws Exception {
+
+        String mainAppId = createApplication(SAMPLE_APP_11, SUPER_TENANT_DOMAIN_NAME);
+        String sharedAppId = createApplication(SAMPLE_APP_11, TENANT_DOMAIN_OF_ORG_ID_1);
+        String operationId = UUID.randomUUID().toString();
+        orgApplicationMgtDAO.addApplicationShareJob(new ApplicationShareJobDO(operationId, mainAppId, ROOT_ORG_ID,
+                "ALL_EXISTING_ORGS_ONLY", new ApplicationShareRolePolicy.Builder()
+                .mode(ApplicationShareRolePolicy.Mode.ALL).build(), USER_ID, 1000L));
+        SharedApplicationLinkBuffer linkBuffer = new SharedApplicationLinkBuffer(mainAppId, ROOT_ORG_ID,
+                orgApplicationMgtDAO, (sharedApplication, error) -> { }, 10);
+        ApplicationShareJobCheckpointer checkpointer = new ApplicationShareJobCheckpointer(operationId, 1000L,
+                orgApplicationMgtDAO, linkBuffer, null, 1, TimeUnit.HOURS.toMillis(1));
+        try {
+            linkBuffer.add(SHARED_ORG_ID_1, sharedAppId, () -> checkpointer.onShareCompleted(SHARED_ORG_ID_1));
+            // The shared application does not exist, hence the entry is not persisted and the share is not recorded.
+            linkBuffer.add(SHARED_ORG_ID_2, UUID.randomUUID().toString(),
+                    () -> checkpointer.onShareCompleted(SHARED_ORG_ID_2));
+            Assert.assertTrue(orgApplicationMgtDAO.getCompletedApplicationShareJobOrganizations(operationId)
+                    .isEmpty());
+
+            // The checkpoint flushes the buffered entries, and records the share whose entry was persisted.
+            checkpointer.checkpoint();
+            assertEquals(orgApplicationMgtDAO.getCompletedApplicationShareJobOrganizations(operationId),
+                    Collections.singleton(SHARED_ORG_ID_1));
+            Assert.assertFalse(checkpointer.isReleased());
+        } finally {
+            checkpointer.close();
+            linkBuffer.close();
+            orgApplicationMgtDAO.deleteApplicationShareJob(operationId,
+                    getApplicationShareJob(operationId, Long.MAX_VALUE).getLastUpdated());
+        }
+    }
+
+    @Test(description = "Test that a job is checkpointed at the heartbeat interval while no share is completed")
+    public void testApplicationShareJobHeartbeat() throws Exception {
+
+        OrgApplicationMgtDAO mockedOrgApplicationMgtDAO = mock(OrgApplicationMgtDAO.class);
+        when(mockedOrgApplicationMgtDAO.checkpointApplicationShareJob(eq("heartbeat-operation-id"), anyLong(),
+                anyLong(), anyList())).thenReturn(true);
+        ScheduledExecutorService heartbeatExecutor = ApplicationShareJobCheckpointer.createHeartbeatExecutor();
+        ApplicationShareJobCheckpointer checkpointer = new ApplicationShareJobCheckpointer("heartbeat-operation-id",
+                System.currentTimeMillis(), mockedOrgApplicationMgtDAO, mock(SharedApplicationLinkBuffer.class),
+                heartbeatExecutor, 10, 50L);
+        try {
+            verify(mockedOrgApplicationMgtDAO, timeout(5000).atLeast(2)).checkpointApplicationShareJob(
+                    eq("heartbeat-operation-id"), anyLong(), anyLong(), anyList());
+            Assert.assertFalse(checkpointer.isReleased());
+        } finally {
+            checkpointer.close();
+            heartbeatExecutor.shutdownNow();
+        }
+    }
+
+    @Test(description = "Test that a node stops running its job when the overdue claim of the job cannot be renewed")
+    public void testApplicationShareJobOverdueClaimNotRenewed() throws Exception {
+
+        OrgApplicationMgtDAO mockedOrgApplicationMgtDAO = mock(OrgApplicationMgtDAO.class);
+        when(mockedOrgApplicationMgtDAO.checkpointApplicationShareJob(eq("overdue-operation-id"), anyLong(),
+                anyLong(), anyList())).thenThrow(OrganizationManagementException.class);
+        long heartbeatIntervalMillis = TimeUnit.MINUTES.toMillis(1);
+        // The last heartbeat is older than twice the heartbeat interval, e.g. due to a long pause of the node.
+        ApplicationShareJobCheckpointer checkpointer = new ApplicationShareJobCheckpointer("overdue-operation-id",
+                System.currentTimeMillis() - 3 * heartbeatIntervalMillis, mockedOrgApplicationMgtDAO,
+                mock(SharedApplicationLinkBuffer.class), null, 10, heartbeatIntervalMillis);
+        try {
+            Assert.assertTrue(checkpointer.isReleased());
+            checkpointer.complete();
+            verify(mockedOrgApplicationMgtDAO, never()).deleteApplicationShareJob(anyString(), anyLong());
+        } finally {
+            checkpointer.close();
+        }
+    }
+
     /**
      * Get a new DiscoverableGroup object.
      *
@@ -352,6 +662,30 @@ public class OrgApplicationMgtDAOImplTest {
         }
     }
 
+    /**
+     * Create an application in the given tenant domain.
+     *
+     * @param appName      Application name.
+     * @param tenantDomain Tenant domain of the application.
+     * @return Resource ID of the created application.
+     */
+    private ApplicationShareJobDO getApplicationShareJob(String operationId, long updatedBefore)
+            throws OrganizationManagementException {
+
+        return orgApplicationMgtDAO.getStaleApplicationShareJobs(updatedBefore).stream()
+                .filter(job -> operationId.equals(job.getOperationId())).findFirst().orElse(null);
+    }
+
+    private String createApplication(String appName, String tenantDomain)
+            throws IdentityApplicationManagementException {
+
+        ServiceProvider application = new ServiceProvider();
+        application.setApplicationName(appName);
+        application.setApplicationVersion("v1.0.0");
+        applicationDAO.createApplication(application, tenantDomain);
+        return application.getApplicationResourceId();
+    }
+
     /**
      * Setup the configurations for the test.
      */
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.application.executor;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Unit tests for {@link SharedApplicationTokenRevocationExecutor}.
+ */
+public class SharedApplicationTokenRevocationExecutorTest {
+
+    private SharedApplicationTokenRevocationExecutor tokenRevocationExecutor;
+    private CountDownLatch releaseWorker;
+
+    @BeforeMethod
+    public void setUp() {
+
+        tokenRevocationExecutor = new SharedApplicationTokenRevocationExecutor(1, 1);
+        releaseWorker = new CountDownLatch(1);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        releaseWorker.countDown();
+        tokenRevocationExecutor.shutdown();
+    }
+
+    @Test
+    public void testRevocationRunsOnSubmittingThreadWhenQueueIsFull() throws Exception {
+
+        CountDownLatch workerStarted = new CountDownLatch(1);
+        CompletableFuture<Void> runningRevocation = tokenRevocationExecutor.runAsync(() -> {
+            workerStarted.countDown();
+            awaitRelease();
+        });
+        Assert.assertTrue(workerStarted.await(5, TimeUnit.SECONDS));
+        AtomicReference<Thread> queuedRevocationThread = new AtomicReference<>();
+        CompletableFuture<Void> queuedRevocation =
+                tokenRevocationExecutor.runAsync(() -> queuedRevocationThread.set(Thread.currentThread()));
+
+        // The only thread is busy and the queue is full, hence the submitting thread runs the revocation itself.
+        AtomicReference<Thread> overflowRevocationThread = new AtomicReference<>();
+        CompletableFuture<Void> overflowRevocation =
+                tokenRevocationExecutor.runAsync(() -> overflowRevocationThread.set(Thread.currentThread()));
+
+        Assert.assertTrue(overflowRevocation.isDone());
+        Assert.assertSame(overflowRevocationThread.get(), Thread.currentThread());
+        Assert.assertFalse(queuedRevocation.isDone());
+
+        releaseWorker.countDown();
+        runningRevocation.get(5, TimeUnit.SECONDS);
+        queuedRevocation.get(5, TimeUnit.SECONDS);
+        Assert.assertNotSame(queuedRevocationThread.get(), Thread.currentThread());
+    }
+
+    @Test
+    public void testRevocationIsRejectedAfterShutdown() throws Exception {
+
+        tokenRevocationExecutor.shutdown();
+        AtomicReference<Thread> revocationThread = new AtomicReference<>();
+
+        CompletableFuture<Void> revocation =
+                tokenRevocationExecutor.runAsync(() -> revocationThread.set(Thread.currentThread()));
+
+        Assert.assertTrue(revocation.isCompletedExceptionally());
+        Assert.assertNull(revocationThread.get());
+        try {
+            revocation.get();
+            Assert.fail("A revocation submitted after the shutdown should not run.");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+    }
+
+    @Test
+    public void testNewExecutorAcceptsRevocationsAfterPreviousIsShutDown() throws Exception {
+
+        tokenRevocationExecutor.shutdown();
+        // A reactivated component creates a new executor instead of reusing the one shut down on deactivation.
+        tokenRevocationExecutor = new SharedApplicationTokenRevocationExecutor(1, 1);
+        CountDownLatch revoked = new CountDownLatch(1);
+
+        tokenRevocationExecutor.runAsync(revoked::countDown).get(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals(revoked.getCount(), 0);
+    }
+
+    private void awaitRelease() {
+
+        try {
+            releaseWorker.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.application.executor;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.constants.OperationStatus;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.models.UnitOperationInitDTO;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for {@link UnitOperationStatusRecorder}.
+ */
+public class UnitOperationStatusRecorderTest {
+
+    private static final String OPERATION_ID = "operation-id";
+    private static final String MAIN_APP_ID = "main-app-id";
+
+    private final Queue<UnitOperationInitDTO> writtenUnitOperations = new ConcurrentLinkedQueue<>();
+    private UnitOperationStatusRecorder unitOperationStatusRecorder;
+
+    @AfterMethod
+    public void tearDown() {
+
+        if (unitOperationStatusRecorder != null) {
+            unitOperationStatusRecorder.shutdown();
+        }
+        writtenUnitOperations.clear();
+    }
+
+    @Test
+    public void testConcurrentRecordsArePersistedOnce() throws Exception {
+
+        unitOperationStatusRecorder = new UnitOperationStatusRecorder(writtenUnitOperations::add, 10,
+                TimeUnit.MINUTES.toMillis(1));
+        unitOperationStatusRecorder.startOperation(OPERATION_ID);
+        int threadCount = 8;
+        int recordsPerThread = 250;
+        ExecutorService recordingThreads = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startRecording = new CountDownLatch(1);
+        List<Future<List<UnitOperationInitDTO>>> recordings = new ArrayList<>();
+        try {
+            for (int i = 0; i < threadCount; i++) {
+                int threadIndex = i;
+                recordings.add(recordingThreads.submit(() -> {
+                    startRecording.await();
+                    List<UnitOperationInitDTO> recordedUnitOperations = new ArrayList<>();
+                    for (int j = 0; j < recordsPerThread; j++) {
+                        UnitOperationInitDTO unitOperation = createUnitOperation("org-" + threadIndex + "-" + j);
+                        unitOperationStatusRecorder.record(OPERATION_ID, unitOperation, OperationStatus.SUCCESS);
+                        recordedUnitOperations.add(unitOperation);
+                    }
+                    return recordedUnitOperations;
+                }));
+            }
+            startRecording.countDown();
+            Set<UnitOperationInitDTO> recordedUnitOperations = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Future<List<UnitOperationInitDTO>> recording : recordings) {
+                recordedUnitOperations.addAll(recording.get(10, TimeUnit.SECONDS));
+            }
+
+            Assert.assertEquals(unitOperationStatusRecorder.completeOperation(OPERATION_ID), OperationStatus.SUCCESS);
+
+            // Every recorded status is persisted exactly once, whether by a threshold flush or by the completion.
+            Set<UnitOperationInitDTO> distinctWrittenUnitOperations =
+                    Collections.newSetFromMap(new IdentityHashMap<>());
+            distinctWrittenUnitOperations.addAll(writtenUnitOperations);
+            Assert.assertEquals(writtenUnitOperations.size(), threadCount * recordsPerThread);
+            Assert.assertEquals(distinctWrittenUnitOperations, recordedUnitOperations);
+        } finally {
+            recordingThreads.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testBufferedStatusesAreFlushedOnInterval() throws Exception {
+
+        unitOperationStatusRecorder = new UnitOperationStatusRecorder(writtenUnitOperations::add, 1000, 50);
+        unitOperationStatusRecorder.startOperation(OPERATION_ID);
+
+        unitOperationStatusRecorder.record(OPERATION_ID, createUnitOperation("org-1"), OperationStatus.SUCCESS);
+        unitOperationStatusRecorder.record(OPERATION_ID, createUnitOperation("org-2"), OperationStatus.SUCCESS);
+
+        // The operation is still running and the threshold is not reached, hence only the timer flushes them.
+        waitForWrittenUnitOperations(2);
+        Assert.assertEquals(unitOperationStatusRecorder.completeOperation(OPERATION_ID), OperationStatus.SUCCESS);
+        Assert.assertEquals(writtenUnitOperations.size(), 2);
+    }
+
+    @Test
+    public void testBufferedStatusesAreFlushedOnThreshold() throws Exception {
+
+        unitOperationStatusRecorder = new UnitOperationStatusRecorder(writtenUnitOperations::add, 2,
+                TimeUnit.MINUTES.toMillis(1));
+        unitOperationStatusRecorder.startOperation(OPERATION_ID);
+
+        unitOperationStatusRecorder.record(OPERATION_ID, createUnitOperation("org-1"), OperationStatus.SUCCESS);
+        Assert.assertTrue(writtenUnitOperations.isEmpty());
+        unitOperationStatusRecorder.record(OPERATION_ID, createUnitOperation("org-2"), OperationStatus.SUCCESS);
+
+        waitForWrittenUnitOperations(2);
+    }
+
+    @Test
+    public void testStatusOfUnrecordedOperationIsPersistedRightAway() {
+
+        unitOperationStatusRecorder = new UnitOperationStatusRecorder(writtenUnitOperations::add, 1000,
+                TimeUnit.MINUTES.toMillis(1));
+
+        unitOperationStatusRecorder.record(OPERATION_ID, createUnitOperation("org-1"), OperationStatus.FAILED);
+
+        Assert.assertEquals(writtenUnitOperations.size(), 1);
+        Assert.assertNull(unitOperationStatusRecorder.completeOperation(OPERATION_ID));
+    }
+
+    @Test
+    public void testShutdownFlushesBufferedStatuses() {
+
+        unitOperationStatusRecorder = new UnitOperationStatusRecorder(writtenUnitOperations::add, 1000,
+                TimeUnit.MINUTES.toMillis(1));
+        unitOperationStatusRecorder.startOperation(OPERATION_ID);
+        unitOperationStatusRecorder.record(OPERATION_ID, createUnitOperation("org-1"), OperationStatus.SUCCESS);
+        unitOperationStatusRecorder.record(OPERATION_ID, createUnitOperation("org-2"), OperationStatus.SUCCESS);
+
+        unitOperationStatusRecorder.shutdown();
+
+        Assert.assertEquals(writtenUnitOperations.size(), 2);
+        // Statuses recorded after the shutdown are persisted when the operation completes.
+        unitOperationStatusRecorder.record(OPERATION_ID, createUnitOperation("org-3"), OperationStatus.SUCCESS);
+        Assert.assertEquals(unitOperationStatusRecorder.completeOperation(OPERATION_ID), OperationStatus.SUCCESS);
+        Assert.assertEquals(writtenUnitOperations.size(), 3);
+    }
+
+    private UnitOperationInitDTO createUnitOperation(String targetOrgId) {
+
+        return new UnitOperationInitDTO(OPERATION_ID, MAIN_APP_ID, targetOrgId, OperationStatus.SUCCESS, null);
+    }
+
+    private void waitForWrittenUnitOperations(int expectedCount) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+        while (writtenUnitOperations.size() < expectedCount && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(writtenUnitOperations.size(), expectedCount);
+    }
+}
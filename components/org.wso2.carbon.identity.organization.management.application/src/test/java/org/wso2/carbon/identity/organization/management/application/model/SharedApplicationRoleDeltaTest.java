@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.application.model;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.organization.management.application.model.operation.ApplicationShareUpdateOperation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for SharedApplicationRoleDelta.
+ */
+public class SharedApplicationRoleDeltaTest {
+
+    private static final RoleWithAudienceDO ADMIN_ROLE = new RoleWithAudienceDO("admin", "test-app",
+            RoleWithAudienceDO.AudienceType.APPLICATION);
+    private static final RoleWithAudienceDO VIEWER_ROLE = new RoleWithAudienceDO("viewer", "test-app",
+            RoleWithAudienceDO.AudienceType.APPLICATION);
+
+    @Test
+    public void testAddThenRemove() {
+
+        SharedApplicationRoleDelta roleDelta = new SharedApplicationRoleDelta();
+        roleDelta.apply(ApplicationShareUpdateOperation.Operation.ADD, Collections.singletonList(ADMIN_ROLE));
+        roleDelta.apply(ApplicationShareUpdateOperation.Operation.REMOVE, Collections.singletonList(ADMIN_ROLE));
+
+        assertTrue(roleDelta.getAddedRoles().isEmpty());
+        assertEquals(roleDelta.getRemovedRoles(), Collections.singletonList(ADMIN_ROLE));
+
+        // The removal of a role the shared application does not have is dropped.
+        roleDelta.retainEffectiveChanges(Collections.emptySet());
+        assertTrue(roleDelta.isEmpty());
+    }
+
+    @Test
+    public void testRemoveThenAdd() {
+
+        SharedApplicationRoleDelta roleDelta = new SharedApplicationRoleDelta();
+        roleDelta.apply(ApplicationShareUpdateOperation.Operation.REMOVE, Collections.singletonList(ADMIN_ROLE));
+        roleDelta.apply(ApplicationShareUpdateOperation.Operation.ADD, Collections.singletonList(ADMIN_ROLE));
+
+        assertEquals(roleDelta.getAddedRoles(), Collections.singletonList(ADMIN_ROLE));
+        assertTrue(roleDelta.getRemovedRoles().isEmpty());
+
+        // The addition of a role the shared application already has is dropped.
+        roleDelta.retainEffectiveChanges(Collections.singleton(ADMIN_ROLE.getRoleName()));
+        assertTrue(roleDelta.isEmpty());
+    }
+
+    @Test
+    public void testRetainEffectiveChangesWithExistingRoles() {
+
+        SharedApplicationRoleDelta roleDelta = new SharedApplicationRoleDelta();
+        roleDelta.apply(ApplicationShareUpdateOperation.Operation.ADD, Arrays.asList(ADMIN_ROLE, VIEWER_ROLE));
+
+        // Only the role the shared application does not have yet is added.
+        roleDelta.retainEffectiveChanges(new HashSet<>(Collections.singletonList(ADMIN_ROLE.getRoleName())));
+        assertEquals(roleDelta.getAddedRoles(), Collections.singletonList(VIEWER_ROLE));
+        assertTrue(roleDelta.getRemovedRoles().isEmpty());
+
+        roleDelta = new SharedApplicationRoleDelta();
+        roleDelta.apply(ApplicationShareUpdateOperation.Operation.REMOVE, Arrays.asList(ADMIN_ROLE, VIEWER_ROLE));
+
+        // Only the role the shared application has is removed.
+        roleDelta.retainEffectiveChanges(new HashSet<>(Collections.singletonList(ADMIN_ROLE.getRoleName())));
+        assertTrue(roleDelta.getAddedRoles().isEmpty());
+        assertEquals(roleDelta.getRemovedRoles(), Collections.singletonList(ADMIN_ROLE));
+    }
+
+    @Test
+    public void testApplyNullRoles() {
+
+        SharedApplicationRoleDelta roleDelta = new SharedApplicationRoleDelta();
+        roleDelta.apply(ApplicationShareUpdateOperation.Operation.ADD, null);
+
+        assertTrue(roleDelta.isEmpty());
+    }
+}
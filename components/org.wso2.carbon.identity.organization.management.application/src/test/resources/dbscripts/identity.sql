@@ -1101,6 +1101,33 @@ CREATE TABLE IF NOT EXISTS SP_SHARED_APP (
     UNIQUE (SHARED_APP_ID)
 );
 
+CREATE TABLE IF NOT EXISTS SP_SHARED_APP_JOB (
+    OPERATION_ID VARCHAR(255) NOT NULL,
+    MAIN_APP_ID CHAR(36) NOT NULL,
+    OWNER_ORG_ID CHAR(36) NOT NULL,
+    SHARE_POLICY VARCHAR(255) NOT NULL,
+    ROLE_SHARING_MODE VARCHAR(255) NOT NULL,
+    INITIATED_USER_ID VARCHAR(255),
+    LAST_UPDATED BIGINT NOT NULL,
+    PRIMARY KEY (OPERATION_ID),
+    FOREIGN KEY (MAIN_APP_ID) REFERENCES SP_APP(UUID) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS SP_SHARED_APP_JOB_ROLE (
+    OPERATION_ID VARCHAR(255) NOT NULL,
+    ROLE_NAME VARCHAR(255) NOT NULL,
+    AUDIENCE_NAME VARCHAR(255) NOT NULL,
+    AUDIENCE_TYPE VARCHAR(255) NOT NULL,
+    FOREIGN KEY (OPERATION_ID) REFERENCES SP_SHARED_APP_JOB(OPERATION_ID) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS SP_SHARED_APP_JOB_ORG (
+    OPERATION_ID VARCHAR(255) NOT NULL,
+    ORG_ID CHAR(36) NOT NULL,
+    PRIMARY KEY (OPERATION_ID, ORG_ID),
+    FOREIGN KEY (OPERATION_ID) REFERENCES SP_SHARED_APP_JOB(OPERATION_ID) ON DELETE CASCADE
+);
+
 CREATE TABLE IF NOT EXISTS API_RESOURCE (
     ID VARCHAR(255) NOT NULL PRIMARY KEY,
     CURSOR_KEY INTEGER NOT NULL AUTO_INCREMENT,
@@ -231,6 +231,19 @@ public interface OrganizationUserSharingService {
         throw new NotImplementedException("getRolesSharedWithUserInOrganization method is not implemented.");
     }
 
+    /**
+     * Creates the given associations between the shared users and the actual users in the shared organizations, in
+     * bulk. The shared users should already exist in the shared organizations.
+     *
+     * @param userAssociations The user associations to be created.
+     * @throws OrganizationManagementServerException If an error occurs while creating the user associations.
+     */
+    default void createUserAssociations(List<UserAssociation> userAssociations)
+            throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("createUserAssociations method is not implemented.");
+    }
+
     /**
      * Get the user associations of the associated user in the given organizations.
      *
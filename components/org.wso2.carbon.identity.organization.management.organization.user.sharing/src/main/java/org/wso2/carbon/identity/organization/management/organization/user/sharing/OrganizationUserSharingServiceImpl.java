@@ -186,6 +186,13 @@ public class OrganizationUserSharingServiceImpl implements OrganizationUserShari
         return organizationUserSharingDAO.getUserAssociationsOfGivenUserOnGivenOrgs(associatedUserId, orgIds);
     }
 
+    @Override
+    public void createUserAssociations(List<UserAssociation> userAssociations)
+            throws OrganizationManagementServerException {
+
+        organizationUserSharingDAO.createOrganizationUserAssociations(userAssociations);
+    }
+
     @Override
     public void updateSharedTypeOfUserAssociation(int id, SharedType sharedType)
             throws OrganizationManagementServerException {
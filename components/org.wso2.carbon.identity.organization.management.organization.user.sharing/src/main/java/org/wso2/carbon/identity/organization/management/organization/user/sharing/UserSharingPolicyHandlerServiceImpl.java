@@ -41,6 +41,8 @@ import org.wso2.carbon.identity.organization.management.organization.user.sharin
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.exception.UserSharingMgtClientException;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.exception.UserSharingMgtException;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.exception.UserSharingMgtServerException;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.executor.UserShareTaskExecutor;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.executor.UserSharingJobScheduler;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.internal.OrganizationUserSharingDataHolder;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.BaseUserShare;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.GeneralUserShare;
@@ -61,10 +63,12 @@ import org.wso2.carbon.identity.organization.management.organization.user.sharin
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.dos.UserSharingResultDO;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.usercriteria.UserCriteriaType;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.usercriteria.UserIdList;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.usercriteria.UserIdStream;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.util.OrganizationSharedUserUtil;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementClientException;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+import org.wso2.carbon.identity.organization.management.service.model.OrganizationNode;
 import org.wso2.carbon.identity.organization.resource.sharing.policy.management.ResourceSharingPolicyHandlerService;
 import org.wso2.carbon.identity.organization.resource.sharing.policy.management.constant.OrganizationScope;
 import org.wso2.carbon.identity.organization.resource.sharing.policy.management.constant.PolicyEnum;
@@ -87,16 +91,19 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.API_REF_GET_SHARED_ROLES_OF_USER_IN_ORG;
@@ -104,6 +111,7 @@ import static org.wso2.carbon.identity.organization.management.organization.user
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.B2B_USER;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.B2B_USER_SHARE;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.CORRELATION_ID_MDC;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.DEFAULT_USER_ID_PAGE_SIZE;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.EXISTING_USER_UNSHARE_FAIL;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.EXISTING_USER_UNSHARE_SUCCESS;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_AUDIENCE_NAME_NULL;
@@ -125,9 +133,14 @@ import static org.wso2.carbon.identity.organization.management.organization.user
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_ROLE_NOT_FOUND;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_USER_CRITERIA_INVALID;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_USER_CRITERIA_MISSING;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_USER_ID_PAGE_NOT_ADVANCED;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_USER_SHARE;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_USER_SHARING_QUEUE_FULL;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_USER_STORE_MANAGER_NOT_RESOLVED;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_USER_UNSHARE;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_GENERAL_SHARE;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_PROPAGATE_GENERAL_SHARE;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_PROPAGATE_SELECTIVE_SHARE;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_SELECTIVE_SHARE;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.LOG_WARN_NON_RESIDENT_USER;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.LOG_WARN_SKIP_ORG_SHARE_MESSAGE;
@@ -136,7 +149,12 @@ import static org.wso2.carbon.identity.organization.management.organization.user
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ROLE_UPDATE_FAIL_FOR_NEW_SHARED_USER;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ROLE_UPDATE_SUCCESS_FOR_EXISTING_SHARED_USER;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.USER_IDS;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.USER_ID_PAGE_NOT_ADVANCED;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.USER_ID_PAGE_SHARE_FAIL;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.USER_ID_PAGE_SHARE_SUCCESS;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.USER_ID_PAGE_SIZE;
 import static org.wso2.carbon.identity.organization.management.service.util.Utils.getOrganizationId;
+import static org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.executor.TenantBoundedExecutor.readPositiveIntProperty;
 
 /**
  * Implementation of the user sharing policy handler service.
@@ -145,7 +163,6 @@ public class UserSharingPolicyHandlerServiceImpl implements UserSharingPolicyHan
 
     private static final Log LOG = LogFactory.getLog(UserSharingPolicyHandlerServiceImpl.class);
     private final UserIDResolver userIDResolver = new UserIDResolver();
-    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(5);
     private final ConcurrentMap<String, SubOperationStatusQueue> asyncOperationStatusList = new ConcurrentHashMap<>();
 
     @Override
@@ -171,17 +188,35 @@ public class UserSharingPolicyHandlerServiceImpl implements UserSharingPolicyHan
         Map<String, Object> threadLocalProperties = new HashMap<>(IdentityUtil.threadLocalProperties.get());
 
         // Run the sharing logic asynchronously.
-        CompletableFuture.runAsync(() -> {
+        submitUserSharingJob(sharingInitiatedTenantDomain, () -> {
                 restoreThreadLocalContext(sharingInitiatedTenantDomain, sharingInitiatedTenantId,
                         sharingInitiatedUsername, threadLocalProperties);
                 processSelectiveUserShare(userCriteria, validOrganizations, sharingInitiatedOrgId,
-                        sharingInitiatedUserId, getCorrelationId()); }, EXECUTOR)
+                        sharingInitiatedUserId, getCorrelationId()); })
                 .exceptionally(ex -> {
                     LOG.error("Error occurred during async user selective share processing.", ex);
                     return null;
                 });
     }
 
+    /**
+     * Queues the given user share or unshare job in the tenant-fair user sharing job scheduler.
+     *
+     * @param tenantDomain The domain of the tenant which initiated the job.
+     * @param job          The user share or unshare job.
+     * @return A future which completes once the job has run.
+     * @throws UserSharingMgtServerException If the job is rejected as the scheduler queue is full.
+     */
+    private CompletableFuture<Void> submitUserSharingJob(String tenantDomain, Runnable job)
+            throws UserSharingMgtServerException {
+
+        try {
+            return getUserSharingJobScheduler().submit(tenantDomain, job);
+        } catch (RejectedExecutionException e) {
+            throw new UserSharingMgtServerException(ERROR_CODE_USER_SHARING_QUEUE_FULL, e);
+        }
+    }
+
     private OperationStatus getOperationStatus(String operationId) {
 
         SubOperationStatusQueue list = asyncOperationStatusList.get(operationId);
@@ -227,11 +262,11 @@ public class UserSharingPolicyHandlerServiceImpl implements UserSharingPolicyHan
         Map<String, Object> threadLocalProperties = new HashMap<>(IdentityUtil.threadLocalProperties.get());
 
         // Run the sharing logic asynchronously.
-        CompletableFuture.runAsync(() -> {
+        submitUserSharingJob(sharingInitiatedTenantDomain, () -> {
                     restoreThreadLocalContext(sharingInitiatedTenantDomain, sharingInitiatedTenantId,
                             sharingInitiatedUsername, threadLocalProperties);
                     processGeneralUserShare(userCriteria, policy, roleIds, sharingInitiatedOrgId,
-                            sharingInitiatedUserId, getCorrelationId()); }, EXECUTOR)
+                            sharingInitiatedUserId, getCorrelationId()); })
                 .exceptionally(ex -> {
                     LOG.error("Error occurred during async general user share processing.", ex);
                     return null;
@@ -258,11 +293,11 @@ public class UserSharingPolicyHandlerServiceImpl implements UserSharingPolicyHan
         Map<String, Object> threadLocalProperties = new HashMap<>(IdentityUtil.threadLocalProperties.get());
 
         // Run the unsharing logic asynchronously.
-        CompletableFuture.runAsync(() -> {
+        submitUserSharingJob(sharingInitiatedTenantDomain, () -> {
                     restoreThreadLocalContext(sharingInitiatedTenantDomain, sharingInitiatedTenantId,
                             sharingInitiatedUsername, threadLocalProperties);
                     processSelectiveUserUnshare(userCriteria, organizations, sharingInitiatedOrgId);
-                }, EXECUTOR)
+                })
                 .exceptionally(ex -> {
                     LOG.error("Error occurred during async user selective unshare processing.", ex);
                     return null;
@@ -287,11 +322,11 @@ public class UserSharingPolicyHandlerServiceImpl implements UserSharingPolicyHan
         Map<String, Object> threadLocalProperties = new HashMap<>(IdentityUtil.threadLocalProperties.get());
 
         // Run the unsharing logic asynchronously.
-        CompletableFuture.runAsync(() -> {
+        submitUserSharingJob(sharingInitiatedTenantDomain, () -> {
                     restoreThreadLocalContext(sharingInitiatedTenantDomain, sharingInitiatedTenantId,
                             sharingInitiatedUsername, threadLocalProperties);
                     processGeneralUserUnshare(userCriteria, sharingInitiatedOrgId);
-                }, EXECUTOR)
+                })
                 .exceptionally(ex -> {
                     LOG.error("Error occurred during async general user unshare processing.", ex);
                     return null;
@@ -400,8 +435,8 @@ public class UserSharingPolicyHandlerServiceImpl implements UserSharingPolicyHan
 
                 try {
                     if (USER_IDS.equals(criterionKey)) {
-                        if (criterionValues instanceof UserIdList) {
-                            selectiveUserShareByUserIds((UserIdList) criterionValues, organizations,
+                        if (criterionValues instanceof UserIdList || criterionValues instanceof UserIdStream) {
+                            selectiveUserShareByUserIds(criterionValues, organizations,
                                     sharingInitiatedOrgId, sharingInitiatedUserId, correlationId);
                         } else {
                             LOG.error("Invalid user criteria provided for selective user share: " + criterionKey);
@@ -443,8 +478,8 @@ public class UserSharingPolicyHandlerServiceImpl implements UserSharingPolicyHan
 
                 try {
                     if (USER_IDS.equals(criterionKey)) {
-                        if (criterionValues instanceof UserIdList) {
-                            generalUserShareByUserIds((UserIdList) criterionValues, policy, roleIds,
+                        if (criterionValues instanceof UserIdList || criterionValues instanceof UserIdStream) {
+                            generalUserShareByUserIds(criterionValues, policy, roleIds,
                                     sharingInitiatedOrgId, sharingInitiatedUserId, correlationId);
                         } else {
                             LOG.error("Invalid user criteria provided for general user share: " + criterionKey);
@@ -482,9 +517,9 @@ public class UserSharingPolicyHandlerServiceImpl implements UserSharingPolicyHan
 
                 try {
                     if (USER_IDS.equals(criterionKey)) {
-                        if (criterionValues instanceof UserIdList) {
-                            selectiveUserUnshareByUserIds((UserIdList) criterionValues, organizations,
-                                    sharingInitiatedOrgId);
+                        if (criterionValues instanceof UserIdList || criterionValues instanceof UserIdStream) {
+                            unshareUsersOfCriteria(criterionValues, userIds -> selectiveUserUnshareByUserIds(userIds,
+                                    organizations, sharingInitiatedOrgId));
                         } else {
                             LOG.error("Invalid user criteria provided for selective user unshare: " + criterionKey);
                         }
@@ -519,8 +554,9 @@ public class UserSharingPolicyHandlerServiceImpl implements UserSharingPolicyHan
 
                 try {
                     if (USER_IDS.equals(criterionKey)) {
-                        if (criterionValues instanceof UserIdList) {
-                            generalUserUnshareByUserIds((UserIdList) criterionValues, sharingInitiatedOrgId);
+                        if (criterionValues instanceof UserIdList || criterionValues instanceof UserIdStream) {
+                            unshareUsersOfCriteria(criterionValues, userIds -> generalUserUnshareByUserIds(userIds,
+                                    sharingInitiatedOrgId));
                         } else {
                             LOG.error("Invalid user criteria provided for general user unshare: " + criterionKey);
                         }
@@ -542,36 +578,60 @@ public class UserSharingPolicyHandlerServiceImpl implements UserSharingPolicyHan
     // User Sharing & Unsharing Helper Methods.
 
     /**
-     * Shares a user with selected organizations based on the provided user list and sharing policies.
-     * If the user is not a resident user in the initiating organization, the sharing is skipped.
-     * Each organization is processed with the appropriate role and policy before sharing.
+     * Shares the users with selected organizations based on the provided user list and sharing policies.
+     * The roles and the organizations to share with are resolved once for all the users, and each user is then shared
+     * in a separate task, in parallel with the other users.
      *
-     * @param userIds                The list of user IDs to be selectively shared.
+     * @param userIds                The user IDs to be selectively shared, as a {@link UserIdList} or a
+     *                               {@link UserIdStream}.
      * @param organizations          The list of organizations where the user should be shared.
      * @param sharingInitiatedOrgId  The ID of the organization that initiated the sharing.
      * @param sharingInitiatedUserId The ID of the user that initiated the user sharing.
      * @param correlationId          The correlation ID to track down the user sharing.
      */
-    private void selectiveUserShareByUserIds(UserIdList userIds, List<SelectiveUserShareOrgDetailsDO> organizations,
+    private void selectiveUserShareByUserIds(UserCriteriaType userIds,
+                                             List<SelectiveUserShareOrgDetailsDO> organizations,
                                              String sharingInitiatedOrgId, String sharingInitiatedUserId,
                                              String correlationId) throws UserSharingMgtException {
 
-        for (String associatedUserId : userIds.getIds()) {
+        List<List<String>> roleIdsOfOrganizations = new ArrayList<>();
+        List<List<String>> sharingOrgsOfOrganizations = new ArrayList<>();
+        try {
+            for (SelectiveUserShareOrgDetailsDO organization : organizations) {
+                roleIdsOfOrganizations.add(getRoleIds(organization.getRoles(), sharingInitiatedOrgId));
+                sharingOrgsOfOrganizations.add(extractOrgListBasedOnSharingPolicy(organization.getOrganizationId(),
+                        organization.getPolicy()));
+            }
+        } catch (OrganizationManagementException e) {
+            throw new UserSharingMgtServerException(ERROR_PROPAGATE_SELECTIVE_SHARE, e);
+        }
+        String policies = organizations.stream()
+                .map(organization -> organization.getPolicy().getValue())
+                .distinct()
+                .collect(Collectors.joining(","));
+        AbstractUserStoreManager userStoreManager = getUserStoreManagerOfOrganization(sharingInitiatedOrgId);
+        if (userStoreManager == null) {
+            throw handleUnresolvedUserStoreManager(policies, sharingInitiatedOrgId, sharingInitiatedUserId,
+                    correlationId);
+        }
+
+        UserShareTask userShareTask = associatedUserId -> {
             try {
-                if (isExistingUser(associatedUserId, sharingInitiatedOrgId) &&
-                        isResidentUserInOrg(associatedUserId, sharingInitiatedOrgId)) {
+                if (isExistingResidentUser(userStoreManager, associatedUserId)) {
 
-                    List<BaseUserShare> selectiveUserShareObjectsInRequest = new ArrayList<>();
-                    for (SelectiveUserShareOrgDetailsDO organization : organizations) {
+                    Map<BaseUserShare, List<String>> userSharingOrgsForEachUserShareObject = new LinkedHashMap<>();
+                    for (int i = 0; i < organizations.size(); i++) {
+                        SelectiveUserShareOrgDetailsDO organization = organizations.get(i);
                         SelectiveUserShare selectiveUserShare = new SelectiveUserShare.Builder()
                                 .withUserId(associatedUserId)
                                 .withOrganizationId(organization.getOrganizationId())
                                 .withPolicy(organization.getPolicy())
-                                .withRoles(getRoleIds(organization.getRoles(), sharingInitiatedOrgId))
+                                .withRoles(roleIdsOfOrganizations.get(i))
                                 .build();
-                        selectiveUserShareObjectsInRequest.add(selectiveUserShare);
+                        userSharingOrgsForEachUserShareObject.put(selectiveUserShare,
+                                sharingOrgsOfOrganizations.get(i));
                     }
-                    shareUser(associatedUserId, selectiveUserShareObjectsInRequest, sharingInitiatedOrgId,
+                    shareUser(associatedUserId, userSharingOrgsForEachUserShareObject, sharingInitiatedOrgId,
                             sharingInitiatedUserId, correlationId);
                 } else {
                     if (LOG.isDebugEnabled()) {
@@ -584,42 +644,257 @@ public class UserSharingPolicyHandlerServiceImpl implements UserSharingPolicyHan
                         String.format(ERROR_SELECTIVE_SHARE.getMessage(), associatedUserId, e.getMessage());
                 throw new UserSharingMgtServerException(ERROR_SELECTIVE_SHARE, errorMessage);
             }
-        }
+        };
+        shareUsersOfCriteria(userIds, userShareTask, policies, sharingInitiatedOrgId, sharingInitiatedUserId,
+                correlationId);
     }
 
     /**
-     * Shares a user with all applicable organizations based on the provided policy.
-     * If the user is not a resident user in the initiating organization, the sharing is skipped.
+     * Shares the users with all applicable organizations based on the provided policy.
+     * The organizations to share with are resolved once for all the users, and each user is then shared in a separate
+     * task, in parallel with the other users.
      *
-     * @param userIds                The list of user IDs to be shared.
+     * @param userIds                The user IDs to be shared, as a {@link UserIdList} or a {@link UserIdStream}.
      * @param policy                 The policy defining the scope of sharing.
      * @param roleIds                The list of role IDs to be assigned during sharing.
      * @param sharingInitiatedOrgId  The ID of the organization that initiated the sharing.
      * @param sharingInitiatedUserId The ID of the user that initiated the user sharing.
      * @param correlationId          The correlation ID to track down the user sharing.
      */
-    private void generalUserShareByUserIds(UserIdList userIds, PolicyEnum policy, List<String> roleIds,
-                                           String sharingInitiatedOrgId, String sharingInitiatedUserId,
-                                           String correlationId) throws UserSharingMgtException {
+    void generalUserShareByUserIds(UserCriteriaType userIds, PolicyEnum policy, List<String> roleIds,
+                                   String sharingInitiatedOrgId, String sharingInitiatedUserId,
+                                   String correlationId) throws UserSharingMgtException {
+
+        List<String> sharingOrgs;
+        try {
+            sharingOrgs = extractOrgListBasedOnSharingPolicy(sharingInitiatedOrgId, policy);
+        } catch (OrganizationManagementException e) {
+            throw new UserSharingMgtServerException(ERROR_PROPAGATE_GENERAL_SHARE, e);
+        }
+        AbstractUserStoreManager userStoreManager = getUserStoreManagerOfOrganization(sharingInitiatedOrgId);
+        if (userStoreManager == null) {
+            throw handleUnresolvedUserStoreManager(policy.getValue(), sharingInitiatedOrgId, sharingInitiatedUserId,
+                    correlationId);
+        }
 
-        for (String associatedUserId : userIds.getIds()) {
+        UserShareTask userShareTask = associatedUserId -> {
             try {
-                if (isExistingUser(associatedUserId, sharingInitiatedOrgId) &&
-                        isResidentUserInOrg(associatedUserId, sharingInitiatedOrgId)) {
+                if (isExistingResidentUser(userStoreManager, associatedUserId)) {
                     GeneralUserShare generalUserShare = new GeneralUserShare.Builder()
                             .withUserId(associatedUserId)
                             .withPolicy(policy)
                             .withRoles(roleIds)
                             .build();
-                    List<BaseUserShare> generalUserShareObjectsInRequest = Collections.singletonList(generalUserShare);
-                    shareUser(associatedUserId, generalUserShareObjectsInRequest, sharingInitiatedOrgId,
-                            sharingInitiatedUserId, correlationId);
+                    shareUser(associatedUserId, Collections.singletonMap(generalUserShare, sharingOrgs),
+                            sharingInitiatedOrgId, sharingInitiatedUserId, correlationId);
                 }
             } catch (OrganizationManagementException | IdentityRoleManagementException |
                      ResourceSharingPolicyMgtException e) {
                 String errorMessage = String.format(ERROR_GENERAL_SHARE.getMessage(), associatedUserId, e.getMessage());
                 throw new UserSharingMgtServerException(ERROR_GENERAL_SHARE, errorMessage);
             }
+        };
+        shareUsersOfCriteria(userIds, userShareTask, policy.getValue(), sharingInitiatedOrgId, sharingInitiatedUserId,
+                correlationId);
+    }
+
+    /**
+     * Shares the users of the given user criteria with the given share task. The users of a {@link UserIdList} are
+     * shared at once, while the users of a {@link UserIdStream} are read and shared page by page.
+     *
+     * @param userIds                The user IDs to be shared.
+     * @param userShareTask          The task which shares a single user.
+     * @param policy                 The sharing policy of the user share, used to register the stream operation.
+     * @param sharingInitiatedOrgId  The ID of the organization that initiated the sharing.
+     * @param sharingInitiatedUserId The ID of the user that initiated the user sharing.
+     * @param correlationId          The correlation ID to track down the user sharing.
+     * @throws UserSharingMgtException If sharing any of the users failed.
+     */
+    private void shareUsersOfCriteria(UserCriteriaType userIds, UserShareTask userShareTask, String policy,
+                                      String sharingInitiatedOrgId, String sharingInitiatedUserId,
+                                      String correlationId) throws UserSharingMgtException {
+
+        if (userIds instanceof UserIdStream) {
+            shareUsersOfStream((UserIdStream) userIds, userShareTask, policy, sharingInitiatedOrgId,
+                    sharingInitiatedUserId, correlationId);
+        } else {
+            shareUsersInParallel(((UserIdList) userIds).getIds(), userShareTask);
+        }
+    }
+
+    /**
+     * Reads the users of the given stream page by page and shares the users of each page in parallel, so that only a
+     * single page of user IDs is held in memory at a time. After each page, a checkpoint holding the last user ID of
+     * the page is recorded as a unit operation of the stream operation, which can be passed as the start of a
+     * {@link UserIdStream} to resume the share. A failure to share the users of a page does not stop the sharing of
+     * the following pages.
+     *
+     * @param userIdStream           The stream of user IDs to be shared.
+     * @param userShareTask          The task which shares a single user.
+     * @param policy                 The sharing policy of the user share.
+     * @param sharingInitiatedOrgId  The ID of the organization that initiated the sharing.
+     * @param sharingInitiatedUserId The ID of the user that initiated the user sharing.
+     * @param correlationId          The correlation ID to track down the user sharing.
+     * @throws UserSharingMgtException If reading the user IDs failed, if the page source did not advance past the last
+     *                                 user ID, or if sharing any of the users failed. The first failure to share the
+     *                                 users is thrown after all the pages are processed.
+     */
+    void shareUsersOfStream(UserIdStream userIdStream, UserShareTask userShareTask, String policy,
+                            String sharingInitiatedOrgId, String sharingInitiatedUserId,
+                            String correlationId) throws UserSharingMgtException {
+
+        int pageSize = readPositiveIntProperty(USER_ID_PAGE_SIZE,
+                DEFAULT_USER_ID_PAGE_SIZE);
+        String operationId = registerUserIdStreamOperationStatus(policy, sharingInitiatedOrgId,
+                sharingInitiatedUserId, correlationId);
+        UserSharingMgtException firstFailure = null;
+        String lastUserId = userIdStream.getStartAfter();
+        try {
+            while (true) {
+                List<String> userIds = userIdStream.getUserIdPageSource().getUserIds(lastUserId, pageSize);
+                if (CollectionUtils.isEmpty(userIds)) {
+                    break;
+                }
+                String pageLastUserId = userIds.get(userIds.size() - 1);
+                if (StringUtils.equals(pageLastUserId, lastUserId)) {
+                    // Reading the next page again from the same user ID would return the same page forever.
+                    registerUserIdStreamCheckpoint(operationId, lastUserId, sharingInitiatedOrgId,
+                            OperationStatus.FAILED, USER_ID_PAGE_NOT_ADVANCED);
+                    throw new UserSharingMgtServerException(ERROR_CODE_USER_ID_PAGE_NOT_ADVANCED,
+                            String.format(ERROR_CODE_USER_ID_PAGE_NOT_ADVANCED.getMessage(), lastUserId));
+                }
+                lastUserId = pageLastUserId;
+                try {
+                    shareUsersInParallel(userIds, userShareTask);
+                    registerUserIdStreamCheckpoint(operationId, lastUserId, sharingInitiatedOrgId,
+                            OperationStatus.SUCCESS, USER_ID_PAGE_SHARE_SUCCESS);
+                } catch (UserSharingMgtException e) {
+                    registerUserIdStreamCheckpoint(operationId, lastUserId, sharingInitiatedOrgId,
+                            OperationStatus.PARTIALLY_COMPLETED, USER_ID_PAGE_SHARE_FAIL + e.getMessage());
+                    if (firstFailure == null) {
+                        firstFailure = e;
+                    } else {
+                        LOG.error("Error occurred while sharing the users up to the checkpoint: " + lastUserId, e);
+                    }
+                }
+                if (userIds.size() < pageSize) {
+                    break;
+                }
+            }
+        } finally {
+            completeUserIdStreamOperationStatus(operationId);
+        }
+        if (firstFailure != null) {
+            throw firstFailure;
+        }
+    }
+
+    /**
+     * Runs the given share task for each of the given users on the user share task executor, and waits until all the
+     * users are processed. The organizations of a user are processed within the task of that user, so the
+     * parent-before-child order of the organizations is kept for each user. A failure to share a user does not stop
+     * the sharing of the other users.
+     *
+     * @param userIds       The list of user IDs to be shared.
+     * @param userShareTask The task which shares a single user.
+     * @throws UserSharingMgtException If sharing any of the users failed. The first failure is thrown.
+     */
+    void shareUsersInParallel(List<String> userIds, UserShareTask userShareTask)
+            throws UserSharingMgtException {
+
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        String tenantDomain = carbonContext.getTenantDomain();
+        int tenantId = carbonContext.getTenantId();
+        String username = carbonContext.getUsername();
+        Map<String, Object> threadLocalProperties = new HashMap<>(IdentityUtil.threadLocalProperties.get());
+
+        List<CompletableFuture<Void>> userShareFutures = new ArrayList<>(userIds.size());
+        for (String associatedUserId : userIds) {
+            userShareFutures.add(getUserShareTaskExecutor().runAsync(tenantDomain, () -> {
+                restoreThreadLocalContext(tenantDomain, tenantId, username, threadLocalProperties);
+                try {
+                    userShareTask.share(associatedUserId);
+                } catch (UserSharingMgtException e) {
+                    throw new CompletionException(e);
+                } finally {
+                    PrivilegedCarbonContext.endTenantFlow();
+                }
+            }));
+        }
+
+        Throwable firstFailure = null;
+        for (CompletableFuture<Void> userShareFuture : userShareFutures) {
+            try {
+                userShareFuture.join();
+            } catch (CompletionException e) {
+                Throwable failure = e.getCause() != null ? e.getCause() : e;
+                if (firstFailure == null) {
+                    firstFailure = failure;
+                } else {
+                    LOG.error("Error occurred while sharing a user in parallel.", failure);
+                }
+            }
+        }
+        if (firstFailure instanceof UserSharingMgtException) {
+            throw (UserSharingMgtException) firstFailure;
+        }
+        if (firstFailure instanceof RuntimeException) {
+            throw (RuntimeException) firstFailure;
+        }
+        if (firstFailure != null) {
+            throw new CompletionException(firstFailure);
+        }
+    }
+
+    /**
+     * Unshares the users of the given user criteria with the given unshare task. The users of a {@link UserIdList}
+     * are unshared at once, while the users of a {@link UserIdStream} are read and unshared page by page.
+     *
+     * @param userIds         The user IDs to be unshared.
+     * @param userUnshareTask The task which unshares a list of users.
+     * @throws UserSharingMgtException If unsharing the users failed.
+     */
+    private void unshareUsersOfCriteria(UserCriteriaType userIds, UserUnshareTask userUnshareTask)
+            throws UserSharingMgtException {
+
+        if (userIds instanceof UserIdStream) {
+            unshareUsersOfStream((UserIdStream) userIds, userUnshareTask);
+        } else {
+            userUnshareTask.unshare(((UserIdList) userIds).getIds());
+        }
+    }
+
+    /**
+     * Reads the users of the given stream page by page and unshares the users of each page, so that only a single page
+     * of user IDs is held in memory at a time. Unlike a share, no checkpoints are recorded, as unsharing the users of
+     * a page again does not change them.
+     *
+     * @param userIdStream    The stream of user IDs to be unshared.
+     * @param userUnshareTask The task which unshares the users of a page.
+     * @throws UserSharingMgtException If reading the user IDs failed, if the page source did not advance past the last
+     *                                 user ID, or if unsharing the users of a page failed.
+     */
+    void unshareUsersOfStream(UserIdStream userIdStream, UserUnshareTask userUnshareTask)
+            throws UserSharingMgtException {
+
+        int pageSize = readPositiveIntProperty(USER_ID_PAGE_SIZE, DEFAULT_USER_ID_PAGE_SIZE);
+        String lastUserId = userIdStream.getStartAfter();
+        while (true) {
+            List<String> userIds = userIdStream.getUserIdPageSource().getUserIds(lastUserId, pageSize);
+            if (CollectionUtils.isEmpty(userIds)) {
+                break;
+            }
+            String pageLastUserId = userIds.get(userIds.size() - 1);
+            if (StringUtils.equals(pageLastUserId, lastUserId)) {
+                // Reading the next page again from the same user ID would return the same page forever.
+                throw new UserSharingMgtServerException(ERROR_CODE_USER_ID_PAGE_NOT_ADVANCED,
+                        String.format(ERROR_CODE_USER_ID_PAGE_NOT_ADVANCED.getMessage(), lastUserId));
+            }
+            lastUserId = pageLastUserId;
+            userUnshareTask.unshare(userIds);
+            if (userIds.size() < pageSize) {
+                break;
+            }
         }
     }
 
@@ -631,11 +906,11 @@ public class UserSharingPolicyHandlerServiceImpl implements UserSharingPolicyHan
      * @param organizations           The list of organizations from which the user should be unshared.
      * @param unsharingInitiatedOrgId The ID of the organization that initiated the unsharing.
      */
-    private void selectiveUserUnshareByUserIds(UserIdList userIds, List<String> organizations,
+    private void selectiveUserUnshareByUserIds(List<String> userIds, List<String> organizations,
                                                String unsharingInitiatedOrgId)
             throws UserSharingMgtServerException {
 
-        for (String associatedUserId : userIds.getIds()) {
+        for (String associatedUserId : userIds) {
             try {
                 for (String organizationId : organizations) {
 
@@ -658,10 +933,10 @@ public class UserSharingPolicyHandlerServiceImpl implements UserSharingPolicyHan
      * @param userIds                 The list of user IDs to be unshared.
      * @param unsharingInitiatedOrgId The ID of the organization that initiated the unsharing.
      */
-    private void generalUserUnshareByUserIds(UserIdList userIds, String unsharingInitiatedOrgId)
+    private void generalUserUnshareByUserIds(List<String> userIds, String unsharingInitiatedOrgId)
             throws UserSharingMgtServerException {
 
-        for (String associatedUserId : userIds.getIds()) {
+        for (String associatedUserId : userIds) {
             try {
                 getOrganizationUserSharingService().unshareOrganizationUsers(associatedUserId, unsharingInitiatedOrgId);
 
@@ -678,25 +953,27 @@ public class UserSharingPolicyHandlerServiceImpl implements UserSharingPolicyHan
     /**
      * Shares a user with the specified organizations.
      *
-     * @param associatedUserId       The ID of the user to be shared.
-     * @param baseUserShareObjects   The list of user share objects containing sharing details.
-     * @param sharingInitiatedOrgId  The ID of the organization initiating the sharing.
-     * @param sharingInitiatedUserId The ID of the user that initiated the user sharing.
-     * @param correlationId          The correlation ID to track down the user sharing.
+     * @param associatedUserId                      The ID of the user to be shared.
+     * @param userSharingOrgsForEachUserShareObject A map containing user share objects and their corresponding
+     *                                              organizations, in the parent-before-child order.
+     * @param sharingInitiatedOrgId                 The ID of the organization initiating the sharing.
+     * @param sharingInitiatedUserId                The ID of the user that initiated the user sharing.
+     * @param correlationId                         The correlation ID to track down the user sharing.
      */
-    private void shareUser(String associatedUserId, List<BaseUserShare> baseUserShareObjects,
+    private void shareUser(String associatedUserId,
+                           Map<BaseUserShare, List<String>> userSharingOrgsForEachUserShareObject,
                            String sharingInitiatedOrgId, String sharingInitiatedUserId, String correlationId)
             throws OrganizationManagementException,
             UserSharingMgtException, IdentityRoleManagementException, ResourceSharingPolicyMgtException {
 
-        if (!baseUserShareObjects.isEmpty()) {
-            Map<BaseUserShare, List<String>> userSharingOrgsForEachUserShareObject =
-                    getUserSharingOrgsForEachUserShareObject(baseUserShareObjects, sharingInitiatedOrgId);
-
+        if (!userSharingOrgsForEachUserShareObject.isEmpty()) {
             try {
-                if (isUserAlreadyShared(associatedUserId, sharingInitiatedOrgId)) {
+                Map<String, UserAssociation> existingUserAssociations =
+                        getExistingUserAssociations(associatedUserId, sharingInitiatedOrgId);
+                if (!existingUserAssociations.isEmpty()) {
                     handleExistingSharedUser(associatedUserId, sharingInitiatedOrgId,
-                            userSharingOrgsForEachUserShareObject, sharingInitiatedUserId, correlationId);
+                            userSharingOrgsForEachUserShareObject, existingUserAssociations, sharingInitiatedUserId,
+                            correlationId);
                 } else {
                     createNewUserShare(sharingInitiatedOrgId, userSharingOrgsForEachUserShareObject,
                             sharingInitiatedUserId, correlationId);
@@ -745,15 +1022,18 @@ public class UserSharingPolicyHandlerServiceImpl implements UserSharingPolicyHan
      * @param sharingInitiatedOrgId                 The ID of the organization initiating the sharing.
      * @param userSharingOrgsForEachUserShareObject A map containing user share objects and their corresponding
      *                                              organizations.
+     * @param existingUserAssociations              The existing user associations of the user, by organization ID.
      * @param sharingInitiatedUserId                The ID of the user that initiated the user sharing.
      * @param correlationId                         The correlation ID to track down the user sharing.
      */
-    private void handleExistingSharedUser(String associatedUserId, String sharingInitiatedOrgId, Map<BaseUserShare,
-            List<String>> userSharingOrgsForEachUserShareObject, String sharingInitiatedUserId, String correlationId)
+    private void handleExistingSharedUser(String associatedUserId, String sharingInitiatedOrgId,
+                                          Map<BaseUserShare, List<String>> userSharingOrgsForEachUserShareObject,
+                                          Map<String, UserAssociation> existingUserAssociations,
+                                          String sharingInitiatedUserId, String correlationId)
             throws UserSharingMgtException, IdentityRoleManagementException, OrganizationManagementException,
             ResourceSharingPolicyMgtException, AsyncOperationStatusMgtException {
 
-        processUserSharingUpdates(userSharingOrgsForEachUserShareObject, associatedUserId,
+        processUserSharingUpdates(userSharingOrgsForEachUserShareObject, existingUserAssociations, associatedUserId,
                 sharingInitiatedOrgId, sharingInitiatedUserId, correlationId);
 
         updateResourceSharingPolicies(userSharingOrgsForEachUserShareObject.keySet(), associatedUserId,
@@ -762,25 +1042,28 @@ public class UserSharingPolicyHandlerServiceImpl implements UserSharingPolicyHan
 
     /**
      * Processes user sharing updates by updating existing associations, sharing with new organizations,
-     * and cleaning up old associations if necessary.
+     * and cleaning up old associations if necessary. The existing associations of the user are looked up from the
+     * given map, and the associations which are unshared are removed from it.
      *
-     * @param associatedUserId                      The ID of the user to be shared.
-     * @param sharingInitiatedOrgId                 The ID of the organization initiating the sharing.
      * @param userSharingOrgsForEachUserShareObject A map containing user share objects and their corresponding
      *                                              organizations.
+     * @param existingUserAssociations              The existing user associations of the user, by organization ID.
+     * @param associatedUserId                      The ID of the user to be shared.
+     * @param sharingInitiatedOrgId                 The ID of the organization initiating the sharing.
      * @param sharingInitiatedUserId                The ID of the user that initiated the user sharing.
      * @param correlationId                         The correlation ID to track down the user sharing.
      */
-    private void processUserSharingUpdates(Map<BaseUserShare, List<String>> userSharingOrgsForEachUserShareObject,
-                                           String associatedUserId, String sharingInitiatedOrgId,
-                                           String sharingInitiatedUserId, String correlationId)
+    void processUserSharingUpdates(Map<BaseUserShare, List<String>> userSharingOrgsForEachUserShareObject,
+                                   Map<String, UserAssociation> existingUserAssociations,
+                                   String associatedUserId, String sharingInitiatedOrgId,
+                                   String sharingInitiatedUserId, String correlationId)
             throws UserSharingMgtException, IdentityRoleManagementException, OrganizationManagementException,
             AsyncOperationStatusMgtException {
 
-        List<String> userSharingAllOrgs = userSharingOrgsForEachUserShareObject.values()
+        Set<String> userSharingAllOrgs = userSharingOrgsForEachUserShareObject.values()
                 .stream()
                 .flatMap(List::stream)
-                .collect(Collectors.toList());
+                .collect(Collectors.toSet());
 
         for (Map.Entry<BaseUserShare, List<String>> entry : userSharingOrgsForEachUserShareObject.entrySet()) {
 
@@ -788,15 +1071,17 @@ public class UserSharingPolicyHandlerServiceImpl implements UserSharingPolicyHan
                     correlationId);
             BaseUserShare baseUserShare = entry.getKey();
             List<String> userSharingOrgList = entry.getValue();
-            List<String> retainedSharedOrgs = new ArrayList<>();
-            List<UserAssociation> userAssociations =
-                    getUserAssociationsOfGivenUserOnOrgTree(baseUserShare, sharingInitiatedOrgId);
+            Set<String> userSharingOrgs = new HashSet<>(userSharingOrgList);
+            Set<String> retainedSharedOrgs = new HashSet<>();
+            List<UserAssociation> userAssociations = getUserAssociationsOfGivenUserOnOrgTree(baseUserShare,
+                    sharingInitiatedOrgId, existingUserAssociations);
 
             for (UserAssociation association : userAssociations) {
 
-                if (!userSharingOrgList.contains(association.getOrganizationId())) {
+                if (!userSharingOrgs.contains(association.getOrganizationId())) {
                     try {
                         unshareUserFromPreviousOrg(association, sharingInitiatedOrgId);
+                        existingUserAssociations.remove(association.getOrganizationId());
                         registerOperationStatusUnit(operationId, association.getUserId(), sharingInitiatedOrgId,
                                 OperationStatus.SUCCESS, EXISTING_USER_UNSHARE_SUCCESS);
                     } catch (UserSharingMgtException e) {
@@ -819,7 +1104,7 @@ public class UserSharingPolicyHandlerServiceImpl implements UserSharingPolicyHan
                 getAsyncStatusMgtService().updateOperationStatus(operationId, getOperationStatus(operationId));
             }
         }
-        cleanUpOldUserAssociationsIfExists(associatedUserId, sharingInitiatedOrgId, userSharingAllOrgs);
+        cleanUpOldUserAssociationsIfExists(existingUserAssociations, sharingInitiatedOrgId, userSharingAllOrgs);
     }
 
     private String registerOperationStatus(Map.Entry<BaseUserShare, List<String>> entry, String sharingInitiatedOrgId,
@@ -848,77 +1133,109 @@ public class UserSharingPolicyHandlerServiceImpl implements UserSharingPolicyHan
         return operationId;
     }
 
-    private void registerOperationStatusUnit(String operationId, String resourceId, String targetOrgId, OperationStatus
-                                                     status, String message) throws AsyncOperationStatusMgtException {
+    private String registerUserIdStreamOperationStatus(String policy, String sharingInitiatedOrgId,
+                                                       String sharingInitiatedUserId, String correlationId) {
 
-        if (StringUtils.isBlank(operationId)) {
-            // Skipping registering of unit operations since the operationId is null.
-            return;
+        try {
+            String operationId = getAsyncStatusMgtService().registerOperationStatus(
+                    new OperationInitDTO(correlationId, B2B_USER_SHARE, B2B_USER, sharingInitiatedOrgId,
+                            sharingInitiatedOrgId, sharingInitiatedUserId, policy), false);
+            if (StringUtils.isNotBlank(operationId)) {
+                asyncOperationStatusList.put(operationId, new SubOperationStatusQueue());
+            }
+            return operationId;
+        } catch (AsyncOperationStatusMgtException e) {
+            LOG.error("Error occurred while registering the operation status of the user ID stream share initiated " +
+                    "from " + sharingInitiatedOrgId + ". Checkpoints will not be recorded.", e);
+            return null;
         }
-        UnitOperationInitDTO statusDTO = new UnitOperationInitDTO(operationId, resourceId, targetOrgId, status,
-                message);
-        getAsyncStatusMgtService().registerUnitOperationStatus(statusDTO);
-        asyncOperationStatusList.get(operationId).add(status);
     }
 
     /**
-     * Retrieves a map of user share objects and their corresponding organizations to share user based on the sharing
-     * policy and type.
+     * Records a failed user share operation for a user sharing job which cannot share any of its users, as the user
+     * store manager of the sharing initiated organization could not be resolved.
      *
-     * @param baseUserShareObjects  The list of user share objects containing sharing details.
-     * @param sharingInitiatedOrgId The ID of the organization initiating the sharing.
-     * @return A map containing user share objects and their corresponding organizations.
+     * @param policy                 The sharing policy of the user share.
+     * @param sharingInitiatedOrgId  The ID of the organization that initiated the sharing.
+     * @param sharingInitiatedUserId The ID of the user that initiated the user sharing.
+     * @param correlationId          The correlation ID to track down the user sharing.
+     * @return The error to be thrown for the user sharing job.
      */
-    private Map<BaseUserShare, List<String>> getUserSharingOrgsForEachUserShareObject(
-            List<BaseUserShare> baseUserShareObjects, String sharingInitiatedOrgId)
-            throws OrganizationManagementException {
+    private UserSharingMgtServerException handleUnresolvedUserStoreManager(String policy, String sharingInitiatedOrgId,
+                                                                           String sharingInitiatedUserId,
+                                                                           String correlationId) {
 
-        Map<BaseUserShare, List<String>> userSharingOrgsForEachUserShareObject = new HashMap<>();
-        for (BaseUserShare baseUserShare : baseUserShareObjects) {
-            userSharingOrgsForEachUserShareObject.put(baseUserShare,
-                    extractOrgListBasedOnSharingPolicyAndType(baseUserShare, sharingInitiatedOrgId));
+        try {
+            String operationId = getAsyncStatusMgtService().registerOperationStatus(
+                    new OperationInitDTO(correlationId, B2B_USER_SHARE, B2B_USER, sharingInitiatedOrgId,
+                            sharingInitiatedOrgId, sharingInitiatedUserId, policy), false);
+            if (StringUtils.isNotBlank(operationId)) {
+                getAsyncStatusMgtService().updateOperationStatus(operationId, OperationStatus.FAILED);
+            }
+        } catch (AsyncOperationStatusMgtException e) {
+            LOG.error("Error occurred while recording the failed user share initiated from " +
+                    sharingInitiatedOrgId, e);
         }
-        return userSharingOrgsForEachUserShareObject;
+        return new UserSharingMgtServerException(ERROR_CODE_USER_STORE_MANAGER_NOT_RESOLVED,
+                String.format(ERROR_CODE_USER_STORE_MANAGER_NOT_RESOLVED.getMessage(), sharingInitiatedOrgId));
     }
 
-    /**
-     * Extracts a list of organization with which the user is expected to be shared according to the given policy of
-     * the base user share object.
-     *
-     * @param baseUserShare         The base user share object containing sharing details.
-     * @param sharingInitiatedOrgId The ID of the organization initiating the sharing.
-     * @return A list of organization IDs based on the sharing policy and type.
-     */
-    private List<String> extractOrgListBasedOnSharingPolicyAndType(BaseUserShare baseUserShare,
-                                                                   String sharingInitiatedOrgId)
-            throws OrganizationManagementException {
+    private void registerUserIdStreamCheckpoint(String operationId, String lastUserId, String sharingInitiatedOrgId,
+                                                OperationStatus status, String message) {
 
-        if (baseUserShare instanceof SelectiveUserShare) {
-            return extractOrgListBasedOnSharingPolicy(((SelectiveUserShare) baseUserShare).getOrganizationId(),
-                    baseUserShare.getPolicy());
+        try {
+            registerOperationStatusUnit(operationId, lastUserId, sharingInitiatedOrgId, status, message);
+        } catch (AsyncOperationStatusMgtException e) {
+            LOG.error("Error occurred while recording the user share checkpoint: " + lastUserId, e);
+        }
+    }
+
+    private void completeUserIdStreamOperationStatus(String operationId) {
+
+        if (StringUtils.isBlank(operationId)) {
+            return;
+        }
+        try {
+            getAsyncStatusMgtService().updateOperationStatus(operationId, getOperationStatus(operationId));
+        } catch (AsyncOperationStatusMgtException e) {
+            LOG.error("Error occurred while updating the operation status of the user ID stream share: " +
+                    operationId, e);
+        }
+    }
+
+    private void registerOperationStatusUnit(String operationId, String resourceId, String targetOrgId, OperationStatus
+                                                     status, String message) throws AsyncOperationStatusMgtException {
+
+        if (StringUtils.isBlank(operationId)) {
+            // Skipping registering of unit operations since the operationId is null.
+            return;
         }
-        return extractOrgListBasedOnSharingPolicy(sharingInitiatedOrgId, baseUserShare.getPolicy());
+        UnitOperationInitDTO statusDTO = new UnitOperationInitDTO(operationId, resourceId, targetOrgId, status,
+                message);
+        getAsyncStatusMgtService().registerUnitOperationStatus(statusDTO);
+        asyncOperationStatusList.get(operationId).add(status);
     }
 
     /**
      * Extracts a list of organizations based on the given sharing policy.
      * Depending on the policy, this method retrieves child organizations that should be included
-     * in the user-sharing scope.
+     * in the user-sharing scope. The organizations are ordered by their level in the hierarchy, so that a parent
+     * organization is always shared before its child organizations. The order is derived from a breadth-first
+     * traversal of the child organization graph, which is fetched once for the policy holding organization.
      *
      * @param policyHoldingOrgId The ID of the organization holding the policy.
      * @param policy             The sharing policy that determines which organizations to include.
-     * @return A list of organization IDs that should be included in the sharing scope.
+     * @return A list of organization IDs that should be included in the sharing scope, parents before children.
      */
-    private List<String> extractOrgListBasedOnSharingPolicy(String policyHoldingOrgId, PolicyEnum policy)
+    List<String> extractOrgListBasedOnSharingPolicy(String policyHoldingOrgId, PolicyEnum policy)
             throws OrganizationManagementException {
 
-        Set<String> userSharingOrgList = new HashSet<>();
+        List<String> userSharingOrgList = new ArrayList<>();
 
         switch (policy) {
             case ALL_EXISTING_ORGS_ONLY:
             case ALL_EXISTING_AND_FUTURE_ORGS:
-                userSharingOrgList.addAll(getOrganizationManager()
-                        .getChildOrganizationsIds(policyHoldingOrgId, true));
+                userSharingOrgList.addAll(getChildOrganizationIdsInBfsOrder(policyHoldingOrgId));
                 break;
 
             case IMMEDIATE_EXISTING_ORGS_ONLY:
@@ -934,8 +1251,7 @@ public class UserSharingPolicyHandlerServiceImpl implements UserSharingPolicyHan
             case SELECTED_ORG_WITH_ALL_EXISTING_CHILDREN_ONLY:
             case SELECTED_ORG_WITH_ALL_EXISTING_AND_FUTURE_CHILDREN:
                 userSharingOrgList.add(policyHoldingOrgId);
-                userSharingOrgList.addAll(getOrganizationManager()
-                        .getChildOrganizationsIds(policyHoldingOrgId, true));
+                userSharingOrgList.addAll(getChildOrganizationIdsInBfsOrder(policyHoldingOrgId));
                 break;
 
             case SELECTED_ORG_WITH_EXISTING_IMMEDIATE_CHILDREN_ONLY:
@@ -954,34 +1270,71 @@ public class UserSharingPolicyHandlerServiceImpl implements UserSharingPolicyHan
                         ERROR_CODE_INVALID_POLICY.getDescription(),
                         ERROR_CODE_INVALID_POLICY.getCode());
         }
+        return userSharingOrgList;
+    }
 
-        return new ArrayList<>(userSharingOrgList);
+    /**
+     * Get the IDs of all the descendant organizations of the given organization in the breadth-first order, so that
+     * each organization is placed after its parent organization.
+     *
+     * @param organizationId The ID of the organization.
+     * @return The IDs of the descendant organizations, parents before children.
+     * @throws OrganizationManagementException If an error occurs while retrieving the child organization graph.
+     */
+    private List<String> getChildOrganizationIdsInBfsOrder(String organizationId)
+            throws OrganizationManagementException {
+
+        List<String> organizationIdsInBfsOrder = new ArrayList<>();
+        Set<String> visitedOrganizationIds = new HashSet<>();
+        Queue<OrganizationNode> organizationNodes =
+                new LinkedList<>(getOrganizationManager().getChildOrganizationGraph(organizationId, true));
+        while (!organizationNodes.isEmpty()) {
+            OrganizationNode organizationNode = organizationNodes.poll();
+            if (!visitedOrganizationIds.add(organizationNode.getId())) {
+                continue;
+            }
+            organizationIdsInBfsOrder.add(organizationNode.getId());
+            if (organizationNode.getChildren() != null) {
+                organizationNodes.addAll(organizationNode.getChildren());
+            }
+        }
+        return organizationIdsInBfsOrder;
     }
 
     /**
      * Retrieves the user associations of a given user within the organization tree.
      * The root organization of the tree is the policy-holding organization.
      * This method takes a base share object, which contains the policy-holding organization for the share,
-     * and retrieves the user associations for the organizations in that tree.
+     * and picks the user associations for the organizations in that tree from the existing user associations.
      *
-     * @param baseUserShare         The user share object, which can be either selective or general.
-     * @param sharingInitiatedOrgId The ID of the organization from which the sharing request was initiated.
+     * @param baseUserShare            The user share object, which can be either selective or general.
+     * @param sharingInitiatedOrgId    The ID of the organization from which the sharing request was initiated.
+     * @param existingUserAssociations The existing user associations of the user, by organization ID.
      * @return A list of user associations within the organization tree.
      */
-    private List<UserAssociation> getUserAssociationsOfGivenUserOnOrgTree(BaseUserShare baseUserShare,
-                                                                          String sharingInitiatedOrgId)
+    List<UserAssociation> getUserAssociationsOfGivenUserOnOrgTree(BaseUserShare baseUserShare,
+                                                                  String sharingInitiatedOrgId,
+                                                                  Map<String, UserAssociation>
+                                                                          existingUserAssociations)
             throws OrganizationManagementException {
 
-        String associatedUserId = baseUserShare.getUserId();
+        if (existingUserAssociations.isEmpty()) {
+            return Collections.emptyList();
+        }
         String orgId = (baseUserShare instanceof SelectiveUserShare)
                 ? ((SelectiveUserShare) baseUserShare).getOrganizationId()
                 : sharingInitiatedOrgId;
 
-        List<String> orgsInOrgTree = getOrganizationManager().getChildOrganizationsIds(orgId, true);
+        Set<String> orgsInOrgTree = new HashSet<>(getOrganizationManager().getChildOrganizationsIds(orgId, true));
         orgsInOrgTree.add(orgId);
 
-        return getOrganizationUserSharingService().getUserAssociationsOfGivenUserOnGivenOrgs(associatedUserId,
-                orgsInOrgTree);
+        List<UserAssociation> userAssociations = new ArrayList<>();
+        for (UserAssociation association : existingUserAssociations.values()) {
+            if (orgsInOrgTree.contains(association.getOrganizationId())) {
+                userAssociations.add(association);
+            }
+        }
+        return userAssociations;
     }
 
     /**
@@ -1011,20 +1364,18 @@ public class UserSharingPolicyHandlerServiceImpl implements UserSharingPolicyHan
      * organizations, this method cleans up the old user associations and resource sharing policies under the
      * organizations which are not selected in the selective user share.
      *
-     * @param associatedUserId      The ID of the associated user.
-     * @param sharingInitiatedOrgId The ID of the organization initiating the sharing.
-     * @param userSharingAllOrgs    The list of all organizations with which the user is shared.
+     * @param existingUserAssociations The existing user associations of the user, by organization ID.
+     * @param sharingInitiatedOrgId    The ID of the organization initiating the sharing.
+     * @param userSharingAllOrgs       The set of all organizations with which the user is shared.
      */
-    private void cleanUpOldUserAssociationsIfExists(String associatedUserId, String sharingInitiatedOrgId,
-                                                    List<String> userSharingAllOrgs)
-            throws OrganizationManagementException, UserSharingMgtException {
-
-        List<UserAssociation> allUserAssociations =
-                getSharedUserAssociationsOfGivenUser(associatedUserId, sharingInitiatedOrgId);
+    private void cleanUpOldUserAssociationsIfExists(Map<String, UserAssociation> existingUserAssociations,
+                                                    String sharingInitiatedOrgId, Set<String> userSharingAllOrgs)
+            throws UserSharingMgtException {
 
-        for (UserAssociation association : allUserAssociations) {
+        for (UserAssociation association : new ArrayList<>(existingUserAssociations.values())) {
             if (!userSharingAllOrgs.contains(association.getOrganizationId())) {
                 unshareUserFromPreviousOrg(association, sharingInitiatedOrgId);
+                existingUserAssociations.remove(association.getOrganizationId());
             }
         }
     }
@@ -1071,45 +1422,40 @@ public class UserSharingPolicyHandlerServiceImpl implements UserSharingPolicyHan
      * @param baseUserShare         The base user share object containing sharing details.
      * @param sharingInitiatedOrgId The ID of the organization initiating the sharing.
      * @param userSharingOrgList    The list of organizations to share the user with.
-     * @param alreadySharedOrgs     The list of organizations the user is already shared with.
+     * @param alreadySharedOrgs     The set of organizations the user is already shared with.
      * @param operationId           The ID of the sharing operation.
      */
     private void shareWithNewOrganizations(BaseUserShare baseUserShare, String sharingInitiatedOrgId,
-                                           List<String> userSharingOrgList, List<String> alreadySharedOrgs,
+                                           List<String> userSharingOrgList, Set<String> alreadySharedOrgs,
                                            String operationId) throws AsyncOperationStatusMgtException {
 
-        List<String> newlySharedOrgs = new ArrayList<>(userSharingOrgList);
-        newlySharedOrgs.removeAll(alreadySharedOrgs);
-
-        for (String orgId : newlySharedOrgs) {
-            shareAndAssignRolesIfPresent(orgId, baseUserShare, sharingInitiatedOrgId, operationId);
+        for (String orgId : userSharingOrgList) {
+            if (!alreadySharedOrgs.contains(orgId)) {
+                shareAndAssignRolesIfPresent(orgId, baseUserShare, sharingInitiatedOrgId, operationId);
+            }
         }
     }
 
     /**
-     * This method checks if at least one of the organizations has an association with this user.
-     *
-     * @param associatedUserId The ID of the user to check.
-     * @param associatedOrgId  The ID of the organization.
-     * @return {@code true} if the user has at least one associated organization, {@code false} otherwise.
-     */
-    private boolean isUserAlreadyShared(String associatedUserId, String associatedOrgId)
-            throws OrganizationManagementException {
-
-        return getOrganizationUserSharingService().hasUserAssociations(associatedUserId, associatedOrgId);
-    }
-
-    /**
-     * Retrieves the list of shared user associations for a given user.
+     * Loads all the user associations of the given user, which are used to check whether the user is already shared
+     * with an organization without querying the associations of each organization.
      *
-     * @param associatedUserId The ID of the associated user.
-     * @param associatedOrgId  The ID of the associated organization.
-     * @return A list of {@code UserAssociation} objects representing shared user associations.
+     * @param associatedUserId The ID of the user.
+     * @param associatedOrgId  The ID of the organization where the user is managed.
+     * @return The user associations of the user, by organization ID.
      */
-    private List<UserAssociation> getSharedUserAssociationsOfGivenUser(String associatedUserId, String associatedOrgId)
+    Map<String, UserAssociation> getExistingUserAssociations(String associatedUserId, String associatedOrgId)
             throws OrganizationManagementException {
 
-        return getOrganizationUserSharingService().getUserAssociationsOfGivenUser(associatedUserId, associatedOrgId);
+        Map<String, UserAssociation> existingUserAssociations = new LinkedHashMap<>();
+        List<UserAssociation> userAssociations =
+                getOrganizationUserSharingService().getUserAssociationsOfGivenUser(associatedUserId, associatedOrgId);
+        if (userAssociations != null) {
+            for (UserAssociation userAssociation : userAssociations) {
+                existingUserAssociations.put(userAssociation.getOrganizationId(), userAssociation);
+            }
+        }
+        return existingUserAssociations;
     }
 
     /**
@@ -1142,43 +1488,38 @@ public class UserSharingPolicyHandlerServiceImpl implements UserSharingPolicyHan
     }
 
     /**
-     * Checks if the specified user is a resident user in the given organization.
+     * Retrieves the user store manager of the given organization, so that it is resolved once for all the users of a
+     * user sharing job.
      *
-     * @param userId The ID of the user.
-     * @param orgId  The ID of the organization.
-     * @return {@code true} if the user is a resident user, {@code false} otherwise.
+     * @param orgId The ID of the organization.
+     * @return The user store manager of the organization, or {@code null} if it could not be resolved.
      */
-    private boolean isResidentUserInOrg(String userId, String orgId) {
+    private AbstractUserStoreManager getUserStoreManagerOfOrganization(String orgId) {
 
         try {
             String tenantDomain = getOrganizationManager().resolveTenantDomain(orgId);
-            int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
-            AbstractUserStoreManager userStoreManager = getAbstractUserStoreManager(tenantId);
-            String associatedOrgId =
-                    OrganizationSharedUserUtil.getUserManagedOrganizationClaim(userStoreManager, userId);
-            return associatedOrgId == null;
+            return getAbstractUserStoreManager(IdentityTenantUtil.getTenantId(tenantDomain));
         } catch (UserStoreException | OrganizationManagementException e) {
-            LOG.error("Error occurred while checking if the user is a resident user in the organization.", e);
-            return false;
+            LOG.error("Error occurred while retrieving the user store manager of the organization: " + orgId, e);
+            return null;
         }
     }
 
     /**
-     * Checks if the specified user is an existing user in the given organization.
+     * Checks if the specified user is an existing user, who is a resident user in the organization of the given user
+     * store manager.
      *
-     * @param userId The ID of the user.
-     * @param orgId  The ID of the organization.
-     * @return {@code true} if the user is an exiting user in the given organization, {@code false} otherwise.
+     * @param userStoreManager The user store manager of the organization.
+     * @param userId           The ID of the user.
+     * @return {@code true} if the user is an existing resident user, {@code false} otherwise.
      */
-    private boolean isExistingUser(String userId, String orgId) {
+    boolean isExistingResidentUser(AbstractUserStoreManager userStoreManager, String userId) {
 
         try {
-            String tenantDomain = getOrganizationManager().resolveTenantDomain(orgId);
-            int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
-            AbstractUserStoreManager userStoreManager = getAbstractUserStoreManager(tenantId);
-            return userStoreManager.isExistingUserWithID(userId);
-        } catch (UserStoreException | OrganizationManagementException e) {
-            LOG.error("Error occurred while checking if the user is an existing user.", e);
+            return userStoreManager.isExistingUserWithID(userId) &&
+                    OrganizationSharedUserUtil.getUserManagedOrganizationClaim(userStoreManager, userId) == null;
+        } catch (UserStoreException e) {
+            LOG.error("Error occurred while checking if the user is an existing resident user.", e);
             return false;
         }
     }
@@ -1878,6 +2219,16 @@ public class UserSharingPolicyHandlerServiceImpl implements UserSharingPolicyHan
         return OrganizationUserSharingDataHolder.getInstance().getAsyncOperationStatusMgtService();
     }
 
+    private UserSharingJobScheduler getUserSharingJobScheduler() {
+
+        return OrganizationUserSharingDataHolder.getInstance().getUserSharingJobScheduler();
+    }
+
+    private UserShareTaskExecutor getUserShareTaskExecutor() {
+
+        return OrganizationUserSharingDataHolder.getInstance().getUserShareTaskExecutor();
+    }
+
     private String buildPartialResultMessageForFailedRoles(List<String> failedAssignedRoles) {
 
         StringBuilder error = new StringBuilder("User shared and Failed assigning roles: ");
@@ -1889,4 +2240,22 @@ public class UserSharingPolicyHandlerServiceImpl implements UserSharingPolicyHan
         }
         return error.toString();
     }
+
+    /**
+     * Shares a single user of a user sharing job.
+     */
+    @FunctionalInterface
+    interface UserShareTask {
+
+        void share(String associatedUserId) throws UserSharingMgtException;
+    }
+
+    /**
+     * Unshares a list of users of a user unsharing job.
+     */
+    @FunctionalInterface
+    interface UserUnshareTask {
+
+        void unshare(List<String> associatedUserIds) throws UserSharingMgtException;
+    }
 }
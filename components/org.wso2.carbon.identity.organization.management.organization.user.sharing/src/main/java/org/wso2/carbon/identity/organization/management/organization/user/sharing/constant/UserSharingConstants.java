@@ -101,6 +101,33 @@ public class UserSharingConstants {
 
     public static final String PROCESS_ADD_SHARED_USER = "processAddSharedUser";
 
+    // Configurations of the scheduler used to run the user share and unshare jobs.
+    public static final String USER_SHARING_THREAD_POOL_SIZE = "OrganizationManagement.UserSharing.ThreadPoolSize";
+    public static final String USER_SHARING_QUEUE_CAPACITY = "OrganizationManagement.UserSharing.QueueCapacity";
+    public static final String USER_SHARING_DEFAULT_TENANT_WEIGHT =
+            "OrganizationManagement.UserSharing.DefaultTenantWeight";
+    public static final int DEFAULT_USER_SHARING_THREAD_POOL_SIZE = 5;
+    public static final int DEFAULT_USER_SHARING_QUEUE_CAPACITY = 1000;
+    public static final int DEFAULT_USER_SHARING_TENANT_WEIGHT = 1;
+
+    // Configurations of the executor used to share the users of a user sharing job in parallel.
+    public static final String USER_SHARE_TASK_PARALLELISM = "OrganizationManagement.UserSharing.UserShareParallelism";
+    public static final String USER_SHARE_TASK_QUEUE_CAPACITY =
+            "OrganizationManagement.UserSharing.UserShareQueueCapacity";
+    public static final String USER_SHARE_TASK_MAX_CONCURRENT_TASKS_PER_TENANT =
+            "OrganizationManagement.UserSharing.UserShareMaxConcurrentTasksPerTenant";
+    public static final int DEFAULT_USER_SHARE_TASK_PARALLELISM = 5;
+    public static final int DEFAULT_USER_SHARE_TASK_QUEUE_CAPACITY = 100;
+    public static final int DEFAULT_USER_SHARE_TASK_MAX_CONCURRENT_TASKS_PER_TENANT = 3;
+
+    // Maximum number of user associations inserted in a single batch.
+    public static final String USER_ASSOCIATION_BATCH_SIZE = "OrganizationManagement.UserSharing.AssociationBatchSize";
+    public static final int DEFAULT_USER_ASSOCIATION_BATCH_SIZE = 100;
+
+    // Number of user IDs read from a user ID stream and shared as a single chunk.
+    public static final String USER_ID_PAGE_SIZE = "OrganizationManagement.UserSharing.UserIdPageSize";
+    public static final int DEFAULT_USER_ID_PAGE_SIZE = 100;
+
     /*
     Minimum permissions required for org creator to logged in to the console and view user, groups, roles, SP,
     IDP sections.
@@ -119,6 +146,9 @@ public class UserSharingConstants {
     public static final String ROLE_UPDATE_FAIL_FOR_EXISTING_SHARED_USER =
             "Role Update For Existing Shared User Failed. ";
     public static final String ROLE_UPDATE_FAIL_FOR_NEW_SHARED_USER = "Role Update For Shared User Failed. ";
+    public static final String USER_ID_PAGE_SHARE_SUCCESS = "Users Shared Up To The Checkpoint Successfully. ";
+    public static final String USER_ID_PAGE_SHARE_FAIL = "Users Shared Up To The Checkpoint With Failures. ";
+    public static final String USER_ID_PAGE_NOT_ADVANCED = "User ID Page Source Did Not Advance After The Checkpoint. ";
 
     /**
      * Enum for assignmentType.
@@ -255,7 +285,26 @@ public class UserSharingConstants {
                 "The audience with the provided name and type could not be found."),
         ERROR_CODE_ROLE_NOT_FOUND("10051",
                 "Role '%s' not found in audience '%s':'%s'.",
-                "The role with the provided name and audience could not be found.");
+                "The role with the provided name and audience could not be found."),
+        ERROR_CODE_USER_SHARING_QUEUE_FULL("10052",
+                "Too many pending user sharing requests.",
+                "The user sharing request could not be accepted as the maximum number of pending user sharing " +
+                        "requests has been reached. Retry the request later."),
+        ERROR_CODE_USER_STORE_MANAGER_NOT_RESOLVED("10053",
+                "Unable to resolve the user store manager of the organization: %s.",
+                "The users could not be shared as the user store manager of the sharing initiated organization " +
+                        "could not be resolved."),
+        ERROR_CODE_USER_ID_PAGE_NOT_ADVANCED("10054",
+                "The user ID page source did not advance after the user ID: %s.",
+                "The user ID page source returned a page which ends with the user ID it was asked to continue " +
+                        "after. The user IDs must be returned in a stable order."),
+        ERROR_CODE_LIST_USERS_OF_USER_STORE("10055",
+                "Error occurred while listing the users of the user store domain: %s.",
+                "An unexpected error occurred while reading a page of user IDs from the user store."),
+        ERROR_CODE_USER_ID_NOT_LISTED_IN_USER_STORE("10056",
+                "The user ID: %s to continue after is not listed in the user store domain: %s.",
+                "The user ID page could not be continued as the user ID to continue after is not listed in the " +
+                        "user store for the given filter.");
 
         private final String code;
         private final String message;
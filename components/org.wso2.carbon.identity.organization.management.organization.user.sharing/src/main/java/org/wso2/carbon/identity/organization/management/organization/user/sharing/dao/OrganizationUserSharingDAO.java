@@ -64,6 +64,21 @@ public interface OrganizationUserSharingDAO {
         throw new NotImplementedException("createOrganizationUserAssociation method is not implemented.");
     }
 
+    /**
+     * Creates the given associations between the shared users and the actual users in the shared organizations.
+     * The associations are inserted in batches, and each batch is inserted in its own transaction.
+     *
+     * @param userAssociations The user associations to be created. The shared type of an association defaults to
+     *                         {@link SharedType#NOT_SPECIFIED} if it is not set.
+     * @throws OrganizationManagementServerException If an error occurs while creating the organization user
+     *                                               associations.
+     */
+    default void createOrganizationUserAssociations(List<UserAssociation> userAssociations)
+            throws OrganizationManagementServerException {
+
+        throw new NotImplementedException("createOrganizationUserAssociations method is not implemented.");
+    }
+
     /**
      * Delete the organization user association for a shared user in a shared organization.
      *
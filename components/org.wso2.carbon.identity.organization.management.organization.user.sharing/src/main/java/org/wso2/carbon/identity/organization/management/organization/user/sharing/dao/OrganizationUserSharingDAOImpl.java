@@ -81,9 +81,11 @@ import static org.wso2.carbon.identity.organization.management.organization.user
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.PLACEHOLDER_ORG_IDS;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.SQLPlaceholders.PLACEHOLDER_ROLE_IDS;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SQLConstants.UPDATE_USER_ASSOCIATION_SHARED_TYPE;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.DEFAULT_USER_ASSOCIATION_BATCH_SIZE;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_ERROR_INSERTING_RESTRICTED_PERMISSION;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_USER_ROLE_ID;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_GET_ROLES_SHARED_WITH_SHARED_USER;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.USER_ASSOCIATION_BATCH_SIZE;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_CHECK_ORGANIZATION_USER_ASSOCIATIONS;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_CREATE_ORGANIZATION_USER_ASSOCIATION;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_DELETE_ORGANIZATION_USER_ASSOCIATIONS;
@@ -99,6 +101,7 @@ import static org.wso2.carbon.identity.organization.management.service.util.Util
 import static org.wso2.carbon.identity.organization.management.service.util.Utils.isMySqlDB;
 import static org.wso2.carbon.identity.organization.management.service.util.Utils.isOracleDB;
 import static org.wso2.carbon.identity.organization.management.service.util.Utils.isPostgreSqlDB;
+import static org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.executor.TenantBoundedExecutor.readPositiveIntProperty;
 import static org.wso2.carbon.identity.role.v2.mgt.core.RoleConstants.Error.UNEXPECTED_SERVER_ERROR;
 
 /**
@@ -148,6 +151,48 @@ public class OrganizationUserSharingDAOImpl implements OrganizationUserSharingDA
         }
     }
 
+    @Override
+    public void createOrganizationUserAssociations(List<UserAssociation> userAssociations)
+            throws OrganizationManagementServerException {
+
+        if (CollectionUtils.isEmpty(userAssociations)) {
+            return;
+        }
+        int batchSize = readPositiveIntProperty(USER_ASSOCIATION_BATCH_SIZE, DEFAULT_USER_ASSOCIATION_BATCH_SIZE);
+        NamedJdbcTemplate namedJdbcTemplate = getNewTemplate();
+        for (int from = 0; from < userAssociations.size(); from += batchSize) {
+            List<UserAssociation> batch =
+                    userAssociations.subList(from, Math.min(from + batchSize, userAssociations.size()));
+            try {
+                namedJdbcTemplate.withTransaction(template -> {
+                    template.executeBatchInsert(CREATE_ORGANIZATION_USER_ASSOCIATION_WITH_TYPE,
+                            namedPreparedStatement -> {
+                                for (UserAssociation userAssociation : batch) {
+                                    SharedType sharedType = userAssociation.getSharedType() != null ?
+                                            userAssociation.getSharedType() : SharedType.NOT_SPECIFIED;
+                                    namedPreparedStatement.setString(COLUMN_NAME_USER_ID,
+                                            userAssociation.getUserId());
+                                    namedPreparedStatement.setString(COLUMN_NAME_ORG_ID,
+                                            userAssociation.getOrganizationId());
+                                    namedPreparedStatement.setString(COLUMN_NAME_ASSOCIATED_USER_ID,
+                                            userAssociation.getAssociatedUserId());
+                                    namedPreparedStatement.setString(COLUMN_NAME_ASSOCIATED_ORG_ID,
+                                            userAssociation.getUserResidentOrganizationId());
+                                    // The database value of the shared type, as read by SharedType#fromString.
+                                    namedPreparedStatement.setString(COLUMN_NAME_UM_SHARED_TYPE,
+                                            sharedType.toString());
+                                    namedPreparedStatement.addBatch();
+                                }
+                            }, null);
+                    return null;
+                });
+            } catch (TransactionException e) {
+                throw handleServerException(ERROR_CODE_ERROR_CREATE_ORGANIZATION_USER_ASSOCIATION, e,
+                        batch.size() + " user associations");
+            }
+        }
+    }
+
     public boolean deleteUserAssociationOfUserByAssociatedOrg(String userId, String associatedOrgId)
             throws OrganizationManagementServerException {
 
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.executor;
+
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.executor.TenantBoundedExecutor;
+
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.DEFAULT_USER_SHARE_TASK_MAX_CONCURRENT_TASKS_PER_TENANT;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.DEFAULT_USER_SHARE_TASK_PARALLELISM;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.DEFAULT_USER_SHARE_TASK_QUEUE_CAPACITY;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.USER_SHARE_TASK_MAX_CONCURRENT_TASKS_PER_TENANT;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.USER_SHARE_TASK_PARALLELISM;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.USER_SHARE_TASK_QUEUE_CAPACITY;
+
+/**
+ * Executor used to share the users of a user sharing job in parallel.
+ * <p>
+ * A user sharing job fans out one task per user, and each task shares the user with the organizations of the job in
+ * the parent-before-child order. The job thread submits the tasks, hence it is the job which waits once the limits
+ * are reached, instead of the tasks of every user of a large job being queued up front. The jobs of a tenant share
+ * the slots of that tenant, so that they do not take over the threads used by the jobs of the other tenants.
+ */
+public class UserShareTaskExecutor extends TenantBoundedExecutor {
+
+    /**
+     * Creates an executor sized according to the server configuration.
+     */
+    public UserShareTaskExecutor() {
+
+        this(readPositiveIntProperty(USER_SHARE_TASK_PARALLELISM, DEFAULT_USER_SHARE_TASK_PARALLELISM),
+                readPositiveIntProperty(USER_SHARE_TASK_QUEUE_CAPACITY, DEFAULT_USER_SHARE_TASK_QUEUE_CAPACITY),
+                readPositiveIntProperty(USER_SHARE_TASK_MAX_CONCURRENT_TASKS_PER_TENANT,
+                        DEFAULT_USER_SHARE_TASK_MAX_CONCURRENT_TASKS_PER_TENANT));
+    }
+
+    /**
+     * Creates an executor with the given number of threads, queue capacity and per tenant concurrency cap.
+     *
+     * @param parallelism                 The number of threads of the executor.
+     * @param queueCapacity               The number of tasks which can wait for a thread.
+     * @param maxConcurrentTasksPerTenant The number of tasks a tenant can have queued or running at a time.
+     */
+    public UserShareTaskExecutor(int parallelism, int queueCapacity, int maxConcurrentTasksPerTenant) {
+
+        super("a user share task", parallelism, queueCapacity, maxConcurrentTasksPerTenant);
+    }
+}
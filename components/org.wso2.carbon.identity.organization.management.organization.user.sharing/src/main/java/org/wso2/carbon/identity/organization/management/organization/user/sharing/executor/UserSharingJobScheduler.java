@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.executor;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.DEFAULT_USER_SHARING_QUEUE_CAPACITY;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.DEFAULT_USER_SHARING_TENANT_WEIGHT;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.DEFAULT_USER_SHARING_THREAD_POOL_SIZE;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.USER_SHARING_DEFAULT_TENANT_WEIGHT;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.USER_SHARING_QUEUE_CAPACITY;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.USER_SHARING_THREAD_POOL_SIZE;
+import static org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.executor.TenantBoundedExecutor.readPositiveIntProperty;
+
+/**
+ * Tenant-fair scheduler used to run the user share and unshare jobs.
+ * <p>
+ * The jobs are queued per tenant, and the worker threads pick the next job by a weighted round-robin over the tenants
+ * which have queued jobs. A tenant gets to dispatch as many consecutive jobs as its weight before the next tenant is
+ * served, so a tenant which queues a large number of jobs does not hold back the jobs of the other tenants. The
+ * total number of queued jobs is bounded, and a job submitted when the queue is full is rejected.
+ * <p>
+ * The depth of the queues and the time the jobs waited in the queues are exposed as metrics of the scheduler.
+ */
+public class UserSharingJobScheduler {
+
+    private static final Log LOG = LogFactory.getLog(UserSharingJobScheduler.class);
+
+    private final ExecutorService workers;
+    private final int queueCapacity;
+    private final int defaultTenantWeight;
+    private final ConcurrentMap<String, Integer> tenantWeights = new ConcurrentHashMap<>();
+
+    // The tenant queues, the dispatch order and the queued job count are guarded by the scheduler instance.
+    private final Map<String, TenantJobQueue> tenantJobQueues = new HashMap<>();
+    private final Deque<String> dispatchOrder = new ArrayDeque<>();
+    private int queuedJobCount;
+
+    private final LongAdder dispatchedJobCount = new LongAdder();
+    private final LongAdder totalWaitTimeMillis = new LongAdder();
+    private final LongAccumulator maxWaitTimeMillis = new LongAccumulator(Long::max, 0L);
+
+    /**
+     * Creates a scheduler with the thread pool size, the queue capacity and the default tenant weight read from the
+     * configurations.
+     */
+    public UserSharingJobScheduler() {
+
+        this(readPositiveIntProperty(USER_SHARING_THREAD_POOL_SIZE, DEFAULT_USER_SHARING_THREAD_POOL_SIZE),
+                readPositiveIntProperty(USER_SHARING_QUEUE_CAPACITY, DEFAULT_USER_SHARING_QUEUE_CAPACITY),
+                readPositiveIntProperty(USER_SHARING_DEFAULT_TENANT_WEIGHT, DEFAULT_USER_SHARING_TENANT_WEIGHT));
+    }
+
+    /**
+     * Creates a scheduler with the given thread pool size, queue capacity and default tenant weight.
+     *
+     * @param threadPoolSize      The number of worker threads which run the jobs.
+     * @param queueCapacity       The maximum number of jobs queued across all the tenants.
+     * @param defaultTenantWeight The weight of a tenant which does not have a weight set.
+     */
+    public UserSharingJobScheduler(int threadPoolSize, int queueCapacity, int defaultTenantWeight) {
+
+        this.queueCapacity = queueCapacity;
+        this.defaultTenantWeight = defaultTenantWeight;
+        this.workers = Executors.newFixedThreadPool(threadPoolSize);
+    }
+
+    /**
+     * Queues the given job on behalf of the given tenant.
+     *
+     * @param tenantDomain The domain of the tenant which initiated the job.
+     * @param job          The user share or unshare job.
+     * @return A future which completes once the job has run.
+     * @throws RejectedExecutionException If the queue is full, or if the scheduler is shut down.
+     */
+    public CompletableFuture<Void> submit(String tenantDomain, Runnable job) {
+
+        String tenantKey = StringUtils.defaultString(tenantDomain);
+        ScheduledJob scheduledJob = new ScheduledJob(tenantKey, job);
+        synchronized (this) {
+            if (queuedJobCount >= queueCapacity) {
+                throw new RejectedExecutionException("The user sharing queue is full. Rejected the job of tenant: " +
+                        tenantDomain);
+            }
+            TenantJobQueue tenantJobQueue = tenantJobQueues.get(tenantKey);
+            if (tenantJobQueue == null) {
+                tenantJobQueue = new TenantJobQueue(getTenantWeight(tenantKey));
+                tenantJobQueues.put(tenantKey, tenantJobQueue);
+                dispatchOrder.addLast(tenantKey);
+            }
+            tenantJobQueue.jobs.addLast(scheduledJob);
+            queuedJobCount++;
+        }
+
+        try {
+            // Each worker run dispatches the next job in the round-robin order, which may not be the submitted job.
+            workers.execute(this::runNextJob);
+        } catch (RejectedExecutionException e) {
+            removeJob(scheduledJob);
+            throw e;
+        }
+        return scheduledJob.future;
+    }
+
+    /**
+     * Sets the weight of the given tenant, i.e. the number of consecutive jobs of the tenant dispatched before the
+     * next tenant is served. The weight applies from the next round of the tenant.
+     *
+     * @param tenantDomain The domain of the tenant.
+     * @param weight       The weight of the tenant. Must be a positive number.
+     */
+    public void setTenantWeight(String tenantDomain, int weight) {
+
+        if (weight <= 0) {
+            throw new IllegalArgumentException("The weight of a tenant must be a positive number.");
+        }
+        tenantWeights.put(StringUtils.defaultString(tenantDomain), weight);
+    }
+
+    /**
+     * Get the number of jobs queued across all the tenants.
+     *
+     * @return The number of queued jobs.
+     */
+    public synchronized int getQueueDepth() {
+
+        return queuedJobCount;
+    }
+
+    /**
+     * Get the number of jobs queued by the given tenant.
+     *
+     * @param tenantDomain The domain of the tenant.
+     * @return The number of queued jobs of the tenant.
+     */
+    public synchronized int getQueueDepth(String tenantDomain) {
+
+        TenantJobQueue tenantJobQueue = tenantJobQueues.get(StringUtils.defaultString(tenantDomain));
+        return tenantJobQueue == null ? 0 : tenantJobQueue.jobs.size();
+    }
+
+    /**
+     * Get the number of jobs dispatched by the scheduler.
+     *
+     * @return The number of dispatched jobs.
+     */
+    public long getDispatchedJobCount() {
+
+        return dispatchedJobCount.sum();
+    }
+
+    /**
+     * Get the average time the dispatched jobs waited in the queue.
+     *
+     * @return The average wait time in milliseconds.
+     */
+    public long getAverageWaitTimeMillis() {
+
+        long dispatchedJobs = dispatchedJobCount.sum();
+        return dispatchedJobs == 0 ? 0 : totalWaitTimeMillis.sum() / dispatchedJobs;
+    }
+
+    /**
+     * Get the longest time a dispatched job waited in the queue.
+     *
+     * @return The maximum wait time in milliseconds.
+     */
+    public long getMaxWaitTimeMillis() {
+
+        return maxWaitTimeMillis.get();
+    }
+
+    /**
+     * Shuts down the scheduler. Jobs which are already queued are run, but new jobs are rejected.
+     */
+    public void shutdown() {
+
+        workers.shutdown();
+    }
+
+    private void runNextJob() {
+
+        ScheduledJob scheduledJob = pollNextJob();
+        if (scheduledJob == null) {
+            return;
+        }
+        long waitTimeMillis = System.currentTimeMillis() - scheduledJob.queuedTime;
+        dispatchedJobCount.increment();
+        totalWaitTimeMillis.add(waitTimeMillis);
+        maxWaitTimeMillis.accumulate(waitTimeMillis);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Dispatching a user sharing job of tenant: " + scheduledJob.tenantDomain + " after waiting " +
+                    waitTimeMillis + " ms. Queued jobs: " + getQueueDepth() + ".");
+        }
+        try {
+            scheduledJob.job.run();
+            scheduledJob.future.complete(null);
+        } catch (RuntimeException e) {
+            scheduledJob.future.completeExceptionally(e);
+        }
+    }
+
+    private synchronized ScheduledJob pollNextJob() {
+
+        while (!dispatchOrder.isEmpty()) {
+            String tenantKey = dispatchOrder.peekFirst();
+            TenantJobQueue tenantJobQueue = tenantJobQueues.get(tenantKey);
+            ScheduledJob scheduledJob = tenantJobQueue.jobs.pollFirst();
+            if (scheduledJob == null) {
+                dispatchOrder.pollFirst();
+                tenantJobQueues.remove(tenantKey);
+                continue;
+            }
+            queuedJobCount--;
+            tenantJobQueue.remainingCredits--;
+            if (tenantJobQueue.jobs.isEmpty()) {
+                dispatchOrder.pollFirst();
+                tenantJobQueues.remove(tenantKey);
+            } else if (tenantJobQueue.remainingCredits <= 0) {
+                // The tenant used up its weight for this round. Move it to the end of the dispatch order.
+                tenantJobQueue.remainingCredits = getTenantWeight(tenantKey);
+                dispatchOrder.addLast(dispatchOrder.pollFirst());
+            }
+            return scheduledJob;
+        }
+        return null;
+    }
+
+    private synchronized void removeJob(ScheduledJob scheduledJob) {
+
+        TenantJobQueue tenantJobQueue = tenantJobQueues.get(scheduledJob.tenantDomain);
+        if (tenantJobQueue != null && tenantJobQueue.jobs.remove(scheduledJob)) {
+            queuedJobCount--;
+            if (tenantJobQueue.jobs.isEmpty()) {
+                tenantJobQueues.remove(scheduledJob.tenantDomain);
+                dispatchOrder.remove(scheduledJob.tenantDomain);
+            }
+        }
+    }
+
+    private int getTenantWeight(String tenantKey) {
+
+        return tenantWeights.getOrDefault(tenantKey, defaultTenantWeight);
+    }
+
+    /**
+     * Job queued by a tenant, along with the time it was queued.
+     */
+    private static class ScheduledJob {
+
+        private final String tenantDomain;
+        private final Runnable job;
+        private final long queuedTime = System.currentTimeMillis();
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private ScheduledJob(String tenantDomain, Runnable job) {
+
+            this.tenantDomain = tenantDomain;
+            this.job = job;
+        }
+    }
+
+    /**
+     * Queued jobs of a tenant, along with the number of jobs the tenant can still dispatch in the current round.
+     */
+    private static class TenantJobQueue {
+
+        private final Deque<ScheduledJob> jobs = new ArrayDeque<>();
+        private int remainingCredits;
+
+        private TenantJobQueue(int weight) {
+
+            this.remainingCredits = weight;
+        }
+    }
+}
@@ -22,6 +22,8 @@ import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
 import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataManagementService;
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.service.AsyncOperationStatusMgtService;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.OrganizationUserSharingService;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.executor.UserShareTaskExecutor;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.executor.UserSharingJobScheduler;
 import org.wso2.carbon.identity.organization.management.role.management.service.RoleManager;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.OrgResourceResolverService;
@@ -45,6 +47,8 @@ public class OrganizationUserSharingDataHolder {
     private OrgResourceResolverService orgResourceResolverService;
     private ResourceSharingPolicyHandlerService resourceSharingPolicyHandlerService;
     private AsyncOperationStatusMgtService asyncOperationStatusMgtService;
+    private UserSharingJobScheduler userSharingJobScheduler;
+    private UserShareTaskExecutor userShareTaskExecutor;
 
     public static OrganizationUserSharingDataHolder getInstance() {
 
@@ -253,4 +257,44 @@ public class OrganizationUserSharingDataHolder {
 
         this.asyncOperationStatusMgtService = asyncOperationStatusMgtService;
     }
+
+    /**
+     * Get the user sharing job scheduler.
+     *
+     * @return UserSharingJobScheduler user sharing job scheduler.
+     */
+    public UserSharingJobScheduler getUserSharingJobScheduler() {
+
+        return userSharingJobScheduler;
+    }
+
+    /**
+     * Set the user sharing job scheduler.
+     *
+     * @param userSharingJobScheduler UserSharingJobScheduler user sharing job scheduler.
+     */
+    public void setUserSharingJobScheduler(UserSharingJobScheduler userSharingJobScheduler) {
+
+        this.userSharingJobScheduler = userSharingJobScheduler;
+    }
+
+    /**
+     * Get the user share task executor.
+     *
+     * @return UserShareTaskExecutor user share task executor.
+     */
+    public UserShareTaskExecutor getUserShareTaskExecutor() {
+
+        return userShareTaskExecutor;
+    }
+
+    /**
+     * Set the user share task executor.
+     *
+     * @param userShareTaskExecutor UserShareTaskExecutor user share task executor.
+     */
+    public void setUserShareTaskExecutor(UserShareTaskExecutor userShareTaskExecutor) {
+
+        this.userShareTaskExecutor = userShareTaskExecutor;
+    }
 }
@@ -24,6 +24,7 @@ import org.osgi.framework.BundleContext;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
@@ -35,6 +36,8 @@ import org.wso2.carbon.identity.organization.management.organization.user.sharin
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.OrganizationUserSharingServiceImpl;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.UserSharingPolicyHandlerService;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.UserSharingPolicyHandlerServiceImpl;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.executor.UserShareTaskExecutor;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.executor.UserSharingJobScheduler;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.listener.OrganizationUserSharingHandler;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.listener.SharedUserOperationEventListener;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.listener.SharedUserProfileUpdateGovernanceEventListener;
@@ -79,12 +82,31 @@ public class OrganizationUserSharingServiceComponent {
                 new SharingOrganizationCreatorUserEventHandler(), null);
         bundleContext.registerService(AbstractEventHandler.class.getName(),
                 new OrganizationUserSharingHandler(), null);
+        OrganizationUserSharingDataHolder.getInstance().setUserSharingJobScheduler(new UserSharingJobScheduler());
+        OrganizationUserSharingDataHolder.getInstance().setUserShareTaskExecutor(new UserShareTaskExecutor());
         UserSharingPolicyHandlerService userSharingPolicyHandlerService = new UserSharingPolicyHandlerServiceImpl();
         bundleContext.registerService(UserSharingPolicyHandlerService.class.getName(), userSharingPolicyHandlerService,
                 null);
         LOG.debug("OrganizationUserSharingServiceComponent activated successfully.");
     }
 
+    @Deactivate
+    protected void deactivate(ComponentContext componentContext) {
+
+        OrganizationUserSharingDataHolder dataHolder = OrganizationUserSharingDataHolder.getInstance();
+        UserSharingJobScheduler userSharingJobScheduler = dataHolder.getUserSharingJobScheduler();
+        if (userSharingJobScheduler != null) {
+            userSharingJobScheduler.shutdown();
+            dataHolder.setUserSharingJobScheduler(null);
+        }
+        UserShareTaskExecutor userShareTaskExecutor = dataHolder.getUserShareTaskExecutor();
+        if (userShareTaskExecutor != null) {
+            userShareTaskExecutor.shutdown();
+            dataHolder.setUserShareTaskExecutor(null);
+        }
+        LOG.debug("OrganizationUserSharingServiceComponent deactivated successfully.");
+    }
+
     @Reference(
             name = "realm.service",
             service = RealmService.class,
@@ -54,11 +54,14 @@ import org.wso2.carbon.user.core.service.RealmService;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.wso2.carbon.identity.claim.metadata.mgt.util.ClaimConstants.SHARED_PROFILE_VALUE_RESOLVING_METHOD;
 import static org.wso2.carbon.identity.claim.metadata.mgt.util.ClaimConstants.SharedProfileValueResolvingMethod.FROM_FIRST_FOUND_IN_HIERARCHY;
@@ -405,48 +408,66 @@ public class SharedUserOperationEventListener extends AbstractIdentityUserOperat
                                            String claimURI, String organizationId)
             throws org.wso2.carbon.user.api.UserStoreException {
 
+        Map<String, String> resolvedClaims = claimsResolver(associatedUserId, associationUserResidentOrganizationId,
+                Collections.singleton(claimURI), organizationId);
+        return Optional.ofNullable(resolvedClaims.get(claimURI));
+    }
+
+    /**
+     * Resolve the values of the given claims of the shared user in the given organization. The tenant domain, user
+     * store manager and shared user of the organization are resolved once for all the claims.
+     *
+     * @param associatedUserId                      The user id of the associated root or parent level user.
+     * @param associationUserResidentOrganizationId The organization id where the associated user is resident.
+     * @param claimURIs                             The URIs of the claims to be resolved.
+     * @param organizationId                        The organization id where the current shared profile exists.
+     * @return The resolved claim values, omitting the claims without a value.
+     * @throws org.wso2.carbon.user.api.UserStoreException If an error occurs while resolving the claim values.
+     */
+    private Map<String, String> claimsResolver(String associatedUserId, String associationUserResidentOrganizationId,
+                                               Set<String> claimURIs, String organizationId)
+            throws org.wso2.carbon.user.api.UserStoreException {
+
         try {
+            String userIdInSearchOrg = associatedUserId;
+            // If associationUserResidentOrganizationId and organizationId are same, it should be a resident user.
+            if (associationUserResidentOrganizationId == null ||
+                    !associationUserResidentOrganizationId.equals(organizationId)) {
+                // If the searching org is not the user resident org, get the shared user id in given org.
+                UserAssociation userAssociationOfAssociatedUserByOrgId =
+                        OrganizationUserSharingDataHolder.getInstance().getOrganizationUserSharingService()
+                                .getUserAssociationOfAssociatedUserByOrgId(associatedUserId, organizationId);
+                if (userAssociationOfAssociatedUserByOrgId == null) {
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug(String.format("A shared user is not found for the user: %s in the organization: %s",
+                                associatedUserId, organizationId));
+                    }
+                    return Collections.emptyMap();
+                }
+                userIdInSearchOrg = userAssociationOfAssociatedUserByOrgId.getUserId();
+            }
+
             OrganizationManager organizationManager =
                     OrganizationUserSharingDataHolder.getInstance().getOrganizationManager();
             String tenantDomainOfOrg = organizationManager.resolveTenantDomain(organizationId);
             AbstractUserStoreManager userStoreManager =
                     getAbstractUserStoreManager(IdentityTenantUtil.getTenantId(tenantDomainOfOrg));
-            // If associationUserResidentOrganizationId and organizationId are same, it should be a resident user.
-            if (associationUserResidentOrganizationId != null &&
-                    associationUserResidentOrganizationId.equals(organizationId)) {
-                try {
-                    PrivilegedCarbonContext.startTenantFlow();
-                    PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomainOfOrg, true);
-                    PrivilegedCarbonContext.getThreadLocalCarbonContext().setOrganizationId(organizationId);
-                    String userClaimValue =
-                            userStoreManager.getUserClaimValueWithID(associatedUserId, claimURI, null);
-                    return Optional.ofNullable(userClaimValue);
-                } finally {
-                    PrivilegedCarbonContext.endTenantFlow();
-                }
-            }
-            // If the searching org is not the user resident org, get the shared user id in given org.
-            UserAssociation userAssociationOfAssociatedUserByOrgId =
-                    OrganizationUserSharingDataHolder.getInstance().getOrganizationUserSharingService()
-                            .getUserAssociationOfAssociatedUserByOrgId(associatedUserId, organizationId);
-            if (userAssociationOfAssociatedUserByOrgId == null) {
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug(String.format("A shared user is not found for the user: %s in the organization: %s",
-                            associatedUserId, organizationId));
-                }
-                return Optional.empty();
-            }
-            String sharedUserIdInSearchOrg = userAssociationOfAssociatedUserByOrgId.getUserId();
+            Map<String, String> resolvedClaims = new HashMap<>();
             try {
                 PrivilegedCarbonContext.startTenantFlow();
                 PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomainOfOrg, true);
                 PrivilegedCarbonContext.getThreadLocalCarbonContext().setOrganizationId(organizationId);
-                String userClaimValue =
-                        userStoreManager.getUserClaimValueWithID(sharedUserIdInSearchOrg, claimURI, null);
-                return Optional.ofNullable(userClaimValue);
+                for (String claimURI : claimURIs) {
+                    String userClaimValue = userStoreManager.getUserClaimValueWithID(userIdInSearchOrg, claimURI,
+                            null);
+                    if (userClaimValue != null) {
+                        resolvedClaims.put(claimURI, userClaimValue);
+                    }
+                }
             } finally {
                 PrivilegedCarbonContext.endTenantFlow();
             }
+            return resolvedClaims;
         } catch (OrganizationManagementException e) {
             throw new UserStoreException(e.getErrorCode(), e.getMessage());
         }
@@ -484,23 +505,20 @@ public class SharedUserOperationEventListener extends AbstractIdentityUserOperat
                                                            String currentOrganizationId)
             throws OrgResourceHierarchyTraverseException {
 
-        Map<String, String> resolvedClaimsFromHierarchy = new HashMap<>();
+        if (claimURIs.isEmpty()) {
+            return new HashMap<>();
+        }
         String associatedUserId = userAssociation.getAssociatedUserId();
         String associationUserResidentOrganizationId = userAssociation.getUserResidentOrganizationId();
         OrgResourceResolverService orgResourceResolverService =
                 OrganizationUserSharingDataHolder.getInstance().getOrgResourceResolverService();
-        for (String claim : claimURIs) {
-            String resolvedClaimValueFromOrgHierarchy =
-                    orgResourceResolverService.getResourcesFromOrgHierarchy(currentOrganizationId,
-                            LambdaExceptionUtils.rethrowFunction(
-                                    orgId -> claimResolver(associatedUserId, associationUserResidentOrganizationId,
-                                            claim, orgId)),
-                            new FirstFoundAggregationStrategy<>());
-            if (resolvedClaimValueFromOrgHierarchy != null) {
-                resolvedClaimsFromHierarchy.put(claim, resolvedClaimValueFromOrgHierarchy);
-            }
-        }
-        return resolvedClaimsFromHierarchy;
+        // Resolve all the claims in a single traversal, so that the per organization setup is done once per level.
+        return orgResourceResolverService.getResourcesFromOrgHierarchyByKeys(currentOrganizationId,
+                new HashSet<>(claimURIs),
+                (orgId, unresolvedClaimURIs) -> LambdaExceptionUtils.rethrowFunction(
+                        (String searchOrgId) -> claimsResolver(associatedUserId,
+                                associationUserResidentOrganizationId, unresolvedClaimURIs, searchOrgId))
+                        .apply(orgId));
     }
 
     private Map<String, String> resolveClaimsFromOrigin(UserAssociation userAssociation, List<String> claimURIs,
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.models.usercriteria;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Source of user IDs which pages through a list of user IDs held in memory. The user IDs are sorted and duplicates
+ * are removed, so that the pages are returned in a stable order and can be continued from any user ID.
+ */
+public class ListUserIdPageSource implements UserIdPageSource {
+
+    private final List<String> userIds;
+
+    public ListUserIdPageSource(List<String> userIds) {
+
+        this.userIds = new ArrayList<>(new TreeSet<>(userIds));
+    }
+
+    @Override
+    public List<String> getUserIds(String afterUserId, int limit) {
+
+        int fromIndex = 0;
+        if (afterUserId != null) {
+            int index = Collections.binarySearch(userIds, afterUserId);
+            fromIndex = index >= 0 ? index + 1 : -(index + 1);
+        }
+        int toIndex = limit < userIds.size() - fromIndex ? fromIndex + limit : userIds.size();
+        return new ArrayList<>(userIds.subList(fromIndex, toIndex));
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.models.usercriteria;
+
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.exception.UserSharingMgtException;
+
+import java.util.List;
+
+/**
+ * Source of user IDs which can be read page by page, such as a user store filter or a database cursor.
+ * The user IDs must be returned in a stable order, so that a page can be continued from the last user ID of the
+ * previous page. A page which ends with the user ID it was asked to continue after fails the share, as it would
+ * never advance.
+ */
+public interface UserIdPageSource {
+
+    /**
+     * Retrieves the next page of user IDs.
+     *
+     * @param afterUserId The last user ID of the previous page, or {@code null} to retrieve the first page.
+     * @param limit       The maximum number of user IDs to be returned.
+     * @return The user IDs which come after the given user ID. A page with fewer user IDs than the limit, or an
+     * empty page, marks the end of the source.
+     * @throws UserSharingMgtException If an error occurs while retrieving the user IDs.
+     */
+    List<String> getUserIds(String afterUserId, int limit) throws UserSharingMgtException;
+}
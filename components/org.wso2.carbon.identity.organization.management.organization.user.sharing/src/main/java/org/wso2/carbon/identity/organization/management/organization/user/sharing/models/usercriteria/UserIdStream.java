@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.models.usercriteria;
+
+/**
+ * Represents a user criteria type that streams the user IDs from a paged source, instead of holding all of them in
+ * memory. The users are shared page by page, and a checkpoint holding the last user ID of each processed page is
+ * recorded in the async operation status, so that an interrupted share can be resumed from that user ID.
+ */
+public class UserIdStream implements UserCriteriaType {
+
+    private UserIdPageSource userIdPageSource;
+    private String startAfter;
+
+    public UserIdStream(UserIdPageSource userIdPageSource) {
+
+        this.userIdPageSource = userIdPageSource;
+    }
+
+    public UserIdStream(UserIdPageSource userIdPageSource, String startAfter) {
+
+        this.userIdPageSource = userIdPageSource;
+        this.startAfter = startAfter;
+    }
+
+    public UserIdPageSource getUserIdPageSource() {
+
+        return userIdPageSource;
+    }
+
+    public void setUserIdPageSource(UserIdPageSource userIdPageSource) {
+
+        this.userIdPageSource = userIdPageSource;
+    }
+
+    public String getStartAfter() {
+
+        return startAfter;
+    }
+
+    public void setStartAfter(String startAfter) {
+
+        this.startAfter = startAfter;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.models.usercriteria;
+
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.exception.UserSharingMgtServerException;
+import org.wso2.carbon.user.core.UserStoreException;
+import org.wso2.carbon.user.core.common.AbstractUserStoreManager;
+import org.wso2.carbon.user.core.common.User;
+import org.wso2.carbon.user.core.model.Condition;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.DEFAULT_PROFILE;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_LIST_USERS_OF_USER_STORE;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_CODE_USER_ID_NOT_LISTED_IN_USER_STORE;
+
+/**
+ * Source of user IDs which pages through the users of a user store domain that match a user store filter, without
+ * loading all of them into memory. The pages are read with the offset based user listing of the user store, in the
+ * order the user store lists the users for the filter.
+ * <p>
+ * The offset after the last returned user ID is kept, so that the next page continues from it. A page which continues
+ * after any other user ID, such as the checkpoint of an interrupted share, first pages through the users from the
+ * start to find the offset of that user ID. An instance is meant to be read by a single share at a time.
+ */
+public class UserStoreUserIdPageSource implements UserIdPageSource {
+
+    // The user listing offsets of the user store start from 1.
+    private static final int FIRST_OFFSET = 1;
+
+    private final AbstractUserStoreManager userStoreManager;
+    private final Condition condition;
+    private final String domain;
+    private String lastUserId;
+    private int nextOffset = FIRST_OFFSET;
+
+    public UserStoreUserIdPageSource(AbstractUserStoreManager userStoreManager, Condition condition, String domain) {
+
+        this.userStoreManager = userStoreManager;
+        this.condition = condition;
+        this.domain = domain;
+    }
+
+    @Override
+    public List<String> getUserIds(String afterUserId, int limit) throws UserSharingMgtServerException {
+
+        if (afterUserId == null) {
+            nextOffset = FIRST_OFFSET;
+        } else if (!afterUserId.equals(lastUserId)) {
+            nextOffset = getOffsetAfter(afterUserId, limit);
+        }
+        List<String> userIds = listUserIds(nextOffset, limit);
+        nextOffset += userIds.size();
+        if (!userIds.isEmpty()) {
+            lastUserId = userIds.get(userIds.size() - 1);
+        }
+        return userIds;
+    }
+
+    private int getOffsetAfter(String afterUserId, int limit) throws UserSharingMgtServerException {
+
+        int offset = FIRST_OFFSET;
+        List<String> userIds;
+        do {
+            userIds = listUserIds(offset, limit);
+            int index = userIds.indexOf(afterUserId);
+            if (index >= 0) {
+                return offset + index + 1;
+            }
+            offset += userIds.size();
+        } while (userIds.size() == limit);
+        throw new UserSharingMgtServerException(ERROR_CODE_USER_ID_NOT_LISTED_IN_USER_STORE,
+                String.format(ERROR_CODE_USER_ID_NOT_LISTED_IN_USER_STORE.getMessage(), afterUserId, domain));
+    }
+
+    private List<String> listUserIds(int offset, int limit) throws UserSharingMgtServerException {
+
+        try {
+            return userStoreManager.getUserListWithID(condition, domain, DEFAULT_PROFILE, limit, offset, null, null)
+                    .stream()
+                    .map(User::getUserID)
+                    .collect(Collectors.toList());
+        } catch (UserStoreException e) {
+            throw new UserSharingMgtServerException(ERROR_CODE_LIST_USERS_OF_USER_STORE.getCode(),
+                    String.format(ERROR_CODE_LIST_USERS_OF_USER_STORE.getMessage(), domain),
+                    ERROR_CODE_LIST_USERS_OF_USER_STORE.getDescription(), e);
+        }
+    }
+}
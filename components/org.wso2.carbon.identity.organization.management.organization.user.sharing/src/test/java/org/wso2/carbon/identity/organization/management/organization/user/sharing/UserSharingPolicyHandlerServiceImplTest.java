@@ -18,47 +18,80 @@
 
 package org.wso2.carbon.identity.organization.management.organization.user.sharing;
 
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.MockedStatic;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.wso2.carbon.base.CarbonBaseConstants;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.constants.OperationStatus;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.models.OperationInitDTO;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.models.UnitOperationInitDTO;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.service.AsyncOperationStatusMgtService;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SharedType;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.exception.UserSharingMgtClientException;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.exception.UserSharingMgtException;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.exception.UserSharingMgtServerException;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.executor.UserShareTaskExecutor;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.internal.OrganizationUserSharingDataHolder;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.BaseUserShare;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.GeneralUserShare;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.UserAssociation;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.dos.ResponseSharedOrgsDO;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.dos.ResponseSharedRolesDO;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.usercriteria.ListUserIdPageSource;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.usercriteria.UserIdList;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.usercriteria.UserIdStream;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+import org.wso2.carbon.identity.organization.management.service.model.OrganizationNode;
 import org.wso2.carbon.identity.organization.management.service.util.Utils;
+import org.wso2.carbon.identity.organization.resource.sharing.policy.management.ResourceSharingPolicyHandlerService;
+import org.wso2.carbon.identity.organization.resource.sharing.policy.management.constant.PolicyEnum;
 import org.wso2.carbon.identity.role.v2.mgt.core.RoleManagementService;
 import org.wso2.carbon.identity.role.v2.mgt.core.model.Role;
 import org.wso2.carbon.identity.role.v2.mgt.core.util.UserIDResolver;
+import org.wso2.carbon.user.core.UserStoreException;
+import org.wso2.carbon.user.core.common.AbstractUserStoreManager;
 import org.wso2.carbon.user.core.util.UserCoreUtil;
 
 import java.lang.reflect.Field;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.APPLICATION_AUDIENCE;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.APP_1_NAME;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.APP_2_NAME;
@@ -100,12 +133,24 @@ import static org.wso2.carbon.identity.organization.management.organization.user
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.VALIDATE_MSG_SHARED_ROLE_NAME;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.VALIDATE_MSG_SHARED_TYPE;
 import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.TestUserSharingConstants.VALIDATE_MSG_SHARED_USER_ID;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.CLAIM_MANAGED_ORGANIZATION;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.ErrorMessage.ERROR_GENERAL_SHARE;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.USER_ID_PAGE_SIZE;
+import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
+import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_ID;
 
 /**
  * Unit tests for UserSharingPolicyHandlerServiceImpl.
  */
 public class UserSharingPolicyHandlerServiceImplTest {
 
+    private static final String SHARING_INITIATED_USERNAME = "admin";
+    private static final String THREAD_LOCAL_PROPERTY_KEY = "userSharingTestProperty";
+    private static final String THREAD_LOCAL_PROPERTY_VALUE = "userSharingTestValue";
+    private static final String CORRELATION_ID = "userSharingTestCorrelationId";
+    private static final String OPERATION_ID = "userSharingTestOperationId";
+    private static final String USER_ID_PAGE_SIZE_VALUE = "2";
+
     @InjectMocks
     private UserSharingPolicyHandlerServiceImpl userSharingPolicyHandlerService;
 
@@ -114,6 +159,7 @@ public class UserSharingPolicyHandlerServiceImplTest {
     private MockedStatic<Utils> utilsMockedStatic;
     private MockedStatic<IdentityTenantUtil> identityTenantUtilMockedStatic;
     private MockedStatic<UserCoreUtil> userCoreUtilMockedStatic;
+    private UserShareTaskExecutor userShareTaskExecutor;
 
     @BeforeMethod
     public void setUp() {
@@ -134,6 +180,10 @@ public class UserSharingPolicyHandlerServiceImplTest {
         utilsMockedStatic.close();
         identityTenantUtilMockedStatic.close();
         userCoreUtilMockedStatic.close();
+        if (userShareTaskExecutor != null) {
+            userShareTaskExecutor.shutdown();
+            userShareTaskExecutor = null;
+        }
     }
 
     @DataProvider(name = "sharedOrgsDataProvider")
@@ -345,6 +395,355 @@ public class UserSharingPolicyHandlerServiceImplTest {
                         null, null, null, false));
     }
 
+    @Test
+    public void testShareUsersInParallelRestoresThreadLocalContext() throws Exception {
+
+        mockUserShareTaskExecutor();
+        Map<String, String> tenantDomainsOfUsers = Collections.synchronizedMap(new HashMap<>());
+        Map<String, Integer> tenantIdsOfUsers = Collections.synchronizedMap(new HashMap<>());
+        Map<String, String> usernamesOfUsers = Collections.synchronizedMap(new HashMap<>());
+        Map<String, Object> threadLocalPropertiesOfUsers = Collections.synchronizedMap(new HashMap<>());
+        Set<Thread> userShareThreads = ConcurrentHashMap.newKeySet();
+        List<String> userIds = Arrays.asList(USER_1_ID, USER_2_ID, USER_3_ID);
+
+        startSharingInitiatedTenantFlow();
+        try {
+            userSharingPolicyHandlerService.shareUsersInParallel(userIds, associatedUserId -> {
+                PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+                tenantDomainsOfUsers.put(associatedUserId, carbonContext.getTenantDomain());
+                tenantIdsOfUsers.put(associatedUserId, carbonContext.getTenantId());
+                usernamesOfUsers.put(associatedUserId, carbonContext.getUsername());
+                threadLocalPropertiesOfUsers.put(associatedUserId,
+                        IdentityUtil.threadLocalProperties.get().get(THREAD_LOCAL_PROPERTY_KEY));
+                userShareThreads.add(Thread.currentThread());
+            });
+        } finally {
+            endSharingInitiatedTenantFlow();
+        }
+
+        // Each user is shared on an executor thread, with the context of the thread which initiated the sharing.
+        assertFalse(userShareThreads.contains(Thread.currentThread()));
+        for (String userId : userIds) {
+            assertEquals(tenantDomainsOfUsers.get(userId), SUPER_TENANT_DOMAIN_NAME);
+            assertEquals(tenantIdsOfUsers.get(userId), Integer.valueOf(SUPER_TENANT_ID));
+            assertEquals(usernamesOfUsers.get(userId), SHARING_INITIATED_USERNAME);
+            assertEquals(threadLocalPropertiesOfUsers.get(userId), THREAD_LOCAL_PROPERTY_VALUE);
+        }
+    }
+
+    @Test
+    public void testShareUsersInParallelThrowsFirstFailureAfterSharingRemainingUsers() throws Exception {
+
+        mockUserShareTaskExecutor();
+        List<String> userIds = Arrays.asList(USER_1_ID, USER_2_ID, USER_3_ID, USER_4_ID, USER_5_ID);
+        Set<String> processedUserIds = ConcurrentHashMap.newKeySet();
+        UserSharingMgtServerException firstFailure =
+                new UserSharingMgtServerException(ERROR_GENERAL_SHARE, VALIDATE_MSG_EXCEPTION);
+        UserSharingMgtServerException secondFailure =
+                new UserSharingMgtServerException(ERROR_GENERAL_SHARE, VALIDATE_MSG_EXCEPTION);
+
+        startSharingInitiatedTenantFlow();
+        try {
+            UserSharingMgtException thrownFailure = expectThrows(UserSharingMgtException.class,
+                    () -> userSharingPolicyHandlerService.shareUsersInParallel(userIds, associatedUserId -> {
+                        processedUserIds.add(associatedUserId);
+                        if (USER_2_ID.equals(associatedUserId)) {
+                            throw firstFailure;
+                        }
+                        if (USER_4_ID.equals(associatedUserId)) {
+                            throw secondFailure;
+                        }
+                    }));
+            // The failure of the first user in the list order is thrown, irrespective of the order the tasks ran.
+            assertSame(thrownFailure, firstFailure);
+        } finally {
+            endSharingInitiatedTenantFlow();
+        }
+        assertEquals(processedUserIds, new HashSet<>(userIds));
+    }
+
+    @DataProvider(name = "sharingPolicyOrganizationsDataProvider")
+    public Object[][] sharingPolicyOrganizationsDataProvider() {
+
+        return new Object[][]{
+                {PolicyEnum.ALL_EXISTING_ORGS_ONLY, Arrays.asList(ORG_1_ID, ORG_2_ID, ORG_3_ID)},
+                {PolicyEnum.SELECTED_ORG_WITH_ALL_EXISTING_CHILDREN_ONLY,
+                        Arrays.asList(ORG_SUPER_ID, ORG_1_ID, ORG_2_ID, ORG_3_ID)},
+                {PolicyEnum.IMMEDIATE_EXISTING_ORGS_ONLY, Arrays.asList(ORG_1_ID, ORG_2_ID)},
+                {PolicyEnum.SELECTED_ORG_WITH_EXISTING_IMMEDIATE_CHILDREN_ONLY,
+                        Arrays.asList(ORG_SUPER_ID, ORG_1_ID, ORG_2_ID)},
+                {PolicyEnum.SELECTED_ORG_ONLY, Collections.singletonList(ORG_SUPER_ID)},
+                {PolicyEnum.NO_SHARING, Collections.emptyList()}
+        };
+    }
+
+    @Test(dataProvider = "sharingPolicyOrganizationsDataProvider")
+    public void testExtractOrgListBasedOnSharingPolicyOrdersParentsBeforeChildren(PolicyEnum policy,
+                                                                                  List<String> expectedOrgIds)
+            throws Exception {
+
+        OrganizationUserSharingDataHolder dataHolder = mock(OrganizationUserSharingDataHolder.class);
+        when(OrganizationUserSharingDataHolder.getInstance()).thenReturn(dataHolder);
+        OrganizationManager mockOrgManager = mock(OrganizationManager.class);
+        when(dataHolder.getOrganizationManager()).thenReturn(mockOrgManager);
+
+        // Hierarchy: ORG_SUPER -> [ORG_1 -> [ORG_3], ORG_2].
+        OrganizationNode org3Node = createOrganizationNode(ORG_3_ID, Collections.emptyList());
+        OrganizationNode org1Node = createOrganizationNode(ORG_1_ID, Collections.singletonList(org3Node));
+        OrganizationNode org2Node = createOrganizationNode(ORG_2_ID, Collections.emptyList());
+        when(mockOrgManager.getChildOrganizationGraph(ORG_SUPER_ID, true)).thenReturn(
+                Arrays.asList(org1Node, org2Node));
+        when(mockOrgManager.getChildOrganizationsIds(ORG_SUPER_ID, false)).thenReturn(
+                Arrays.asList(ORG_1_ID, ORG_2_ID));
+
+        List<String> orgIds = userSharingPolicyHandlerService.extractOrgListBasedOnSharingPolicy(ORG_SUPER_ID, policy);
+
+        assertEquals(orgIds, expectedOrgIds);
+        // The order is derived from the graph, without resolving the depth of each organization.
+        verify(mockOrgManager, never()).getOrganizationDepthInHierarchy(anyString());
+    }
+
+    @Test
+    public void testGetExistingUserAssociationsIncludesAssociationsOutsideTargetTree() throws Exception {
+
+        OrganizationUserSharingDataHolder dataHolder = mock(OrganizationUserSharingDataHolder.class);
+        when(OrganizationUserSharingDataHolder.getInstance()).thenReturn(dataHolder);
+        OrganizationManager mockOrgManager = mock(OrganizationManager.class);
+        when(dataHolder.getOrganizationManager()).thenReturn(mockOrgManager);
+        OrganizationUserSharingService mockSharingService = mock(OrganizationUserSharingService.class);
+        when(dataHolder.getOrganizationUserSharingService()).thenReturn(mockSharingService);
+
+        UserAssociation associationInTree = createSharedUserAssociation(USER_1_ID, ORG_1_ID);
+        UserAssociation associationOutOfTree = createSharedUserAssociation(USER_1_ID, ORG_3_ID);
+        when(mockSharingService.getUserAssociationsOfGivenUser(USER_1_ID, ORG_SUPER_ID)).thenReturn(
+                Arrays.asList(associationInTree, associationOutOfTree));
+        when(mockOrgManager.getChildOrganizationsIds(ORG_SUPER_ID, true)).thenReturn(
+                Arrays.asList(ORG_1_ID, ORG_2_ID));
+
+        Map<String, UserAssociation> existingUserAssociations =
+                userSharingPolicyHandlerService.getExistingUserAssociations(USER_1_ID, ORG_SUPER_ID);
+
+        assertEquals(existingUserAssociations.keySet(), new HashSet<>(Arrays.asList(ORG_1_ID, ORG_3_ID)));
+        assertSame(existingUserAssociations.get(ORG_1_ID), associationInTree);
+        assertSame(existingUserAssociations.get(ORG_3_ID), associationOutOfTree);
+
+        List<UserAssociation> associationsOnOrgTree =
+                userSharingPolicyHandlerService.getUserAssociationsOfGivenUserOnOrgTree(
+                        createGeneralUserShare(USER_1_ID), ORG_SUPER_ID, existingUserAssociations);
+
+        assertEquals(associationsOnOrgTree, Collections.singletonList(associationInTree));
+    }
+
+    @Test
+    public void testProcessUserSharingUpdatesUnsharesEachOldAssociationOnce() throws Exception {
+
+        OrganizationUserSharingDataHolder dataHolder = mock(OrganizationUserSharingDataHolder.class);
+        when(OrganizationUserSharingDataHolder.getInstance()).thenReturn(dataHolder);
+        OrganizationManager mockOrgManager = mock(OrganizationManager.class);
+        when(dataHolder.getOrganizationManager()).thenReturn(mockOrgManager);
+        OrganizationUserSharingService mockSharingService = mock(OrganizationUserSharingService.class);
+        when(dataHolder.getOrganizationUserSharingService()).thenReturn(mockSharingService);
+        when(dataHolder.getResourceSharingPolicyHandlerService()).thenReturn(
+                mock(ResourceSharingPolicyHandlerService.class));
+        when(dataHolder.getAsyncOperationStatusMgtService()).thenReturn(mock(AsyncOperationStatusMgtService.class));
+        when(mockOrgManager.getChildOrganizationsIds(ORG_SUPER_ID, true)).thenReturn(
+                Arrays.asList(ORG_1_ID, ORG_2_ID));
+
+        // ORG_1 is in the organization tree of the user share, while ORG_3 is a left over from an older share.
+        Map<String, UserAssociation> existingUserAssociations = new HashMap<>();
+        existingUserAssociations.put(ORG_1_ID, createSharedUserAssociation(USER_1_ID, ORG_1_ID));
+        existingUserAssociations.put(ORG_3_ID, createSharedUserAssociation(USER_1_ID, ORG_3_ID));
+        Map<BaseUserShare, List<String>> userSharingOrgs =
+                Collections.singletonMap(createGeneralUserShare(USER_1_ID), Collections.emptyList());
+
+        userSharingPolicyHandlerService.processUserSharingUpdates(userSharingOrgs, existingUserAssociations,
+                USER_1_ID, ORG_SUPER_ID, USER_2_ID, CORRELATION_ID);
+
+        verify(mockSharingService, times(1)).unshareOrganizationUserInSharedOrganization(USER_1_ID, ORG_1_ID);
+        verify(mockSharingService, times(1)).unshareOrganizationUserInSharedOrganization(USER_1_ID, ORG_3_ID);
+        assertTrue(existingUserAssociations.isEmpty());
+    }
+
+    @DataProvider(name = "existingResidentUserDataProvider")
+    public Object[][] existingResidentUserDataProvider() {
+
+        return new Object[][]{
+                {false, null, false},
+                {true, ORG_1_ID, false},
+                {true, null, true}
+        };
+    }
+
+    @Test(dataProvider = "existingResidentUserDataProvider")
+    public void testIsExistingResidentUser(boolean isExistingUser, String managedOrganization,
+                                           boolean expectedResult) throws Exception {
+
+        AbstractUserStoreManager mockUserStoreManager = mock(AbstractUserStoreManager.class);
+        when(mockUserStoreManager.isExistingUserWithID(USER_1_ID)).thenReturn(isExistingUser);
+        when(mockUserStoreManager.getUserClaimValuesWithID(eq(USER_1_ID), any(String[].class), any()))
+                .thenReturn(Collections.singletonMap(CLAIM_MANAGED_ORGANIZATION, managedOrganization));
+
+        assertEquals(userSharingPolicyHandlerService.isExistingResidentUser(mockUserStoreManager, USER_1_ID),
+                expectedResult);
+    }
+
+    @Test
+    public void testIsExistingResidentUserWhenUserStoreFails() throws Exception {
+
+        AbstractUserStoreManager mockUserStoreManager = mock(AbstractUserStoreManager.class);
+        when(mockUserStoreManager.isExistingUserWithID(USER_1_ID)).thenThrow(new UserStoreException());
+
+        assertFalse(userSharingPolicyHandlerService.isExistingResidentUser(mockUserStoreManager, USER_1_ID));
+    }
+
+    @Test
+    public void testGeneralUserShareFailsWhenUserStoreManagerIsNotResolved() throws Exception {
+
+        OrganizationUserSharingDataHolder dataHolder = mock(OrganizationUserSharingDataHolder.class);
+        when(OrganizationUserSharingDataHolder.getInstance()).thenReturn(dataHolder);
+        OrganizationManager mockOrgManager = mock(OrganizationManager.class);
+        when(dataHolder.getOrganizationManager()).thenReturn(mockOrgManager);
+        AsyncOperationStatusMgtService mockAsyncService = mock(AsyncOperationStatusMgtService.class);
+        when(dataHolder.getAsyncOperationStatusMgtService()).thenReturn(mockAsyncService);
+        when(mockOrgManager.resolveTenantDomain(ORG_SUPER_ID)).thenThrow(new OrganizationManagementException(
+                VALIDATE_MSG_EXCEPTION));
+        when(mockAsyncService.registerOperationStatus(any(OperationInitDTO.class), eq(false)))
+                .thenReturn(OPERATION_ID);
+
+        UserIdList userIds = new UserIdList(Collections.singletonList(USER_1_ID));
+        assertThrows(UserSharingMgtServerException.class, () ->
+                userSharingPolicyHandlerService.generalUserShareByUserIds(userIds, PolicyEnum.SELECTED_ORG_ONLY,
+                        Collections.emptyList(), ORG_SUPER_ID, USER_2_ID, CORRELATION_ID));
+
+        verify(mockAsyncService).updateOperationStatus(OPERATION_ID, OperationStatus.FAILED);
+        verify(mockOrgManager, never()).getOrganizationNameById(anyString());
+    }
+
+    @Test
+    public void testShareUsersOfStreamSharesEachPageAndRecordsCheckpoints() throws Exception {
+
+        AsyncOperationStatusMgtService mockAsyncService = mockUserIdStreamSharing();
+        Set<String> sharedUserIds = ConcurrentHashMap.newKeySet();
+        UserIdStream userIdStream = new UserIdStream(new ListUserIdPageSource(
+                Arrays.asList(USER_5_ID, USER_1_ID, USER_4_ID, USER_2_ID, USER_3_ID)));
+
+        shareUsersOfStream(userIdStream, sharedUserIds::add);
+
+        assertEquals(sharedUserIds, new HashSet<>(Arrays.asList(USER_1_ID, USER_2_ID, USER_3_ID, USER_4_ID,
+                USER_5_ID)));
+        // Pages of two users: a checkpoint holding the last user ID is recorded for each page.
+        List<UnitOperationInitDTO> checkpoints = captureCheckpoints(mockAsyncService, 3);
+        assertEquals(checkpoints.stream().map(UnitOperationInitDTO::getOperationInitiatedResourceId)
+                .collect(Collectors.toList()), Arrays.asList(USER_2_ID, USER_4_ID, USER_5_ID));
+        for (UnitOperationInitDTO checkpoint : checkpoints) {
+            assertEquals(checkpoint.getUnitOperationStatus(), OperationStatus.SUCCESS);
+        }
+    }
+
+    @Test
+    public void testShareUsersOfStreamContinuesAfterFailedPage() throws Exception {
+
+        AsyncOperationStatusMgtService mockAsyncService = mockUserIdStreamSharing();
+        Set<String> sharedUserIds = ConcurrentHashMap.newKeySet();
+        UserSharingMgtServerException failure =
+                new UserSharingMgtServerException(ERROR_GENERAL_SHARE, VALIDATE_MSG_EXCEPTION);
+        UserIdStream userIdStream = new UserIdStream(new ListUserIdPageSource(
+                Arrays.asList(USER_1_ID, USER_2_ID, USER_3_ID, USER_4_ID, USER_5_ID)));
+
+        UserSharingMgtException thrownFailure = expectThrows(UserSharingMgtException.class,
+                () -> shareUsersOfStream(userIdStream, associatedUserId -> {
+                    sharedUserIds.add(associatedUserId);
+                    if (USER_3_ID.equals(associatedUserId)) {
+                        throw failure;
+                    }
+                }));
+
+        assertSame(thrownFailure, failure);
+        assertTrue(sharedUserIds.contains(USER_5_ID));
+        List<UnitOperationInitDTO> checkpoints = captureCheckpoints(mockAsyncService, 3);
+        assertEquals(checkpoints.stream().map(UnitOperationInitDTO::getUnitOperationStatus)
+                .collect(Collectors.toList()), Arrays.asList(OperationStatus.SUCCESS,
+                OperationStatus.PARTIALLY_COMPLETED, OperationStatus.SUCCESS));
+    }
+
+    @Test
+    public void testShareUsersOfStreamResumesAfterCheckpoint() throws Exception {
+
+        AsyncOperationStatusMgtService mockAsyncService = mockUserIdStreamSharing();
+        Set<String> sharedUserIds = ConcurrentHashMap.newKeySet();
+        UserIdStream userIdStream = new UserIdStream(new ListUserIdPageSource(
+                Arrays.asList(USER_1_ID, USER_2_ID, USER_3_ID, USER_4_ID, USER_5_ID)), USER_2_ID);
+
+        shareUsersOfStream(userIdStream, sharedUserIds::add);
+
+        assertEquals(sharedUserIds, new HashSet<>(Arrays.asList(USER_3_ID, USER_4_ID, USER_5_ID)));
+        assertEquals(captureCheckpoints(mockAsyncService, 2).stream()
+                .map(UnitOperationInitDTO::getOperationInitiatedResourceId)
+                .collect(Collectors.toList()), Arrays.asList(USER_4_ID, USER_5_ID));
+    }
+
+    @Test
+    public void testShareUsersOfStreamFailsWhenPageSourceDoesNotAdvance() throws Exception {
+
+        AsyncOperationStatusMgtService mockAsyncService = mockUserIdStreamSharing();
+        AtomicInteger readPages = new AtomicInteger();
+        // Ignores the user ID to continue after, and returns the same full page on every read.
+        UserIdStream userIdStream = new UserIdStream((afterUserId, limit) -> {
+            readPages.incrementAndGet();
+            return Arrays.asList(USER_1_ID, USER_2_ID);
+        });
+
+        assertThrows(UserSharingMgtServerException.class,
+                () -> shareUsersOfStream(userIdStream, associatedUserId -> { }));
+
+        assertEquals(readPages.get(), 2);
+        List<UnitOperationInitDTO> checkpoints = captureCheckpoints(mockAsyncService, 2);
+        assertEquals(checkpoints.get(1).getOperationInitiatedResourceId(), USER_2_ID);
+        assertEquals(checkpoints.get(1).getUnitOperationStatus(), OperationStatus.FAILED);
+        verify(mockAsyncService).updateOperationStatus(eq(OPERATION_ID), any(OperationStatus.class));
+    }
+
+    @Test
+    public void testUnshareUsersOfStreamUnsharesEachPage() throws Exception {
+
+        List<List<String>> unsharedPages = new ArrayList<>();
+        UserIdStream userIdStream = new UserIdStream(new ListUserIdPageSource(
+                Arrays.asList(USER_5_ID, USER_1_ID, USER_4_ID, USER_2_ID, USER_3_ID)));
+
+        unshareUsersOfStream(userIdStream, unsharedPages::add);
+
+        assertEquals(unsharedPages, Arrays.asList(Arrays.asList(USER_1_ID, USER_2_ID),
+                Arrays.asList(USER_3_ID, USER_4_ID), Collections.singletonList(USER_5_ID)));
+    }
+
+    @Test
+    public void testUnshareUsersOfStreamResumesAfterStartUserId() throws Exception {
+
+        List<String> unsharedUserIds = new ArrayList<>();
+        UserIdStream userIdStream = new UserIdStream(new ListUserIdPageSource(
+                Arrays.asList(USER_1_ID, USER_2_ID, USER_3_ID, USER_4_ID, USER_5_ID)), USER_3_ID);
+
+        unshareUsersOfStream(userIdStream, unsharedUserIds::addAll);
+
+        assertEquals(unsharedUserIds, Arrays.asList(USER_4_ID, USER_5_ID));
+    }
+
+    @Test
+    public void testUnshareUsersOfStreamFailsWhenPageSourceDoesNotAdvance() {
+
+        AtomicInteger readPages = new AtomicInteger();
+        // Ignores the user ID to continue after, and returns the same full page on every read.
+        UserIdStream userIdStream = new UserIdStream((afterUserId, limit) -> {
+            readPages.incrementAndGet();
+            return Arrays.asList(USER_1_ID, USER_2_ID);
+        });
+
+        assertThrows(UserSharingMgtServerException.class,
+                () -> unshareUsersOfStream(userIdStream, associatedUserIds -> { }));
+
+        assertEquals(readPages.get(), 2);
+    }
+
     // Test case Builders.
 
     private Map<String, UserAssociation> setExpectedResultsForGetSharedOrgsTestCase1() {
@@ -438,6 +837,99 @@ public class UserSharingPolicyHandlerServiceImplTest {
 
     // Helper Methods.
 
+    private void mockUserShareTaskExecutor() {
+
+        OrganizationUserSharingDataHolder dataHolder = mock(OrganizationUserSharingDataHolder.class);
+        when(OrganizationUserSharingDataHolder.getInstance()).thenReturn(dataHolder);
+        userShareTaskExecutor = new UserShareTaskExecutor(2, 10, 2);
+        when(dataHolder.getUserShareTaskExecutor()).thenReturn(userShareTaskExecutor);
+    }
+
+    private void startSharingInitiatedTenantFlow() {
+
+        String carbonHome = Paths.get(System.getProperty("user.dir"), "target", "test-classes").toString();
+        System.setProperty(CarbonBaseConstants.CARBON_HOME, carbonHome);
+        PrivilegedCarbonContext.startTenantFlow();
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        carbonContext.setTenantDomain(SUPER_TENANT_DOMAIN_NAME);
+        carbonContext.setTenantId(SUPER_TENANT_ID);
+        carbonContext.setUsername(SHARING_INITIATED_USERNAME);
+        IdentityUtil.threadLocalProperties.get().put(THREAD_LOCAL_PROPERTY_KEY, THREAD_LOCAL_PROPERTY_VALUE);
+    }
+
+    private void endSharingInitiatedTenantFlow() {
+
+        IdentityUtil.threadLocalProperties.get().remove(THREAD_LOCAL_PROPERTY_KEY);
+        PrivilegedCarbonContext.endTenantFlow();
+    }
+
+    private AsyncOperationStatusMgtService mockUserIdStreamSharing() throws Exception {
+
+        mockUserShareTaskExecutor();
+        OrganizationUserSharingDataHolder dataHolder = OrganizationUserSharingDataHolder.getInstance();
+        AsyncOperationStatusMgtService mockAsyncService = mock(AsyncOperationStatusMgtService.class);
+        when(dataHolder.getAsyncOperationStatusMgtService()).thenReturn(mockAsyncService);
+        when(mockAsyncService.registerOperationStatus(any(OperationInitDTO.class), eq(false)))
+                .thenReturn(OPERATION_ID);
+        return mockAsyncService;
+    }
+
+    private void shareUsersOfStream(UserIdStream userIdStream,
+                                    UserSharingPolicyHandlerServiceImpl.UserShareTask userShareTask)
+            throws UserSharingMgtException {
+
+        startSharingInitiatedTenantFlow();
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            identityUtil.when(() -> IdentityUtil.getProperty(USER_ID_PAGE_SIZE)).thenReturn(USER_ID_PAGE_SIZE_VALUE);
+            userSharingPolicyHandlerService.shareUsersOfStream(userIdStream, userShareTask,
+                    PolicyEnum.ALL_EXISTING_ORGS_ONLY.getValue(), ORG_SUPER_ID, USER_1_ID, CORRELATION_ID);
+        } finally {
+            endSharingInitiatedTenantFlow();
+        }
+    }
+
+    private void unshareUsersOfStream(UserIdStream userIdStream,
+                                      UserSharingPolicyHandlerServiceImpl.UserUnshareTask userUnshareTask)
+            throws UserSharingMgtException {
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            identityUtil.when(() -> IdentityUtil.getProperty(USER_ID_PAGE_SIZE)).thenReturn(USER_ID_PAGE_SIZE_VALUE);
+            userSharingPolicyHandlerService.unshareUsersOfStream(userIdStream, userUnshareTask);
+        }
+    }
+
+    private List<UnitOperationInitDTO> captureCheckpoints(AsyncOperationStatusMgtService mockAsyncService,
+                                                          int expectedCheckpoints) throws Exception {
+
+        ArgumentCaptor<UnitOperationInitDTO> checkpointCaptor = ArgumentCaptor.forClass(UnitOperationInitDTO.class);
+        verify(mockAsyncService, times(expectedCheckpoints)).registerUnitOperationStatus(checkpointCaptor.capture());
+        return checkpointCaptor.getAllValues();
+    }
+
+    private OrganizationNode createOrganizationNode(String organizationId, List<OrganizationNode> children) {
+
+        OrganizationNode organizationNode = mock(OrganizationNode.class);
+        when(organizationNode.getId()).thenReturn(organizationId);
+        when(organizationNode.getChildren()).thenReturn(children);
+        return organizationNode;
+    }
+
+    private UserAssociation createSharedUserAssociation(String associatedUserId, String organizationId) {
+
+        UserAssociation userAssociation = createUserAssociation(associatedUserId, organizationId);
+        userAssociation.setAssociatedUserId(associatedUserId);
+        return userAssociation;
+    }
+
+    private GeneralUserShare createGeneralUserShare(String userId) throws Exception {
+
+        return new GeneralUserShare.Builder()
+                .withUserId(userId)
+                .withPolicy(PolicyEnum.ALL_EXISTING_ORGS_ONLY)
+                .withRoles(Collections.emptyList())
+                .build();
+    }
+
     private UserAssociation createUserAssociation(String userId, String organizationId) {
 
         UserAssociation userAssociation = new UserAssociation();
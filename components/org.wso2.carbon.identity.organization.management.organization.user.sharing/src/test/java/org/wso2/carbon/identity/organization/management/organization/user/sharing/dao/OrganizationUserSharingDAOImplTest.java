@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.dao;
+
+import org.mockito.MockedStatic;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.SharedType;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.UserAssociation;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.Mockito.mockStatic;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.constant.UserSharingConstants.USER_ASSOCIATION_BATCH_SIZE;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.util.TestUtils.closeH2Base;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.util.TestUtils.initiateH2Base;
+import static org.wso2.carbon.identity.organization.management.organization.user.sharing.util.TestUtils.mockDataSource;
+
+/**
+ * Unit tests for {@link OrganizationUserSharingDAOImpl}.
+ */
+public class OrganizationUserSharingDAOImplTest {
+
+    private static final String ROOT_ORG_ID = "10084a8d-113f-4211-a0d5-efe36b082211";
+    private static final String ORG_1_ID = "20084a8d-113f-4211-a0d5-efe36b082211";
+    private static final String ORG_2_ID = "30084a8d-113f-4211-a0d5-efe36b082211";
+    private static final String ORG_3_ID = "40084a8d-113f-4211-a0d5-efe36b082211";
+    private static final String ORG_4_ID = "50084a8d-113f-4211-a0d5-efe36b082211";
+    private static final String ORG_5_ID = "60084a8d-113f-4211-a0d5-efe36b082211";
+    private static final String BATCH_SIZE = "2";
+
+    private OrganizationUserSharingDAO organizationUserSharingDAO;
+
+    @BeforeClass
+    public void setUp() throws Exception {
+
+        initiateH2Base();
+        mockDataSource();
+        organizationUserSharingDAO = new OrganizationUserSharingDAOImpl();
+    }
+
+    @AfterClass
+    public void tearDown() throws Exception {
+
+        closeH2Base();
+    }
+
+    @Test
+    public void testCreateOrganizationUserAssociationsInBatches() throws Exception {
+
+        String associatedUserId = "batched-user";
+        List<UserAssociation> userAssociations = Arrays.asList(
+                buildUserAssociation("shared-user-1", ORG_1_ID, associatedUserId, SharedType.SHARED),
+                buildUserAssociation("shared-user-2", ORG_2_ID, associatedUserId, SharedType.SHARED),
+                buildUserAssociation("shared-user-3", ORG_3_ID, associatedUserId, SharedType.INVITED),
+                buildUserAssociation("shared-user-4", ORG_4_ID, associatedUserId, SharedType.SHARED),
+                buildUserAssociation("shared-user-5", ORG_5_ID, associatedUserId, null));
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            identityUtil.when(() -> IdentityUtil.getProperty(USER_ASSOCIATION_BATCH_SIZE)).thenReturn(BATCH_SIZE);
+            organizationUserSharingDAO.createOrganizationUserAssociations(userAssociations);
+        }
+
+        List<UserAssociation> createdAssociations =
+                organizationUserSharingDAO.getUserAssociationsOfAssociatedUser(associatedUserId, ROOT_ORG_ID);
+        Assert.assertEquals(createdAssociations.size(), userAssociations.size());
+        for (UserAssociation createdAssociation : createdAssociations) {
+            UserAssociation userAssociation = userAssociations.stream()
+                    .filter(association -> association.getUserId().equals(createdAssociation.getUserId()))
+                    .findFirst()
+                    .orElseThrow(AssertionError::new);
+            Assert.assertEquals(createdAssociation.getOrganizationId(), userAssociation.getOrganizationId());
+            Assert.assertEquals(createdAssociation.getUserResidentOrganizationId(), ROOT_ORG_ID);
+            SharedType expectedSharedType = userAssociation.getSharedType() != null ?
+                    userAssociation.getSharedType() : SharedType.NOT_SPECIFIED;
+            Assert.assertEquals(createdAssociation.getSharedType(), expectedSharedType);
+        }
+    }
+
+    @Test
+    public void testCreateOrganizationUserAssociationsKeepsCommittedBatchesOnFailure() throws Exception {
+
+        String associatedUserId = "partially-batched-user";
+        // The last association duplicates the shared user of the third one, so only the second batch fails.
+        List<UserAssociation> userAssociations = Arrays.asList(
+                buildUserAssociation("partial-user-1", ORG_1_ID, associatedUserId, SharedType.SHARED),
+                buildUserAssociation("partial-user-2", ORG_2_ID, associatedUserId, SharedType.SHARED),
+                buildUserAssociation("partial-user-3", ORG_3_ID, associatedUserId, SharedType.SHARED),
+                buildUserAssociation("partial-user-3", ORG_3_ID, associatedUserId, SharedType.SHARED));
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            identityUtil.when(() -> IdentityUtil.getProperty(USER_ASSOCIATION_BATCH_SIZE)).thenReturn(BATCH_SIZE);
+            Assert.assertThrows(OrganizationManagementServerException.class,
+                    () -> organizationUserSharingDAO.createOrganizationUserAssociations(userAssociations));
+        }
+
+        List<UserAssociation> createdAssociations =
+                organizationUserSharingDAO.getUserAssociationsOfAssociatedUser(associatedUserId, ROOT_ORG_ID);
+        Assert.assertEquals(createdAssociations.size(), 2);
+    }
+
+    @Test
+    public void testCreateOrganizationUserAssociationsWithEmptyList() throws Exception {
+
+        organizationUserSharingDAO.createOrganizationUserAssociations(Collections.emptyList());
+        Assert.assertTrue(organizationUserSharingDAO.getUserAssociationsOfAssociatedUser("unknown-user", ROOT_ORG_ID)
+                .isEmpty());
+    }
+
+    private UserAssociation buildUserAssociation(String userId, String orgId, String associatedUserId,
+                                                 SharedType sharedType) {
+
+        UserAssociation userAssociation = new UserAssociation();
+        userAssociation.setUserId(userId);
+        userAssociation.setOrganizationId(orgId);
+        userAssociation.setAssociatedUserId(associatedUserId);
+        userAssociation.setUserResidentOrganizationId(ROOT_ORG_ID);
+        userAssociation.setSharedType(sharedType);
+        return userAssociation;
+    }
+}
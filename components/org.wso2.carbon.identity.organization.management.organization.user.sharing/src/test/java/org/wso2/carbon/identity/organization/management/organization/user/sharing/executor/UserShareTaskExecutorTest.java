@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.executor;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Unit tests for {@link UserShareTaskExecutor}.
+ */
+public class UserShareTaskExecutorTest {
+
+    private static final String TENANT_A = "tenant-a.com";
+    private static final String TENANT_B = "tenant-b.com";
+
+    private UserShareTaskExecutor userShareTaskExecutor;
+    private CountDownLatch releaseWorker;
+
+    @BeforeMethod
+    public void setUp() {
+
+        userShareTaskExecutor = new UserShareTaskExecutor(2, 10, 1);
+        releaseWorker = new CountDownLatch(1);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        releaseWorker.countDown();
+        userShareTaskExecutor.shutdown();
+    }
+
+    @Test
+    public void testTenantAtConcurrencyCapDoesNotBlockOtherTenants() throws Exception {
+
+        CountDownLatch workerStarted = new CountDownLatch(1);
+        CompletableFuture<Void> runningTask = userShareTaskExecutor.runAsync(TENANT_A, () -> {
+            workerStarted.countDown();
+            awaitRelease();
+        });
+        Assert.assertTrue(workerStarted.await(5, TimeUnit.SECONDS));
+
+        // Tenant A holds its only slot, hence the submission of its next task waits until the slot is released.
+        CountDownLatch waitingTaskRun = new CountDownLatch(1);
+        AtomicReference<CompletableFuture<Void>> waitingTask = new AtomicReference<>();
+        Thread submittingThread = new Thread(() ->
+                waitingTask.set(userShareTaskExecutor.runAsync(TENANT_A, waitingTaskRun::countDown)));
+        submittingThread.start();
+        Assert.assertFalse(waitingTaskRun.await(200, TimeUnit.MILLISECONDS));
+
+        // The free thread of the executor still runs the tasks of tenant B.
+        userShareTaskExecutor.runAsync(TENANT_B, () -> { }).get(5, TimeUnit.SECONDS);
+        Assert.assertEquals(waitingTaskRun.getCount(), 1);
+
+        releaseWorker.countDown();
+        runningTask.get(5, TimeUnit.SECONDS);
+        submittingThread.join(5000);
+        waitingTask.get().get(5, TimeUnit.SECONDS);
+        Assert.assertEquals(waitingTaskRun.getCount(), 0);
+    }
+
+    @Test
+    public void testTaskIsRejectedAfterShutdown() throws Exception {
+
+        userShareTaskExecutor.shutdown();
+        AtomicReference<Thread> taskThread = new AtomicReference<>();
+
+        CompletableFuture<Void> task =
+                userShareTaskExecutor.runAsync(TENANT_A, () -> taskThread.set(Thread.currentThread()));
+
+        Assert.assertTrue(task.isCompletedExceptionally());
+        Assert.assertNull(taskThread.get());
+        try {
+            task.get();
+            Assert.fail("A task submitted after the shutdown should not run.");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+
+        // The slot of the rejected task is released, hence a further task of the tenant is rejected instead of waiting.
+        Assert.assertTrue(userShareTaskExecutor.runAsync(TENANT_A, () -> { }).isCompletedExceptionally());
+    }
+
+    @Test
+    public void testNewExecutorAcceptsTasksAfterPreviousIsShutDown() throws Exception {
+
+        userShareTaskExecutor.shutdown();
+        // A reactivated component creates a new executor instead of reusing the one shut down on deactivation.
+        userShareTaskExecutor = new UserShareTaskExecutor(2, 10, 1);
+        CountDownLatch taskRun = new CountDownLatch(1);
+
+        userShareTaskExecutor.runAsync(TENANT_A, taskRun::countDown).get(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals(taskRun.getCount(), 0);
+    }
+
+    private void awaitRelease() {
+
+        try {
+            releaseWorker.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
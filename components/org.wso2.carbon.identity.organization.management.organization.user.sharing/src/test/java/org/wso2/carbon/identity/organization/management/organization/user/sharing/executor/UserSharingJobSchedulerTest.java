@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.executor;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for {@link UserSharingJobScheduler}.
+ */
+public class UserSharingJobSchedulerTest {
+
+    private static final String TENANT_A = "tenant-a.com";
+    private static final String TENANT_B = "tenant-b.com";
+    private static final String BLOCKING_TENANT = "blocking-tenant.com";
+
+    private UserSharingJobScheduler userSharingJobScheduler;
+    private CountDownLatch releaseWorker;
+
+    @BeforeMethod
+    public void setUp() {
+
+        // A single worker dispatches the queued jobs one after the other, which makes the dispatch order observable.
+        userSharingJobScheduler = new UserSharingJobScheduler(1, 10, 1);
+        releaseWorker = new CountDownLatch(1);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        releaseWorker.countDown();
+        userSharingJobScheduler.shutdown();
+    }
+
+    @Test
+    public void testJobsAreDispatchedInWeightedRoundRobinOrder() throws Exception {
+
+        userSharingJobScheduler.setTenantWeight(TENANT_A, 2);
+        CompletableFuture<Void> blockingJob = submitBlockingJob();
+        List<String> dispatchedJobs = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<Void>> queuedJobs = new ArrayList<>();
+        for (String job : Arrays.asList("A1", "A2", "A3", "A4")) {
+            queuedJobs.add(userSharingJobScheduler.submit(TENANT_A, () -> dispatchedJobs.add(job)));
+        }
+        for (String job : Arrays.asList("B1", "B2")) {
+            queuedJobs.add(userSharingJobScheduler.submit(TENANT_B, () -> dispatchedJobs.add(job)));
+        }
+        Assert.assertEquals(userSharingJobScheduler.getQueueDepth(TENANT_A), 4);
+        Assert.assertEquals(userSharingJobScheduler.getQueueDepth(TENANT_B), 2);
+
+        releaseWorker.countDown();
+        blockingJob.get(5, TimeUnit.SECONDS);
+        CompletableFuture.allOf(queuedJobs.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+
+        // Tenant A dispatches two jobs per round as per its weight, while tenant B dispatches one job per round.
+        Assert.assertEquals(dispatchedJobs, Arrays.asList("A1", "A2", "B1", "A3", "A4", "B2"));
+        Assert.assertEquals(userSharingJobScheduler.getQueueDepth(), 0);
+    }
+
+    @Test
+    public void testJobIsRejectedWhenQueueIsFull() throws Exception {
+
+        userSharingJobScheduler.shutdown();
+        userSharingJobScheduler = new UserSharingJobScheduler(1, 2, 1);
+        CompletableFuture<Void> blockingJob = submitBlockingJob();
+        CountDownLatch queuedJobsRun = new CountDownLatch(2);
+        CompletableFuture<Void> firstQueuedJob = userSharingJobScheduler.submit(TENANT_A, queuedJobsRun::countDown);
+        CompletableFuture<Void> secondQueuedJob = userSharingJobScheduler.submit(TENANT_B, queuedJobsRun::countDown);
+
+        try {
+            userSharingJobScheduler.submit(TENANT_A, () -> Assert.fail("A rejected job should not run."));
+            Assert.fail("A job submitted when the queue is full should be rejected.");
+        } catch (RejectedExecutionException e) {
+            // Expected, as the queue holds two jobs at most.
+        }
+        Assert.assertEquals(userSharingJobScheduler.getQueueDepth(), 2);
+        Assert.assertEquals(userSharingJobScheduler.getQueueDepth(TENANT_A), 1);
+
+        releaseWorker.countDown();
+        blockingJob.get(5, TimeUnit.SECONDS);
+        firstQueuedJob.get(5, TimeUnit.SECONDS);
+        secondQueuedJob.get(5, TimeUnit.SECONDS);
+        Assert.assertEquals(queuedJobsRun.getCount(), 0);
+        Assert.assertEquals(userSharingJobScheduler.getQueueDepth(), 0);
+    }
+
+    @Test
+    public void testWaitTimeMetricsOfDispatchedJobs() throws Exception {
+
+        CompletableFuture<Void> blockingJob = submitBlockingJob();
+        CompletableFuture<Void> queuedJob = userSharingJobScheduler.submit(TENANT_A, () -> { });
+        Thread.sleep(100);
+
+        releaseWorker.countDown();
+        blockingJob.get(5, TimeUnit.SECONDS);
+        queuedJob.get(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals(userSharingJobScheduler.getDispatchedJobCount(), 2);
+        // The queued job waited behind the blocking job, while the blocking job was dispatched right away.
+        Assert.assertTrue(userSharingJobScheduler.getMaxWaitTimeMillis() >= 100);
+        Assert.assertTrue(userSharingJobScheduler.getAverageWaitTimeMillis() >= 50);
+        Assert.assertTrue(userSharingJobScheduler.getAverageWaitTimeMillis() <=
+                userSharingJobScheduler.getMaxWaitTimeMillis());
+    }
+
+    @Test
+    public void testJobFailureCompletesItsFutureExceptionally() throws Exception {
+
+        CompletableFuture<Void> failedJob = userSharingJobScheduler.submit(TENANT_A, () -> {
+            throw new IllegalStateException("Job failed.");
+        });
+        CompletableFuture<Void> nextJob = userSharingJobScheduler.submit(TENANT_A, () -> { });
+
+        nextJob.get(5, TimeUnit.SECONDS);
+        Assert.assertTrue(failedJob.isCompletedExceptionally());
+    }
+
+    @Test
+    public void testNewSchedulerAcceptsJobsAfterPreviousIsShutDown() throws Exception {
+
+        userSharingJobScheduler.shutdown();
+        try {
+            userSharingJobScheduler.submit(TENANT_A, () -> { });
+            Assert.fail("A job submitted after the shutdown should be rejected.");
+        } catch (RejectedExecutionException e) {
+            Assert.assertEquals(userSharingJobScheduler.getQueueDepth(), 0);
+        }
+
+        // A reactivated component creates a new scheduler instead of reusing the one shut down on deactivation.
+        userSharingJobScheduler = new UserSharingJobScheduler(1, 10, 1);
+        CountDownLatch jobRun = new CountDownLatch(1);
+
+        userSharingJobScheduler.submit(TENANT_A, jobRun::countDown).get(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals(jobRun.getCount(), 0);
+    }
+
+    private CompletableFuture<Void> submitBlockingJob() throws InterruptedException {
+
+        CountDownLatch workerStarted = new CountDownLatch(1);
+        CompletableFuture<Void> blockingJob = userSharingJobScheduler.submit(BLOCKING_TENANT, () -> {
+            workerStarted.countDown();
+            awaitRelease();
+        });
+        Assert.assertTrue(workerStarted.await(5, TimeUnit.SECONDS));
+        return blockingJob;
+    }
+
+    private void awaitRelease() {
+
+        try {
+            releaseWorker.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -478,7 +478,7 @@ public class SharedUserOperationEventListenerTest {
             boolean listenerStatus =
                     sharedUserOperationEventListener.doPostGetUserClaimValuesWithID(userId, claimsSet, DEFAULT_PROFILE,
                             claimValues, userStoreManager);
-            verify(orgResourceResolverService, times(claimResolverCalledTimes)).getResourcesFromOrgHierarchy(
+            verify(orgResourceResolverService, times(claimResolverCalledTimes)).getResourcesFromOrgHierarchyByKeys(
                     anyString(), any(), any());
             assertTrue(listenerStatus);
         }
@@ -524,8 +524,12 @@ public class SharedUserOperationEventListenerTest {
         identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(anyString())).thenReturn(1);
         when(realmService.getTenantUserRealm(anyInt())).thenReturn(tenantUserRealm);
         when(tenantUserRealm.getUserStoreManager()).thenReturn(userStoreManager);
-        when(orgResourceResolverService.getResourcesFromOrgHierarchy(anyString(), any(), any())).thenReturn(
-                resolvedValueForCustomClaim);
+        Map<String, String> resolvedClaimsFromHierarchy = new HashMap<>();
+        if (resolvedValueForCustomClaim != null) {
+            resolvedClaimsFromHierarchy.put(CUSTOM_CLAIM_1, resolvedValueForCustomClaim);
+        }
+        when(orgResourceResolverService.<String, String>getResourcesFromOrgHierarchyByKeys(anyString(), any(), any()))
+                .thenReturn(resolvedClaimsFromHierarchy);
         String[] claimsSet = {GIVEN_NAME_CLAIM, GROUPS_CLAIM, CUSTOM_CLAIM_1};
 
         try (MockedStatic<IdentityUtil> identityUtil = Mockito.mockStatic(IdentityUtil.class)) {
@@ -535,7 +539,7 @@ public class SharedUserOperationEventListenerTest {
                     sharedUserOperationEventListener.doPostGetUserClaimValuesWithID(SHARED_USER_OF_USER_1_IN_L1_ORG,
                             claimsSet, DEFAULT_PROFILE,
                             claimValues, userStoreManager);
-            verify(orgResourceResolverService, times(1)).getResourcesFromOrgHierarchy(
+            verify(orgResourceResolverService, times(1)).getResourcesFromOrgHierarchyByKeys(
                     anyString(), any(), any());
             assertEquals(claimValues.size(), claimValuesAtTheEnd);
             assertTrue(listenerStatus);
@@ -624,7 +628,7 @@ public class SharedUserOperationEventListenerTest {
             boolean listenerStatus =
                     sharedUserOperationEventListener.doPostGetUsersClaimValuesWithID(userIds, claims,
                             DEFAULT_PROFILE, userClaims, userStoreManager);
-            verify(orgResourceResolverService, times(claimResolverCalledTimes)).getResourcesFromOrgHierarchy(
+            verify(orgResourceResolverService, times(claimResolverCalledTimes)).getResourcesFromOrgHierarchyByKeys(
                     anyString(), any(), any());
             assertTrue(listenerStatus);
         }
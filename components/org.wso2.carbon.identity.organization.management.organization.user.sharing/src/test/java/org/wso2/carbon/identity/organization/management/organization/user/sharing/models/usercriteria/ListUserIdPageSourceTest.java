@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.models.usercriteria;
+
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for ListUserIdPageSource.
+ */
+public class ListUserIdPageSourceTest {
+
+    @Test
+    public void testPagesAreReturnedInSortedOrderWithoutDuplicates() {
+
+        ListUserIdPageSource pageSource = new ListUserIdPageSource(Arrays.asList("user-c", "user-a", "user-b",
+                "user-a", "user-d"));
+
+        assertEquals(pageSource.getUserIds(null, 2), Arrays.asList("user-a", "user-b"));
+        assertEquals(pageSource.getUserIds("user-b", 2), Arrays.asList("user-c", "user-d"));
+        assertTrue(pageSource.getUserIds("user-d", 2).isEmpty());
+    }
+
+    @Test
+    public void testPageContinuesAfterUserIdWhichIsNotInTheSource() {
+
+        ListUserIdPageSource pageSource = new ListUserIdPageSource(Arrays.asList("user-a", "user-c", "user-e"));
+
+        assertEquals(pageSource.getUserIds("user-b", 10), Arrays.asList("user-c", "user-e"));
+        assertEquals(pageSource.getUserIds("user-e", Integer.MAX_VALUE), Collections.emptyList());
+    }
+}
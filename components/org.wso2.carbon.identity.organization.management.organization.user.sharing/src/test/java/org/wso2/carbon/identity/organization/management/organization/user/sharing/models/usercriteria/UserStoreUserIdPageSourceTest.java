@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.management.organization.user.sharing.models.usercriteria;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.organization.management.organization.user.sharing.exception.UserSharingMgtServerException;
+import org.wso2.carbon.user.core.UserStoreException;
+import org.wso2.carbon.user.core.common.AbstractUserStoreManager;
+import org.wso2.carbon.user.core.common.User;
+import org.wso2.carbon.user.core.model.Condition;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for UserStoreUserIdPageSource.
+ */
+public class UserStoreUserIdPageSourceTest {
+
+    private static final String DOMAIN = "PRIMARY";
+    private static final String DEFAULT_PROFILE = "default";
+    private static final List<String> USER_IDS = Arrays.asList("user-c", "user-a", "user-e", "user-b", "user-d");
+
+    private AbstractUserStoreManager userStoreManager;
+    private Condition condition;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        userStoreManager = mock(AbstractUserStoreManager.class);
+        condition = mock(Condition.class);
+        // Lists the users in the order of the user store, starting from the 1-based offset.
+        when(userStoreManager.getUserListWithID(eq(condition), eq(DOMAIN), eq(DEFAULT_PROFILE), anyInt(), anyInt(),
+                isNull(), isNull())).thenAnswer(invocation -> {
+                    int limit = invocation.getArgument(3);
+                    int fromIndex = Math.min((int) invocation.getArgument(4) - 1, USER_IDS.size());
+                    return USER_IDS.subList(fromIndex, Math.min(fromIndex + limit, USER_IDS.size())).stream()
+                            .map(this::createUser)
+                            .collect(Collectors.toList());
+                });
+    }
+
+    @Test
+    public void testPagesContinueFromTheLastReturnedUserId() throws Exception {
+
+        UserStoreUserIdPageSource pageSource = new UserStoreUserIdPageSource(userStoreManager, condition, DOMAIN);
+
+        assertEquals(pageSource.getUserIds(null, 2), Arrays.asList("user-c", "user-a"));
+        assertEquals(pageSource.getUserIds("user-a", 2), Arrays.asList("user-e", "user-b"));
+        assertEquals(pageSource.getUserIds("user-b", 2), Arrays.asList("user-d"));
+        // Each page is read once, as the offset after the last returned user ID is kept.
+        verify(userStoreManager, times(3)).getUserListWithID(any(), any(), any(), anyInt(), anyInt(), any(), any());
+    }
+
+    @Test
+    public void testPageContinuesAfterCheckpointOfAnotherSource() throws Exception {
+
+        UserStoreUserIdPageSource pageSource = new UserStoreUserIdPageSource(userStoreManager, condition, DOMAIN);
+
+        assertEquals(pageSource.getUserIds("user-e", 2), Arrays.asList("user-b", "user-d"));
+        assertTrue(pageSource.getUserIds("user-d", 2).isEmpty());
+    }
+
+    @Test
+    public void testPageFailsWhenUserIdToContinueAfterIsNotListed() {
+
+        UserStoreUserIdPageSource pageSource = new UserStoreUserIdPageSource(userStoreManager, condition, DOMAIN);
+
+        assertThrows(UserSharingMgtServerException.class, () -> pageSource.getUserIds("user-x", 2));
+    }
+
+    @Test
+    public void testPageFailsWhenUserStoreFails() throws Exception {
+
+        when(userStoreManager.getUserListWithID(eq(condition), eq(DOMAIN), eq(DEFAULT_PROFILE), anyInt(), anyInt(),
+                isNull(), isNull())).thenThrow(new UserStoreException("User store is unavailable."));
+        UserStoreUserIdPageSource pageSource = new UserStoreUserIdPageSource(userStoreManager, condition, DOMAIN);
+
+        assertThrows(UserSharingMgtServerException.class, () -> pageSource.getUserIds(null, 2));
+    }
+
+    private User createUser(String userId) {
+
+        User user = new User();
+        user.setUserID(userId);
+        return user;
+    }
+}
@@ -0,0 +1,13 @@
+-- Table to store the associations of the shared users with the actual users
+CREATE TABLE UM_ORG_USER_ASSOCIATION
+(
+    UM_ID                 INTEGER                                        NOT NULL AUTO_INCREMENT,
+    UM_USER_ID            CHARACTER VARYING(255)                         NOT NULL,
+    UM_ORG_ID             CHARACTER VARYING(36)                          NOT NULL,
+    UM_ASSOCIATED_USER_ID CHARACTER VARYING(255)                         NOT NULL,
+    UM_ASSOCIATED_ORG_ID  CHARACTER VARYING(36)                          NOT NULL,
+    UM_SHARED_TYPE        CHARACTER VARYING(255) DEFAULT 'NOT SPECIFIED' NOT NULL,
+    PRIMARY KEY (UM_ID),
+    UNIQUE (UM_USER_ID, UM_ORG_ID),
+    UNIQUE (UM_ASSOCIATED_USER_ID, UM_ORG_ID)
+);
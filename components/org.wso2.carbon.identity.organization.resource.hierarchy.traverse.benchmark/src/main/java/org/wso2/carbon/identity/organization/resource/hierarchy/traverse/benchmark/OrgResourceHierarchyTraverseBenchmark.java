@@ -0,0 +1,352 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.resource.hierarchy.traverse.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.base.CarbonBaseConstants;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
+import org.wso2.carbon.identity.organization.application.resource.hierarchy.traverse.service.OrgAppResourceResolverService;
+import org.wso2.carbon.identity.organization.application.resource.hierarchy.traverse.service.OrgAppResourceResolverServiceImpl;
+import org.wso2.carbon.identity.organization.application.resource.hierarchy.traverse.service.internal.OrgAppResourceHierarchyTraverseServiceDataHolder;
+import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.OrgResourceResolverService;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.OrgResourceResolverServiceImpl;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.cache.AncestorApplicationCache;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.cache.AncestorOrganizationCache;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.exception.OrgResourceHierarchyTraverseException;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.executor.OrgResourceHierarchyTraverseExecutor;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.internal.OrgResourceHierarchyTraverseServiceDataHolder;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.strategy.AggregationStrategy;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.strategy.FirstFoundAggregationStrategy;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.strategy.MergeAllAggregationStrategy;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.strategy.ParallelFirstFoundAggregationStrategy;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * JMH benchmarks of {@link OrgResourceResolverServiceImpl} and {@link OrgAppResourceResolverServiceImpl}, driven by a
+ * {@link SyntheticOrganizationHierarchy}.
+ * <p>
+ * Each invocation resolves a resource for one of the sampled leaf organizations. The resource exists only at the
+ * organizations of the configured hit level, and every lookup of the resource retriever takes the configured
+ * latency, so the benchmarks expose how the cost of each aggregation strategy grows with the depth of the hierarchy,
+ * the depth at which the resource is found and the latency of the resource store. Build and run with:
+ * <pre>
+ * mvn clean install -Pbenchmark
+ * java -jar components/org.wso2.carbon.identity.organization.resource.hierarchy.traverse.benchmark/target/benchmarks.jar
+ * </pre>
+ * Any parameter can be overridden with the JMH {@code -p} option, e.g. {@code -p depth=4,12 -p strategy=MERGE_ALL}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrgResourceHierarchyTraverseBenchmark {
+
+    private static final int MAX_LEAF_ORGANIZATIONS = 1024;
+    private static final int PARALLEL_TRAVERSAL_THREAD_POOL_SIZE = 8;
+    private static final long SEED = 42L;
+    private static final String CARBON_CONFIG_DIRECTORY = "repository/conf";
+    private static final String CARBON_XML = "carbon.xml";
+    private static final String CARBON_XML_RESOURCE = "carbon-home/repository/conf/carbon.xml";
+
+    /**
+     * Depth of the leaf organizations, where the root organization is at depth 0.
+     */
+    @Param({"3", "8"})
+    public int depth;
+
+    /**
+     * Number of child organizations of each organization.
+     */
+    @Param({"4"})
+    public int fanOut;
+
+    /**
+     * Level of the hierarchy which holds the resource.
+     */
+    @Param({"LEAF", "ROOT", "NONE"})
+    public HitLevel hitLevel;
+
+    /**
+     * Simulated latency of a single resource retrieval.
+     */
+    @Param({"0", "100"})
+    public long retrieverLatencyMicros;
+
+    /**
+     * Simulated latency of a single ancestor organization/ application lookup, paid on ancestor cache misses.
+     */
+    @Param({"100"})
+    public long lookupLatencyMicros;
+
+    /**
+     * Whether the ancestor caches are cleared before every resolution.
+     */
+    @Param({"WARM", "COLD"})
+    public AncestorCacheMode ancestorCache;
+
+    /**
+     * Aggregation strategy used for the resolution.
+     */
+    @Param({"FIRST_FOUND", "MERGE_ALL", "PARALLEL_FIRST_FOUND"})
+    public Strategy strategy;
+
+    private SyntheticOrganizationHierarchy hierarchy;
+    private List<String> leafOrganizationIds;
+    private OrgResourceResolverService orgResourceResolverService;
+    private OrgAppResourceResolverService orgAppResourceResolverService;
+    private AggregationStrategy<String> aggregationStrategy;
+    private ExecutorService parallelTraversalExecutorService;
+    private OrgResourceHierarchyTraverseExecutor traverseExecutor;
+    private long retrieverLatencyNanos;
+    private int hitDepth;
+    private int nextLeafIndex;
+
+    /**
+     * Levels of the hierarchy which may hold the resource.
+     */
+    public enum HitLevel {
+        LEAF, MIDDLE, ROOT, NONE
+    }
+
+    /**
+     * Modes of the ancestor caches.
+     */
+    public enum AncestorCacheMode {
+        WARM, COLD
+    }
+
+    /**
+     * Aggregation strategies under benchmark.
+     */
+    public enum Strategy {
+        FIRST_FOUND, MERGE_ALL, PARALLEL_FIRST_FOUND
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+
+        setUpCarbonHome();
+        hierarchy = new SyntheticOrganizationHierarchy(depth, fanOut, MAX_LEAF_ORGANIZATIONS, lookupLatencyMicros,
+                SEED);
+        leafOrganizationIds = hierarchy.getLeafOrganizationIds();
+        retrieverLatencyNanos = TimeUnit.MICROSECONDS.toNanos(retrieverLatencyMicros);
+        hitDepth = resolveHitDepth();
+
+        OrganizationManager organizationManager = hierarchy.createOrganizationManager();
+        ApplicationManagementService applicationManagementService = mock(ApplicationManagementService.class);
+        when(applicationManagementService.getAncestorAppIds(anyString(), anyString())).thenAnswer(
+                invocation -> hierarchy.getAncestorAppIds(invocation.getArgument(0), invocation.getArgument(1)));
+        OrgResourceHierarchyTraverseServiceDataHolder.getInstance().setOrganizationManager(organizationManager);
+        OrgAppResourceHierarchyTraverseServiceDataHolder.getInstance().setOrganizationManager(organizationManager);
+        OrgAppResourceHierarchyTraverseServiceDataHolder.getInstance()
+                .setApplicationManagementService(applicationManagementService);
+
+        traverseExecutor = new OrgResourceHierarchyTraverseExecutor(PARALLEL_TRAVERSAL_THREAD_POOL_SIZE,
+                PARALLEL_TRAVERSAL_THREAD_POOL_SIZE);
+        orgResourceResolverService = new OrgResourceResolverServiceImpl(traverseExecutor);
+        orgAppResourceResolverService = new OrgAppResourceResolverServiceImpl(traverseExecutor);
+        parallelTraversalExecutorService = Executors.newFixedThreadPool(PARALLEL_TRAVERSAL_THREAD_POOL_SIZE);
+        aggregationStrategy = createAggregationStrategy();
+        clearAncestorCaches();
+        verifyAncestorCaches();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        parallelTraversalExecutorService.shutdownNow();
+        traverseExecutor.shutdown();
+        clearAncestorCaches();
+        PrivilegedCarbonContext.endTenantFlow();
+    }
+
+    @Benchmark
+    public String resolveOrgResource() throws OrgResourceHierarchyTraverseException {
+
+        String organizationId = nextLeafOrganizationId();
+        if (ancestorCache == AncestorCacheMode.COLD) {
+            clearAncestorCaches();
+        }
+        return orgResourceResolverService.getResourcesFromOrgHierarchy(organizationId, this::retrieveOrgResource,
+                aggregationStrategy);
+    }
+
+    @Benchmark
+    public String resolveAppResource() throws OrgResourceHierarchyTraverseException {
+
+        String organizationId = nextLeafOrganizationId();
+        if (ancestorCache == AncestorCacheMode.COLD) {
+            clearAncestorCaches();
+        }
+        return orgAppResourceResolverService.getResourcesFromOrgHierarchy(organizationId,
+                hierarchy.getApplicationId(organizationId), this::retrieveAppResource, aggregationStrategy);
+    }
+
+    private Optional<String> retrieveOrgResource(String organizationId) {
+
+        simulateRetrieverLatency();
+        if (hierarchy.getDepthInHierarchy(organizationId) == hitDepth) {
+            return Optional.of(organizationId);
+        }
+        return Optional.empty();
+    }
+
+    private Optional<String> retrieveAppResource(String organizationId, String applicationId) {
+
+        simulateRetrieverLatency();
+        if (applicationId != null && hierarchy.getDepthInHierarchy(organizationId) == hitDepth) {
+            return Optional.of(applicationId);
+        }
+        return Optional.empty();
+    }
+
+    private String nextLeafOrganizationId() {
+
+        String organizationId = leafOrganizationIds.get(nextLeafIndex);
+        nextLeafIndex = (nextLeafIndex + 1) % leafOrganizationIds.size();
+        return organizationId;
+    }
+
+    private void simulateRetrieverLatency() {
+
+        if (retrieverLatencyNanos > 0) {
+            LockSupport.parkNanos(retrieverLatencyNanos);
+        }
+    }
+
+    private int resolveHitDepth() {
+
+        switch (hitLevel) {
+            case LEAF:
+                return depth;
+            case MIDDLE:
+                return depth / 2;
+            case ROOT:
+                return 0;
+            default:
+                return -1;
+        }
+    }
+
+    private AggregationStrategy<String> createAggregationStrategy() {
+
+        switch (strategy) {
+            case MERGE_ALL:
+                return new MergeAllAggregationStrategy<>(
+                        (aggregatedResource, newResource) -> aggregatedResource == null ? newResource :
+                                aggregatedResource);
+            case PARALLEL_FIRST_FOUND:
+                return new ParallelFirstFoundAggregationStrategy<>(parallelTraversalExecutorService);
+            default:
+                return new FirstFoundAggregationStrategy<>();
+        }
+    }
+
+    /**
+     * Sets up a carbon home holding the server configuration required by the identity caches backing the ancestor
+     * caches, and starts a super tenant flow, as the benchmarks run in a plain JVM instead of a carbon server.
+     *
+     * @throws IOException If the carbon home could not be created.
+     */
+    private void setUpCarbonHome() throws IOException {
+
+        Path carbonHome = Files.createTempDirectory("traverse-benchmark-carbon-home");
+        Path configDirectory = Files.createDirectories(carbonHome.resolve(CARBON_CONFIG_DIRECTORY));
+        try (InputStream carbonXml = OrgResourceHierarchyTraverseBenchmark.class.getClassLoader()
+                .getResourceAsStream(CARBON_XML_RESOURCE)) {
+            if (carbonXml == null) {
+                throw new IllegalStateException("Server configuration of the benchmark carbon home is not found: " +
+                        CARBON_XML_RESOURCE);
+            }
+            Files.copy(carbonXml, configDirectory.resolve(CARBON_XML), StandardCopyOption.REPLACE_EXISTING);
+        }
+        System.setProperty(CarbonBaseConstants.CARBON_HOME, carbonHome.toString());
+        System.setProperty(CarbonBaseConstants.CARBON_CONFIG_DIR_PATH, configDirectory.toString());
+
+        PrivilegedCarbonContext.startTenantFlow();
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        carbonContext.setTenantDomain(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        carbonContext.setTenantId(MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    /**
+     * Verifies that a repeated resolution of the same organization is served from the ancestor caches, so that the
+     * WARM runs measure working caches rather than silently paying the ancestor lookups on every resolution.
+     *
+     * @throws OrgResourceHierarchyTraverseException If the verification resolutions fail.
+     */
+    private void verifyAncestorCaches() throws OrgResourceHierarchyTraverseException {
+
+        if (ancestorCache != AncestorCacheMode.WARM) {
+            return;
+        }
+        String organizationId = leafOrganizationIds.get(0);
+        orgResourceResolverService.getResourcesFromOrgHierarchy(organizationId, this::retrieveOrgResource,
+                aggregationStrategy);
+        orgAppResourceResolverService.getResourcesFromOrgHierarchy(organizationId,
+                hierarchy.getApplicationId(organizationId), this::retrieveAppResource, aggregationStrategy);
+        long ancestorLookupCount = hierarchy.getAncestorLookupCount();
+        orgResourceResolverService.getResourcesFromOrgHierarchy(organizationId, this::retrieveOrgResource,
+                aggregationStrategy);
+        orgAppResourceResolverService.getResourcesFromOrgHierarchy(organizationId,
+                hierarchy.getApplicationId(organizationId), this::retrieveAppResource, aggregationStrategy);
+        if (hierarchy.getAncestorLookupCount() != ancestorLookupCount) {
+            throw new IllegalStateException("Ancestor caches are not effective, hence the WARM runs would measure " +
+                    "the ancestor lookups on every resolution.");
+        }
+    }
+
+    private void clearAncestorCaches() {
+
+        AncestorOrganizationCache.getInstance().invalidateAll();
+        AncestorApplicationCache.getInstance().invalidateAll();
+    }
+}
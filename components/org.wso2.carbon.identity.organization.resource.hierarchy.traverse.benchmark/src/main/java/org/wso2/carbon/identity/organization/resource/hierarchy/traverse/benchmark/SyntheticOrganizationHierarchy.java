@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.resource.hierarchy.traverse.benchmark;
+
+import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Synthetic, in-memory organization hierarchy used to drive the hierarchy traverse benchmarks.
+ * <p>
+ * The hierarchy is a complete tree of the given depth and fan-out. It is not materialized; instead, each organization
+ * ID encodes the path from the root organization, e.g. {@code org/2/0} is the first child of the third child of the
+ * root organization. Ancestors and depths are therefore derived from the ID itself. Every organization holds a single
+ * application, whose ID is derived from the organization ID, and which is shared from the root organization.
+ */
+public class SyntheticOrganizationHierarchy {
+
+    static final String ROOT_ORGANIZATION_ID = "org";
+    private static final String PATH_SEPARATOR = "/";
+    private static final String APPLICATION_ID_SUFFIX = "#app";
+
+    private final int depth;
+    private final List<String> leafOrganizationIds;
+    private final long lookupLatencyNanos;
+    private final AtomicLong ancestorLookupCount = new AtomicLong();
+
+    /**
+     * Creates the synthetic organization hierarchy.
+     *
+     * @param depth                Depth of the leaf organizations, where the root organization is at depth 0.
+     * @param fanOut               Number of child organizations of each organization.
+     * @param maxLeafOrganizations Maximum number of leaf organizations sampled for the benchmarks.
+     * @param lookupLatencyMicros  Simulated latency of each ancestor organization/ application lookup.
+     * @param seed                 Seed used to sample the leaf organizations.
+     */
+    public SyntheticOrganizationHierarchy(int depth, int fanOut, int maxLeafOrganizations, long lookupLatencyMicros,
+                                          long seed) {
+
+        this.depth = depth;
+        this.lookupLatencyNanos = TimeUnit.MICROSECONDS.toNanos(lookupLatencyMicros);
+        this.leafOrganizationIds = Collections.unmodifiableList(
+                sampleLeafOrganizations(depth, fanOut, maxLeafOrganizations, new Random(seed)));
+    }
+
+    /**
+     * Get the sampled leaf organization IDs.
+     *
+     * @return Immutable list of leaf organization IDs.
+     */
+    public List<String> getLeafOrganizationIds() {
+
+        return leafOrganizationIds;
+    }
+
+    /**
+     * Get the depth of the leaf organizations.
+     *
+     * @return Depth of the leaf organizations.
+     */
+    public int getDepth() {
+
+        return depth;
+    }
+
+    /**
+     * Get the depth of the given organization in the hierarchy.
+     *
+     * @param organizationId Organization ID.
+     * @return Depth of the organization, where the root organization is at depth 0.
+     */
+    public int getDepthInHierarchy(String organizationId) {
+
+        int organizationDepth = 0;
+        for (int i = organizationId.indexOf(PATH_SEPARATOR); i >= 0;
+             i = organizationId.indexOf(PATH_SEPARATOR, i + 1)) {
+            organizationDepth++;
+        }
+        return organizationDepth;
+    }
+
+    /**
+     * Get the ancestor organization IDs of the given organization, starting from the organization itself and
+     * ending with the root organization.
+     *
+     * @param organizationId Organization ID.
+     * @return Ancestor organization IDs.
+     */
+    public List<String> getAncestorOrganizationIds(String organizationId) {
+
+        ancestorLookupCount.incrementAndGet();
+        simulateLookupLatency();
+        List<String> ancestorOrganizationIds = new ArrayList<>(depth + 1);
+        String currentOrganizationId = organizationId;
+        ancestorOrganizationIds.add(currentOrganizationId);
+        int separatorIndex = currentOrganizationId.lastIndexOf(PATH_SEPARATOR);
+        while (separatorIndex > 0) {
+            currentOrganizationId = currentOrganizationId.substring(0, separatorIndex);
+            ancestorOrganizationIds.add(currentOrganizationId);
+            separatorIndex = currentOrganizationId.lastIndexOf(PATH_SEPARATOR);
+        }
+        return ancestorOrganizationIds;
+    }
+
+    /**
+     * Get the number of ancestor organization/ application lookups served by this hierarchy, which are only paid on
+     * ancestor cache misses.
+     *
+     * @return Number of ancestor lookups.
+     */
+    public long getAncestorLookupCount() {
+
+        return ancestorLookupCount.get();
+    }
+
+    /**
+     * Get the ID of the application of the given organization.
+     *
+     * @param organizationId Organization ID.
+     * @return Application ID.
+     */
+    public String getApplicationId(String organizationId) {
+
+        return organizationId + APPLICATION_ID_SUFFIX;
+    }
+
+    /**
+     * Get the ancestor application IDs of the given application, in the same form as
+     * {@code ApplicationManagementService#getAncestorAppIds}.
+     *
+     * @param applicationId  Application ID.
+     * @param organizationId Organization ID of the application.
+     * @return Ancestor organization IDs mapped to the application IDs in those organizations.
+     */
+    public Map<String, String> getAncestorAppIds(String applicationId, String organizationId) {
+
+        Map<String, String> ancestorAppIds = new LinkedHashMap<>();
+        for (String ancestorOrganizationId : getAncestorOrganizationIds(organizationId)) {
+            ancestorAppIds.put(ancestorOrganizationId, getApplicationId(ancestorOrganizationId));
+        }
+        return ancestorAppIds;
+    }
+
+    /**
+     * Creates an organization manager backed by this hierarchy. Only the operations used by the hierarchy traverse
+     * services are supported; the rest throw {@link UnsupportedOperationException}.
+     *
+     * @return Organization manager backed by this hierarchy.
+     */
+    public OrganizationManager createOrganizationManager() {
+
+        return (OrganizationManager) Proxy.newProxyInstance(OrganizationManager.class.getClassLoader(),
+                new Class<?>[]{OrganizationManager.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getAncestorOrganizationIds":
+                            return getAncestorOrganizationIds((String) args[0]);
+                        case "getOrganizationDepthInHierarchy":
+                            simulateLookupLatency();
+                            return getDepthInHierarchy((String) args[0]);
+                        case "resolveTenantDomain":
+                            return args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return "SyntheticOrganizationManager";
+                        default:
+                            throw new UnsupportedOperationException(method.getName() +
+                                    " is not supported by the synthetic organization manager.");
+                    }
+                });
+    }
+
+    private void simulateLookupLatency() {
+
+        if (lookupLatencyNanos > 0) {
+            LockSupport.parkNanos(lookupLatencyNanos);
+        }
+    }
+
+    private static List<String> sampleLeafOrganizations(int depth, int fanOut, int maxLeafOrganizations,
+                                                        Random random) {
+
+        List<String> sampledLeafOrganizationIds = new ArrayList<>(maxLeafOrganizations);
+        for (int i = 0; i < maxLeafOrganizations; i++) {
+            StringBuilder organizationId = new StringBuilder(ROOT_ORGANIZATION_ID);
+            for (int level = 1; level <= depth; level++) {
+                organizationId.append(PATH_SEPARATOR).append(random.nextInt(fanOut));
+            }
+            sampledLeafOrganizationIds.add(organizationId.toString());
+        }
+        return sampledLeafOrganizationIds;
+    }
+}
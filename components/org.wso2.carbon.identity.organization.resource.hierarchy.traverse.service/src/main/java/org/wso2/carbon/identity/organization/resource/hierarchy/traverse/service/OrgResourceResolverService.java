@@ -18,10 +18,17 @@
 
 package org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service;
 
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.exception.NotImplementedException;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.exception.OrgResourceHierarchyTraverseException;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.model.AncestorChain;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.strategy.AggregationStrategy;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 /**
@@ -52,4 +59,96 @@ public interface OrgResourceResolverService {
                                        Function<String, Optional<T>> resourceRetriever,
                                        AggregationStrategy<T> aggregationStrategy)
             throws OrgResourceHierarchyTraverseException;
+
+    /**
+     * Asynchronously retrieves resources by traversing the hierarchy of a given organization.
+     * <p>
+     * The traversal is executed on a dedicated executor, with the carbon context of the calling thread propagated
+     * to it, so that independent hierarchy resolutions of a request can overlap and be joined later.
+     *
+     * @param organizationId      The unique identifier of the organization.
+     * @param resourceRetriever   A function that defines how to fetch a resource for a given organization ID.
+     *                            The function must return an {@link Optional<T>} containing the resource if found,
+     *                            or an empty {@link Optional<T>} if not.
+     * @param aggregationStrategy A strategy defining how to aggregate resources retrieved from
+     *                            different levels of the hierarchy.
+     * @param <T>                 The type of the resource being retrieved and aggregated.
+     * @return A future of the aggregated resource of type <T> obtained from the organization hierarchy. If any
+     * errors occur during resource retrieval or aggregation, the future completes exceptionally with the
+     * {@link OrgResourceHierarchyTraverseException} as the cause.
+     */
+    default <T> CompletableFuture<T> getResourcesFromOrgHierarchyAsync(String organizationId,
+                                                                       Function<String, Optional<T>> resourceRetriever,
+                                                                       AggregationStrategy<T> aggregationStrategy) {
+
+        throw new NotImplementedException("getResourcesFromOrgHierarchyAsync method is not implemented in " +
+                this.getClass());
+    }
+
+    /**
+     * Retrieves resources by traversing the hierarchy of a given organization, where the resources of all the
+     * organizations in the hierarchy are fetched at once using the given batch resource retriever.
+     * <p>
+     * This allows resource owners to resolve the resources of the whole ancestor chain with a single query,
+     * instead of looking up the resource of each organization level by level.
+     *
+     * @param organizationId         The unique identifier of the organization.
+     * @param batchResourceRetriever A function that defines how to fetch the resources for a list of organization IDs.
+     *                               The function must return a map of organization IDs to the resources found,
+     *                               omitting the organizations without a resource.
+     * @param aggregationStrategy    A strategy defining how to aggregate resources retrieved from
+     *                               different levels of the hierarchy.
+     * @param <T>                    The type of the resource being retrieved and aggregated.
+     * @return An aggregated resource of type <T> obtained from the organization hierarchy.
+     * @throws OrgResourceHierarchyTraverseException If any errors occur during resource retrieval
+     *                                               or aggregation.
+     */
+    default <T> T getResourcesFromOrgHierarchyInBatch(String organizationId,
+                                                      Function<List<String>, Map<String, T>> batchResourceRetriever,
+                                                      AggregationStrategy<T> aggregationStrategy)
+            throws OrgResourceHierarchyTraverseException {
+
+        throw new NotImplementedException("getResourcesFromOrgHierarchyInBatch method is not implemented in " +
+                this.getClass());
+    }
+
+    /**
+     * Retrieves the resources of multiple keys by traversing the hierarchy of a given organization once, applying
+     * first-found semantics for each key.
+     * <p>
+     * The resource retriever is invoked once per organization level with the keys which are not resolved yet, so
+     * that any per-organization setup is done once per level rather than once per key per level. The traversal stops
+     * as soon as every key is resolved.
+     *
+     * @param organizationId    The unique identifier of the organization.
+     * @param resourceKeys      The keys of the resources to be resolved.
+     * @param resourceRetriever A bi-function that defines how to fetch the resources of the given keys for a given
+     *                          organization ID. The function must return a map of keys to the resources found,
+     *                          omitting the keys without a resource.
+     * @param <K>               The type of the resource keys.
+     * @param <T>               The type of the resources being retrieved.
+     * @return A map of keys to the first resource found for the key in the organization hierarchy. Keys without a
+     * resource in the hierarchy are omitted.
+     * @throws OrgResourceHierarchyTraverseException If any errors occur during resource retrieval.
+     */
+    default <K, T> Map<K, T> getResourcesFromOrgHierarchyByKeys(String organizationId, Set<K> resourceKeys,
+                                                                BiFunction<String, Set<K>, Map<K, T>> resourceRetriever)
+            throws OrgResourceHierarchyTraverseException {
+
+        throw new NotImplementedException("getResourcesFromOrgHierarchyByKeys method is not implemented in " +
+                this.getClass());
+    }
+
+    /**
+     * Retrieves the ancestor chain of a given organization, carrying the depth of each ancestor in the hierarchy.
+     *
+     * @param organizationId The unique identifier of the organization.
+     * @return The {@link AncestorChain} of the organization, starting from the organization itself and ending with
+     * the root organization.
+     * @throws OrgResourceHierarchyTraverseException If any errors occur while resolving the ancestor organizations.
+     */
+    default AncestorChain getAncestorChain(String organizationId) throws OrgResourceHierarchyTraverseException {
+
+        throw new NotImplementedException("getAncestorChain method is not implemented in " + this.getClass());
+    }
 }
@@ -19,17 +19,24 @@
 package org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service;
 
 import org.apache.commons.collections.CollectionUtils;
-import org.apache.commons.lang.StringUtils;
-import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
-import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
-import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.constant.OrgResourceHierarchyTraverseConstants;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.exception.OrgResourceHierarchyTraverseException;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.exception.OrgResourceHierarchyTraverseServerException;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.executor.OrgResourceHierarchyTraverseExecutor;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.internal.OrgResourceHierarchyTraverseServiceDataHolder;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.metrics.AggregationStrategyMetrics;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.model.AncestorChain;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.strategy.AggregationStrategy;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.util.OrgResourceHierarchyTraverseUtil;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 /**
@@ -38,36 +45,114 @@ import java.util.function.Function;
  */
 public class OrgResourceResolverServiceImpl implements OrgResourceResolverService {
 
+    private final OrgResourceHierarchyTraverseExecutor traverseExecutor;
+
+    /**
+     * Constructor to initialize the resolver with the executor of the active component, which is resolved from the
+     * data holder whenever an asynchronous resolution is started.
+     */
+    public OrgResourceResolverServiceImpl() {
+
+        this(null);
+    }
+
+    /**
+     * Constructor to initialize the resolver with the executor used for asynchronous resolutions.
+     *
+     * @param traverseExecutor Executor used to resolve resources from the organization hierarchy asynchronously.
+     */
+    public OrgResourceResolverServiceImpl(OrgResourceHierarchyTraverseExecutor traverseExecutor) {
+
+        this.traverseExecutor = traverseExecutor;
+    }
+
     @Override
     public <T> T getResourcesFromOrgHierarchy(String organizationId, Function<String, Optional<T>> resourceRetriever,
                                               AggregationStrategy<T> aggregationStrategy)
             throws OrgResourceHierarchyTraverseException {
 
-        List<String> organizationIds = getAncestorOrganizationsIds(organizationId);
-        return aggregationStrategy.aggregate(organizationIds, resourceRetriever);
+        long startTime = System.nanoTime();
+        try {
+            AncestorChain ancestorChain = getAncestorChain(organizationId);
+            return aggregationStrategy.aggregate(ancestorChain, resourceRetriever);
+        } finally {
+            AggregationStrategyMetrics.getInstance().record(aggregationStrategy, System.nanoTime() - startTime);
+        }
     }
 
-    private List<String> getAncestorOrganizationsIds(String organizationId)
-            throws OrgResourceHierarchyTraverseServerException {
+    @Override
+    public <T> CompletableFuture<T> getResourcesFromOrgHierarchyAsync(String organizationId,
+                                                                      Function<String, Optional<T>>
+                                                                              resourceRetriever,
+                                                                      AggregationStrategy<T> aggregationStrategy) {
 
-        if (StringUtils.isEmpty(organizationId)) {
-            throw OrgResourceHierarchyTraverseUtil.handleServerException(
-                    OrgResourceHierarchyTraverseConstants.ErrorMessages.ERROR_CODE_EMPTY_ORGANIZATION_ID);
+        OrgResourceHierarchyTraverseExecutor executor = getTraverseExecutor();
+        if (executor == null) {
+            CompletableFuture<T> rejectedResolution = new CompletableFuture<>();
+            rejectedResolution.completeExceptionally(new RejectedExecutionException(
+                    "Organization resource hierarchy traverse executor is not available."));
+            return rejectedResolution;
         }
+        return executor.submit(
+                () -> getResourcesFromOrgHierarchy(organizationId, resourceRetriever, aggregationStrategy));
+    }
+
+    @Override
+    public <T> T getResourcesFromOrgHierarchyInBatch(String organizationId,
+                                                     Function<List<String>, Map<String, T>> batchResourceRetriever,
+                                                     AggregationStrategy<T> aggregationStrategy)
+            throws OrgResourceHierarchyTraverseException {
 
+        long startTime = System.nanoTime();
         try {
-            OrganizationManager organizationManager = OrgResourceHierarchyTraverseUtil.getOrganizationManager();
-            List<String> organizationIds = organizationManager.getAncestorOrganizationIds(organizationId);
-            if (CollectionUtils.isEmpty(organizationIds)) {
-                throw OrgResourceHierarchyTraverseUtil.handleServerException(OrgResourceHierarchyTraverseConstants
-                                .ErrorMessages.ERROR_CODE_INVALID_ANCESTOR_ORGANIZATION_ID_LIST,
-                        organizationId);
+            AncestorChain ancestorChain = getAncestorChain(organizationId);
+            return aggregationStrategy.aggregateInBatch(ancestorChain, batchResourceRetriever);
+        } finally {
+            AggregationStrategyMetrics.getInstance().record(aggregationStrategy, System.nanoTime() - startTime);
+        }
+    }
+
+    @Override
+    public <K, T> Map<K, T> getResourcesFromOrgHierarchyByKeys(String organizationId, Set<K> resourceKeys,
+                                                               BiFunction<String, Set<K>, Map<K, T>>
+                                                                       resourceRetriever)
+            throws OrgResourceHierarchyTraverseException {
+
+        Map<K, T> resolvedResources = new HashMap<>();
+        if (CollectionUtils.isEmpty(resourceKeys)) {
+            return resolvedResources;
+        }
+
+        AncestorChain ancestorChain = getAncestorChain(organizationId);
+        Set<K> unresolvedKeys = new HashSet<>(resourceKeys);
+        for (String orgId : OrgResourceHierarchyTraverseUtil.getTraversableOrganizationIds(ancestorChain)) {
+            Map<K, T> resources = resourceRetriever.apply(orgId, new HashSet<>(unresolvedKeys));
+            if (resources != null) {
+                for (Map.Entry<K, T> resource : resources.entrySet()) {
+                    if (resource.getValue() != null && unresolvedKeys.remove(resource.getKey())) {
+                        resolvedResources.put(resource.getKey(), resource.getValue());
+                    }
+                }
             }
-            return organizationIds;
-        } catch (OrganizationManagementServerException e) {
-            throw OrgResourceHierarchyTraverseUtil.handleServerException(
-                    OrgResourceHierarchyTraverseConstants.ErrorMessages
-                            .ERROR_CODE_SERVER_ERROR_WHILE_RESOLVING_ANCESTOR_ORGANIZATIONS, e, organizationId);
+            if (unresolvedKeys.isEmpty()) {
+                break;
+            }
+        }
+        return resolvedResources;
+    }
+
+    @Override
+    public AncestorChain getAncestorChain(String organizationId) throws OrgResourceHierarchyTraverseServerException {
+
+        return OrgResourceHierarchyTraverseUtil.getAncestorChain(organizationId,
+                OrgResourceHierarchyTraverseUtil.getOrganizationManager());
+    }
+
+    private OrgResourceHierarchyTraverseExecutor getTraverseExecutor() {
+
+        if (traverseExecutor != null) {
+            return traverseExecutor;
         }
+        return OrgResourceHierarchyTraverseServiceDataHolder.getInstance().getTraverseExecutor();
     }
 }
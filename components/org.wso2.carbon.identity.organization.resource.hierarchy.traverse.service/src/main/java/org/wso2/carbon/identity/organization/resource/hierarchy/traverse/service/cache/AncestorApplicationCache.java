@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.cache;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache holding the ancestor application IDs of applications.
+ * <p>
+ * Each entry maps an (application ID, organization ID) pair to the map of ancestor organization IDs to the
+ * application IDs in those organizations. As every ancestor application map of a shared application contains the
+ * main application, entries are invalidated per application family: each entry records the generation of the family
+ * of its main application in the {@link ApplicationFamilyGenerationCache}, and is only served while the family is
+ * in that generation. Invalidating the main application ends the generation of the family, hence the entries of all
+ * of its shared applications are invalidated on every node of the cluster. The cache is built on the identity
+ * {@link BaseCache}, hence its capacity and expiry are configured through the cache configuration of the server.
+ * <p>
+ * As with the {@link AncestorOrganizationCache}, the invalidation version only fences the entries added on this node.
+ * An entry which another node loaded before its family was invalidated, and added after it had started a new
+ * generation of the family, is served by that node until the entry expires.
+ */
+public class AncestorApplicationCache extends BaseCache<AncestorApplicationCacheKey, AncestorApplicationCacheEntry> {
+
+    private static final String CACHE_NAME = "AncestorApplicationCache";
+    private static final AncestorApplicationCache INSTANCE = new AncestorApplicationCache();
+
+    private final AtomicLong invalidationVersion = new AtomicLong();
+
+    private AncestorApplicationCache() {
+
+        super(CACHE_NAME);
+    }
+
+    /**
+     * Retrieves the Singleton instance of the AncestorApplicationCache class.
+     *
+     * @return The singleton instance of AncestorApplicationCache.
+     */
+    public static AncestorApplicationCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Retrieves the cached ancestor application IDs of the given application.
+     *
+     * @param applicationId  The ID of the application.
+     * @param organizationId The ID of the organization which the application belongs to.
+     * @return The ancestor organization IDs mapped to the application IDs, or {@code null} if not cached.
+     */
+    public Map<String, String> getAncestorAppIds(String applicationId, String organizationId) {
+
+        if (StringUtils.isEmpty(applicationId) || StringUtils.isEmpty(organizationId)) {
+            return null;
+        }
+        AncestorApplicationCacheEntry cacheEntry = getValueFromCache(
+                new AncestorApplicationCacheKey(applicationId, organizationId),
+                MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        if (cacheEntry == null) {
+            return null;
+        }
+        // The entry is stale if the family of its main application has moved to a new generation since it was added.
+        if (!cacheEntry.getGeneration().equals(
+                ApplicationFamilyGenerationCache.getInstance().getGeneration(cacheEntry.getMainApplicationId()))) {
+            return null;
+        }
+        return cacheEntry.getAncestorAppIds();
+    }
+
+    /**
+     * Returns a token representing the current invalidation state of the cache on this node. The token should be
+     * obtained before loading the ancestor application IDs and passed back to
+     * {@link #addAncestorAppIds(String, String, Map, String, long)}, so that a map loaded concurrently with an
+     * invalidation is not cached.
+     *
+     * @return The current invalidation version.
+     */
+    public long getInvalidationVersion() {
+
+        return invalidationVersion.get();
+    }
+
+    /**
+     * Adds the ancestor application IDs of the given application to the cache. Empty maps are not cached, as the
+     * application may be shared to the organization later on.
+     *
+     * @param applicationId       The ID of the application.
+     * @param organizationId      The ID of the organization which the application belongs to.
+     * @param ancestorAppIds      The ancestor organization IDs mapped to the application IDs.
+     * @param mainApplicationId   The ID of the main application of the family of the application.
+     * @param invalidationVersion The invalidation version obtained before loading the ancestor application IDs.
+     * @return An immutable copy of the given ancestor application IDs.
+     */
+    public Map<String, String> addAncestorAppIds(String applicationId, String organizationId,
+                                                 Map<String, String> ancestorAppIds, String mainApplicationId,
+                                                 long invalidationVersion) {
+
+        if (ancestorAppIds == null || ancestorAppIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> cachedAppIds = Collections.unmodifiableMap(new HashMap<>(ancestorAppIds));
+        if (StringUtils.isEmpty(applicationId) || StringUtils.isEmpty(organizationId) ||
+                StringUtils.isEmpty(mainApplicationId)) {
+            return cachedAppIds;
+        }
+        if (this.invalidationVersion.get() == invalidationVersion) {
+            String generation = ApplicationFamilyGenerationCache.getInstance().getOrStartGeneration(mainApplicationId);
+            AncestorApplicationCacheKey cacheKey = new AncestorApplicationCacheKey(applicationId, organizationId);
+            addToCache(cacheKey, new AncestorApplicationCacheEntry(cachedAppIds, mainApplicationId, generation),
+                    MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+            /*
+             * Re-check the version after adding the entry, in case an invalidation ran in between. The entry
+             * is removed in that case, as it could have been loaded before the application was shared or unshared.
+             */
+            if (this.invalidationVersion.get() != invalidationVersion) {
+                clearCacheEntry(cacheKey, MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+            }
+        }
+        return cachedAppIds;
+    }
+
+    /**
+     * Invalidates the cached ancestor application IDs of every application of the family of the given main
+     * application, on every node of the cluster. The main application of the family must be given when a shared
+     * application is shared, unshared or deleted, as the cached entries are tracked per family.
+     *
+     * @param mainApplicationId The ID of the main application of the family.
+     */
+    public void invalidateApplication(String mainApplicationId) {
+
+        if (StringUtils.isEmpty(mainApplicationId)) {
+            return;
+        }
+        invalidationVersion.incrementAndGet();
+        ApplicationFamilyGenerationCache.getInstance().endGeneration(mainApplicationId);
+    }
+
+    /**
+     * Invalidates all the cached ancestor application IDs on every node of the cluster.
+     */
+    public void invalidateAll() {
+
+        invalidationVersion.incrementAndGet();
+        ApplicationFamilyGenerationCache.getInstance().endAllGenerations();
+        clear(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+    }
+}
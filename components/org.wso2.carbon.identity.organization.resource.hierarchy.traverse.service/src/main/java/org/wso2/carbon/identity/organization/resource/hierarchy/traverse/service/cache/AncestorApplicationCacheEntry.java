@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache entry of the {@link AncestorApplicationCache}, holding the ancestor application IDs of an application along
+ * with the main application of its application family and the generation of the family the entry was loaded in.
+ */
+public class AncestorApplicationCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = -6417720361852207934L;
+
+    private final HashMap<String, String> ancestorAppIds;
+    private final String mainApplicationId;
+    private final String generation;
+
+    public AncestorApplicationCacheEntry(Map<String, String> ancestorAppIds, String mainApplicationId,
+                                         String generation) {
+
+        this.ancestorAppIds = new HashMap<>(ancestorAppIds);
+        this.mainApplicationId = mainApplicationId;
+        this.generation = generation;
+    }
+
+    public Map<String, String> getAncestorAppIds() {
+
+        return Collections.unmodifiableMap(ancestorAppIds);
+    }
+
+    public String getMainApplicationId() {
+
+        return mainApplicationId;
+    }
+
+    public String getGeneration() {
+
+        return generation;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.cache;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.model.AncestorChain;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache holding the ancestor organization chain of organizations.
+ * <p>
+ * Each entry maps an organization ID to the immutable {@link AncestorChain} of the organization, which holds its
+ * ancestor organization IDs along with the depth of each ancestor. The cache is built on the identity
+ * {@link BaseCache}, hence its capacity and expiry are configured through the cache configuration of the server, and
+ * removing an entry invalidates it on every node of the cluster. As organization IDs are unique across tenants, all
+ * the entries are kept in the super tenant space.
+ * <p>
+ * The invalidation version only fences the chains added on this node. A chain which another node loaded before a
+ * hierarchy change, and added to its cache after the invalidation of that change reached it, is served by that node
+ * until the entry expires. Hence the expiry configured for this cache bounds how long a node may serve a chain from
+ * before a hierarchy change. The cache is not cleared when the component is deactivated, as clearing it would clear
+ * the cache of every node of the cluster.
+ */
+public class AncestorOrganizationCache
+        extends BaseCache<AncestorOrganizationCacheKey, AncestorOrganizationCacheEntry> {
+
+    private static final String CACHE_NAME = "AncestorOrganizationCache";
+    private static final AncestorOrganizationCache INSTANCE = new AncestorOrganizationCache();
+
+    private final AtomicLong invalidationVersion = new AtomicLong();
+
+    private AncestorOrganizationCache() {
+
+        super(CACHE_NAME);
+    }
+
+    /**
+     * Retrieves the Singleton instance of the AncestorOrganizationCache class.
+     *
+     * @return The singleton instance of AncestorOrganizationCache.
+     */
+    public static AncestorOrganizationCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Retrieves the cached ancestor organization chain of the given organization.
+     *
+     * @param organizationId The ID of the organization.
+     * @return The ancestor chain of the organization, or {@code null} if the chain is not cached.
+     */
+    public AncestorChain getAncestorChain(String organizationId) {
+
+        if (StringUtils.isEmpty(organizationId)) {
+            return null;
+        }
+        AncestorOrganizationCacheEntry cacheEntry = getValueFromCache(
+                new AncestorOrganizationCacheKey(organizationId), MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        return cacheEntry != null ? cacheEntry.getAncestorChain() : null;
+    }
+
+    /**
+     * Returns a token representing the current invalidation state of the cache on this node. The token should be
+     * obtained before loading a chain from the persistence layer and passed back to
+     * {@link #addAncestorChain(String, List, long)}, so that a chain loaded concurrently with an
+     * invalidation is not cached.
+     *
+     * @return The current invalidation version.
+     */
+    public long getInvalidationVersion() {
+
+        return invalidationVersion.get();
+    }
+
+    /**
+     * Adds the ancestor organization chain of the given organization to the cache.
+     *
+     * @param organizationId          The ID of the organization.
+     * @param ancestorOrganizationIds The ancestor organization IDs of the organization.
+     * @param invalidationVersion     The invalidation version obtained before loading the chain.
+     * @return The ancestor chain created from the given ancestor organization IDs.
+     */
+    public AncestorChain addAncestorChain(String organizationId, List<String> ancestorOrganizationIds,
+                                          long invalidationVersion) {
+
+        AncestorChain ancestorChain = new AncestorChain(ancestorOrganizationIds);
+        if (this.invalidationVersion.get() == invalidationVersion) {
+            AncestorOrganizationCacheKey cacheKey = new AncestorOrganizationCacheKey(organizationId);
+            addToCache(cacheKey, new AncestorOrganizationCacheEntry(ancestorChain),
+                    MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+            /*
+             * Re-check the version after adding the entry, in case an invalidation ran in between. The entry
+             * is removed in that case, as it could have been loaded before the hierarchy change.
+             */
+            if (this.invalidationVersion.get() != invalidationVersion) {
+                clearCacheEntry(cacheKey, MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+            }
+        }
+        return ancestorChain;
+    }
+
+    /**
+     * Invalidates the cached ancestor chains of the given organizations on every node of the cluster.
+     *
+     * @param organizationIds The IDs of the organizations.
+     */
+    public void invalidateOrganizations(List<String> organizationIds) {
+
+        invalidationVersion.incrementAndGet();
+        for (String organizationId : organizationIds) {
+            if (StringUtils.isNotEmpty(organizationId)) {
+                clearCacheEntry(new AncestorOrganizationCacheKey(organizationId),
+                        MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+            }
+        }
+    }
+
+    /**
+     * Invalidates all the cached ancestor chains on every node of the cluster. This should only be used when the
+     * organizations affected by a hierarchy change cannot be resolved.
+     */
+    public void invalidateAll() {
+
+        invalidationVersion.incrementAndGet();
+        clear(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+    }
+}
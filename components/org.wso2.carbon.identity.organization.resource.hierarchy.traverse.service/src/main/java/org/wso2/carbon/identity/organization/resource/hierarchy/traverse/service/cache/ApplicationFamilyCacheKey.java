@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheKey;
+
+/**
+ * Cache key of the {@link ApplicationFamilyGenerationCache}, i.e. the ID of the main application of an application
+ * family.
+ */
+public class ApplicationFamilyCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = 8164270925316682071L;
+
+    private final String mainApplicationId;
+
+    public ApplicationFamilyCacheKey(String mainApplicationId) {
+
+        this.mainApplicationId = mainApplicationId;
+    }
+
+    public String getMainApplicationId() {
+
+        return mainApplicationId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ApplicationFamilyCacheKey)) {
+            return false;
+        }
+        return mainApplicationId.equals(((ApplicationFamilyCacheKey) o).mainApplicationId);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return mainApplicationId.hashCode();
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.cache;
+
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.util.UUID;
+
+/**
+ * Cache holding the current generation of each application family, keyed by the ID of the main application of the
+ * family.
+ * <p>
+ * The entries of the {@link AncestorApplicationCache} record the generation of their family at the time they were
+ * loaded, and are only served while the family is still in that generation. Removing the generation of a family
+ * therefore invalidates the cached ancestor application IDs of every application of the family on every node of the
+ * cluster, without having to enumerate the cached entries.
+ */
+public class ApplicationFamilyGenerationCache
+        extends BaseCache<ApplicationFamilyCacheKey, ApplicationFamilyGenerationCacheEntry> {
+
+    private static final String CACHE_NAME = "ApplicationFamilyGenerationCache";
+    private static final ApplicationFamilyGenerationCache INSTANCE = new ApplicationFamilyGenerationCache();
+
+    private ApplicationFamilyGenerationCache() {
+
+        super(CACHE_NAME);
+    }
+
+    /**
+     * Retrieves the Singleton instance of the ApplicationFamilyGenerationCache class.
+     *
+     * @return The singleton instance of ApplicationFamilyGenerationCache.
+     */
+    public static ApplicationFamilyGenerationCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Retrieves the current generation of the given application family.
+     *
+     * @param mainApplicationId The ID of the main application of the family.
+     * @return The current generation of the family, or {@code null} if the family has no generation.
+     */
+    public String getGeneration(String mainApplicationId) {
+
+        ApplicationFamilyGenerationCacheEntry cacheEntry = getValueFromCache(
+                new ApplicationFamilyCacheKey(mainApplicationId), MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        return cacheEntry != null ? cacheEntry.getGeneration() : null;
+    }
+
+    /**
+     * Retrieves the current generation of the given application family, starting a new generation if the family
+     * has none.
+     *
+     * @param mainApplicationId The ID of the main application of the family.
+     * @return The current generation of the family.
+     */
+    public String getOrStartGeneration(String mainApplicationId) {
+
+        String generation = getGeneration(mainApplicationId);
+        if (generation != null) {
+            return generation;
+        }
+        generation = UUID.randomUUID().toString();
+        addToCache(new ApplicationFamilyCacheKey(mainApplicationId),
+                new ApplicationFamilyGenerationCacheEntry(generation), MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        return generation;
+    }
+
+    /**
+     * Ends the current generation of the given application family on every node of the cluster.
+     *
+     * @param mainApplicationId The ID of the main application of the family.
+     */
+    public void endGeneration(String mainApplicationId) {
+
+        clearCacheEntry(new ApplicationFamilyCacheKey(mainApplicationId),
+                MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+    }
+
+    /**
+     * Ends the current generation of every application family.
+     */
+    public void endAllGenerations() {
+
+        clear(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+    }
+}
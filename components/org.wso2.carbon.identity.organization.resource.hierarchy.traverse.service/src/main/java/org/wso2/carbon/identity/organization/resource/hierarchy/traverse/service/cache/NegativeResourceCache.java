@@ -0,0 +1,358 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.cache;
+
+import org.apache.commons.lang.StringUtils;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.constant.OrgResourceHierarchyTraverseConstants.MAX_NEGATIVE_RESOURCE_CACHE_TTL_MILLIS;
+
+/**
+ * Node-local cache recording that an organization has no value for a resource key, per resource type.
+ * <p>
+ * Most organizations of a hierarchy do not override a given resource, so a first-found traversal usually misses at
+ * every level below the organization which holds the value. Resource types which opt in through
+ * {@link #enableResourceType(String, long)} have those misses cached for a bounded time, and the resource retrievers
+ * wrapped with {@link #withNegativeCaching(String, String, Function)} skip the lookups of the organizations which are
+ * known to have no value. Resource owners must call {@link #invalidate(String, String, String)} or one of the other
+ * invalidation methods whenever a value is added, so that the new value is visible before the entry expires.
+ * <p>
+ * The invalidations only apply to the node on which they are made. In a cluster, the other nodes may serve a cached
+ * miss until it expires, hence resource types should only opt in with a time to live within which such a delay is
+ * acceptable.
+ */
+public class NegativeResourceCache {
+
+    private static final int MAX_CACHE_ENTRIES = 10000;
+    private static final NegativeResourceCache INSTANCE = new NegativeResourceCache();
+
+    private final ConcurrentMap<String, ResourceTypeCache> resourceTypeCaches = new ConcurrentHashMap<>();
+
+    private NegativeResourceCache() {
+
+    }
+
+    /**
+     * Retrieves the Singleton instance of the NegativeResourceCache class.
+     *
+     * @return The singleton instance of NegativeResourceCache.
+     */
+    public static NegativeResourceCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Enables negative caching for the given resource type. The time to live is capped at
+     * {@code MAX_NEGATIVE_RESOURCE_CACHE_TTL_MILLIS}. Enabling an already enabled resource type replaces its time to
+     * live and discards its cached entries.
+     *
+     * @param resourceType     The type of the resource.
+     * @param timeToLiveMillis The time to live of the cached entries, in milliseconds. A non-positive value disables
+     *                         negative caching for the resource type.
+     */
+    public void enableResourceType(String resourceType, long timeToLiveMillis) {
+
+        if (StringUtils.isEmpty(resourceType)) {
+            return;
+        }
+        if (timeToLiveMillis <= 0) {
+            disableResourceType(resourceType);
+            return;
+        }
+        long boundedTimeToLiveMillis = Math.min(timeToLiveMillis, MAX_NEGATIVE_RESOURCE_CACHE_TTL_MILLIS);
+        ResourceTypeCache previousCache = resourceTypeCaches.put(resourceType,
+                new ResourceTypeCache(TimeUnit.MILLISECONDS.toNanos(boundedTimeToLiveMillis)));
+        if (previousCache != null) {
+            previousCache.clear();
+        }
+    }
+
+    /**
+     * Disables negative caching for the given resource type and discards its cached entries.
+     *
+     * @param resourceType The type of the resource.
+     */
+    public void disableResourceType(String resourceType) {
+
+        if (StringUtils.isEmpty(resourceType)) {
+            return;
+        }
+        ResourceTypeCache removedCache = resourceTypeCaches.remove(resourceType);
+        if (removedCache != null) {
+            removedCache.clear();
+        }
+    }
+
+    /**
+     * Checks whether negative caching is enabled for the given resource type.
+     *
+     * @param resourceType The type of the resource.
+     * @return True if negative caching is enabled for the resource type.
+     */
+    public boolean isEnabled(String resourceType) {
+
+        return StringUtils.isNotEmpty(resourceType) && resourceTypeCaches.containsKey(resourceType);
+    }
+
+    /**
+     * Checks whether the given organization is known to have no value for the given resource key.
+     *
+     * @param resourceType   The type of the resource.
+     * @param organizationId The ID of the organization.
+     * @param resourceKey    The key of the resource, or {@code null} if the resource type holds a single value per
+     *                       organization.
+     * @return True if a non-expired negative result is cached for the organization and resource key.
+     */
+    public boolean isNegative(String resourceType, String organizationId, String resourceKey) {
+
+        ResourceTypeCache resourceTypeCache = getResourceTypeCache(resourceType);
+        if (resourceTypeCache == null || StringUtils.isEmpty(organizationId)) {
+            return false;
+        }
+        return resourceTypeCache.isNegative(new NegativeResultKey(organizationId, resourceKey));
+    }
+
+    /**
+     * Returns a token representing the current invalidation state of the given resource type. The token should be
+     * obtained before looking up the resource and passed back to
+     * {@link #addNegativeResult(String, String, String, long)}, so that a miss observed concurrently with a write
+     * is not cached.
+     *
+     * @param resourceType The type of the resource.
+     * @return The current invalidation version, or -1 if negative caching is not enabled for the resource type.
+     */
+    public long getInvalidationVersion(String resourceType) {
+
+        ResourceTypeCache resourceTypeCache = getResourceTypeCache(resourceType);
+        return resourceTypeCache != null ? resourceTypeCache.invalidationVersion.get() : -1;
+    }
+
+    /**
+     * Records that the given organization has no value for the given resource key. The entry is not added if
+     * negative caching is not enabled for the resource type, or if the resource type was invalidated after the
+     * given invalidation version was obtained.
+     *
+     * @param resourceType        The type of the resource.
+     * @param organizationId      The ID of the organization.
+     * @param resourceKey         The key of the resource, or {@code null} if the resource type holds a single
+     *                            value per organization.
+     * @param invalidationVersion The invalidation version obtained before looking up the resource.
+     */
+    public void addNegativeResult(String resourceType, String organizationId, String resourceKey,
+                                  long invalidationVersion) {
+
+        ResourceTypeCache resourceTypeCache = getResourceTypeCache(resourceType);
+        if (resourceTypeCache == null || StringUtils.isEmpty(organizationId)) {
+            return;
+        }
+        resourceTypeCache.add(new NegativeResultKey(organizationId, resourceKey), invalidationVersion);
+    }
+
+    /**
+     * Invalidates the cached negative result of the given organization for the given resource key. Resource owners
+     * should call this method when a value is added for the resource key in the organization.
+     *
+     * @param resourceType   The type of the resource.
+     * @param organizationId The ID of the organization.
+     * @param resourceKey    The key of the resource, or {@code null} if the resource type holds a single value per
+     *                       organization.
+     */
+    public void invalidate(String resourceType, String organizationId, String resourceKey) {
+
+        ResourceTypeCache resourceTypeCache = getResourceTypeCache(resourceType);
+        if (resourceTypeCache == null || StringUtils.isEmpty(organizationId)) {
+            return;
+        }
+        resourceTypeCache.invalidationVersion.incrementAndGet();
+        resourceTypeCache.negativeResults.remove(new NegativeResultKey(organizationId, resourceKey));
+    }
+
+    /**
+     * Invalidates the cached negative results of the given organization for every key of the given resource type.
+     *
+     * @param resourceType   The type of the resource.
+     * @param organizationId The ID of the organization.
+     */
+    public void invalidateOrganization(String resourceType, String organizationId) {
+
+        ResourceTypeCache resourceTypeCache = getResourceTypeCache(resourceType);
+        if (resourceTypeCache == null || StringUtils.isEmpty(organizationId)) {
+            return;
+        }
+        resourceTypeCache.invalidationVersion.incrementAndGet();
+        resourceTypeCache.negativeResults.keySet().removeIf(key -> organizationId.equals(key.organizationId));
+    }
+
+    /**
+     * Invalidates all the cached negative results of the given resource type.
+     *
+     * @param resourceType The type of the resource.
+     */
+    public void invalidateResourceType(String resourceType) {
+
+        ResourceTypeCache resourceTypeCache = getResourceTypeCache(resourceType);
+        if (resourceTypeCache != null) {
+            resourceTypeCache.clear();
+        }
+    }
+
+    /**
+     * Clears the cached negative results of all the resource types. The resource types remain enabled.
+     */
+    public void clear() {
+
+        resourceTypeCaches.values().forEach(ResourceTypeCache::clear);
+    }
+
+    /**
+     * Wraps the given resource retriever so that the lookups of the organizations which are known to have no value
+     * for the resource key are skipped, and the misses of the retriever are cached. If negative caching is not
+     * enabled for the resource type when a lookup is made, the lookup is delegated to the retriever as is.
+     *
+     * @param resourceType      The type of the resource.
+     * @param resourceKey       The key of the resource, or {@code null} if the resource type holds a single value
+     *                          per organization.
+     * @param resourceRetriever The function which retrieves the resource of an organization.
+     * @param <T>               The type of the resource.
+     * @return The resource retriever backed by the negative cache.
+     */
+    public <T> Function<String, Optional<T>> withNegativeCaching(String resourceType, String resourceKey,
+                                                                 Function<String, Optional<T>> resourceRetriever) {
+
+        return organizationId -> {
+            if (isNegative(resourceType, organizationId, resourceKey)) {
+                return Optional.empty();
+            }
+            long invalidationVersion = getInvalidationVersion(resourceType);
+            Optional<T> resource = resourceRetriever.apply(organizationId);
+            if (resource == null || !resource.isPresent()) {
+                addNegativeResult(resourceType, organizationId, resourceKey, invalidationVersion);
+                return Optional.empty();
+            }
+            return resource;
+        };
+    }
+
+    private ResourceTypeCache getResourceTypeCache(String resourceType) {
+
+        if (StringUtils.isEmpty(resourceType)) {
+            return null;
+        }
+        return resourceTypeCaches.get(resourceType);
+    }
+
+    /**
+     * Negative results of a single resource type, mapped to the time at which they expire.
+     */
+    private static final class ResourceTypeCache {
+
+        private final long timeToLiveNanos;
+        private final ConcurrentMap<NegativeResultKey, Long> negativeResults = new ConcurrentHashMap<>();
+        private final AtomicLong invalidationVersion = new AtomicLong();
+
+        private ResourceTypeCache(long timeToLiveNanos) {
+
+            this.timeToLiveNanos = timeToLiveNanos;
+        }
+
+        private boolean isNegative(NegativeResultKey key) {
+
+            Long expiryTime = negativeResults.get(key);
+            if (expiryTime == null) {
+                return false;
+            }
+            if (System.nanoTime() - expiryTime >= 0) {
+                negativeResults.remove(key, expiryTime);
+                return false;
+            }
+            return true;
+        }
+
+        private void add(NegativeResultKey key, long invalidationVersion) {
+
+            if (this.invalidationVersion.get() != invalidationVersion) {
+                return;
+            }
+            long now = System.nanoTime();
+            if (negativeResults.size() >= MAX_CACHE_ENTRIES) {
+                negativeResults.values().removeIf(expiryTime -> now - expiryTime >= 0);
+                if (negativeResults.size() >= MAX_CACHE_ENTRIES) {
+                    return;
+                }
+            }
+            Long expiryTime = now + timeToLiveNanos;
+            negativeResults.put(key, expiryTime);
+            /*
+             * Re-check the version after adding the entry, in case an invalidation ran in between. The entry
+             * is removed in that case, as the miss could have been observed before the value was written.
+             */
+            if (this.invalidationVersion.get() != invalidationVersion) {
+                negativeResults.remove(key, expiryTime);
+            }
+        }
+
+        private void clear() {
+
+            invalidationVersion.incrementAndGet();
+            negativeResults.clear();
+        }
+    }
+
+    /**
+     * Cache key of a resource key within an organization.
+     */
+    private static final class NegativeResultKey {
+
+        private final String organizationId;
+        private final String resourceKey;
+
+        private NegativeResultKey(String organizationId, String resourceKey) {
+
+            this.organizationId = organizationId;
+            this.resourceKey = resourceKey;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof NegativeResultKey)) {
+                return false;
+            }
+            NegativeResultKey that = (NegativeResultKey) o;
+            return organizationId.equals(that.organizationId) && Objects.equals(resourceKey, that.resourceKey);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(organizationId, resourceKey);
+        }
+    }
+}
@@ -25,6 +25,17 @@ public class OrgResourceHierarchyTraverseConstants {
 
     private static final String ORGANIZATION_RESOURCE_HIERARCHY_TRAVERSE_ERROR_CODE_PREFIX = "ORHT-";
 
+    // Configurations of the executor used to resolve resources from the organization hierarchy asynchronously.
+    public static final String ASYNC_TRAVERSAL_THREAD_POOL_SIZE =
+            "OrganizationManagement.ResourceHierarchyTraverse.AsyncThreadPoolSize";
+    public static final String ASYNC_TRAVERSAL_QUEUE_CAPACITY =
+            "OrganizationManagement.ResourceHierarchyTraverse.AsyncQueueCapacity";
+    public static final int DEFAULT_ASYNC_TRAVERSAL_THREAD_POOL_SIZE = 10;
+    public static final int DEFAULT_ASYNC_TRAVERSAL_QUEUE_CAPACITY = 1000;
+
+    // Upper bound of the time to live of the negative resource cache entries, in milliseconds.
+    public static final long MAX_NEGATIVE_RESOURCE_CACHE_TTL_MILLIS = 15 * 60 * 1000L;
+
     /**
      * Private constructor to prevent instantiation of this constant class.
      */
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.executor;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.exception.OrgResourceHierarchyTraverseException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.constant.OrgResourceHierarchyTraverseConstants.ASYNC_TRAVERSAL_QUEUE_CAPACITY;
+import static org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.constant.OrgResourceHierarchyTraverseConstants.ASYNC_TRAVERSAL_THREAD_POOL_SIZE;
+import static org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.constant.OrgResourceHierarchyTraverseConstants.DEFAULT_ASYNC_TRAVERSAL_QUEUE_CAPACITY;
+import static org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.constant.OrgResourceHierarchyTraverseConstants.DEFAULT_ASYNC_TRAVERSAL_THREAD_POOL_SIZE;
+import static org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.executor.TenantBoundedExecutor.readPositiveIntProperty;
+
+/**
+ * Dedicated executor used to resolve resources from the organization/ application hierarchy asynchronously.
+ * <p>
+ * The executor is sized independently of the other executors of the server, so that hierarchy resolutions started
+ * by a request can overlap without competing with unrelated background work. The carbon context of the submitting
+ * thread is propagated to the executor thread through a tenant flow, hence resource retrievers observe the same
+ * tenant, organization and user as they would in a blocking resolution.
+ * <p>
+ * The number of threads and the capacity of the queue are read from the server configuration. Once the queue is
+ * full, traversals are executed on the submitting thread, which throttles the callers instead of queueing without
+ * bound. An executor is owned by the OSGi component which creates it, and is shut down when that component is
+ * deactivated.
+ */
+public class OrgResourceHierarchyTraverseExecutor {
+
+    private static final Log LOG = LogFactory.getLog(OrgResourceHierarchyTraverseExecutor.class);
+
+    private final ThreadPoolExecutor executorService;
+
+    /**
+     * Creates an executor sized according to the server configuration.
+     */
+    public OrgResourceHierarchyTraverseExecutor() {
+
+        this(readPositiveIntProperty(ASYNC_TRAVERSAL_THREAD_POOL_SIZE, DEFAULT_ASYNC_TRAVERSAL_THREAD_POOL_SIZE),
+                readPositiveIntProperty(ASYNC_TRAVERSAL_QUEUE_CAPACITY, DEFAULT_ASYNC_TRAVERSAL_QUEUE_CAPACITY));
+    }
+
+    /**
+     * Creates an executor with the given number of threads and queue capacity.
+     *
+     * @param threadPoolSize The number of threads of the executor.
+     * @param queueCapacity  The number of traversals which can wait for a thread before the submitting thread
+     *                       executes the traversal by itself.
+     */
+    public OrgResourceHierarchyTraverseExecutor(int threadPoolSize, int queueCapacity) {
+
+        this.executorService = new ThreadPoolExecutor(threadPoolSize, threadPoolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), (task, executor) -> {
+                    if (executor.isShutdown()) {
+                        throw new RejectedExecutionException(
+                                "Organization resource hierarchy traverse executor is shut down.");
+                    }
+                    task.run();
+                });
+    }
+
+    /**
+     * Submits the given traversal task to the executor, propagating the carbon context of the calling thread.
+     *
+     * @param traverseTask The traversal task to be executed.
+     * @param <T>          The type of the result of the traversal task.
+     * @return A future which completes with the result of the traversal task. If the task fails, the future
+     * completes exceptionally with a {@link CompletionException} wrapping the cause of the failure. If the executor
+     * is shut down, the future completes exceptionally with a {@link RejectedExecutionException}.
+     */
+    public <T> CompletableFuture<T> submit(TraverseTask<T> traverseTask) {
+
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        String tenantDomain = carbonContext.getTenantDomain();
+        int tenantId = carbonContext.getTenantId();
+        String organizationId = carbonContext.getOrganizationId();
+        String username = carbonContext.getUsername();
+        String userId = carbonContext.getUserId();
+
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    PrivilegedCarbonContext.startTenantFlow();
+                    PrivilegedCarbonContext threadLocalCarbonContext =
+                            PrivilegedCarbonContext.getThreadLocalCarbonContext();
+                    threadLocalCarbonContext.setTenantId(tenantId);
+                    threadLocalCarbonContext.setTenantDomain(tenantDomain);
+                    threadLocalCarbonContext.setOrganizationId(organizationId);
+                    threadLocalCarbonContext.setUsername(username);
+                    threadLocalCarbonContext.setUserId(userId);
+                    return traverseTask.execute();
+                } catch (OrgResourceHierarchyTraverseException e) {
+                    throw new CompletionException(e);
+                } finally {
+                    PrivilegedCarbonContext.endTenantFlow();
+                }
+            }, executorService);
+        } catch (RejectedExecutionException e) {
+            CompletableFuture<T> rejectedTraversal = new CompletableFuture<>();
+            rejectedTraversal.completeExceptionally(e);
+            return rejectedTraversal;
+        }
+    }
+
+    /**
+     * Shuts down the executor. Traversals which are already submitted are completed, while new submissions
+     * are rejected.
+     */
+    public void shutdown() {
+
+        executorService.shutdown();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Organization resource hierarchy traverse executor is shut down.");
+        }
+    }
+
+    /**
+     * Task which resolves a resource from the organization/ application hierarchy.
+     *
+     * @param <T> The type of the result of the task.
+     */
+    @FunctionalInterface
+    public interface TraverseTask<T> {
+
+        /**
+         * Executes the traversal.
+         *
+         * @return The result of the traversal.
+         * @throws OrgResourceHierarchyTraverseException If any errors occur during the traversal.
+         */
+        T execute() throws OrgResourceHierarchyTraverseException;
+    }
+}
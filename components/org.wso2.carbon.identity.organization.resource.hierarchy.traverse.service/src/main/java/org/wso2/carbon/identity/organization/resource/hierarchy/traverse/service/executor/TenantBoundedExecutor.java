@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.executor;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Executor which bounds the number of tasks queued or running at a time, both in total and per tenant.
+ * <p>
+ * Each submission takes a slot of the submitting tenant and a slot of the executor, and releases them once the task
+ * has run. When either kind of slot is exhausted, the submitting thread waits until one is released. As a task could
+ * wait on the slots held by itself, tasks must not submit further tasks to the same executor.
+ */
+public class TenantBoundedExecutor {
+
+    private static final Log LOG = LogFactory.getLog(TenantBoundedExecutor.class);
+
+    private final String taskDescription;
+    private final ExecutorService executorService;
+    private final Semaphore queueSlots;
+    private final int maxConcurrentTasksPerTenant;
+    private final ConcurrentMap<String, Semaphore> tenantSlots = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an executor with the given number of threads, queue capacity and per tenant concurrency cap.
+     *
+     * @param taskDescription             The description of the tasks of the executor, used in the rejections.
+     * @param threadPoolSize              The number of threads of the executor.
+     * @param queueCapacity               The number of tasks which can wait for a thread.
+     * @param maxConcurrentTasksPerTenant The number of tasks a tenant can have queued or running at a time.
+     */
+    public TenantBoundedExecutor(String taskDescription, int threadPoolSize, int queueCapacity,
+                                 int maxConcurrentTasksPerTenant) {
+
+        this.taskDescription = taskDescription;
+        this.executorService = Executors.newFixedThreadPool(threadPoolSize);
+        this.queueSlots = new Semaphore(threadPoolSize + queueCapacity);
+        this.maxConcurrentTasksPerTenant = maxConcurrentTasksPerTenant;
+    }
+
+    /**
+     * Submits the given task on behalf of the given tenant. The calling thread waits while the tenant has reached
+     * its concurrency cap, or while the queue of the executor is full.
+     *
+     * @param tenantDomain The domain of the tenant on behalf of which the task runs.
+     * @param task         The task.
+     * @return A future which completes once the task has run. If the executor is shut down, or if the calling thread
+     * is interrupted while waiting for a slot, the task is not run and the future completes exceptionally with a
+     * {@link RejectedExecutionException}.
+     */
+    public CompletableFuture<Void> runAsync(String tenantDomain, Runnable task) {
+
+        Semaphore tenantSlot = tenantSlots.computeIfAbsent(StringUtils.defaultString(tenantDomain),
+                key -> new Semaphore(maxConcurrentTasksPerTenant));
+        try {
+            tenantSlot.acquire();
+        } catch (InterruptedException e) {
+            return rejectInterruptedSubmission(tenantDomain);
+        }
+        try {
+            queueSlots.acquire();
+        } catch (InterruptedException e) {
+            tenantSlot.release();
+            return rejectInterruptedSubmission(tenantDomain);
+        }
+
+        try {
+            return CompletableFuture.runAsync(() -> {
+                try {
+                    task.run();
+                } finally {
+                    queueSlots.release();
+                    tenantSlot.release();
+                }
+            }, executorService);
+        } catch (RejectedExecutionException e) {
+            queueSlots.release();
+            tenantSlot.release();
+            CompletableFuture<Void> rejectedFuture = new CompletableFuture<>();
+            rejectedFuture.completeExceptionally(e);
+            return rejectedFuture;
+        }
+    }
+
+    /**
+     * Shuts down the executor. Tasks which are already submitted are run, but new tasks are rejected.
+     */
+    public void shutdown() {
+
+        executorService.shutdown();
+    }
+
+    /**
+     * Read a positive integer configuration. The default value is used if the configuration is not set, or is not a
+     * positive integer.
+     *
+     * @param propertyName The name of the configuration.
+     * @param defaultValue The default value of the configuration.
+     * @return The configured value, or the default value.
+     */
+    public static int readPositiveIntProperty(String propertyName, int defaultValue) {
+
+        String value = IdentityUtil.getProperty(propertyName);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            int parsedValue = Integer.parseInt(value.trim());
+            if (parsedValue > 0) {
+                return parsedValue;
+            }
+        } catch (NumberFormatException e) {
+            // Fall back to the default value below.
+        }
+        LOG.warn("Invalid value: " + value + " configured for: " + propertyName + ". Using the default value: " +
+                defaultValue);
+        return defaultValue;
+    }
+
+    private CompletableFuture<Void> rejectInterruptedSubmission(String tenantDomain) {
+
+        Thread.currentThread().interrupt();
+        CompletableFuture<Void> rejectedFuture = new CompletableFuture<>();
+        rejectedFuture.completeExceptionally(new RejectedExecutionException(
+                "Interrupted while waiting to submit " + taskDescription + " of tenant: " + tenantDomain));
+        return rejectedFuture;
+    }
+}
@@ -28,8 +28,12 @@ import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
+import org.wso2.carbon.identity.organization.management.service.listener.OrganizationManagerListener;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.OrgResourceResolverService;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.OrgResourceResolverServiceImpl;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.cache.NegativeResourceCache;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.executor.OrgResourceHierarchyTraverseExecutor;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.listener.AncestorOrganizationCacheInvalidationListener;
 
 /**
  * OSGi component responsible for managing the activation and deactivation of the organization resource hierarchy
@@ -44,6 +48,8 @@ public class OrgResourceHierarchyTraverseServiceComponent {
 
     private static final Log LOG = LogFactory.getLog(OrgResourceHierarchyTraverseServiceComponent.class);
 
+    private OrgResourceHierarchyTraverseExecutor traverseExecutor;
+
     /**
      * Activates the OSGi component by registering the {@link OrgResourceResolverService} service.
      * This method is called when the component is activated in the OSGi environment.
@@ -55,8 +61,12 @@ public class OrgResourceHierarchyTraverseServiceComponent {
 
         try {
             BundleContext bundleContext = context.getBundleContext();
+            traverseExecutor = new OrgResourceHierarchyTraverseExecutor();
+            OrgResourceHierarchyTraverseServiceDataHolder.getInstance().setTraverseExecutor(traverseExecutor);
             bundleContext.registerService(OrgResourceResolverService.class.getName(),
-                    new OrgResourceResolverServiceImpl(), null);
+                    new OrgResourceResolverServiceImpl(traverseExecutor), null);
+            bundleContext.registerService(OrganizationManagerListener.class.getName(),
+                    new AncestorOrganizationCacheInvalidationListener(), null);
             if (LOG.isDebugEnabled()) {
                 LOG.debug("OrgResourceResolverService bundle is activated successfully.");
             }
@@ -74,6 +84,13 @@ public class OrgResourceHierarchyTraverseServiceComponent {
     @Deactivate
     protected void deactivate(ComponentContext context) {
 
+        OrgResourceHierarchyTraverseServiceDataHolder.getInstance().setTraverseExecutor(null);
+        // The negative resource cache is node-local, hence clearing it does not affect the other nodes.
+        NegativeResourceCache.getInstance().clear();
+        if (traverseExecutor != null) {
+            traverseExecutor.shutdown();
+            traverseExecutor = null;
+        }
         if (LOG.isDebugEnabled()) {
             LOG.debug("OrgResourceResolverService bundle is deactivated");
         }
@@ -19,6 +19,7 @@
 package org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.internal;
 
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.executor.OrgResourceHierarchyTraverseExecutor;
 
 /**
  * Singleton class that serves as a centralized data holder for key service instances used in the organization
@@ -30,6 +31,7 @@ public class OrgResourceHierarchyTraverseServiceDataHolder {
             new OrgResourceHierarchyTraverseServiceDataHolder();
 
     private OrganizationManager organizationManager;
+    private OrgResourceHierarchyTraverseExecutor traverseExecutor;
 
     private OrgResourceHierarchyTraverseServiceDataHolder() {
 
@@ -64,4 +66,24 @@ public class OrgResourceHierarchyTraverseServiceDataHolder {
 
         this.organizationManager = organizationManager;
     }
+
+    /**
+     * Retrieves the executor used to resolve resources from the hierarchy asynchronously.
+     *
+     * @return The executor owned by the active component, or {@code null} if the component is not active.
+     */
+    public OrgResourceHierarchyTraverseExecutor getTraverseExecutor() {
+
+        return traverseExecutor;
+    }
+
+    /**
+     * Sets the executor used to resolve resources from the hierarchy asynchronously.
+     *
+     * @param traverseExecutor The executor owned by the active component.
+     */
+    public void setTraverseExecutor(OrgResourceHierarchyTraverseExecutor traverseExecutor) {
+
+        this.traverseExecutor = traverseExecutor;
+    }
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.listener;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+import org.wso2.carbon.identity.organization.management.service.listener.OrganizationManagerListener;
+import org.wso2.carbon.identity.organization.management.service.model.Organization;
+import org.wso2.carbon.identity.organization.management.service.model.PatchOperation;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.cache.AncestorOrganizationCache;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.util.OrgResourceHierarchyTraverseUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Organization manager listener which keeps the {@link AncestorOrganizationCache} consistent with the organization
+ * hierarchy. The cached chain of an organization is invalidated whenever the organization is added or deleted, and the
+ * cached chains of its whole subtree are invalidated whenever it is updated or patched, as the update may move it
+ * within the hierarchy.
+ */
+public class AncestorOrganizationCacheInvalidationListener implements OrganizationManagerListener {
+
+    private static final Log LOG = LogFactory.getLog(AncestorOrganizationCacheInvalidationListener.class);
+
+    @Override
+    public void preAddOrganization(Organization organization) throws OrganizationManagementException {
+
+    }
+
+    @Override
+    public void postAddOrganization(Organization organization) throws OrganizationManagementException {
+
+        if (organization != null) {
+            getAncestorOrganizationCache().invalidateOrganizations(Collections.singletonList(organization.getId()));
+        }
+    }
+
+    @Override
+    public void preGetOrganization(String organizationId) throws OrganizationManagementException {
+
+    }
+
+    @Override
+    public void postGetOrganization(String organizationId, Organization organization)
+            throws OrganizationManagementException {
+
+    }
+
+    @Override
+    public void preDeleteOrganization(String organizationId) throws OrganizationManagementException {
+
+    }
+
+    @Deprecated
+    @Override
+    public void postDeleteOrganization(String organizationId) throws OrganizationManagementException {
+
+        getAncestorOrganizationCache().invalidateOrganizations(Collections.singletonList(organizationId));
+    }
+
+    @Override
+    public void postDeleteOrganization(String organizationId, int organizationDepthInHierarchy)
+            throws OrganizationManagementException {
+
+        // An organization can only be deleted once all of its child organizations are deleted.
+        getAncestorOrganizationCache().invalidateOrganizations(Collections.singletonList(organizationId));
+    }
+
+    @Override
+    public void prePatchOrganization(String organizationId, List<PatchOperation> patchOperations)
+            throws OrganizationManagementException {
+
+    }
+
+    @Override
+    public void postPatchOrganization(String organizationId, List<PatchOperation> patchOperations)
+            throws OrganizationManagementException {
+
+        invalidateSubtree(organizationId);
+    }
+
+    @Override
+    public void preUpdateOrganization(String organizationId, Organization organization)
+            throws OrganizationManagementException {
+
+    }
+
+    @Override
+    public void postUpdateOrganization(String organizationId, Organization organization)
+            throws OrganizationManagementException {
+
+        invalidateSubtree(organizationId);
+    }
+
+    private void invalidateSubtree(String organizationId) {
+
+        try {
+            List<String> subtreeOrganizationIds = new ArrayList<>();
+            subtreeOrganizationIds.add(organizationId);
+            subtreeOrganizationIds.addAll(OrgResourceHierarchyTraverseUtil.getOrganizationManager()
+                    .getChildOrganizationsIds(organizationId, true));
+            getAncestorOrganizationCache().invalidateOrganizations(subtreeOrganizationIds);
+        } catch (OrganizationManagementException e) {
+            LOG.warn("Error while resolving the descendant organizations of the organization: " + organizationId +
+                    ". Invalidating all the cached ancestor organization chains.", e);
+            getAncestorOrganizationCache().invalidateAll();
+        }
+    }
+
+    private AncestorOrganizationCache getAncestorOrganizationCache() {
+
+        return AncestorOrganizationCache.getInstance();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.metrics;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.model.AggregationStrategyTiming;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.strategy.AggregationStrategy;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Node-local timing metrics of the hierarchy resolutions, grouped by the aggregation strategy used for them.
+ * <p>
+ * The time of a resolution covers resolving the ancestor hierarchy and aggregating the resources with the strategy,
+ * which allows comparing the strategies, and the blocking and asynchronous resolutions, against each other.
+ */
+public class AggregationStrategyMetrics {
+
+    private static final Log LOG = LogFactory.getLog(AggregationStrategyMetrics.class);
+    private static final AggregationStrategyMetrics INSTANCE = new AggregationStrategyMetrics();
+
+    private final ConcurrentMap<String, StrategyTimer> strategyTimers = new ConcurrentHashMap<>();
+
+    private AggregationStrategyMetrics() {
+
+    }
+
+    /**
+     * Retrieves the Singleton instance of the AggregationStrategyMetrics class.
+     *
+     * @return The singleton instance of AggregationStrategyMetrics.
+     */
+    public static AggregationStrategyMetrics getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Records the time spent on a hierarchy resolution performed with the given aggregation strategy.
+     *
+     * @param aggregationStrategy The aggregation strategy used for the resolution.
+     * @param elapsedTimeNanos    The time spent on the resolution, in nanoseconds.
+     */
+    public void record(AggregationStrategy<?> aggregationStrategy, long elapsedTimeNanos) {
+
+        if (aggregationStrategy == null) {
+            return;
+        }
+        String strategyName = aggregationStrategy.getClass().getSimpleName();
+        strategyTimers.computeIfAbsent(strategyName, name -> new StrategyTimer()).record(elapsedTimeNanos);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(String.format("Resolved resources from the organization hierarchy with the strategy: %s " +
+                    "in %d ns.", strategyName, elapsedTimeNanos));
+        }
+    }
+
+    /**
+     * Get the timing metrics of the aggregation strategies used so far.
+     *
+     * @return Immutable map of the aggregation strategy names to their timing metrics.
+     */
+    public Map<String, AggregationStrategyTiming> getStrategyTimings() {
+
+        Map<String, AggregationStrategyTiming> strategyTimings = new HashMap<>();
+        strategyTimers.forEach((strategyName, strategyTimer) ->
+                strategyTimings.put(strategyName, strategyTimer.snapshot(strategyName)));
+        return Collections.unmodifiableMap(strategyTimings);
+    }
+
+    /**
+     * Clears the timing metrics of all the aggregation strategies.
+     */
+    public void clear() {
+
+        strategyTimers.clear();
+    }
+
+    /**
+     * Accumulator of the timing metrics of a single aggregation strategy.
+     */
+    private static final class StrategyTimer {
+
+        private final LongAdder invocationCount = new LongAdder();
+        private final LongAdder totalTimeNanos = new LongAdder();
+        private final AtomicLong maxTimeNanos = new AtomicLong();
+
+        private void record(long elapsedTimeNanos) {
+
+            invocationCount.increment();
+            totalTimeNanos.add(elapsedTimeNanos);
+            maxTimeNanos.accumulateAndGet(elapsedTimeNanos, Math::max);
+        }
+
+        private AggregationStrategyTiming snapshot(String strategyName) {
+
+            return new AggregationStrategyTiming(strategyName, invocationCount.sum(), totalTimeNanos.sum(),
+                    maxTimeNanos.get());
+        }
+    }
+}
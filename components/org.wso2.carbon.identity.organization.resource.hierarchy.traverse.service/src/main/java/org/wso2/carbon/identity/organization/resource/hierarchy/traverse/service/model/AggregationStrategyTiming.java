@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.model;
+
+/**
+ * Immutable snapshot of the timing metrics of the hierarchy resolutions performed with an aggregation strategy.
+ */
+public class AggregationStrategyTiming {
+
+    private final String strategyName;
+    private final long invocationCount;
+    private final long totalTimeNanos;
+    private final long maxTimeNanos;
+
+    /**
+     * Constructor to create the timing snapshot of an aggregation strategy.
+     *
+     * @param strategyName    Name of the aggregation strategy.
+     * @param invocationCount Number of hierarchy resolutions performed with the strategy.
+     * @param totalTimeNanos  Total time spent on the resolutions, in nanoseconds.
+     * @param maxTimeNanos    Time spent on the slowest resolution, in nanoseconds.
+     */
+    public AggregationStrategyTiming(String strategyName, long invocationCount, long totalTimeNanos,
+                                     long maxTimeNanos) {
+
+        this.strategyName = strategyName;
+        this.invocationCount = invocationCount;
+        this.totalTimeNanos = totalTimeNanos;
+        this.maxTimeNanos = maxTimeNanos;
+    }
+
+    public String getStrategyName() {
+
+        return strategyName;
+    }
+
+    public long getInvocationCount() {
+
+        return invocationCount;
+    }
+
+    public long getTotalTimeNanos() {
+
+        return totalTimeNanos;
+    }
+
+    public long getMaxTimeNanos() {
+
+        return maxTimeNanos;
+    }
+
+    /**
+     * Get the average time spent on a resolution.
+     *
+     * @return Average time in nanoseconds, or 0 if no resolution is performed with the strategy.
+     */
+    public long getAverageTimeNanos() {
+
+        return invocationCount == 0 ? 0 : totalTimeNanos / invocationCount;
+    }
+}
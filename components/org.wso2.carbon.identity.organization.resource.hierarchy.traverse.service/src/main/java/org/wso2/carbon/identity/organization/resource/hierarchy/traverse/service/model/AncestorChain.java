@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.model;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable model representing the ancestor chain of an organization together with the depth of each ancestor
+ * in the organization hierarchy.
+ * <p>
+ * The chain starts from the organization itself and ends with the root organization. As every organization in the
+ * chain is the parent of the previous one, the depth of each ancestor is derived from its position in the chain,
+ * with the root organization being at depth 0.
+ */
+public class AncestorChain implements Serializable {
+
+    private static final long serialVersionUID = -1871496024213786410L;
+
+    private final List<String> organizationIds;
+    private final Map<String, Integer> organizationDepths;
+
+    /**
+     * Constructor to create the ancestor chain from the ancestor organization IDs.
+     *
+     * @param ancestorOrganizationIds Ancestor organization IDs, starting from the organization itself and
+     *                                ending with the root organization.
+     */
+    public AncestorChain(List<String> ancestorOrganizationIds) {
+
+        this.organizationIds = Collections.unmodifiableList(new ArrayList<>(ancestorOrganizationIds));
+        Map<String, Integer> depths = new LinkedHashMap<>();
+        int chainSize = organizationIds.size();
+        for (int i = 0; i < chainSize; i++) {
+            depths.put(organizationIds.get(i), chainSize - 1 - i);
+        }
+        this.organizationDepths = Collections.unmodifiableMap(depths);
+    }
+
+    /**
+     * Get the ancestor organization IDs, starting from the organization itself and ending with the root organization.
+     *
+     * @return Immutable list of ancestor organization IDs.
+     */
+    public List<String> getOrganizationIds() {
+
+        return organizationIds;
+    }
+
+    /**
+     * Get the ancestor organizations as (organization ID, depth) pairs, in the same order as the chain.
+     *
+     * @return Immutable map of ancestor organization IDs to their depth in the hierarchy.
+     */
+    public Map<String, Integer> getOrganizationDepths() {
+
+        return organizationDepths;
+    }
+
+    /**
+     * Get the depth of the given organization in the hierarchy.
+     *
+     * @param organizationId Organization ID.
+     * @return Depth of the organization, or -1 if the organization is not part of the chain.
+     */
+    public int getDepthInHierarchy(String organizationId) {
+
+        Integer depth = organizationDepths.get(organizationId);
+        return depth != null ? depth : -1;
+    }
+
+    /**
+     * Check whether the given organization is part of the chain.
+     *
+     * @param organizationId Organization ID.
+     * @return True if the organization is an ancestor of, or is, the organization of this chain.
+     */
+    public boolean contains(String organizationId) {
+
+        return organizationDepths.containsKey(organizationId);
+    }
+
+    /**
+     * Get the number of organizations in the chain.
+     *
+     * @return Size of the chain.
+     */
+    public int size() {
+
+        return organizationIds.size();
+    }
+}
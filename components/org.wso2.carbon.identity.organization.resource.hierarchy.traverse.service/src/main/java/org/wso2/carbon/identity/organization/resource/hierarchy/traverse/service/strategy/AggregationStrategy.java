@@ -20,7 +20,11 @@ package org.wso2.carbon.identity.organization.resource.hierarchy.traverse.servic
 
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.exception.NotImplementedException;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.exception.OrgResourceHierarchyTraverseException;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.model.AncestorChain;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.util.OrgResourceHierarchyTraverseUtil;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -88,4 +92,127 @@ public interface AggregationStrategy<T> {
 
         throw new NotImplementedException("aggregate method is not implemented in " + this.getClass());
     }
+
+    /**
+     * Aggregates resources resolved from an organization's hierarchical structure, where the depth of each
+     * organization in the hierarchy is provided through the given ancestor chain.
+     * <p>
+     * The default implementation delegates to {@link #aggregate(List, Function)} with the organization IDs of the
+     * chain. Strategies should override this method to make use of the depths carried by the chain.
+     *
+     * @param ancestorChain     The ancestor chain of the organization, where the first element is the organization
+     *                          itself and the last element is the root organization.
+     * @param resourceRetriever A function that retrieves a resource given an organization ID.
+     *                          Returns an {@link Optional<T>} containing the resource, or empty
+     *                          if no resource is found for the given ID.
+     * @return The aggregated resource of type <T>.
+     * @throws OrgResourceHierarchyTraverseException If any error occurs during resource
+     *                                               retrieval or aggregation.
+     */
+    default T aggregate(AncestorChain ancestorChain, Function<String, Optional<T>> resourceRetriever)
+            throws OrgResourceHierarchyTraverseException {
+
+        return aggregate(ancestorChain.getOrganizationIds(), resourceRetriever);
+    }
+
+    /**
+     * Aggregates resources resolved from an organization's and application's hierarchical structure, where the depth
+     * of each organization in the hierarchy is provided through the given ancestor chain.
+     * <p>
+     * The default implementation delegates to {@link #aggregate(List, Map, BiFunction)} with the organization IDs of
+     * the chain. Strategies should override this method to make use of the depths carried by the chain.
+     *
+     * @param ancestorChain        The ancestor chain of the organization, where the first element is the
+     *                             organization itself and the last element is the root organization.
+     * @param applicationHierarchy A map representing the application hierarchy, where keys
+     *                             are organization IDs, and values are application-specific
+     *                             details or IDs for each organization.
+     * @param resourceRetriever    A bi-function that retrieves a resource based on both an
+     *                             organization ID and an application ID. Returns an {@link Optional<T>}
+     *                             containing the resource, or empty if no resource is found.
+     * @return The aggregated resource of type <T>.
+     * @throws OrgResourceHierarchyTraverseException If any error occurs during resource
+     *                                               retrieval or aggregation.
+     */
+    default T aggregate(AncestorChain ancestorChain, Map<String, String> applicationHierarchy,
+                        BiFunction<String, String, Optional<T>> resourceRetriever)
+            throws OrgResourceHierarchyTraverseException {
+
+        return aggregate(ancestorChain.getOrganizationIds(), applicationHierarchy, resourceRetriever);
+    }
+
+    /**
+     * Aggregates resources resolved from an organization's hierarchical structure, where the resources of all the
+     * traversable organizations in the chain are fetched at once using the given batch resource retriever.
+     * <p>
+     * The default implementation fetches the resources of the organizations up to the minimum hierarchy level in a
+     * single call, and applies {@link #aggregate(AncestorChain, Function)} over the prefetched resources.
+     *
+     * @param ancestorChain          The ancestor chain of the organization, where the first element is the
+     *                               organization itself and the last element is the root organization.
+     * @param batchResourceRetriever A function that retrieves the resources of the given organization IDs.
+     *                               Returns a map of organization IDs to resources, where organizations without a
+     *                               resource are omitted.
+     * @return The aggregated resource of type <T>.
+     * @throws OrgResourceHierarchyTraverseException If any error occurs during resource
+     *                                               retrieval or aggregation.
+     */
+    default T aggregateInBatch(AncestorChain ancestorChain,
+                               Function<List<String>, Map<String, T>> batchResourceRetriever)
+            throws OrgResourceHierarchyTraverseException {
+
+        List<String> organizationIds = OrgResourceHierarchyTraverseUtil.getTraversableOrganizationIds(ancestorChain);
+        Map<String, T> resources = Collections.emptyMap();
+        if (!organizationIds.isEmpty()) {
+            Map<String, T> retrievedResources = batchResourceRetriever.apply(organizationIds);
+            if (retrievedResources != null) {
+                resources = retrievedResources;
+            }
+        }
+
+        Map<String, T> prefetchedResources = resources;
+        return aggregate(ancestorChain, orgId -> Optional.ofNullable(prefetchedResources.get(orgId)));
+    }
+
+    /**
+     * Aggregates resources resolved from an organization's and application's hierarchical structure, where the
+     * resources of all the traversable organizations in the chain are fetched at once using the given batch
+     * resource retriever.
+     * <p>
+     * The default implementation fetches the resources of the organizations up to the minimum hierarchy level in a
+     * single call, and applies {@link #aggregate(AncestorChain, Map, BiFunction)} over the prefetched resources.
+     *
+     * @param ancestorChain          The ancestor chain of the organization, where the first element is the
+     *                               organization itself and the last element is the root organization.
+     * @param applicationHierarchy   A map representing the application hierarchy, where keys
+     *                               are organization IDs, and values are application-specific
+     *                               details or IDs for each organization.
+     * @param batchResourceRetriever A function that retrieves the resources of the given organization IDs mapped to
+     *                               their application IDs, in the order of the chain. Returns a map of
+     *                               organization IDs to resources, where organizations without a resource
+     *                               are omitted.
+     * @return The aggregated resource of type <T>.
+     * @throws OrgResourceHierarchyTraverseException If any error occurs during resource
+     *                                               retrieval or aggregation.
+     */
+    default T aggregateInBatch(AncestorChain ancestorChain, Map<String, String> applicationHierarchy,
+                               Function<Map<String, String>, Map<String, T>> batchResourceRetriever)
+            throws OrgResourceHierarchyTraverseException {
+
+        Map<String, String> organizationApplicationIds = new LinkedHashMap<>();
+        for (String orgId : OrgResourceHierarchyTraverseUtil.getTraversableOrganizationIds(ancestorChain)) {
+            organizationApplicationIds.put(orgId, applicationHierarchy.get(orgId));
+        }
+        Map<String, T> resources = Collections.emptyMap();
+        if (!organizationApplicationIds.isEmpty()) {
+            Map<String, T> retrievedResources = batchResourceRetriever.apply(organizationApplicationIds);
+            if (retrievedResources != null) {
+                resources = retrievedResources;
+            }
+        }
+
+        Map<String, T> prefetchedResources = resources;
+        return aggregate(ancestorChain, applicationHierarchy,
+                (orgId, appId) -> Optional.ofNullable(prefetchedResources.get(orgId)));
+    }
 }
@@ -20,6 +20,7 @@ package org.wso2.carbon.identity.organization.resource.hierarchy.traverse.servic
 
 import org.apache.commons.collections.CollectionUtils;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.exception.OrgResourceHierarchyTraverseException;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.model.AncestorChain;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.util.OrgResourceHierarchyTraverseUtil;
 
 import java.util.List;
@@ -82,4 +83,50 @@ public class FirstFoundAggregationStrategy<T> implements AggregationStrategy<T>
         }
         return null;
     }
+
+    @Override
+    public T aggregate(AncestorChain ancestorChain, Function<String, Optional<T>> resourceRetriever)
+            throws OrgResourceHierarchyTraverseException {
+
+        if (ancestorChain == null || ancestorChain.size() == 0) {
+            return null;
+        }
+
+        for (String orgId : ancestorChain.getOrganizationIds()) {
+            if (ancestorChain.size() != 1 &&
+                    OrgResourceHierarchyTraverseUtil.isMinOrgHierarchyDepthReached(ancestorChain, orgId)) {
+                break;
+            }
+
+            Optional<T> resource = resourceRetriever.apply(orgId);
+            if (resource.isPresent()) {
+                return resource.get();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public T aggregate(AncestorChain ancestorChain, Map<String, String> applicationHierarchy,
+                       BiFunction<String, String, Optional<T>> resourceRetriever)
+            throws OrgResourceHierarchyTraverseException {
+
+        if (ancestorChain == null || ancestorChain.size() == 0) {
+            return null;
+        }
+
+        for (String orgId : ancestorChain.getOrganizationIds()) {
+            if (ancestorChain.size() != 1 &&
+                    OrgResourceHierarchyTraverseUtil.isMinOrgHierarchyDepthReached(ancestorChain, orgId)) {
+                break;
+            }
+
+            String appId = applicationHierarchy.get(orgId);
+            Optional<T> resource = resourceRetriever.apply(orgId, appId);
+            if (resource.isPresent()) {
+                return resource.get();
+            }
+        }
+        return null;
+    }
 }
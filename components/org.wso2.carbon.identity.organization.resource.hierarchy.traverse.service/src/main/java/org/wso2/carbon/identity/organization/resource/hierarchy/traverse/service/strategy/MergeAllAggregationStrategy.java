@@ -20,6 +20,7 @@ package org.wso2.carbon.identity.organization.resource.hierarchy.traverse.servic
 
 import org.apache.commons.collections.CollectionUtils;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.exception.OrgResourceHierarchyTraverseException;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.model.AncestorChain;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.util.OrgResourceHierarchyTraverseUtil;
 
 import java.util.List;
@@ -27,6 +28,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * Aggregation strategy to merge all resources in the organization hierarchy using the specified
@@ -35,13 +37,15 @@ import java.util.function.Function;
  * This strategy traverses the hierarchy and applies the provided function
  * to combine the resources at each level. It ensures that the resources are merged according to the
  * logic defined by the merger function, which could involve combining attributes, performing calculations, or
- * resolving conflicts between resources.
+ * resolving conflicts between resources. When a completeness predicate is given, the traversal stops as soon as the
+ * aggregated resource satisfies it.
  *
  * @param <T> The type of the resources being merged in the organization/ application hierarchy.
  */
 public class MergeAllAggregationStrategy<T> implements AggregationStrategy<T> {
 
     private final BiFunction<T, T, T> resourceMerger;
+    private final Predicate<T> completenessPredicate;
 
     /**
      * Constructor to initialize the aggregation strategy with the resource merger function.
@@ -50,62 +54,123 @@ public class MergeAllAggregationStrategy<T> implements AggregationStrategy<T> {
      */
     public MergeAllAggregationStrategy(BiFunction<T, T, T> resourceMerger) {
 
+        this(resourceMerger, null);
+    }
+
+    /**
+     * Constructor to initialize the aggregation strategy with the resource merger function and a completeness
+     * predicate.
+     * <p>
+     * The predicate is evaluated on the aggregated resource after every level which contributes a resource, and the
+     * traversal stops as soon as it is satisfied, leaving the remaining ancestor organizations unvisited. This suits
+     * property-bag style resources, where the aggregated resource is complete once every required property has been
+     * populated by the lower levels of the hierarchy.
+     *
+     * @param resourceMerger        Resource merger function.
+     * @param completenessPredicate Predicate which returns true when the aggregated resource is complete and no
+     *                              further levels need to be merged. If null, the whole hierarchy is traversed.
+     */
+    public MergeAllAggregationStrategy(BiFunction<T, T, T> resourceMerger, Predicate<T> completenessPredicate) {
+
         this.resourceMerger = resourceMerger;
+        this.completenessPredicate = completenessPredicate;
     }
 
     @Override
     public T aggregate(List<String> organizationHierarchy, Function<String, Optional<T>> resourceRetriever)
             throws OrgResourceHierarchyTraverseException {
 
-        T aggregatedResource = null;
         if (CollectionUtils.isEmpty(organizationHierarchy)) {
-            return aggregatedResource;
+            return null;
         }
+        return merge(organizationHierarchy, orgId -> organizationHierarchy.size() != 1 &&
+                OrgResourceHierarchyTraverseUtil.isMinOrgHierarchyDepthReached(orgId), resourceRetriever);
+    }
 
-        for (String orgId : organizationHierarchy) {
-            if (organizationHierarchy.size() != 1 &&
-                    OrgResourceHierarchyTraverseUtil.isMinOrgHierarchyDepthReached(orgId)) {
-                break;
-            }
+    @Override
+    public T aggregate(List<String> organizationHierarchy, Map<String, String> applicationHierarchy,
+                       BiFunction<String, String, Optional<T>> resourceRetriever)
+            throws OrgResourceHierarchyTraverseException {
 
-            Optional<T> resource = resourceRetriever.apply(orgId);
-            if (resource.isPresent()) {
-                if (aggregatedResource == null) {
-                    aggregatedResource = resource.get();
-                } else {
-                    aggregatedResource = resourceMerger.apply(aggregatedResource, resource.get());
-                }
-            }
+        if (CollectionUtils.isEmpty(organizationHierarchy)) {
+            return null;
         }
-        return aggregatedResource;
+        return merge(organizationHierarchy, orgId -> organizationHierarchy.size() != 1 &&
+                        OrgResourceHierarchyTraverseUtil.isMinOrgHierarchyDepthReached(orgId),
+                orgId -> resourceRetriever.apply(orgId, applicationHierarchy.get(orgId)));
     }
 
     @Override
-    public T aggregate(List<String> organizationHierarchy, Map<String, String> applicationHierarchy,
+    public T aggregate(AncestorChain ancestorChain, Function<String, Optional<T>> resourceRetriever)
+            throws OrgResourceHierarchyTraverseException {
+
+        if (ancestorChain == null || ancestorChain.size() == 0) {
+            return null;
+        }
+        return merge(ancestorChain.getOrganizationIds(), orgId -> ancestorChain.size() != 1 &&
+                OrgResourceHierarchyTraverseUtil.isMinOrgHierarchyDepthReached(ancestorChain, orgId),
+                resourceRetriever);
+    }
+
+    @Override
+    public T aggregate(AncestorChain ancestorChain, Map<String, String> applicationHierarchy,
                        BiFunction<String, String, Optional<T>> resourceRetriever)
             throws OrgResourceHierarchyTraverseException {
 
-        T aggregatedResource = null;
-        if (CollectionUtils.isEmpty(organizationHierarchy)) {
-            return aggregatedResource;
+        if (ancestorChain == null || ancestorChain.size() == 0) {
+            return null;
         }
+        return merge(ancestorChain.getOrganizationIds(), orgId -> ancestorChain.size() != 1 &&
+                        OrgResourceHierarchyTraverseUtil.isMinOrgHierarchyDepthReached(ancestorChain, orgId),
+                orgId -> resourceRetriever.apply(orgId, applicationHierarchy.get(orgId)));
+    }
+
+    /**
+     * Merges the resources of the given organizations, starting from the first organization and stopping at the
+     * traversal boundary or as soon as the aggregated resource is complete.
+     *
+     * @param organizationIds   Organization IDs in the traversal order.
+     * @param traversalBoundary Boundary which tells whether the traversal should stop before the given organization.
+     * @param resourceRetriever Function that retrieves the resource of the given organization.
+     * @return The merged resource, or null if none of the traversed organizations has a resource.
+     * @throws OrgResourceHierarchyTraverseException If an error occurs while evaluating the traversal boundary.
+     */
+    private T merge(List<String> organizationIds, TraversalBoundary traversalBoundary,
+                    Function<String, Optional<T>> resourceRetriever) throws OrgResourceHierarchyTraverseException {
 
-        for (String orgId : organizationHierarchy) {
-            if (organizationHierarchy.size() != 1 &&
-                    OrgResourceHierarchyTraverseUtil.isMinOrgHierarchyDepthReached(orgId)) {
+        T aggregatedResource = null;
+        for (String orgId : organizationIds) {
+            if (traversalBoundary.isReached(orgId)) {
                 break;
             }
 
-            String appId = applicationHierarchy.get(orgId);
-            Optional<T> resource = resourceRetriever.apply(orgId, appId);
+            Optional<T> resource = resourceRetriever.apply(orgId);
             if (resource.isPresent()) {
                 if (aggregatedResource == null) {
                     aggregatedResource = resource.get();
                 } else {
                     aggregatedResource = resourceMerger.apply(aggregatedResource, resource.get());
                 }
+                if (isComplete(aggregatedResource)) {
+                    break;
+                }
             }
         }
         return aggregatedResource;
     }
+
+    private boolean isComplete(T aggregatedResource) {
+
+        return completenessPredicate != null && aggregatedResource != null &&
+                completenessPredicate.test(aggregatedResource);
+    }
+
+    /**
+     * Boundary of the traversal, evaluated on each organization before its resource is retrieved.
+     */
+    @FunctionalInterface
+    private interface TraversalBoundary {
+
+        boolean isReached(String orgId) throws OrgResourceHierarchyTraverseException;
+    }
 }
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.strategy;
+
+import org.apache.commons.collections.CollectionUtils;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.exception.OrgResourceHierarchyTraverseException;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.model.AncestorChain;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.util.OrgResourceHierarchyTraverseUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Aggregation strategy which retrieves the first resource found in the organization hierarchy, similar to
+ * {@link FirstFoundAggregationStrategy}, while fetching the resources of all the traversable organizations in parallel.
+ * <p>
+ * The lookups of every level are submitted to the given bounded executor, and the resource of the lowest level of
+ * the hierarchy which has one is returned. Once a resource is found at a level, the lookups of the levels above it
+ * which have not started yet are cancelled. The latency of a traversal therefore becomes the latency of the slowest
+ * required lookup, rather than the sum of the latencies of every level.
+ * <p>
+ * As the resource retriever is invoked on the executor threads, it must not depend on thread local state of the
+ * calling thread, such as the carbon context, unless the retriever establishes that state by itself. If the
+ * executor rejects a lookup, the lookup is executed on the calling thread.
+ * <p>
+ * The organization hierarchy given as a list is resolved to its ancestor chain through the ancestor organization
+ * cache, so that the depth of each organization is not looked up per level.
+ *
+ * @param <T> The type of the resource being retrieved from the organization/ application hierarchy.
+ */
+public class ParallelFirstFoundAggregationStrategy<T> implements AggregationStrategy<T> {
+
+    private final ExecutorService executorService;
+
+    /**
+     * Constructor to initialize the aggregation strategy with the executor used to fetch the resources.
+     *
+     * @param executorService Bounded executor used to fetch the resources of the hierarchy levels in parallel.
+     */
+    public ParallelFirstFoundAggregationStrategy(ExecutorService executorService) {
+
+        this.executorService = executorService;
+    }
+
+    @Override
+    public T aggregate(List<String> organizationHierarchy, Function<String, Optional<T>> resourceRetriever)
+            throws OrgResourceHierarchyTraverseException {
+
+        if (CollectionUtils.isEmpty(organizationHierarchy)) {
+            return null;
+        }
+        return findFirstInParallel(getTraversableOrganizationIds(organizationHierarchy), resourceRetriever);
+    }
+
+    @Override
+    public T aggregate(List<String> organizationHierarchy, Map<String, String> applicationHierarchy,
+                       BiFunction<String, String, Optional<T>> resourceRetriever)
+            throws OrgResourceHierarchyTraverseException {
+
+        if (CollectionUtils.isEmpty(organizationHierarchy)) {
+            return null;
+        }
+        return findFirstInParallel(getTraversableOrganizationIds(organizationHierarchy),
+                orgId -> resourceRetriever.apply(orgId, applicationHierarchy.get(orgId)));
+    }
+
+    @Override
+    public T aggregate(AncestorChain ancestorChain, Function<String, Optional<T>> resourceRetriever)
+            throws OrgResourceHierarchyTraverseException {
+
+        if (ancestorChain == null || ancestorChain.size() == 0) {
+            return null;
+        }
+        return findFirstInParallel(OrgResourceHierarchyTraverseUtil.getTraversableOrganizationIds(ancestorChain),
+                resourceRetriever);
+    }
+
+    @Override
+    public T aggregate(AncestorChain ancestorChain, Map<String, String> applicationHierarchy,
+                       BiFunction<String, String, Optional<T>> resourceRetriever)
+            throws OrgResourceHierarchyTraverseException {
+
+        if (ancestorChain == null || ancestorChain.size() == 0) {
+            return null;
+        }
+        return findFirstInParallel(OrgResourceHierarchyTraverseUtil.getTraversableOrganizationIds(ancestorChain),
+                orgId -> resourceRetriever.apply(orgId, applicationHierarchy.get(orgId)));
+    }
+
+    private List<String> getTraversableOrganizationIds(List<String> organizationHierarchy)
+            throws OrgResourceHierarchyTraverseException {
+
+        if (organizationHierarchy.size() == 1) {
+            return organizationHierarchy;
+        }
+
+        AncestorChain ancestorChain = OrgResourceHierarchyTraverseUtil.getAncestorChain(organizationHierarchy.get(0),
+                OrgResourceHierarchyTraverseUtil.getOrganizationManager());
+        if (ancestorChain.getOrganizationIds().equals(organizationHierarchy)) {
+            return OrgResourceHierarchyTraverseUtil.getTraversableOrganizationIds(ancestorChain);
+        }
+
+        // The given hierarchy is not the ancestor chain of its first organization, hence the depths are looked up.
+        List<String> traversableOrganizationIds = new ArrayList<>();
+        for (String orgId : organizationHierarchy) {
+            if (OrgResourceHierarchyTraverseUtil.isMinOrgHierarchyDepthReached(orgId)) {
+                break;
+            }
+            traversableOrganizationIds.add(orgId);
+        }
+        return traversableOrganizationIds;
+    }
+
+    private T findFirstInParallel(List<String> organizationIds, Function<String, Optional<T>> resourceRetriever) {
+
+        if (organizationIds.isEmpty()) {
+            return null;
+        }
+        if (organizationIds.size() == 1) {
+            return resourceRetriever.apply(organizationIds.get(0)).orElse(null);
+        }
+
+        List<CompletableFuture<Optional<T>>> lookups = new ArrayList<>(organizationIds.size());
+        AtomicInteger lowestHitLevel = new AtomicInteger(Integer.MAX_VALUE);
+        for (int level = 0; level < organizationIds.size(); level++) {
+            if (lowestHitLevel.get() < level) {
+                // A lower level already has the resource, hence the levels above it need not be looked up.
+                break;
+            }
+            String orgId = organizationIds.get(level);
+            CompletableFuture<Optional<T>> lookup;
+            try {
+                lookup = CompletableFuture.supplyAsync(() -> resourceRetriever.apply(orgId), executorService);
+            } catch (RejectedExecutionException e) {
+                lookup = new CompletableFuture<>();
+                try {
+                    lookup.complete(resourceRetriever.apply(orgId));
+                } catch (RuntimeException retrievalError) {
+                    lookup.completeExceptionally(retrievalError);
+                }
+            }
+            int hitLevel = level;
+            lookup.thenAccept(resource -> {
+                if (resource.isPresent()) {
+                    lowestHitLevel.accumulateAndGet(hitLevel, Math::min);
+                    cancelLookupsAbove(lookups, hitLevel);
+                }
+            });
+            synchronized (lookups) {
+                lookups.add(lookup);
+            }
+        }
+
+        try {
+            for (int level = 0; level < lookups.size(); level++) {
+                Optional<T> resource = lookups.get(level).join();
+                if (resource.isPresent()) {
+                    return resource.get();
+                }
+            }
+            return null;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        } finally {
+            cancelLookupsAbove(lookups, -1);
+        }
+    }
+
+    private void cancelLookupsAbove(List<CompletableFuture<Optional<T>>> lookups, int level) {
+
+        synchronized (lookups) {
+            for (int i = level + 1; i < lookups.size(); i++) {
+                lookups.get(i).cancel(false);
+            }
+        }
+    }
+}
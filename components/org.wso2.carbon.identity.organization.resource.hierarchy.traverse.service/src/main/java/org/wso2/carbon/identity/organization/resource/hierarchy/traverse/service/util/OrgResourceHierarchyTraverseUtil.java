@@ -18,13 +18,20 @@
 
 package org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.util;
 
+import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.ArrayUtils;
+import org.apache.commons.lang.StringUtils;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
 import org.wso2.carbon.identity.organization.management.service.util.Utils;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.cache.AncestorOrganizationCache;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.constant.OrgResourceHierarchyTraverseConstants;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.exception.OrgResourceHierarchyTraverseServerException;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.internal.OrgResourceHierarchyTraverseServiceDataHolder;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.model.AncestorChain;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Utility class for the Organization Resource Hierarchy Traverse Service.
@@ -74,6 +81,88 @@ public class OrgResourceHierarchyTraverseUtil {
         }
     }
 
+    /**
+     * Verify if the given organization in the ancestor chain has reached the minimum required hierarchy level.
+     * <p>
+     * Unlike {@link #isMinOrgHierarchyDepthReached(String)}, the depth of the organization is resolved from the
+     * ancestor chain, hence no lookup is made against the organization hierarchy.
+     *
+     * @param ancestorChain The ancestor chain which contains the organization.
+     * @param orgId         The ID of the organization to check.
+     * @return {@code true} if the hierarchy depth is less than the minimum required depth, {@code false} otherwise.
+     */
+    public static boolean isMinOrgHierarchyDepthReached(AncestorChain ancestorChain, String orgId) {
+
+        int minHierarchyDepth = Utils.getSubOrgStartLevel() - 1;
+        return ancestorChain.getDepthInHierarchy(orgId) < minHierarchyDepth;
+    }
+
+    /**
+     * Get the organization IDs of the ancestor chain which should be traversed when resolving resources, i.e. the
+     * organizations up to, but excluding, the first organization which has reached the minimum hierarchy level.
+     * <p>
+     * If the chain consists of a single organization, that organization is always traversed.
+     *
+     * @param ancestorChain The ancestor chain of the organization.
+     * @return The organization IDs to be traversed, in the order of the chain.
+     */
+    public static List<String> getTraversableOrganizationIds(AncestorChain ancestorChain) {
+
+        List<String> organizationIds = ancestorChain.getOrganizationIds();
+        if (organizationIds.size() == 1) {
+            return organizationIds;
+        }
+
+        List<String> traversableOrganizationIds = new ArrayList<>();
+        for (String orgId : organizationIds) {
+            if (isMinOrgHierarchyDepthReached(ancestorChain, orgId)) {
+                break;
+            }
+            traversableOrganizationIds.add(orgId);
+        }
+        return traversableOrganizationIds;
+    }
+
+    /**
+     * Retrieve the ancestor chain of the given organization.
+     * <p>
+     * The chain is served from the {@link AncestorOrganizationCache} when available. Otherwise, it is resolved
+     * through the given organization manager and added to the cache.
+     *
+     * @param organizationId      The ID of the organization.
+     * @param organizationManager The organization manager used to resolve the ancestor organizations.
+     * @return The ancestor chain of the organization.
+     * @throws OrgResourceHierarchyTraverseServerException If the organization ID is empty or an error occurs while
+     *                                                     resolving the ancestor organizations.
+     */
+    public static AncestorChain getAncestorChain(String organizationId, OrganizationManager organizationManager)
+            throws OrgResourceHierarchyTraverseServerException {
+
+        if (StringUtils.isBlank(organizationId)) {
+            throw handleServerException(
+                    OrgResourceHierarchyTraverseConstants.ErrorMessages.ERROR_CODE_EMPTY_ORGANIZATION_ID);
+        }
+
+        AncestorOrganizationCache ancestorOrganizationCache = AncestorOrganizationCache.getInstance();
+        AncestorChain cachedAncestorChain = ancestorOrganizationCache.getAncestorChain(organizationId);
+        if (cachedAncestorChain != null) {
+            return cachedAncestorChain;
+        }
+
+        try {
+            long invalidationVersion = ancestorOrganizationCache.getInvalidationVersion();
+            List<String> organizationIds = organizationManager.getAncestorOrganizationIds(organizationId);
+            if (CollectionUtils.isEmpty(organizationIds)) {
+                throw handleServerException(OrgResourceHierarchyTraverseConstants
+                        .ErrorMessages.ERROR_CODE_INVALID_ANCESTOR_ORGANIZATION_ID_LIST, organizationId);
+            }
+            return ancestorOrganizationCache.addAncestorChain(organizationId, organizationIds, invalidationVersion);
+        } catch (OrganizationManagementServerException e) {
+            throw handleServerException(OrgResourceHierarchyTraverseConstants.ErrorMessages
+                    .ERROR_CODE_SERVER_ERROR_WHILE_RESOLVING_ANCESTOR_ORGANIZATIONS, e, organizationId);
+        }
+    }
+
     /**
      * Create an {@link OrgResourceHierarchyTraverseServerException} to handle server-side errors.
      * <p>
@@ -19,53 +19,94 @@
 package org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service;
 
 import org.mockito.Mock;
+import org.testng.annotations.AfterClass;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementServerException;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.cache.AncestorOrganizationCache;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.cache.NegativeResourceCache;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.exception.OrgResourceHierarchyTraverseException;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.exception.OrgResourceHierarchyTraverseServerException;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.executor.OrgResourceHierarchyTraverseExecutor;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.internal.OrgResourceHierarchyTraverseServiceDataHolder;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.listener.AncestorOrganizationCacheInvalidationListener;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.metrics.AggregationStrategyMetrics;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.mock.resource.impl.MockResourceManagementService;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.mock.resource.impl.model.MockResource;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.model.AggregationStrategyTiming;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.model.AncestorChain;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.strategy.AggregationStrategy;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.strategy.FirstFoundAggregationStrategy;
 import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.strategy.MergeAllAggregationStrategy;
+import org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.strategy.ParallelFirstFoundAggregationStrategy;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
 
 /**
  * Unit tests for the OrgResourceResolverService.
  */
+@WithCarbonHome
 public class OrgResourceResolverServiceTest {
 
     private static final String ROOT_ORG_ID = "10084a8d-113f-4211-a0d5-efe36b082211";
     private static final String L1_ORG_ID = "93d996f9-a5ba-4275-a52b-adaad9eba869";
     private static final String L2_ORG_ID = "30b701c6-e309-4241-b047-0c299c45d1a0";
     private static final String INVALID_ORG_ID = "invalid-org-id";
+    private static final String L2_TENANT_DOMAIN = "l2-org-tenant";
     private static final String INVALID_APP_ID = "invalid-app-id";
+    private static final String MOCK_RESOURCE_TYPE = "mock-resource";
 
     private OrgResourceResolverService orgResourceResolverService;
     private MockResourceManagementService mockResourceManagementService;
     private AggregationStrategy<MockResource> firstFoundAggregationStrategy;
     private AggregationStrategy<MockResource> mergeAllAggregationStrategy;
+    private AggregationStrategy<MockResource> parallelFirstFoundAggregationStrategy;
+    private ExecutorService traversalExecutorService;
+    private OrgResourceHierarchyTraverseExecutor traverseExecutor;
 
     @Mock
     OrganizationManager organizationManager;
@@ -86,6 +127,20 @@ public class OrgResourceResolverServiceTest {
         // Initialize the aggregation strategies with the appropriate strategy types.
         firstFoundAggregationStrategy = new FirstFoundAggregationStrategy<>();
         mergeAllAggregationStrategy = new MergeAllAggregationStrategy<>(this::resourceMerger);
+        traversalExecutorService = Executors.newFixedThreadPool(3);
+        parallelFirstFoundAggregationStrategy = new ParallelFirstFoundAggregationStrategy<>(traversalExecutorService);
+        traverseExecutor = new OrgResourceHierarchyTraverseExecutor(2, 10);
+    }
+
+    /**
+     * Shuts down the executors used by the parallel aggregation strategy and the asynchronous resolutions after the
+     * test class is run.
+     */
+    @AfterClass
+    public void cleanUp() {
+
+        traversalExecutorService.shutdownNow();
+        traverseExecutor.shutdown();
     }
 
     /**
@@ -104,7 +159,7 @@ public class OrgResourceResolverServiceTest {
         mockResourceManagementService = new MockResourceManagementService();
 
         // Instantiate the OrgResourceResolverService for testing.
-        orgResourceResolverService = new OrgResourceResolverServiceImpl();
+        orgResourceResolverService = new OrgResourceResolverServiceImpl(traverseExecutor);
     }
 
     /**
@@ -115,6 +170,8 @@ public class OrgResourceResolverServiceTest {
 
         // Reset the mock services to their default state after each test.
         reset(organizationManager);
+        AncestorOrganizationCache.getInstance().invalidateAll();
+        NegativeResourceCache.getInstance().disableResourceType(MOCK_RESOURCE_TYPE);
     }
 
     @DataProvider(name = "AggregationStrategyDataProvider")
@@ -122,7 +179,8 @@ public class OrgResourceResolverServiceTest {
 
         return new Object[][]{
                 {firstFoundAggregationStrategy},
-                {mergeAllAggregationStrategy}
+                {mergeAllAggregationStrategy},
+                {parallelFirstFoundAggregationStrategy}
         };
     }
 
@@ -275,9 +333,8 @@ public class OrgResourceResolverServiceTest {
      * Tests the behavior of the OrgResourceResolverService when server-side errors occur during
      * organizational hierarchy traversal.
      * <p>
-     * This test simulates server-side exceptions thrown by the `organizationManager` during the following scenarios:
-     * - Fetching the depth of an organization within the hierarchy.
-     * - Retrieving ancestor organization IDs.
+     * This test simulates server-side exceptions thrown by the `organizationManager` while retrieving ancestor
+     * organization IDs.
      *
      * @param aggregationStrategy The aggregation strategy used for resolving resources.
      * @throws Exception If an unexpected error occurs.
@@ -286,13 +343,6 @@ public class OrgResourceResolverServiceTest {
     public void testGetOrgLevelResourcesFromOrgHierarchyWhenServerErrorOccurs(
             AggregationStrategy<MockResource> aggregationStrategy) throws Exception {
 
-        when(organizationManager.getOrganizationDepthInHierarchy(anyString()))
-                .thenThrow(OrganizationManagementServerException.class);
-        assertThrows(OrgResourceHierarchyTraverseServerException.class,
-                () -> invokeOrgLevelResourceResolver(aggregationStrategy, L1_ORG_ID));
-        assertThrows(OrgResourceHierarchyTraverseServerException.class,
-                () -> invokeOrgLevelResourceResolver(aggregationStrategy, L2_ORG_ID));
-
         when(organizationManager.getAncestorOrganizationIds(anyString()))
                 .thenThrow(OrganizationManagementServerException.class);
         assertThrows(OrgResourceHierarchyTraverseServerException.class,
@@ -303,6 +353,535 @@ public class OrgResourceResolverServiceTest {
                 () -> invokeOrgLevelResourceResolver(aggregationStrategy, L2_ORG_ID));
     }
 
+    /**
+     * Tests that the ancestor organization chain is served from the cache on subsequent resolutions, and that
+     * the cached chains of the affected subtree are invalidated when an organization is updated.
+     *
+     * @param aggregationStrategy The aggregation strategy used for resolving resources.
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test(dataProvider = "AggregationStrategyDataProvider")
+    public void testAncestorOrganizationChainCaching(AggregationStrategy<MockResource> aggregationStrategy)
+            throws Exception {
+
+        List<MockResource> createdOrgResources = addOrgResources(Collections.singletonList(ROOT_ORG_ID));
+
+        assertResolvedResponse(invokeOrgLevelResourceResolver(aggregationStrategy, L2_ORG_ID),
+                createdOrgResources.get(0));
+        assertResolvedResponse(invokeOrgLevelResourceResolver(aggregationStrategy, L2_ORG_ID),
+                createdOrgResources.get(0));
+        assertResolvedResponse(invokeOrgLevelResourceResolver(aggregationStrategy, ROOT_ORG_ID),
+                createdOrgResources.get(0));
+        verify(organizationManager, times(1)).getAncestorOrganizationIds(L2_ORG_ID);
+
+        // Updating L1 should evict the cached chain of its descendant L2, while the root chain remains cached.
+        when(organizationManager.getChildOrganizationsIds(L1_ORG_ID, true))
+                .thenReturn(Collections.singletonList(L2_ORG_ID));
+        new AncestorOrganizationCacheInvalidationListener().postUpdateOrganization(L1_ORG_ID, null);
+        assertNull(AncestorOrganizationCache.getInstance().getAncestorChain(L2_ORG_ID));
+        assertNotNull(AncestorOrganizationCache.getInstance().getAncestorChain(ROOT_ORG_ID));
+
+        invokeOrgLevelResourceResolver(aggregationStrategy, L2_ORG_ID);
+        verify(organizationManager, times(2)).getAncestorOrganizationIds(L2_ORG_ID);
+        verify(organizationManager, times(1)).getAncestorOrganizationIds(ROOT_ORG_ID);
+    }
+
+    /**
+     * Tests that deleting an organization only invalidates the cached chain of that organization, as an organization
+     * can only be deleted once it has no child organizations, and that all the cached chains are invalidated when
+     * the subtree of an updated organization cannot be resolved.
+     *
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test
+    public void testAncestorOrganizationChainInvalidation() throws Exception {
+
+        AggregationStrategy<MockResource> aggregationStrategy = firstFoundAggregationStrategy;
+        invokeOrgLevelResourceResolver(aggregationStrategy, L2_ORG_ID);
+        invokeOrgLevelResourceResolver(aggregationStrategy, L1_ORG_ID);
+        invokeOrgLevelResourceResolver(aggregationStrategy, ROOT_ORG_ID);
+
+        AncestorOrganizationCacheInvalidationListener listener = new AncestorOrganizationCacheInvalidationListener();
+        listener.postDeleteOrganization(L2_ORG_ID, 2);
+        assertNull(AncestorOrganizationCache.getInstance().getAncestorChain(L2_ORG_ID));
+        assertNotNull(AncestorOrganizationCache.getInstance().getAncestorChain(L1_ORG_ID));
+        assertNotNull(AncestorOrganizationCache.getInstance().getAncestorChain(ROOT_ORG_ID));
+        verify(organizationManager, never()).getChildOrganizationsIds(anyString(), anyBoolean());
+
+        when(organizationManager.getChildOrganizationsIds(ROOT_ORG_ID, true))
+                .thenThrow(OrganizationManagementServerException.class);
+        listener.postPatchOrganization(ROOT_ORG_ID, Collections.emptyList());
+        assertNull(AncestorOrganizationCache.getInstance().getAncestorChain(L1_ORG_ID));
+        assertNull(AncestorOrganizationCache.getInstance().getAncestorChain(ROOT_ORG_ID));
+    }
+
+    /**
+     * Tests that the depth of each organization is resolved from the ancestor chain, without looking up the depth
+     * of the organizations in the hierarchy.
+     *
+     * @param aggregationStrategy The aggregation strategy used for resolving resources.
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test(dataProvider = "AggregationStrategyDataProvider")
+    public void testOrgHierarchyDepthResolvedFromAncestorChain(AggregationStrategy<MockResource> aggregationStrategy)
+            throws Exception {
+
+        List<MockResource> createdOrgResources = addOrgResources(Collections.singletonList(ROOT_ORG_ID));
+
+        assertResolvedResponse(invokeOrgLevelResourceResolver(aggregationStrategy, L2_ORG_ID),
+                createdOrgResources.get(0));
+        verify(organizationManager, never()).getOrganizationDepthInHierarchy(anyString());
+
+        AncestorChain ancestorChain = orgResourceResolverService.getAncestorChain(L2_ORG_ID);
+        assertEquals(ancestorChain.getOrganizationIds(), Arrays.asList(L2_ORG_ID, L1_ORG_ID, ROOT_ORG_ID));
+        assertEquals(ancestorChain.getDepthInHierarchy(L2_ORG_ID), 2);
+        assertEquals(ancestorChain.getDepthInHierarchy(L1_ORG_ID), 1);
+        assertEquals(ancestorChain.getDepthInHierarchy(ROOT_ORG_ID), 0);
+        assertEquals(ancestorChain.getDepthInHierarchy(INVALID_ORG_ID), -1);
+    }
+
+    /**
+     * Tests that the batch resource retriever is invoked once with the whole ancestor chain, and that the
+     * aggregation strategy is applied over the prefetched resources.
+     *
+     * @param aggregationStrategy The aggregation strategy used for resolving resources.
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test(dataProvider = "AggregationStrategyDataProvider")
+    public void testGetOrgLevelResourcesFromOrgHierarchyInBatch(AggregationStrategy<MockResource> aggregationStrategy)
+            throws Exception {
+
+        List<MockResource> createdOrgResources = addOrgResources(Arrays.asList(ROOT_ORG_ID, L1_ORG_ID));
+        List<List<String>> batchRequests = new ArrayList<>();
+
+        MockResource resolvedL2Resource = orgResourceResolverService.getResourcesFromOrgHierarchyInBatch(
+                L2_ORG_ID,
+                orgIds -> {
+                    batchRequests.add(orgIds);
+                    Map<String, MockResource> resources = new HashMap<>();
+                    for (String orgId : orgIds) {
+                        MockResource resource = mockResourceManagementService.getOrgResource(orgId);
+                        if (resource != null) {
+                            resources.put(orgId, resource);
+                        }
+                    }
+                    return resources;
+                },
+                aggregationStrategy);
+
+        assertResolvedResponse(resolvedL2Resource, createdOrgResources.get(1));
+        assertEquals(batchRequests.size(), 1);
+        assertEquals(batchRequests.get(0), Arrays.asList(L2_ORG_ID, L1_ORG_ID, ROOT_ORG_ID));
+    }
+
+    /**
+     * Tests that multiple resource keys are resolved in a single traversal with first-found semantics per key, that
+     * the retriever is only asked for the unresolved keys, and that the traversal stops once every key is resolved.
+     *
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test
+    public void testGetOrgLevelResourcesFromOrgHierarchyByKeys() throws Exception {
+
+        Map<String, Map<String, String>> orgResources = new HashMap<>();
+        orgResources.put(L2_ORG_ID, Collections.singletonMap("name", "L2 name"));
+        Map<String, String> l1OrgResources = new HashMap<>();
+        l1OrgResources.put("name", "L1 name");
+        l1OrgResources.put("description", "L1 description");
+        orgResources.put(L1_ORG_ID, l1OrgResources);
+        orgResources.put(ROOT_ORG_ID, Collections.singletonMap("theme", "Root theme"));
+
+        List<String> visitedOrgIds = new ArrayList<>();
+        List<Set<String>> requestedKeys = new ArrayList<>();
+        BiFunction<String, Set<String>, Map<String, String>> resourceRetriever = (orgId, keys) -> {
+            visitedOrgIds.add(orgId);
+            requestedKeys.add(keys);
+            Map<String, String> resources = new HashMap<>();
+            for (String key : keys) {
+                String resource = orgResources.get(orgId).get(key);
+                if (resource != null) {
+                    resources.put(key, resource);
+                }
+            }
+            return resources;
+        };
+
+        Map<String, String> resolvedResources = orgResourceResolverService.getResourcesFromOrgHierarchyByKeys(
+                L2_ORG_ID, new HashSet<>(Arrays.asList("name", "description")), resourceRetriever);
+        assertEquals(resolvedResources.size(), 2);
+        assertEquals(resolvedResources.get("name"), "L2 name");
+        assertEquals(resolvedResources.get("description"), "L1 description");
+        assertEquals(visitedOrgIds, Arrays.asList(L2_ORG_ID, L1_ORG_ID));
+        assertEquals(requestedKeys.get(1), Collections.singleton("description"));
+
+        visitedOrgIds.clear();
+        requestedKeys.clear();
+        resolvedResources = orgResourceResolverService.getResourcesFromOrgHierarchyByKeys(
+                L2_ORG_ID, new HashSet<>(Arrays.asList("name", "theme", "logo")), resourceRetriever);
+        assertEquals(resolvedResources.size(), 2);
+        assertEquals(resolvedResources.get("name"), "L2 name");
+        assertEquals(resolvedResources.get("theme"), "Root theme");
+        assertEquals(visitedOrgIds, Arrays.asList(L2_ORG_ID, L1_ORG_ID, ROOT_ORG_ID));
+        assertEquals(requestedKeys.get(2), new HashSet<>(Arrays.asList("theme", "logo")));
+        verify(organizationManager, times(1)).getAncestorOrganizationIds(L2_ORG_ID);
+
+        assertEquals(orgResourceResolverService.getResourcesFromOrgHierarchyByKeys(L2_ORG_ID,
+                Collections.<String>emptySet(), resourceRetriever).size(), 0);
+        assertEquals(visitedOrgIds.size(), 3);
+    }
+
+    /**
+     * Tests that the asynchronous resolution propagates the carbon context of the calling thread to the traversal,
+     * records the timing of the aggregation strategy, and completes exceptionally when the traversal fails.
+     *
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test
+    public void testGetOrgLevelResourcesFromOrgHierarchyAsync() throws Exception {
+
+        List<MockResource> createdOrgResources = addOrgResources(Collections.singletonList(L1_ORG_ID));
+        AggregationStrategyMetrics.getInstance().clear();
+        List<String> observedTenantDomains = Collections.synchronizedList(new ArrayList<>());
+
+        CompletableFuture<MockResource> resolvedL2Resource;
+        try {
+            PrivilegedCarbonContext.startTenantFlow();
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(L2_TENANT_DOMAIN);
+            resolvedL2Resource = orgResourceResolverService.getResourcesFromOrgHierarchyAsync(
+                    L2_ORG_ID,
+                    orgId -> {
+                        observedTenantDomains.add(
+                                PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain());
+                        return Optional.ofNullable(mockResourceManagementService.getOrgResource(orgId));
+                    },
+                    firstFoundAggregationStrategy);
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+
+        assertResolvedResponse(resolvedL2Resource.get(), createdOrgResources.get(0));
+        assertEquals(observedTenantDomains, Arrays.asList(L2_TENANT_DOMAIN, L2_TENANT_DOMAIN));
+        AggregationStrategyTiming strategyTiming = AggregationStrategyMetrics.getInstance().getStrategyTimings()
+                .get(FirstFoundAggregationStrategy.class.getSimpleName());
+        assertNotNull(strategyTiming);
+        assertEquals(strategyTiming.getInvocationCount(), 1);
+
+        when(organizationManager.getAncestorOrganizationIds(INVALID_ORG_ID))
+                .thenThrow(OrganizationManagementServerException.class);
+        CompletableFuture<MockResource> failedResolution = orgResourceResolverService
+                .getResourcesFromOrgHierarchyAsync(INVALID_ORG_ID,
+                        orgId -> Optional.ofNullable(mockResourceManagementService.getOrgResource(orgId)),
+                        firstFoundAggregationStrategy);
+        ExecutionException executionException = expectThrows(ExecutionException.class, failedResolution::get);
+        assertTrue(executionException.getCause() instanceof OrgResourceHierarchyTraverseServerException);
+    }
+
+    /**
+     * Tests that a resolver created with the no-argument constructor runs asynchronous resolutions on the executor of
+     * the active component, and rejects them while no component is active.
+     *
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test
+    public void testGetOrgLevelResourcesFromOrgHierarchyAsyncWithComponentExecutor() throws Exception {
+
+        List<MockResource> createdOrgResources = addOrgResources(Collections.singletonList(L1_ORG_ID));
+        OrgResourceResolverService defaultOrgResourceResolverService = new OrgResourceResolverServiceImpl();
+
+        OrgResourceHierarchyTraverseServiceDataHolder.getInstance().setTraverseExecutor(traverseExecutor);
+        try {
+            MockResource resolvedResource = defaultOrgResourceResolverService.getResourcesFromOrgHierarchyAsync(
+                    L2_ORG_ID, orgId -> Optional.ofNullable(mockResourceManagementService.getOrgResource(orgId)),
+                    firstFoundAggregationStrategy).get();
+            assertResolvedResponse(resolvedResource, createdOrgResources.get(0));
+        } finally {
+            OrgResourceHierarchyTraverseServiceDataHolder.getInstance().setTraverseExecutor(null);
+        }
+
+        CompletableFuture<MockResource> rejectedResolution = defaultOrgResourceResolverService
+                .getResourcesFromOrgHierarchyAsync(L2_ORG_ID,
+                        orgId -> Optional.ofNullable(mockResourceManagementService.getOrgResource(orgId)),
+                        firstFoundAggregationStrategy);
+        ExecutionException executionException = expectThrows(ExecutionException.class, rejectedResolution::get);
+        assertTrue(executionException.getCause() instanceof RejectedExecutionException);
+    }
+
+    /**
+     * Tests that the merge-all aggregation strategy with a completeness predicate merges the resources of the lower
+     * levels of the hierarchy and stops the traversal once the merged resource is complete.
+     *
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test
+    public void testGetOrgLevelResourcesFromOrgHierarchyWithCompletenessPredicate() throws Exception {
+
+        addOrgResources(Arrays.asList(ROOT_ORG_ID, L1_ORG_ID, L2_ORG_ID));
+        AggregationStrategy<MockResource> shortCircuitMergeAllAggregationStrategy =
+                new MergeAllAggregationStrategy<>(
+                        (aggregatedResource, newResource) -> new MockResource(aggregatedResource.getId(),
+                                aggregatedResource.getResourceName() + "," + newResource.getResourceName(),
+                                aggregatedResource.getOrgId()),
+                        resource -> resource.getResourceName().contains(L1_ORG_ID));
+
+        List<String> visitedOrgIds = new ArrayList<>();
+        MockResource resolvedL2Resource = orgResourceResolverService.getResourcesFromOrgHierarchy(
+                L2_ORG_ID,
+                orgId -> {
+                    visitedOrgIds.add(orgId);
+                    return Optional.ofNullable(mockResourceManagementService.getOrgResource(orgId));
+                },
+                shortCircuitMergeAllAggregationStrategy);
+        assertNotNull(resolvedL2Resource);
+        assertEquals(resolvedL2Resource.getOrgId(), L2_ORG_ID);
+        assertEquals(resolvedL2Resource.getResourceName(), L2_ORG_ID + "Org Resource," + L1_ORG_ID + "Org Resource");
+        assertEquals(visitedOrgIds, Arrays.asList(L2_ORG_ID, L1_ORG_ID));
+
+        // The predicate is not satisfied for the root organization, which only has its own resource to merge.
+        visitedOrgIds.clear();
+        MockResource resolvedRootResource = orgResourceResolverService.getResourcesFromOrgHierarchy(
+                ROOT_ORG_ID,
+                orgId -> {
+                    visitedOrgIds.add(orgId);
+                    return Optional.ofNullable(mockResourceManagementService.getOrgResource(orgId));
+                },
+                shortCircuitMergeAllAggregationStrategy);
+        assertEquals(resolvedRootResource.getResourceName(), ROOT_ORG_ID + "Org Resource");
+        assertEquals(visitedOrgIds, Collections.singletonList(ROOT_ORG_ID));
+    }
+
+    /**
+     * Tests that the negative resource cache skips the lookups of the organizations which are known to have no value
+     * for a resource key, and that a value added after invalidating the cached miss is resolved.
+     *
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test
+    public void testGetOrgLevelResourcesFromOrgHierarchyWithNegativeCaching() throws Exception {
+
+        List<MockResource> createdOrgResources = addOrgResources(Collections.singletonList(ROOT_ORG_ID));
+        NegativeResourceCache negativeResourceCache = NegativeResourceCache.getInstance();
+        negativeResourceCache.enableResourceType(MOCK_RESOURCE_TYPE, 60000);
+
+        List<String> visitedOrgIds = new ArrayList<>();
+        Function<String, Optional<MockResource>> resourceRetriever = negativeResourceCache.withNegativeCaching(
+                MOCK_RESOURCE_TYPE, null, orgId -> {
+                    visitedOrgIds.add(orgId);
+                    return Optional.ofNullable(mockResourceManagementService.getOrgResource(orgId));
+                });
+
+        MockResource resolvedL2Resource = orgResourceResolverService.getResourcesFromOrgHierarchy(L2_ORG_ID,
+                resourceRetriever, firstFoundAggregationStrategy);
+        assertResolvedResponse(resolvedL2Resource, createdOrgResources.get(0));
+        assertEquals(visitedOrgIds, Arrays.asList(L2_ORG_ID, L1_ORG_ID, ROOT_ORG_ID));
+        assertTrue(negativeResourceCache.isNegative(MOCK_RESOURCE_TYPE, L1_ORG_ID, null));
+        assertFalse(negativeResourceCache.isNegative(MOCK_RESOURCE_TYPE, ROOT_ORG_ID, null));
+
+        // The misses of the L2 and L1 organizations are served from the cache.
+        visitedOrgIds.clear();
+        resolvedL2Resource = orgResourceResolverService.getResourcesFromOrgHierarchy(L2_ORG_ID, resourceRetriever,
+                firstFoundAggregationStrategy);
+        assertResolvedResponse(resolvedL2Resource, createdOrgResources.get(0));
+        assertEquals(visitedOrgIds, Collections.singletonList(ROOT_ORG_ID));
+
+        // Adding a value to the L1 organization is visible once the owner invalidates the cached miss.
+        MockResource l1OrgResource = new MockResource(2, L1_ORG_ID + "Org Resource", L1_ORG_ID);
+        mockResourceManagementService.addOrgResource(l1OrgResource);
+        negativeResourceCache.invalidate(MOCK_RESOURCE_TYPE, L1_ORG_ID, null);
+        visitedOrgIds.clear();
+        resolvedL2Resource = orgResourceResolverService.getResourcesFromOrgHierarchy(L2_ORG_ID, resourceRetriever,
+                firstFoundAggregationStrategy);
+        assertResolvedResponse(resolvedL2Resource, l1OrgResource);
+        assertEquals(visitedOrgIds, Collections.singletonList(L1_ORG_ID));
+
+        // Misses are not cached once negative caching is disabled for the resource type.
+        negativeResourceCache.disableResourceType(MOCK_RESOURCE_TYPE);
+        visitedOrgIds.clear();
+        orgResourceResolverService.getResourcesFromOrgHierarchy(L2_ORG_ID, resourceRetriever,
+                firstFoundAggregationStrategy);
+        orgResourceResolverService.getResourcesFromOrgHierarchy(L2_ORG_ID, resourceRetriever,
+                firstFoundAggregationStrategy);
+        assertEquals(visitedOrgIds, Arrays.asList(L2_ORG_ID, L1_ORG_ID, L2_ORG_ID, L1_ORG_ID));
+    }
+
+    /**
+     * Tests that the parallel aggregation strategy submits the lookups of all the levels of the hierarchy at once,
+     * rather than waiting for the lookup of a level to complete before looking up the next level.
+     *
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test
+    public void testParallelFirstFoundAggregationFansOutLookups() throws Exception {
+
+        AncestorChain ancestorChain = new AncestorChain(Arrays.asList(L2_ORG_ID, L1_ORG_ID, ROOT_ORG_ID));
+        CountDownLatch startedLookups = new CountDownLatch(ancestorChain.size());
+        Set<String> concurrentlyVisitedOrgIds = ConcurrentHashMap.newKeySet();
+
+        MockResource resolvedResource = parallelFirstFoundAggregationStrategy.aggregate(ancestorChain, orgId -> {
+            startedLookups.countDown();
+            try {
+                // Each lookup completes only once the lookups of every level have started.
+                if (startedLookups.await(5, TimeUnit.SECONDS)) {
+                    concurrentlyVisitedOrgIds.add(orgId);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Optional.empty();
+        });
+
+        assertNull(resolvedResource);
+        assertEquals(concurrentlyVisitedOrgIds, new HashSet<>(ancestorChain.getOrganizationIds()));
+    }
+
+    /**
+     * Tests that the parallel aggregation strategy returns the resource of the lowest level of the hierarchy, even
+     * when the lookup of a level above it completes first.
+     *
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test
+    public void testParallelFirstFoundAggregationWhenUpperLevelLookupCompletesFirst() throws Exception {
+
+        List<MockResource> createdOrgResources = addOrgResources(Arrays.asList(L2_ORG_ID, ROOT_ORG_ID));
+        AncestorChain ancestorChain = new AncestorChain(Arrays.asList(L2_ORG_ID, L1_ORG_ID, ROOT_ORG_ID));
+        CountDownLatch rootLookupCompleted = new CountDownLatch(1);
+
+        MockResource resolvedResource = parallelFirstFoundAggregationStrategy.aggregate(ancestorChain, orgId -> {
+            MockResource resource = mockResourceManagementService.getOrgResource(orgId);
+            if (ROOT_ORG_ID.equals(orgId)) {
+                rootLookupCompleted.countDown();
+                return Optional.ofNullable(resource);
+            }
+            try {
+                // The lookups of the lower levels complete only after the root organization lookup has completed.
+                rootLookupCompleted.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Optional.ofNullable(resource);
+        });
+
+        assertEquals(rootLookupCompleted.getCount(), 0);
+        assertResolvedResponse(resolvedResource, createdOrgResources.get(0));
+    }
+
+    /**
+     * Tests that the parallel aggregation strategy cancels the lookups of the levels above the level at which the
+     * resource was found, when those lookups have not started yet.
+     *
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test
+    public void testParallelFirstFoundAggregationCancelsRemainingLookups() throws Exception {
+
+        List<MockResource> createdOrgResources = addOrgResources(Arrays.asList(L2_ORG_ID, ROOT_ORG_ID));
+        AncestorChain ancestorChain = new AncestorChain(Arrays.asList(L2_ORG_ID, L1_ORG_ID, ROOT_ORG_ID));
+        ThreadPoolExecutor singleThreadExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>());
+        ExecutorService callerExecutor = Executors.newSingleThreadExecutor();
+        try {
+            // Hold the only executor thread until the lookups of every level are queued.
+            CountDownLatch releaseExecutor = new CountDownLatch(1);
+            singleThreadExecutor.execute(() -> {
+                try {
+                    releaseExecutor.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+            AggregationStrategy<MockResource> aggregationStrategy =
+                    new ParallelFirstFoundAggregationStrategy<>(singleThreadExecutor);
+            List<String> visitedOrgIds = Collections.synchronizedList(new ArrayList<>());
+            Future<MockResource> resolvedResource = callerExecutor.submit(() ->
+                    aggregationStrategy.aggregate(ancestorChain, orgId -> {
+                        visitedOrgIds.add(orgId);
+                        return Optional.ofNullable(mockResourceManagementService.getOrgResource(orgId));
+                    }));
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (singleThreadExecutor.getQueue().size() < ancestorChain.size() &&
+                    System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(singleThreadExecutor.getQueue().size(), ancestorChain.size());
+            releaseExecutor.countDown();
+
+            assertResolvedResponse(resolvedResource.get(5, TimeUnit.SECONDS), createdOrgResources.get(0));
+            singleThreadExecutor.shutdown();
+            assertTrue(singleThreadExecutor.awaitTermination(5, TimeUnit.SECONDS));
+            assertEquals(visitedOrgIds, Collections.singletonList(L2_ORG_ID));
+        } finally {
+            singleThreadExecutor.shutdownNow();
+            callerExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Tests that the parallel aggregation strategy resolves an organization hierarchy given as a list through the
+     * cached ancestor chain, without looking up the depth of each organization.
+     *
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test
+    public void testParallelFirstFoundAggregationResolvesListHierarchyFromAncestorChain() throws Exception {
+
+        List<MockResource> createdOrgResources = addOrgResources(Collections.singletonList(ROOT_ORG_ID));
+        List<String> organizationHierarchy = Arrays.asList(L2_ORG_ID, L1_ORG_ID, ROOT_ORG_ID);
+        Function<String, Optional<MockResource>> resourceRetriever =
+                orgId -> Optional.ofNullable(mockResourceManagementService.getOrgResource(orgId));
+
+        assertResolvedResponse(parallelFirstFoundAggregationStrategy.aggregate(organizationHierarchy,
+                resourceRetriever), createdOrgResources.get(0));
+        assertResolvedResponse(parallelFirstFoundAggregationStrategy.aggregate(organizationHierarchy,
+                resourceRetriever), createdOrgResources.get(0));
+
+        verify(organizationManager, times(1)).getAncestorOrganizationIds(L2_ORG_ID);
+        verify(organizationManager, never()).getOrganizationDepthInHierarchy(anyString());
+    }
+
+    /**
+     * Tests that the traverse executor runs a traversal on the submitting thread once its queue is full, and that
+     * the traversals submitted after the executor is shut down complete exceptionally.
+     *
+     * @throws Exception If an unexpected error occurs.
+     */
+    @Test
+    public void testTraverseExecutorBackPressureAndShutdown() throws Exception {
+
+        OrgResourceHierarchyTraverseExecutor boundedExecutor = new OrgResourceHierarchyTraverseExecutor(1, 1);
+        CountDownLatch releaseExecutor = new CountDownLatch(1);
+        try {
+            // Occupy the only thread of the executor, and then the only slot of its queue.
+            CompletableFuture<String> blockingTraversal = boundedExecutor.submit(() -> {
+                try {
+                    releaseExecutor.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return Thread.currentThread().getName();
+            });
+            CompletableFuture<String> queuedTraversal = boundedExecutor.submit(() ->
+                    Thread.currentThread().getName());
+
+            CompletableFuture<String> callerRunTraversal = boundedExecutor.submit(() ->
+                    Thread.currentThread().getName());
+            assertTrue(callerRunTraversal.isDone());
+            assertEquals(callerRunTraversal.get(), Thread.currentThread().getName());
+
+            releaseExecutor.countDown();
+            assertFalse(Thread.currentThread().getName().equals(blockingTraversal.get(5, TimeUnit.SECONDS)));
+            assertFalse(Thread.currentThread().getName().equals(queuedTraversal.get(5, TimeUnit.SECONDS)));
+        } finally {
+            releaseExecutor.countDown();
+            boundedExecutor.shutdown();
+        }
+
+        CompletableFuture<String> rejectedTraversal = boundedExecutor.submit(() -> Thread.currentThread().getName());
+        ExecutionException executionException = expectThrows(ExecutionException.class, rejectedTraversal::get);
+        assertTrue(executionException.getCause() instanceof RejectedExecutionException);
+    }
+
     /**
      * Mock the retrieval of ancestor organization IDs.
      *
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.organization.resource.hierarchy.traverse.service.executor;
+
+import org.apache.commons.lang.StringUtils;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyString;
+
+/**
+ * Unit tests for {@link TenantBoundedExecutor}.
+ */
+public class TenantBoundedExecutorTest {
+
+    private static final String TENANT_DOMAIN = "tenant-a.com";
+
+    private TenantBoundedExecutor tenantBoundedExecutor;
+    private CountDownLatch releaseWorker;
+
+    @BeforeMethod
+    public void setUp() {
+
+        tenantBoundedExecutor = new TenantBoundedExecutor("a test task", 1, 1, 1);
+        releaseWorker = new CountDownLatch(1);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        releaseWorker.countDown();
+        tenantBoundedExecutor.shutdown();
+    }
+
+    @Test
+    public void testInterruptedSubmissionIsRejected() throws Exception {
+
+        CountDownLatch workerStarted = new CountDownLatch(1);
+        CompletableFuture<Void> runningTask = tenantBoundedExecutor.runAsync(TENANT_DOMAIN, () -> {
+            workerStarted.countDown();
+            awaitRelease();
+        });
+        Assert.assertTrue(workerStarted.await(5, TimeUnit.SECONDS));
+
+        // The submitting thread is interrupted while the tenant holds its only slot.
+        Thread.currentThread().interrupt();
+        CompletableFuture<Void> rejectedTask = tenantBoundedExecutor.runAsync(TENANT_DOMAIN, () -> { });
+
+        // The interrupt status is restored for the caller.
+        Assert.assertTrue(Thread.interrupted());
+        Assert.assertTrue(rejectedTask.isCompletedExceptionally());
+        try {
+            rejectedTask.get();
+            Assert.fail("A task whose submission is interrupted should not run.");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof RejectedExecutionException);
+            Assert.assertTrue(e.getCause().getMessage().contains("a test task of tenant: " + TENANT_DOMAIN));
+        }
+
+        releaseWorker.countDown();
+        runningTask.get(5, TimeUnit.SECONDS);
+        // The slots of the rejected submission are released, hence the tenant can submit again.
+        tenantBoundedExecutor.runAsync(TENANT_DOMAIN, () -> { }).get(5, TimeUnit.SECONDS);
+    }
+
+    @DataProvider(name = "positiveIntPropertyTestData")
+    public Object[][] getPositiveIntPropertyTestData() {
+
+        return new Object[][]{
+                {null, 100},
+                {StringUtils.EMPTY, 100},
+                {" 25 ", 25},
+                {"0", 100},
+                {"-5", 100},
+                {"invalid", 100},
+        };
+    }
+
+    @Test(dataProvider = "positiveIntPropertyTestData")
+    public void testReadPositiveIntProperty(String configuredValue, int expectedResult) {
+
+        try (MockedStatic<IdentityUtil> identityUtil = Mockito.mockStatic(IdentityUtil.class)) {
+            identityUtil.when(() -> IdentityUtil.getProperty(anyString())).thenReturn(configuredValue);
+            Assert.assertEquals(TenantBoundedExecutor.readPositiveIntProperty("TestProperty", 100), expectedResult);
+        }
+    }
+
+    private void awaitRelease() {
+
+        try {
+            releaseWorker.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}